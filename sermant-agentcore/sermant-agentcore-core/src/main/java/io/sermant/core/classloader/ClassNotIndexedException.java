@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.classloader;
+
+/**
+ * Thrown by {@code findClass} for classes that the {@link ClassPathIndex} of the classloader rules out. It carries no
+ * stack trace, as it is part of the normal parent delegation flow rather than an error
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class ClassNotIndexedException extends ClassNotFoundException {
+    private static final long serialVersionUID = 3195465820731049254L;
+
+    /**
+     * Constructor
+     *
+     * @param className class name
+     */
+    public ClassNotIndexedException(String className) {
+        super(className);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.classloader;
+
+import io.sermant.core.common.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the classes in the search path of a classloader, merged from the {@link JarEntryIndex} of each jar. Lookups
+ * of classes outside the search path are answered without scanning the jars. As soon as the search path holds
+ * anything that can not be indexed, such as a directory or a jar declaring a manifest Class-Path, every class is
+ * reported as possibly present
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class ClassPathIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final String FILE_PROTOCOL = "file";
+
+    private final ConcurrentMap<String, Set<String>> packageClasses = new ConcurrentHashMap<>();
+
+    private volatile boolean complete = true;
+
+    /**
+     * Constructor
+     *
+     * @param urls initial search path
+     */
+    public ClassPathIndex(URL[] urls) {
+        for (URL url : urls) {
+            add(url);
+        }
+    }
+
+    /**
+     * Add a search path entry to the index
+     *
+     * @param url search path entry
+     */
+    public void add(URL url) {
+        File jar = toJarFile(url);
+        if (jar == null) {
+            complete = false;
+            return;
+        }
+        try {
+            JarEntryIndex index = JarEntryIndex.of(jar);
+            if (index.isExtendingClassPath()) {
+                complete = false;
+            }
+            for (Map.Entry<String, Set<String>> entry : index.getPackageClasses().entrySet()) {
+                packageClasses.computeIfAbsent(entry.getKey(), key -> ConcurrentHashMap.newKeySet())
+                        .addAll(entry.getValue());
+            }
+        } catch (IOException e) {
+            complete = false;
+            LOGGER.log(Level.WARNING, "Fail to index jar {0}, msg is {1}", new Object[]{jar.getName(), e.getMessage()});
+        }
+    }
+
+    /**
+     * Whether the class may be in the search path. False is definite, true only means the search path has to be
+     * consulted
+     *
+     * @param className fully qualified class name
+     * @return may contain or not
+     */
+    public boolean mayContainClass(String className) {
+        if (!complete) {
+            return true;
+        }
+        int packageEnd = className.lastIndexOf('.');
+        Set<String> classes = packageClasses.get(packageEnd < 0 ? "" : className.substring(0, packageEnd));
+        return classes != null && classes.contains(className.substring(packageEnd + 1));
+    }
+
+    private static File toJarFile(URL url) {
+        if (!FILE_PROTOCOL.equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            File file = new File(url.toURI());
+            return file.isFile() ? file : null;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -25,8 +25,6 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * The classloader of the core capabilities of framework
@@ -35,10 +33,14 @@ import java.util.Map;
  * @since 2022-06-18
  */
 public class FrameworkClassLoader extends URLClassLoader {
+    static {
+        registerAsParallelCapable();
+    }
+
     /**
      * Manages classes that have been loaded by FrameworkClassLoader
      */
-    private final Map<String, Class<?>> frameworkClassMap = new HashMap<>();
+    private final LoadedClassCache classCache = new LoadedClassCache();
 
     /**
      * Constructor.
@@ -50,15 +52,27 @@ public class FrameworkClassLoader extends URLClassLoader {
         super(urls, parent);
     }
 
+    /**
+     * Find the class in the search path of FrameworkClassLoader, must be called with the class loading lock held
+     *
+     * @param name class name
+     * @return class object, null if not found
+     */
     private Class<?> findFrameworkClass(String name) {
-        if (!frameworkClassMap.containsKey(name)) {
+        if (classCache.isMissing(name)) {
+            return null;
+        }
+        Class<?> clazz = findLoadedClass(name);
+        if (clazz == null) {
             try {
-                frameworkClassMap.put(name, findClass(name));
+                clazz = findClass(name);
             } catch (ClassNotFoundException ignored) {
-                frameworkClassMap.put(name, null);
+                classCache.markMissing(name);
+                return null;
             }
         }
-        return frameworkClassMap.get(name);
+        classCache.put(name, clazz);
+        return clazz;
     }
 
     @Override
@@ -68,28 +82,26 @@ public class FrameworkClassLoader extends URLClassLoader {
 
     @Override
     public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
-        synchronized (getClassLoadingLock(name)) {
-            Class<?> clazz = null;
-
-            // For classes already loaded in core, the parent delegation principle is followed, and other classes
-            // break the parent delegation principle
-            if (name != null) {
-                clazz = findFrameworkClass(name);
-            }
-            if (clazz == null) {
-                clazz = super.loadClass(name, resolve);
-
-                // Use the super.loadClass method of the FrameworkClassLoader to load classes from itself into the cache
-                if (clazz != null && clazz.getClassLoader() == this) {
-                    frameworkClassMap.put(name, clazz);
+        // Classes already resolved are returned without taking the class loading lock
+        Class<?> clazz = classCache.get(name);
+        if (clazz == null) {
+            synchronized (getClassLoadingLock(name)) {
+                clazz = classCache.get(name);
+                if (clazz == null) {
+                    // For classes already loaded in core, the parent delegation principle is followed, and other
+                    // classes break the parent delegation principle
+                    clazz = findFrameworkClass(name);
+                }
+                if (clazz == null) {
+                    clazz = super.loadClass(name, false);
+                    classCache.put(name, clazz);
                 }
             }
-
-            if (resolve) {
-                resolveClass(clazz);
-            }
-            return clazz;
         }
+        if (resolve) {
+            resolveClass(clazz);
+        }
+        return clazz;
     }
 
     @Override
@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.classloader;
+
+import io.sermant.core.common.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the classes contained in a jar, grouped by package. The index is persisted next to the jar and stamped with
+ * the size and modification time of the jar, so the jar is only scanned again once it is replaced
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class JarEntryIndex {
+    /**
+     * Suffix appended to the jar file name to name the persisted index
+     */
+    public static final String INDEX_FILE_SUFFIX = ".idx";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final int MAGIC = 0x534A4931;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private static final String VERSIONED_PREFIX = "META-INF/versions/";
+
+    private final Map<String, Set<String>> packageClasses;
+
+    /**
+     * Whether the manifest of the jar extends the search path with a Class-Path attribute
+     */
+    private final boolean extendingClassPath;
+
+    private JarEntryIndex(Map<String, Set<String>> packageClasses, boolean extendingClassPath) {
+        this.packageClasses = packageClasses;
+        this.extendingClassPath = extendingClassPath;
+    }
+
+    /**
+     * Get the index of a jar, from the persisted index if it is up to date, otherwise by scanning the jar and
+     * persisting the result
+     *
+     * @param jar jar file
+     * @return index
+     * @throws IOException the jar can not be read
+     */
+    public static JarEntryIndex of(File jar) throws IOException {
+        File indexFile = getIndexFile(jar);
+        long length = jar.length();
+        long lastModified = jar.lastModified();
+        JarEntryIndex index = read(indexFile, length, lastModified);
+        if (index != null) {
+            return index;
+        }
+        index = scan(jar);
+        try {
+            write(indexFile, length, lastModified, index);
+        } catch (IOException e) {
+            // The plugin directory may be read-only, the jar is scanned again on the next start
+            LOGGER.log(Level.FINE, "Fail to persist the index of jar {0}, msg is {1}",
+                    new Object[]{jar.getName(), e.getMessage()});
+        }
+        return index;
+    }
+
+    /**
+     * Get the file of the index persisted for a jar
+     *
+     * @param jar jar file
+     * @return index file
+     */
+    public static File getIndexFile(File jar) {
+        return new File(jar.getPath() + INDEX_FILE_SUFFIX);
+    }
+
+    /**
+     * Scan the entries of a jar
+     *
+     * @param jar jar file
+     * @return index
+     * @throws IOException the jar can not be read
+     */
+    static JarEntryIndex scan(File jar) throws IOException {
+        Map<String, Set<String>> packageClasses = new HashMap<>();
+        boolean extendingClassPath;
+        try (JarFile jarFile = new JarFile(jar)) {
+            Manifest manifest = jarFile.getManifest();
+            extendingClassPath = manifest != null
+                    && manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) != null;
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (!entryName.endsWith(CLASS_SUFFIX)) {
+                    continue;
+                }
+
+                // Classes of multi-release jars are indexed under their unversioned name
+                if (entryName.startsWith(VERSIONED_PREFIX)) {
+                    int versionEnd = entryName.indexOf('/', VERSIONED_PREFIX.length());
+                    if (versionEnd < 0) {
+                        continue;
+                    }
+                    entryName = entryName.substring(versionEnd + 1);
+                }
+                String className = entryName.substring(0, entryName.length() - CLASS_SUFFIX.length())
+                        .replace('/', '.');
+                int packageEnd = className.lastIndexOf('.');
+                packageClasses.computeIfAbsent(packageEnd < 0 ? "" : className.substring(0, packageEnd),
+                        key -> new HashSet<>()).add(className.substring(packageEnd + 1));
+            }
+        }
+        return new JarEntryIndex(packageClasses, extendingClassPath);
+    }
+
+    /**
+     * Read a persisted index
+     *
+     * @param indexFile index file
+     * @param length expected size of the jar
+     * @param lastModified expected modification time of the jar
+     * @return index, null if the file is absent, stale or corrupt
+     */
+    static JarEntryIndex read(File indexFile, long length, long lastModified) {
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        try (InputStream fileStream = Files.newInputStream(indexFile.toPath());
+                DataInputStream input = new DataInputStream(new BufferedInputStream(fileStream))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION || input.readLong() != length
+                    || input.readLong() != lastModified) {
+                return null;
+            }
+            boolean extendingClassPath = input.readBoolean();
+            int packageCount = input.readInt();
+            Map<String, Set<String>> packageClasses = new HashMap<>(packageCount * 2);
+            for (int i = 0; i < packageCount; i++) {
+                String packageName = input.readUTF();
+                int classCount = input.readInt();
+                Set<String> classes = new HashSet<>(classCount * 2);
+                for (int j = 0; j < classCount; j++) {
+                    classes.add(input.readUTF());
+                }
+                packageClasses.put(packageName, classes);
+            }
+            return new JarEntryIndex(packageClasses, extendingClassPath);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Fail to read jar index {0}, msg is {1}",
+                    new Object[]{indexFile.getName(), e.getMessage()});
+            return null;
+        }
+    }
+
+    /**
+     * Persist an index
+     *
+     * @param indexFile index file
+     * @param length size of the jar
+     * @param lastModified modification time of the jar
+     * @param index index
+     * @throws IOException write failed
+     */
+    static void write(File indexFile, long length, long lastModified, JarEntryIndex index) throws IOException {
+        Path tempFile = Files.createTempFile(indexFile.getAbsoluteFile().toPath().getParent(), indexFile.getName(),
+                ".tmp");
+        try {
+            try (OutputStream fileStream = Files.newOutputStream(tempFile);
+                    DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileStream))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(length);
+                output.writeLong(lastModified);
+                output.writeBoolean(index.extendingClassPath);
+                Map<String, Set<String>> sorted = new TreeMap<>(index.packageClasses);
+                output.writeInt(sorted.size());
+                for (Map.Entry<String, Set<String>> entry : sorted.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    output.writeInt(entry.getValue().size());
+                    for (String simpleName : new TreeSet<>(entry.getValue())) {
+                        output.writeUTF(simpleName);
+                    }
+                }
+            }
+            try {
+                Files.move(tempFile, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ignored) {
+                Files.move(tempFile, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Get the classes of the jar, keyed by package name
+     *
+     * @return simple class names of each package
+     */
+    Map<String, Set<String>> getPackageClasses() {
+        return Collections.unmodifiableMap(packageClasses);
+    }
+
+    /**
+     * Whether the manifest of the jar adds other jars to the search path, which are not covered by this index
+     *
+     * @return extending or not
+     */
+    public boolean isExtendingClassPath() {
+        return extendingClassPath;
+    }
+
+    /**
+     * Whether the jar contains the class
+     *
+     * @param className fully qualified class name
+     * @return contains or not
+     */
+    public boolean containsClass(String className) {
+        int packageEnd = className.lastIndexOf('.');
+        Set<String> classes = packageClasses.get(packageEnd < 0 ? "" : className.substring(0, packageEnd));
+        return classes != null && classes.contains(className.substring(packageEnd + 1));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.classloader;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Class cache of the Sermant classloaders. Lookups never lock, so classes already resolved by a classloader are
+ * returned without taking its class loading lock. Names that are not in the classloader's own search path are
+ * remembered in a bounded negative cache, which is dropped as a whole once it is full
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class LoadedClassCache {
+    /**
+     * Default maximum number of names in the negative cache
+     */
+    public static final int DEFAULT_MAX_MISSING_SIZE = 4096;
+
+    private final ConcurrentMap<String, Class<?>> loadedClasses = new ConcurrentHashMap<>();
+
+    private final Set<String> missingClasses = ConcurrentHashMap.newKeySet();
+
+    private final int maxMissingSize;
+
+    /**
+     * Constructor
+     */
+    public LoadedClassCache() {
+        this(DEFAULT_MAX_MISSING_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxMissingSize maximum number of names in the negative cache
+     */
+    public LoadedClassCache(int maxMissingSize) {
+        this.maxMissingSize = maxMissingSize;
+    }
+
+    /**
+     * Get a resolved class
+     *
+     * @param name class name
+     * @return class, null if not resolved yet
+     */
+    public Class<?> get(String name) {
+        return loadedClasses.get(name);
+    }
+
+    /**
+     * Cache a resolved class
+     *
+     * @param name class name
+     * @param clazz class
+     */
+    public void put(String name, Class<?> clazz) {
+        loadedClasses.putIfAbsent(name, clazz);
+    }
+
+    /**
+     * Whether the class is known to be absent from the search path
+     *
+     * @param name class name
+     * @return missing or not
+     */
+    public boolean isMissing(String name) {
+        return missingClasses.contains(name);
+    }
+
+    /**
+     * Remember that the class is absent from the search path
+     *
+     * @param name class name
+     */
+    public void markMissing(String name) {
+        if (missingClasses.size() >= maxMissingSize) {
+            missingClasses.clear();
+        }
+        missingClasses.add(name);
+    }
+
+    /**
+     * Forget all absent classes, required whenever the search path grows
+     */
+    public void clearMissing() {
+        missingClasses.clear();
+    }
+
+    /**
+     * Number of names in the negative cache
+     *
+     * @return size
+     */
+    public int missingSize() {
+        return missingClasses.size();
+    }
+}
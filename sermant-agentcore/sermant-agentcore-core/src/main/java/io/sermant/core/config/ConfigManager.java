@@ -171,8 +171,12 @@ public abstract class ConfigManager {
         // Obtain configuration loading strategy using the FrameworkClassLoader
         final LoadConfigStrategy<?> loadConfigStrategy = getLoadConfigStrategy(configFile,
                 ClassLoaderManager.getFrameworkClassLoader());
-        final Object holder = loadConfigStrategy.getConfigHolder(configFile, argsMap);
-        return ((LoadConfigStrategy) loadConfigStrategy).loadConfig(holder, baseConfig, isDynamic);
+
+        // Strategies are shared and not thread safe, while plugin configs may be loaded in parallel
+        synchronized (loadConfigStrategy) {
+            final Object holder = loadConfigStrategy.getConfigHolder(configFile, argsMap);
+            return ((LoadConfigStrategy) loadConfigStrategy).loadConfig(holder, baseConfig, isDynamic);
+        }
     }
 
     /**
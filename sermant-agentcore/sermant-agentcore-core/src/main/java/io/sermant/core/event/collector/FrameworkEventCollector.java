@@ -110,10 +110,21 @@ public class FrameworkEventCollector extends EventCollector {
      * @param plugin plugin name
      */
     public void collectPluginsLoadEvent(String plugin) {
+        collectPluginsLoadEvent(plugin, -1L);
+    }
+
+    /**
+     * Collect plugin loading event with the time spent loading the plugin
+     *
+     * @param plugin plugin name
+     * @param costMillis time spent loading the plugin, in milliseconds, negative if unknown
+     */
+    public void collectPluginsLoadEvent(String plugin, long costMillis) {
         if (!eventConfig.isEnable()) {
             return;
         }
-        String eventDescription = "Load plugin: [" + plugin + "] successful.";
+        String eventDescription = costMillis < 0 ? "Load plugin: [" + plugin + "] successful."
+                : "Load plugin: [" + plugin + "] successful, cost: " + costMillis + " ms.";
         offerEvent(new Event(FrameworkEventDefinitions.SERMANT_PLUGIN_LOAD.getScope(),
                 FrameworkEventDefinitions.SERMANT_PLUGIN_LOAD.getEventLevel(),
                 FrameworkEventDefinitions.SERMANT_PLUGIN_LOAD.getEventType(),
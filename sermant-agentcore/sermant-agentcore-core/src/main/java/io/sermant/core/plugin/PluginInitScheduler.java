@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin;
+
+import io.sermant.core.common.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Schedules the preparation of plugins on an executor. A plugin is prepared as soon as the plugins it depends on are
+ * prepared, plugins without a declared dependency between them are prepared concurrently
+ *
+ * @param <T> result of preparing a plugin
+ * @author agent
+ * @since 2026-10-18
+ */
+class PluginInitScheduler<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private final Set<String> pluginNames;
+
+    private final Map<String, Set<String>> pluginDependencies;
+
+    private final Executor executor;
+
+    private final Function<String, T> prepareFunction;
+
+    private final Map<String, CompletableFuture<T>> tasks = new HashMap<>();
+
+    private final Set<String> visiting = new HashSet<>();
+
+    /**
+     * Constructor
+     *
+     * @param pluginNames plugin names
+     * @param pluginDependencies plugins that must be prepared before a plugin, keyed by plugin name. Dependencies on
+     * plugins outside {@code pluginNames} are ignored
+     * @param executor executor running the preparation
+     * @param prepareFunction prepares a plugin by name
+     */
+    PluginInitScheduler(List<String> pluginNames, Map<String, Set<String>> pluginDependencies, Executor executor,
+            Function<String, T> prepareFunction) {
+        this.pluginNames = new LinkedHashSet<>(pluginNames);
+        this.pluginDependencies = pluginDependencies;
+        this.executor = executor;
+        this.prepareFunction = prepareFunction;
+    }
+
+    /**
+     * Schedule all plugins
+     *
+     * @return preparation of each plugin, keyed by plugin name
+     */
+    Map<String, CompletableFuture<T>> scheduleAll() {
+        for (String pluginName : pluginNames) {
+            schedule(pluginName);
+        }
+        return Collections.unmodifiableMap(tasks);
+    }
+
+    private CompletableFuture<T> schedule(String pluginName) {
+        final CompletableFuture<T> scheduled = tasks.get(pluginName);
+        if (scheduled != null) {
+            return scheduled;
+        }
+        visiting.add(pluginName);
+        final List<CompletableFuture<?>> dependencyTasks = new ArrayList<>();
+        for (String dependency : pluginDependencies.getOrDefault(pluginName, Collections.emptySet())) {
+            if (!pluginNames.contains(dependency)) {
+                continue;
+            }
+            if (visiting.contains(dependency)) {
+                LOGGER.log(Level.WARNING, "[INSTALL-PLUGINS] [{0}] Circular dependency on plugin {1} is ignored.",
+                        new String[]{pluginName, dependency});
+                continue;
+            }
+
+            // A failed dependency does not prevent the plugin from being prepared, as in sequential mode
+            dependencyTasks.add(schedule(dependency).handle((result, throwable) -> result));
+        }
+        visiting.remove(pluginName);
+        final CompletableFuture<T> task;
+        if (dependencyTasks.isEmpty()) {
+            task = CompletableFuture.supplyAsync(() -> prepareFunction.apply(pluginName), executor);
+        } else {
+            task = CompletableFuture.allOf(dependencyTasks.toArray(new CompletableFuture[0]))
+                    .thenApplyAsync(ignored -> prepareFunction.apply(pluginName), executor);
+        }
+        tasks.put(pluginName, task);
+        return task;
+    }
+}
@@ -20,12 +20,13 @@ import io.sermant.core.classloader.ClassLoaderManager;
 import io.sermant.core.command.DynamicAgentArgsManager;
 import io.sermant.core.common.BootArgsIndexer;
 import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.config.ConfigManager;
 import io.sermant.core.event.collector.FrameworkEventCollector;
 import io.sermant.core.exception.SchemaException;
 import io.sermant.core.plugin.agent.ByteEnhanceManager;
 import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.config.AgentConfig;
 import io.sermant.core.plugin.agent.info.EnhancementManager;
-import io.sermant.core.plugin.agent.interceptor.Interceptor;
 import io.sermant.core.plugin.agent.template.BaseAdviseHandler;
 import io.sermant.core.plugin.classloader.PluginClassLoader;
 import io.sermant.core.plugin.classloader.ServiceClassLoader;
@@ -43,6 +44,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -51,6 +53,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarFile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -124,11 +130,8 @@ public class PluginManager {
             ClassLoaderManager.getPluginClassFinder().removePluginClassLoader(plugin);
 
             // Clean up the Interceptors created by the plugin
-            Map<String, List<Interceptor>> interceptorListMap = BaseAdviseHandler.getInterceptorListMap();
-            for (List<Interceptor> interceptors : interceptorListMap.values()) {
-                interceptors.removeIf(
-                        interceptor -> plugin.getPluginClassLoader().equals(interceptor.getClass().getClassLoader()));
-            }
+            BaseAdviseHandler.removeInterceptors(
+                    interceptor -> plugin.getPluginClassLoader().equals(interceptor.getClass().getClassLoader()));
 
             // Delete the plugin configuration in the cache
             PluginConfigManager.cleanPluginConfigs(plugin);
@@ -159,6 +162,20 @@ public class PluginManager {
      * @param isDynamic Whether the plugin is dynamic
      */
     public static void initPlugins(Set<String> pluginNames, boolean isDynamic) {
+        initPlugins(pluginNames, Collections.emptyMap(), isDynamic);
+    }
+
+    /**
+     * Initialize plugin packages, configurations, and plugin service packages. When parallel initialization is
+     * enabled, plugin packages, configurations and services of independent plugins are initialized concurrently, and a
+     * plugin only waits for the plugins it depends on. Plugins are always registered and enhanced in the given order
+     *
+     * @param pluginNames plugin name set
+     * @param pluginDependencies plugins that must be initialized before a plugin, keyed by plugin name
+     * @param isDynamic Whether the plugin is dynamic
+     */
+    public static void initPlugins(Set<String> pluginNames, Map<String, Set<String>> pluginDependencies,
+            boolean isDynamic) {
         if (CollectionUtils.isEmpty(pluginNames)) {
             LOGGER.log(Level.WARNING, "[INSTALL-PLUGINS] Non plugin is configured to be initialized.");
             return;
@@ -176,43 +193,119 @@ public class PluginManager {
             LOGGER.log(Level.SEVERE, "An exception occurred while parsing the plugin package.", ioException);
             return;
         }
+        final List<String> names = new ArrayList<>();
         for (String pluginName : pluginNames) {
             if (PLUGIN_MAP.containsKey(pluginName)) {
                 LOGGER.log(Level.WARNING, "[INSTALL-PLUGINS] [{0}] Plugin: {0} has bean installed. "
                         + "It cannot be installed repeatedly.", pluginName);
                 continue;
             }
+            names.add(pluginName);
+        }
+        final AgentConfig agentConfig = ConfigManager.getConfig(AgentConfig.class);
+        if (agentConfig != null && agentConfig.isParallelPluginInitEnable() && names.size() > 1) {
+            initPluginsInParallel(names, pluginDependencies == null ? Collections.emptyMap() : pluginDependencies,
+                    isDynamic, pluginPackage, Math.max(1, agentConfig.getParallelPluginInitParallelism()));
+            return;
+        }
+        for (String pluginName : names) {
             executeInit(isDynamic, pluginPackage, pluginName);
         }
     }
 
     private static void executeInit(boolean isDynamic, String pluginPackage, String pluginName) {
         try {
-            // Remove the copy tag of the plugin name to obtain the actual resource directory
-            final String pluginPath = pluginPackage + File.separatorChar + getRealPluginName(pluginName);
-            if (!new File(pluginPath).exists()) {
-                LOGGER.log(Level.WARNING, "[INSTALL-PLUGINS] [{0}] Plugin directory {1} does not exist, so skip "
-                        + "initializing {0}. ", new String[]{pluginName, pluginPath});
-                return;
+            final long startTime = System.nanoTime();
+            final Plugin plugin = preparePlugin(isDynamic, pluginPackage, pluginName);
+            if (plugin != null) {
+                registerPlugin(plugin, System.nanoTime() - startTime);
             }
-            doInitPlugin(
-                    new Plugin(pluginName, pluginPath, isDynamic, ClassLoaderManager.createPluginClassLoader()));
         } catch (Exception ex) {
-            LOGGER.log(Level.SEVERE, "[INSTALL-PLUGINS] [{0}] Load plugin failed, plugin name: {0}.", pluginName);
-            LOGGER.log(Level.SEVERE, "An exception occurred while loading plugin.", ex);
+            logInitFailure(pluginName, ex);
+        }
+    }
+
+    /**
+     * Initialize plugins on a bounded fork-join pool. Each plugin is prepared once the plugins it depends on are
+     * prepared, then all plugins are registered one by one in the given order, so that bytecode enhancements at the
+     * same intercept point still take effect in the configured order
+     *
+     * @param pluginNames plugin names, in the configured order
+     * @param pluginDependencies plugins that must be initialized before a plugin
+     * @param isDynamic Whether the plugin is dynamic
+     * @param pluginPackage plugin package path
+     * @param parallelism maximum number of plugins prepared at the same time
+     */
+    private static void initPluginsInParallel(List<String> pluginNames, Map<String, Set<String>> pluginDependencies,
+            boolean isDynamic, String pluginPackage, int parallelism) {
+        final ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, pluginNames.size()));
+        try {
+            final Map<String, CompletableFuture<PreparedPlugin>> tasks = new PluginInitScheduler<>(pluginNames,
+                    pluginDependencies, pool, pluginName -> {
+                        final long startTime = System.nanoTime();
+                        final Plugin plugin = preparePlugin(isDynamic, pluginPackage, pluginName);
+                        return plugin == null ? null : new PreparedPlugin(plugin, System.nanoTime() - startTime);
+                    }).scheduleAll();
+            for (String pluginName : pluginNames) {
+                try {
+                    final PreparedPlugin prepared = tasks.get(pluginName).join();
+                    if (prepared != null) {
+                        final long startTime = System.nanoTime();
+                        registerPlugin(prepared.plugin, prepared.costNanos + System.nanoTime() - startTime);
+                    }
+                } catch (CompletionException ex) {
+                    logInitFailure(pluginName, ex.getCause());
+                } catch (Exception ex) {
+                    logInitFailure(pluginName, ex);
+                }
+            }
+        } finally {
+            pool.shutdown();
         }
     }
 
+    private static void logInitFailure(String pluginName, Throwable throwable) {
+        LOGGER.log(Level.SEVERE, "[INSTALL-PLUGINS] [{0}] Load plugin failed, plugin name: {0}.", pluginName);
+        LOGGER.log(Level.SEVERE, "An exception occurred while loading plugin.", throwable);
+    }
+
     public static Map<String, Plugin> getPluginMap() {
         return PLUGIN_MAP;
     }
 
-    private static void doInitPlugin(Plugin plugin) {
+    /**
+     * Load the plugin packages, configurations and services of a plugin. Touches nothing shared with other plugins
+     * except thread safe caches, so independent plugins can be prepared concurrently
+     *
+     * @param isDynamic Whether the plugin is dynamic
+     * @param pluginPackage plugin package path
+     * @param pluginName plugin name
+     * @return prepared plugin, null if the plugin directory does not exist
+     */
+    private static Plugin preparePlugin(boolean isDynamic, String pluginPackage, String pluginName) {
+        // Remove the copy tag of the plugin name to obtain the actual resource directory
+        final String pluginPath = pluginPackage + File.separatorChar + getRealPluginName(pluginName);
+        if (!new File(pluginPath).exists()) {
+            LOGGER.log(Level.WARNING, "[INSTALL-PLUGINS] [{0}] Plugin directory {1} does not exist, so skip "
+                    + "initializing {0}. ", new String[]{pluginName, pluginPath});
+            return null;
+        }
+        final Plugin plugin = new Plugin(pluginName, pluginPath, isDynamic,
+                ClassLoaderManager.createPluginClassLoader());
         loadPluginLibs(plugin);
         loadServiceLibs(plugin);
         PluginConfigManager.loadPluginConfigs(plugin);
         PluginServiceManager.initPluginServices(plugin);
+        return plugin;
+    }
 
+    /**
+     * Register a prepared plugin and install its bytecode enhancement
+     *
+     * @param plugin plugin
+     * @param costNanos time spent initializing the plugin, in nanoseconds
+     */
+    private static void registerPlugin(Plugin plugin, long costNanos) {
         // For adaptation logic, the classloader needs to be added to the plugin class finder before bytecode
         // enhancement, otherwise the interceptor may not be found during bytecode enhancement
         ClassLoaderManager.getPluginClassFinder().addPluginClassLoader(plugin);
@@ -227,8 +320,10 @@ public class PluginManager {
         // Steps after the plugin is successfully loaded
         PLUGIN_MAP.put(plugin.getName(), plugin);
         PluginSchemaValidator.setDefaultVersion(plugin.getName());
-        FrameworkEventCollector.getInstance().collectPluginsLoadEvent(plugin.getName());
-        LOGGER.log(Level.INFO, "Load plugin:{0} successful.", plugin.getName());
+        final long costMillis = TimeUnit.NANOSECONDS.toMillis(costNanos);
+        FrameworkEventCollector.getInstance().collectPluginsLoadEvent(plugin.getName(), costMillis);
+        LOGGER.log(Level.INFO, "Load plugin:{0} successful, cost: {1} ms.",
+                new Object[]{plugin.getName(), costMillis});
     }
 
     /**
@@ -407,6 +502,22 @@ public class PluginManager {
         }
     }
 
+    /**
+     * A plugin whose packages, configurations and services are loaded, waiting to be registered
+     *
+     * @since 2026-10-18
+     */
+    private static class PreparedPlugin {
+        private final Plugin plugin;
+
+        private final long costNanos;
+
+        PreparedPlugin(Plugin plugin, long costNanos) {
+            this.plugin = plugin;
+            this.costNanos = costNanos;
+        }
+    }
+
     /**
      * Jar file consumer
      *
@@ -68,7 +68,7 @@ public class PluginSystemEntrance {
                 LOGGER.info("Non static-support-plugin is configured to be loaded.");
                 return;
             }
-            PluginManager.initPlugins(staticPlugins, false);
+            PluginManager.initPlugins(staticPlugins, pluginSetting.getPluginDependencies(), false);
         }
 
         if (isDynamic) {
@@ -83,7 +83,7 @@ public class PluginSystemEntrance {
                 LOGGER.info("Non active dynamic-support-plugin is configured to be loaded.");
                 return;
             }
-            PluginManager.initPlugins(activePlugins, true);
+            PluginManager.initPlugins(activePlugins, pluginSetting.getPluginDependencies(), true);
         }
     }
 
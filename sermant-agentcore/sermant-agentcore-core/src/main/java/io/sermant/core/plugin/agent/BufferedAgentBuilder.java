@@ -28,6 +28,7 @@ import io.sermant.core.plugin.agent.declarer.AbstractPluginDeclarer;
 import io.sermant.core.plugin.agent.declarer.AbstractPluginDescription;
 import io.sermant.core.plugin.agent.declarer.PluginDeclarer;
 import io.sermant.core.plugin.agent.declarer.PluginDescription;
+import io.sermant.core.plugin.agent.prefilter.UnmatchedClassFilter;
 import io.sermant.core.plugin.agent.transformer.ReentrantTransformer;
 import io.sermant.core.plugin.classloader.PluginClassLoader;
 import io.sermant.core.plugin.classloader.ServiceClassLoader;
@@ -57,7 +58,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -329,11 +329,6 @@ public class BufferedAgentBuilder {
 
         private final Set<String> ignoredInterfaces;
 
-        /**
-         * unMatched Class Cache
-         */
-        private final Map<String, String> unMatchedClassCache = FileUtils.getUnMatchedClassCache();
-
         IgnoredMatcher(AgentConfig config) {
             ignoredPrefixes = config.getIgnoredPrefixes();
             serviceInjectList = config.getServiceInjectList();
@@ -347,7 +342,7 @@ public class BufferedAgentBuilder {
                 return false;
             }
 
-            if (unMatchedClassCache.containsKey(typeDesc.getActualName())) {
+            if (UnmatchedClassFilter.isUnmatched(typeDesc.getActualName())) {
                 return true;
             }
 
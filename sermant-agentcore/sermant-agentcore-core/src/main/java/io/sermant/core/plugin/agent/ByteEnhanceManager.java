@@ -23,8 +23,8 @@ import io.sermant.core.plugin.agent.config.AgentConfig;
 import io.sermant.core.plugin.agent.declarer.PluginDescription;
 import io.sermant.core.plugin.agent.enhance.ClassLoaderDeclarer;
 import io.sermant.core.plugin.agent.enhance.OpenTelemetryAgentDeclarer;
+import io.sermant.core.plugin.agent.prefilter.UnmatchedClassFilter;
 import io.sermant.core.service.ServiceConfig;
-import io.sermant.core.utils.FileUtils;
 
 import net.bytebuddy.agent.builder.AgentBuilder;
 import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy;
@@ -33,6 +33,7 @@ import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy.DiscoverySt
 import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
 
 import java.lang.instrument.Instrumentation;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -43,6 +44,11 @@ import java.util.List;
  * @since 2022-01-22
  */
 public class ByteEnhanceManager {
+    /**
+     * Plugins that support static installation, enhanced together when {@link #enhance()} is called
+     */
+    private static final List<Plugin> STATIC_PLUGINS = new ArrayList<>();
+
     private static Instrumentation instrumentationCache;
 
     private static BufferedAgentBuilder builder;
@@ -68,24 +74,23 @@ public class ByteEnhanceManager {
      * Install classloader enhanced bytecode for premain only
      */
     public static void enhance() {
-        cacheUnmatchedClass();
+        // All static plugins share one indexed description, so each class is matched against them in a single pass
+        if (!STATIC_PLUGINS.isEmpty()) {
+            builder.addPlugins(PluginCollector.getDescriptions(STATIC_PLUGINS));
+        }
+        boolean isPreFilterEnable = ConfigManager.getConfig(AgentConfig.class).isPreFilterEnable();
+        if (isPreFilterEnable) {
+            UnmatchedClassFilter.load(STATIC_PLUGINS);
+        }
         builder.install(instrumentationCache);
-        saveUnMatchedClass();
-    }
-
-    private static void saveUnMatchedClass() {
-        if (ConfigManager.getConfig(AgentConfig.class).isPreFilterEnable()) {
-            Runtime.getRuntime().addShutdownHook(new Thread(FileUtils::writeUnmatchedClassNameToFile
-            ));
+        if (isPreFilterEnable) {
+            Runtime.getRuntime().addShutdownHook(new Thread(UnmatchedClassFilter::save));
         }
     }
 
-    private static void cacheUnmatchedClass() {
-        FileUtils.readUnmatchedClassNameFromFile();
-    }
-
     /**
-     * Bytecode enhancement based on plugins that support static installation
+     * Bytecode enhancement based on plugins that support static installation. The plugin is enhanced together with the
+     * other static plugins when {@link #enhance()} is called
      *
      * @param plugin plugin that supports static installation
      */
@@ -93,7 +98,7 @@ public class ByteEnhanceManager {
         if (plugin.isDynamic()) {
             return;
         }
-        builder.addPlugins(PluginCollector.getDescriptions(plugin));
+        STATIC_PLUGINS.add(plugin);
     }
 
     /**
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.collector;
+
+import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.declarer.AbstractPluginDescription;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
+import io.sermant.core.plugin.agent.declarer.PluginDeclarer;
+import io.sermant.core.plugin.agent.matcher.ClassMatcher;
+import io.sermant.core.plugin.agent.matcher.ClassTypeMatcher;
+import io.sermant.core.plugin.agent.prefilter.UnmatchedClassFilter;
+import io.sermant.core.plugin.agent.transformer.ReentrantTransformer;
+import io.sermant.core.plugin.classloader.PluginClassLoader;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType.Builder;
+import net.bytebuddy.utility.JavaModule;
+
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A single plugin description covering the declarers of several plugins. Declarers using {@link ClassTypeMatcher}
+ * are indexed by type name across all plugins, so the exact-name part of matching is one hash lookup per class no
+ * matter how many plugins are installed; only the remaining fuzzy matchers are evaluated one by one. A matched class
+ * is transformed once per plugin, in plugin order, by the same transformer.
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class IndexedPluginDescription extends AbstractPluginDescription {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    /**
+     * Exact-name declarers, keyed by type name. Built once and read-only afterwards
+     */
+    private final Map<String, List<DeclarerEntry>> nameIndex = new HashMap<>();
+
+    /**
+     * Declarers whose matcher cannot be indexed by name
+     */
+    private final List<DeclarerEntry> fuzzyEntries = new ArrayList<>();
+
+    private final boolean isPreFilterEnable;
+
+    /**
+     * Constructor
+     *
+     * @param pluginDeclarers enabled declarers of each plugin, iterated in plugin order
+     * @param isPreFilterEnable whether classes matched by no declarer are recorded in the unmatched class filter
+     */
+    IndexedPluginDescription(Map<Plugin, ? extends List<? extends PluginDeclarer>> pluginDeclarers,
+            boolean isPreFilterEnable) {
+        this.isPreFilterEnable = isPreFilterEnable;
+        int pluginOrder = 0;
+        for (Map.Entry<Plugin, ? extends List<? extends PluginDeclarer>> entry : pluginDeclarers.entrySet()) {
+            for (PluginDeclarer declarer : entry.getValue()) {
+                DeclarerEntry declarerEntry = new DeclarerEntry(pluginOrder, entry.getKey(), declarer);
+                ClassMatcher classMatcher = declarer.getClassMatcher();
+                if (classMatcher instanceof ClassTypeMatcher) {
+                    for (String typeName : ((ClassTypeMatcher) classMatcher).getTypeNames()) {
+                        nameIndex.computeIfAbsent(typeName, key -> new ArrayList<>()).add(declarerEntry);
+                    }
+                } else {
+                    fuzzyEntries.add(declarerEntry);
+                }
+            }
+            pluginOrder++;
+        }
+    }
+
+    @Override
+    public boolean matches(TypeDescription target) {
+        final String typeName = target.getActualName();
+        if (nameIndex.containsKey(typeName)) {
+            return true;
+        }
+        for (DeclarerEntry entry : fuzzyEntries) {
+            if (matchTarget(entry.declarer.getClassMatcher(), target)) {
+                return true;
+            }
+        }
+        if (isPreFilterEnable) {
+            UnmatchedClassFilter.addUnmatchedClass(typeName);
+        }
+        return false;
+    }
+
+    @Override
+    public Builder<?> transform(Builder<?> builder, TypeDescription typeDescription, ClassLoader classLoader,
+            JavaModule javaModule, ProtectionDomain protectionDomain) {
+        final String typeName = typeDescription.getActualName();
+        final List<DeclarerEntry> exactEntries = nameIndex.getOrDefault(typeName, Collections.emptyList());
+        final List<DeclarerEntry> fuzzyMatched = matchFuzzyEntries(typeDescription);
+        Builder<?> newBuilder = builder;
+        int exactIndex = 0;
+        int fuzzyIndex = 0;
+
+        // Both lists are ordered by plugin, so merging them yields the declarers of each plugin in turn
+        while (exactIndex < exactEntries.size() || fuzzyIndex < fuzzyMatched.size()) {
+            final int pluginOrder = Math.min(orderAt(exactEntries, exactIndex), orderAt(fuzzyMatched, fuzzyIndex));
+            final List<InterceptDeclarer> interceptDeclarers = new ArrayList<>();
+            Plugin plugin = null;
+            for (; exactIndex < exactEntries.size() && exactEntries.get(exactIndex).pluginOrder == pluginOrder;
+                    exactIndex++) {
+                plugin = exactEntries.get(exactIndex).plugin;
+                collectInterceptDeclarers(exactEntries.get(exactIndex).declarer, classLoader, interceptDeclarers);
+            }
+            for (; fuzzyIndex < fuzzyMatched.size() && fuzzyMatched.get(fuzzyIndex).pluginOrder == pluginOrder;
+                    fuzzyIndex++) {
+                plugin = fuzzyMatched.get(fuzzyIndex).plugin;
+                collectInterceptDeclarers(fuzzyMatched.get(fuzzyIndex).declarer, classLoader, interceptDeclarers);
+            }
+            newBuilder = new ReentrantTransformer(interceptDeclarers.toArray(new InterceptDeclarer[0]), plugin)
+                    .transform(newBuilder, typeDescription, classLoader, javaModule, protectionDomain);
+        }
+        return newBuilder;
+    }
+
+    /**
+     * Gets the number of indexed type names
+     *
+     * @return number of indexed type names
+     */
+    int getIndexedNameCount() {
+        return nameIndex.size();
+    }
+
+    /**
+     * Gets the number of declarers that have to be matched one by one
+     *
+     * @return number of fuzzy declarers
+     */
+    int getFuzzyDeclarerCount() {
+        return fuzzyEntries.size();
+    }
+
+    /**
+     * Match the fuzzy declarers again for a matched type instead of caching them by type name, only the few matched
+     * types pay for it and nothing is kept for the types loaded by the JVM
+     *
+     * @param target type description
+     * @return fuzzy declarers matching the type, in plugin order
+     */
+    private List<DeclarerEntry> matchFuzzyEntries(TypeDescription target) {
+        List<DeclarerEntry> fuzzyMatched = Collections.emptyList();
+        for (DeclarerEntry entry : fuzzyEntries) {
+            if (matchTarget(entry.declarer.getClassMatcher(), target)) {
+                if (fuzzyMatched.isEmpty()) {
+                    fuzzyMatched = new ArrayList<>();
+                }
+                fuzzyMatched.add(entry);
+            }
+        }
+        return fuzzyMatched;
+    }
+
+    private static int orderAt(List<DeclarerEntry> entries, int index) {
+        return index < entries.size() ? entries.get(index).pluginOrder : Integer.MAX_VALUE;
+    }
+
+    private static void collectInterceptDeclarers(PluginDeclarer pluginDeclarer, ClassLoader classLoader,
+            List<InterceptDeclarer> interceptDeclarers) {
+        ClassLoader loader = pluginDeclarer.getClass().getClassLoader();
+        if (loader instanceof PluginClassLoader) {
+            PluginClassLoader pluginClassLoader = (PluginClassLoader) loader;
+            pluginClassLoader.setLocalLoader(classLoader);
+            interceptDeclarers.addAll(Arrays.asList(
+                    pluginDeclarer.getInterceptDeclarers(ClassLoader.getSystemClassLoader())));
+            pluginClassLoader.removeLocalLoader();
+        } else {
+            interceptDeclarers.addAll(Arrays.asList(
+                    pluginDeclarer.getInterceptDeclarers(ClassLoader.getSystemClassLoader())));
+        }
+    }
+
+    private static boolean matchTarget(ClassMatcher matcher, TypeDescription target) {
+        try {
+            return matcher.matches(target);
+        } catch (Exception exception) {
+            LOGGER.log(Level.WARNING, "Exception occurs when match target: " + target.getActualName() + ",{0}",
+                    exception.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * A plugin declarer together with the plugin it belongs to
+     *
+     * @author agent
+     * @since 2026-10-18
+     */
+    private static class DeclarerEntry {
+        private final int pluginOrder;
+
+        private final Plugin plugin;
+
+        private final PluginDeclarer declarer;
+
+        DeclarerEntry(int pluginOrder, Plugin plugin, PluginDeclarer declarer) {
+            this.pluginOrder = pluginOrder;
+            this.plugin = plugin;
+            this.declarer = declarer;
+        }
+    }
+}
@@ -16,34 +16,19 @@
 
 package io.sermant.core.plugin.agent.collector;
 
-import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.config.ConfigManager;
 import io.sermant.core.plugin.Plugin;
 import io.sermant.core.plugin.agent.config.AgentConfig;
-import io.sermant.core.plugin.agent.declarer.AbstractPluginDescription;
-import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
 import io.sermant.core.plugin.agent.declarer.PluginDeclarer;
 import io.sermant.core.plugin.agent.declarer.PluginDescription;
-import io.sermant.core.plugin.agent.matcher.ClassMatcher;
-import io.sermant.core.plugin.agent.matcher.ClassTypeMatcher;
-import io.sermant.core.plugin.agent.transformer.ReentrantTransformer;
-import io.sermant.core.plugin.classloader.PluginClassLoader;
-import io.sermant.core.utils.FileUtils;
 
-import net.bytebuddy.description.type.TypeDescription;
-import net.bytebuddy.dynamic.DynamicType.Builder;
-import net.bytebuddy.matcher.ElementMatcher;
-import net.bytebuddy.utility.JavaModule;
-
-import java.security.ProtectionDomain;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Plugin collector, which gets plugin descriptors from all plugins
@@ -53,8 +38,6 @@ import java.util.logging.Logger;
  * @since 2022-01-26
  */
 public class PluginCollector {
-    private static final Logger LOGGER = LoggerFactory.getLogger();
-
     private static final boolean IS_PRE_FILTER_ENABLE = ConfigManager.getConfig(AgentConfig.class).isPreFilterEnable();
 
     private PluginCollector() {
@@ -68,13 +51,26 @@ public class PluginCollector {
      * @return list of PluginDescription
      */
     public static List<PluginDescription> getDescriptions(Plugin plugin) {
+        return getDescriptions(Collections.singletonList(plugin));
+    }
+
+    /**
+     * Resolve the plugin descriptions of several plugins. The plugin declarers of all the plugins are merged into one
+     * indexed plugin description, so that each class is matched against the plugins in a single pass
+     *
+     * @param plugins plugins, in the order their enhancements are applied
+     * @return list of PluginDescription
+     */
+    public static List<PluginDescription> getDescriptions(Collection<Plugin> plugins) {
         final List<PluginDescription> descriptions = new ArrayList<>();
 
-        // Create a plugin description by loading the plugin declarer and merging
-        descriptions.add(combinePluginDeclarers(plugin));
+        // Create a plugin description by loading the plugin declarers and merging
+        descriptions.add(combinePluginDeclarers(plugins));
 
         // Load the plugin description directly
-        descriptions.addAll(getDescriptions(plugin.getPluginClassLoader()));
+        for (Plugin plugin : plugins) {
+            descriptions.addAll(getDescriptions(plugin.getPluginClassLoader()));
+        }
         return descriptions;
     }
 
@@ -93,82 +89,17 @@ public class PluginCollector {
     }
 
     /**
-     * Merge the plugin declarers in a plugin into a plugin description
+     * Merge the plugin declarers in the plugins into a plugin description
      *
-     * @param plugin plugin
+     * @param plugins plugins
      * @return PluginDescription
      */
-    private static PluginDescription combinePluginDeclarers(Plugin plugin) {
-        final Map<String, List<PluginDeclarer>> nameCombinedMap = new HashMap<>();
-        final List<PluginDeclarer> combinedList = new ArrayList<>();
-        List<? extends PluginDeclarer> declarers = getDeclarers(plugin.getPluginClassLoader());
-        for (PluginDeclarer pluginDeclarer : declarers) {
-            final ClassMatcher classMatcher = pluginDeclarer.getClassMatcher();
-            if (classMatcher instanceof ClassTypeMatcher) {
-                for (String typeName : ((ClassTypeMatcher) classMatcher).getTypeNames()) {
-                    List<PluginDeclarer> nameCombinedList = nameCombinedMap.computeIfAbsent(typeName,
-                            key -> new ArrayList<>());
-                    nameCombinedList.add(pluginDeclarer);
-                }
-            } else {
-                combinedList.add(pluginDeclarer);
-            }
+    private static PluginDescription combinePluginDeclarers(Collection<Plugin> plugins) {
+        final Map<Plugin, List<? extends PluginDeclarer>> pluginDeclarers = new LinkedHashMap<>();
+        for (Plugin plugin : plugins) {
+            pluginDeclarers.put(plugin, getDeclarers(plugin.getPluginClassLoader()));
         }
-        return createPluginDescription(plugin, nameCombinedMap, combinedList);
-    }
-
-    private static AbstractPluginDescription createPluginDescription(Plugin plugin,
-            Map<String, List<PluginDeclarer>> nameCombinedMap, List<PluginDeclarer> combinedList) {
-        return new AbstractPluginDescription() {
-            @Override
-            public Builder<?> transform(Builder<?> builder, TypeDescription typeDescription, ClassLoader classLoader,
-                    JavaModule javaModule, ProtectionDomain protectionDomain) {
-                return doTransform(builder, typeDescription, classLoader, javaModule, protectionDomain, nameCombinedMap,
-                        plugin);
-            }
-
-            @Override
-            public boolean matches(TypeDescription target) {
-                final String typeName = target.getActualName();
-                doMatch(target, typeName, combinedList, nameCombinedMap);
-                return nameCombinedMap.containsKey(typeName);
-            }
-        };
-    }
-
-    private static void doMatch(TypeDescription target, String typeName, List<PluginDeclarer> combinedList,
-            Map<String, List<PluginDeclarer>> nameCombinedMap) {
-        for (PluginDeclarer declarer : combinedList) {
-            if (matchTarget(declarer.getClassMatcher(), target)) {
-                List<PluginDeclarer> declarers = nameCombinedMap.computeIfAbsent(typeName,
-                        key -> new ArrayList<>());
-                if (!declarers.contains(declarer)) {
-                    declarers.add(declarer);
-                }
-            }
-        }
-    }
-
-    private static Builder<?> doTransform(Builder<?> builder, TypeDescription typeDescription, ClassLoader classLoader,
-            JavaModule javaModule, ProtectionDomain protectionDomain, Map<String, List<PluginDeclarer>> nameCombinedMap,
-            Plugin plugin) {
-        final List<PluginDeclarer> pluginDeclarers = nameCombinedMap.get(typeDescription.getActualName());
-        final List<InterceptDeclarer> interceptDeclarers = new ArrayList<>();
-        for (PluginDeclarer pluginDeclarer : pluginDeclarers) {
-            ClassLoader loader = pluginDeclarer.getClass().getClassLoader();
-            if (loader instanceof PluginClassLoader) {
-                PluginClassLoader pluginClassLoader = (PluginClassLoader) loader;
-                pluginClassLoader.setLocalLoader(classLoader);
-                interceptDeclarers.addAll(Arrays.asList(
-                        pluginDeclarer.getInterceptDeclarers(ClassLoader.getSystemClassLoader())));
-                pluginClassLoader.removeLocalLoader();
-            } else {
-                interceptDeclarers.addAll(Arrays.asList(
-                        pluginDeclarer.getInterceptDeclarers(ClassLoader.getSystemClassLoader())));
-            }
-        }
-        return new ReentrantTransformer(interceptDeclarers.toArray(new InterceptDeclarer[0]), plugin).transform(
-                builder, typeDescription, classLoader, javaModule, protectionDomain);
+        return new IndexedPluginDescription(pluginDeclarers, IS_PRE_FILTER_ENABLE);
     }
 
     /**
@@ -194,19 +125,4 @@ public class PluginCollector {
     private static Iterable<? extends PluginDescription> loadDescriptions(ClassLoader classLoader) {
         return ServiceLoader.load(PluginDescription.class, classLoader);
     }
-
-    private static boolean matchTarget(ElementMatcher<TypeDescription> matcher, TypeDescription target) {
-        try {
-            boolean result = matcher.matches(target);
-            if (IS_PRE_FILTER_ENABLE && !result) {
-                FileUtils.addToUnmatchedClassCache(target.getActualName());
-            }
-
-            return result;
-        } catch (Exception exception) {
-            LOGGER.log(Level.WARNING, "Exception occurs when match target: " + target.getActualName() + ",{0}",
-                    exception.getMessage());
-            return false;
-        }
-    }
 }
@@ -32,6 +32,8 @@ import java.util.Set;
  */
 @ConfigTypeKey("agent.config")
 public class AgentConfig implements BaseConfig {
+    private static final int DEFAULT_PARALLEL_PLUGIN_INIT_PARALLELISM = 4;
+
     /**
      * Whether to enable bytecode retransform
      */
@@ -79,6 +81,19 @@ public class AgentConfig implements BaseConfig {
     @ConfigFieldKey("preFilter.file")
     private String preFilterFile;
 
+    /**
+     * Whether to initialize plugins in parallel. Plugins only wait for the plugins they depend on, see
+     * {@code pluginDependencies} in plugins.yaml
+     */
+    @ConfigFieldKey("parallelPluginInit.enable")
+    private boolean parallelPluginInitEnable = false;
+
+    /**
+     * Maximum number of plugins initialized at the same time in parallel mode
+     */
+    @ConfigFieldKey("parallelPluginInit.parallelism")
+    private int parallelPluginInitParallelism = DEFAULT_PARALLEL_PLUGIN_INIT_PARALLELISM;
+
     @ConfigFieldKey("externalAgent.injection")
     private boolean externalAgentInjection = false;
 
@@ -182,6 +197,22 @@ public class AgentConfig implements BaseConfig {
         this.preFilterFile = preFilterFile;
     }
 
+    public boolean isParallelPluginInitEnable() {
+        return parallelPluginInitEnable;
+    }
+
+    public void setParallelPluginInitEnable(boolean parallelPluginInitEnable) {
+        this.parallelPluginInitEnable = parallelPluginInitEnable;
+    }
+
+    public int getParallelPluginInitParallelism() {
+        return parallelPluginInitParallelism;
+    }
+
+    public void setParallelPluginInitParallelism(int parallelPluginInitParallelism) {
+        this.parallelPluginInitParallelism = parallelPluginInitParallelism;
+    }
+
     public boolean isExternalAgentInjection() {
         return externalAgentInjection;
     }
@@ -86,4 +86,9 @@ public class ClassLoaderFindResourceInterceptor implements Interceptor {
         }
         return false;
     }
+
+    @Override
+    public boolean isContextRetained() {
+        return false;
+    }
 }
@@ -79,4 +79,9 @@ public class ClassLoaderLoadClassInterceptor implements Interceptor {
         }
         return false;
     }
+
+    @Override
+    public boolean isContextRetained() {
+        return false;
+    }
 }
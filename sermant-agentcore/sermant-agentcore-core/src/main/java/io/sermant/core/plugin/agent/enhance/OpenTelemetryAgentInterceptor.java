@@ -43,4 +43,9 @@ public class OpenTelemetryAgentInterceptor implements Interceptor {
     public ExecuteContext onThrow(ExecuteContext context) throws Exception {
         return context;
     }
+
+    @Override
+    public boolean isContextRetained() {
+        return false;
+    }
 }
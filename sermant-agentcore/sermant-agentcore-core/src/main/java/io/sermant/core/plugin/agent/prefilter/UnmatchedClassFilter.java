@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.prefilter;
+
+import io.sermant.core.classloader.JarEntryIndex;
+import io.sermant.core.common.BootArgsIndexer;
+import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.config.ConfigManager;
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.utils.FileUtils;
+import io.sermant.core.utils.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pre-filter of classes that no plugin enhances. Classes found unmatched during one run are persisted to an
+ * {@link UnmatchedClassIndex} at shutdown, and skipped without type matching on the next start. The index is stamped
+ * with a fingerprint of the installed plugins, the agent configuration and the application classpath, so it is
+ * discarded as soon as any of them changes
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class UnmatchedClassFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    /**
+     * file name of unmatched class index
+     */
+    private static final String DEFAULT_OUTPUT_CLASS_NAME_FILE = "unmatched_class_name.idx";
+
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private static final char SEPARATOR = '\n';
+
+    /**
+     * Classes found unmatched in this run, or skipped thanks to the loaded index. Only these are persisted, so the
+     * index never outgrows the classes the application actually loads
+     */
+    private static final Set<String> UNMATCHED_CLASSES = ConcurrentHashMap.newKeySet();
+
+    private static volatile UnmatchedClassIndex index = UnmatchedClassIndex.EMPTY;
+
+    private static volatile byte[] fingerprint;
+
+    private UnmatchedClassFilter() {
+    }
+
+    /**
+     * Load the index persisted by the previous run, if it was written for the same plugins and configuration
+     *
+     * @param plugins installed plugins
+     */
+    public static void load(Collection<Plugin> plugins) {
+        load(getFilterFile(), buildFingerprint(BootArgsIndexer.getCoreVersion(),
+                Arrays.asList(BootArgsIndexer.getConfigFile(), BootArgsIndexer.getPluginSettingFile()), plugins,
+                ConfigManager.getConfig(AgentConfig.class)));
+    }
+
+    /**
+     * Load the index from a file
+     *
+     * @param file index file
+     * @param currentFingerprint fingerprint of the current plugins and configuration
+     */
+    static void load(File file, byte[] currentFingerprint) {
+        fingerprint = currentFingerprint;
+        try {
+            index = UnmatchedClassIndex.load(file, currentFingerprint);
+            if (index == UnmatchedClassIndex.EMPTY && file.isFile()) {
+                LOGGER.log(Level.INFO, "Unmatched class index {0} is stale and will be rebuilt.", file.getPath());
+            }
+        } catch (IOException e) {
+            index = UnmatchedClassIndex.EMPTY;
+            LOGGER.log(Level.WARNING, "Fail to load unmatched class index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Persist the classes found unmatched in this run
+     */
+    public static void save() {
+        save(getFilterFile());
+    }
+
+    /**
+     * Persist the classes found unmatched in this run to a file
+     *
+     * @param file index file
+     */
+    static void save(File file) {
+        if (fingerprint == null) {
+            return;
+        }
+        try {
+            UnmatchedClassIndex.write(file, fingerprint, new ArrayList<>(UNMATCHED_CLASSES));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Fail to write unmatched class index. ", e);
+        }
+    }
+
+    /**
+     * Whether the class is known to be matched by no plugin
+     *
+     * @param className class name
+     * @return unmatched or not
+     */
+    public static boolean isUnmatched(String className) {
+        if (UNMATCHED_CLASSES.contains(className)) {
+            return true;
+        }
+        if (index.contains(className)) {
+            UNMATCHED_CLASSES.add(className);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Record a class matched by no plugin
+     *
+     * @param className class name
+     */
+    public static void addUnmatchedClass(String className) {
+        UNMATCHED_CLASSES.add(className);
+    }
+
+    /**
+     * Forget all unmatched classes of this run and the loaded index
+     */
+    static void clear() {
+        UNMATCHED_CLASSES.clear();
+        index = UnmatchedClassIndex.EMPTY;
+        fingerprint = null;
+    }
+
+    /**
+     * Build the fingerprint of everything deciding whether a class is enhanced: the core version, the plugins with
+     * their jars and configs, the agent configuration and the application classpath. Files are identified by path,
+     * size and modification time rather than by content, so the fingerprint is cheap to build on every start
+     *
+     * @param coreVersion core version
+     * @param configFiles agent config files
+     * @param plugins installed plugins
+     * @param config agent config
+     * @return fingerprint
+     */
+    static byte[] buildFingerprint(String coreVersion, Collection<File> configFiles, Collection<Plugin> plugins,
+            AgentConfig config) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(coreVersion).append(SEPARATOR);
+        for (File configFile : configFiles) {
+            appendFile(builder, configFile);
+        }
+        List<Plugin> sortedPlugins = new ArrayList<>(plugins);
+        sortedPlugins.sort(Comparator.comparing(Plugin::getName));
+        for (Plugin plugin : sortedPlugins) {
+            builder.append(plugin.getName()).append(':').append(plugin.getVersion()).append(SEPARATOR);
+            if (plugin.getPath() != null) {
+                appendFiles(builder, new File(plugin.getPath()));
+            }
+        }
+        if (config != null) {
+            builder.append(sorted(config.getIgnoredPrefixes())).append(SEPARATOR)
+                    .append(sorted(config.getIgnoredInterfaces())).append(SEPARATOR)
+                    .append(sorted(config.getServiceInjectList())).append(SEPARATOR);
+        }
+        String classPath = System.getProperty("java.class.path", "");
+        for (String entry : classPath.split(File.pathSeparator)) {
+            if (!StringUtils.isEmpty(entry)) {
+                appendFile(builder, new File(entry));
+            }
+        }
+        try {
+            return MessageDigest.getInstance(FINGERPRINT_ALGORITHM)
+                    .digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Set<String> sorted(Set<String> values) {
+        return values == null ? Collections.emptySet() : new TreeSet<>(values);
+    }
+
+    private static void appendFiles(StringBuilder builder, File dir) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            if (file.isDirectory()) {
+                appendFiles(builder, file);
+            } else if (!file.getName().endsWith(JarEntryIndex.INDEX_FILE_SUFFIX)) {
+                // Jar indexes are written next to the plugin jars at startup and must not invalidate the filter
+                appendFile(builder, file);
+            }
+        }
+    }
+
+    private static void appendFile(StringBuilder builder, File file) {
+        if (file == null) {
+            return;
+        }
+        builder.append(file.getPath()).append(':').append(file.length()).append(':').append(file.lastModified())
+                .append(SEPARATOR);
+    }
+
+    private static File getFilterFile() {
+        AgentConfig config = ConfigManager.getConfig(AgentConfig.class);
+        String preFilterPath = config.getPreFilterPath();
+        if (StringUtils.isEmpty(preFilterPath)) {
+            preFilterPath = FileUtils.getAgentPath();
+        }
+        String preFilterFile = config.getPreFilterFile();
+        if (StringUtils.isEmpty(preFilterFile)) {
+            preFilterFile = DEFAULT_OUTPUT_CLASS_NAME_FILE;
+        }
+        return new File(preFilterPath, preFilterFile);
+    }
+}
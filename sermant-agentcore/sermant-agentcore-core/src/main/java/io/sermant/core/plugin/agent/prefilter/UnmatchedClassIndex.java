@@ -0,0 +1,314 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.prefilter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read-only index of unmatched class names, backed by a memory-mapped file. The file starts with a header carrying the
+ * fingerprint it was written for, followed by a bloom filter and a table of class names sorted by their UTF-8 bytes.
+ * A lookup probes the bloom filter first and only binary searches the table when the bloom filter reports a possible
+ * hit, so opening the index costs one mmap regardless of its size
+ *
+ * <pre>
+ * int magic | int format version | byte[32] fingerprint | int entry count | int bloom words
+ * long[bloom words] bloom filter | int[entry count + 1] name offsets | byte[] UTF-8 names
+ * </pre>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class UnmatchedClassIndex {
+    /**
+     * Index without any class name
+     */
+    public static final UnmatchedClassIndex EMPTY = new UnmatchedClassIndex(ByteBuffer.allocate(0), 0, 0);
+
+    /**
+     * Length of the fingerprint stamped in the header
+     */
+    static final int FINGERPRINT_LENGTH = 32;
+
+    private static final int MAGIC = 0x53504631;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_LENGTH = Integer.BYTES * 2 + FINGERPRINT_LENGTH + Integer.BYTES * 2;
+
+    private static final int BLOOM_HASH_COUNT = 7;
+
+    private static final int BLOOM_BITS_PER_ENTRY = 10;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final int ASCII_LIMIT = 0x80;
+
+    private static final int BYTE_MASK = 0xff;
+
+    private final ByteBuffer buffer;
+
+    private final int entryCount;
+
+    private final int bloomWords;
+
+    private final int offsetsStart;
+
+    private final int namesStart;
+
+    private UnmatchedClassIndex(ByteBuffer buffer, int entryCount, int bloomWords) {
+        this.buffer = buffer;
+        this.entryCount = entryCount;
+        this.bloomWords = bloomWords;
+        this.offsetsStart = HEADER_LENGTH + bloomWords * Long.BYTES;
+        this.namesStart = offsetsStart + (entryCount + 1) * Integer.BYTES;
+    }
+
+    /**
+     * Map the index file. An index written for another fingerprint or in another format is stale and is not loaded
+     *
+     * @param file index file
+     * @param fingerprint fingerprint of the current plugin set and configuration
+     * @return index, or {@link #EMPTY} if the file does not exist or is stale
+     * @throws IOException fail to map the file
+     */
+    public static UnmatchedClassIndex load(File file, byte[] fingerprint) throws IOException {
+        if (!file.isFile()) {
+            return EMPTY;
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_LENGTH || channel.size() > Integer.MAX_VALUE) {
+                return EMPTY;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT_VERSION) {
+            return EMPTY;
+        }
+        byte[] stamped = new byte[FINGERPRINT_LENGTH];
+        for (int i = 0; i < FINGERPRINT_LENGTH; i++) {
+            stamped[i] = buffer.get(Integer.BYTES * 2 + i);
+        }
+        if (!Arrays.equals(stamped, fingerprint)) {
+            return EMPTY;
+        }
+        int entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES * 2);
+        int bloomWords = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+        if (entryCount < 0 || bloomWords < 0 || entryCount > buffer.capacity() / Integer.BYTES
+                || bloomWords > buffer.capacity() / Long.BYTES) {
+            return EMPTY;
+        }
+        UnmatchedClassIndex index = new UnmatchedClassIndex(buffer, entryCount, bloomWords);
+        if (index.namesStart > buffer.capacity()
+                || index.namesStart + index.offsetAt(entryCount) != buffer.capacity()) {
+            return EMPTY;
+        }
+        return index;
+    }
+
+    /**
+     * Write an index file. The file is written to a uniquely named temporary file and moved into place, so neither a
+     * concurrent reader nor another writer sharing the directory sees a partially written index
+     *
+     * @param file index file
+     * @param fingerprint fingerprint of the current plugin set and configuration
+     * @param classNames unmatched class names
+     * @throws IOException fail to write the file
+     */
+    public static void write(File file, byte[] fingerprint, Collection<String> classNames) throws IOException {
+        List<byte[]> names = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            names.add(className.getBytes(StandardCharsets.UTF_8));
+        }
+        names.sort(UnmatchedClassIndex::compareUnsigned);
+        int bloomWords = Math.max(1, (names.size() * BLOOM_BITS_PER_ENTRY + Long.SIZE - 1) / Long.SIZE);
+        long[] bloom = new long[bloomWords];
+        for (String className : classNames) {
+            long hash = hash(className);
+            for (int i = 0; i < BLOOM_HASH_COUNT; i++) {
+                int bit = bitOf(hash, i, bloomWords);
+                bloom[bit >>> 6] |= 1L << bit;
+            }
+        }
+        Path tempFile = Files.createTempFile(file.getAbsoluteFile().toPath().getParent(), file.getName(), ".tmp");
+        try {
+            try (OutputStream fileStream = Files.newOutputStream(tempFile);
+                    DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileStream))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.write(fingerprint, 0, FINGERPRINT_LENGTH);
+                output.writeInt(names.size());
+                output.writeInt(bloomWords);
+                for (long word : bloom) {
+                    output.writeLong(word);
+                }
+                int offset = 0;
+                for (byte[] name : names) {
+                    output.writeInt(offset);
+                    offset += name.length;
+                }
+                output.writeInt(offset);
+                for (byte[] name : names) {
+                    output.write(name);
+                }
+            }
+            try {
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ignored) {
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Whether the class name is in the index
+     *
+     * @param className class name
+     * @return contained or not
+     */
+    public boolean contains(String className) {
+        if (entryCount == 0 || !mightContain(className)) {
+            return false;
+        }
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int result = compareEntry(mid, className);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of class names in the index
+     *
+     * @return number of class names
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    private boolean mightContain(String className) {
+        long hash = hash(className);
+        for (int i = 0; i < BLOOM_HASH_COUNT; i++) {
+            int bit = bitOf(hash, i, bloomWords);
+            if ((buffer.getLong(HEADER_LENGTH + (bit >>> 6) * Long.BYTES) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int offsetAt(int entry) {
+        return buffer.getInt(offsetsStart + entry * Integer.BYTES);
+    }
+
+    /**
+     * Compare an entry with a class name in the order of their UTF-8 bytes. Class names are almost always ASCII, which
+     * is compared char by char without encoding the name
+     */
+    private int compareEntry(int entry, String className) {
+        int start = namesStart + offsetAt(entry);
+        int length = namesStart + offsetAt(entry + 1) - start;
+        int common = Math.min(length, className.length());
+        for (int i = 0; i < common; i++) {
+            char ch = className.charAt(i);
+            if (ch >= ASCII_LIMIT) {
+                return compareEncoded(start, length, className.getBytes(StandardCharsets.UTF_8));
+            }
+            int result = (buffer.get(start + i) & BYTE_MASK) - ch;
+            if (result != 0) {
+                return result;
+            }
+        }
+        for (int i = common; i < className.length(); i++) {
+            if (className.charAt(i) >= ASCII_LIMIT) {
+                return compareEncoded(start, length, className.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return length - className.length();
+    }
+
+    private int compareEncoded(int start, int length, byte[] name) {
+        int common = Math.min(length, name.length);
+        for (int i = 0; i < common; i++) {
+            int result = (buffer.get(start + i) & BYTE_MASK) - (name[i] & BYTE_MASK);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return length - name.length;
+    }
+
+    private static int compareUnsigned(byte[] left, byte[] right) {
+        int common = Math.min(left.length, right.length);
+        for (int i = 0; i < common; i++) {
+            int result = (left[i] & BYTE_MASK) - (right[i] & BYTE_MASK);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return left.length - right.length;
+    }
+
+    /**
+     * 64-bit FNV-1a over the chars of the name, stable across JVMs
+     */
+    private static long hash(String className) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < className.length(); i++) {
+            hash = (hash ^ className.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * The i-th probe of double hashing, built from the two halves of the 64-bit hash
+     */
+    private static int bitOf(long hash, int probe, int bloomWords) {
+        int combined = (int) hash + probe * (int) (hash >>> Integer.SIZE);
+        return (combined & Integer.MAX_VALUE) % (bloomWords * Long.SIZE);
+    }
+}
@@ -17,14 +17,18 @@
 package io.sermant.core.plugin.agent.template;
 
 import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 import io.sermant.core.plugin.agent.interceptor.Interceptor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,9 +44,37 @@ public class BaseAdviseHandler {
 
     private static final Map<String, List<Interceptor>> INTERCEPTOR_LIST_MAP = new ConcurrentHashMap<>();
 
+    private static final int INIT_INTERCEPTOR_CHAIN_CAPACITY = 256;
+
+    /**
+     * Interceptor chains indexed by advice index, copy-on-write, see {@link AdviserScheduler#getAdviceIndex}
+     */
+    private static volatile InterceptorChain[] interceptorChains =
+            new InterceptorChain[INIT_INTERCEPTOR_CHAIN_CAPACITY];
+
     private BaseAdviseHandler() {
     }
 
+    /**
+     * Adviser logic of method enter
+     *
+     * @param context ExecuteContext
+     * @param adviceIndex advice index, assigned at transform time
+     * @param enterHandler exception handler of onEnter
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    public static ExecuteContext handleMethodEnter(ExecuteContext context, int adviceIndex,
+            ExceptionHandler enterHandler) throws Throwable {
+        InterceptorChain chain = getInterceptorChain(adviceIndex);
+        if (chain == null) {
+            return context;
+        }
+        context.setInterceptors(chain.interceptors);
+        context.setInterceptorCursor(0);
+        return handleMethodEnter(context, chain.interceptors, enterHandler);
+    }
+
     /**
      * Adviser logic of method enter
      *
@@ -56,12 +88,10 @@ public class BaseAdviseHandler {
      */
     public static ExecuteContext handleMethodEnter(ExecuteContext context, String adviceKey,
             ExceptionHandler enterHandler) throws Throwable {
-        List<Interceptor> interceptorList = INTERCEPTOR_LIST_MAP.get(adviceKey);
-        if (interceptorList == null) {
+        if (!INTERCEPTOR_LIST_MAP.containsKey(adviceKey)) {
             return context;
         }
-        context.setInterceptorIterator(interceptorList.listIterator());
-        return handleMethodEnter(context, context.getInterceptorIterator(), enterHandler);
+        return handleMethodEnter(context, AdviserScheduler.getAdviceIndex(adviceKey), enterHandler);
     }
 
     /**
@@ -72,7 +102,10 @@ public class BaseAdviseHandler {
      * @param enterHandler exception handler of onEnter
      * @return ExecuteContext
      * @throws Throwable throws to the host instance
+     * @deprecated the interceptors are dispatched by advice index, use
+     * {@link #handleMethodEnter(ExecuteContext, int, ExceptionHandler)}
      */
+    @Deprecated
     public static ExecuteContext handleMethodEnter(ExecuteContext context, ListIterator<Interceptor> interceptorItr,
             ExceptionHandler enterHandler) throws Throwable {
         ExecuteContext newContext = context;
@@ -109,6 +142,75 @@ public class BaseAdviseHandler {
         return newContext;
     }
 
+    /**
+     * logic of onEnter, the interceptors are executed in order, and the cursor of the context records how many of
+     * them have been entered
+     *
+     * @param context ExecuteContext
+     * @param interceptors Interceptors
+     * @param enterHandler exception handler of onEnter
+     * @return ExecuteContext
+     * @throws Throwable throws to the host instance
+     */
+    private static ExecuteContext handleMethodEnter(ExecuteContext context, Interceptor[] interceptors,
+            ExceptionHandler enterHandler) throws Throwable {
+        ExecuteContext newContext = context;
+        int cursor = 0;
+        while (cursor < interceptors.length) {
+            try {
+                final Interceptor interceptor = interceptors[cursor++];
+                newContext.setInterceptorCursor(cursor);
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE,
+                            String.format(Locale.ROOT, "Method[%s] had been entered, interceptor is [%s].",
+                                    MethodKeyCreator.getMethodKey(context.getMethod()),
+                                    interceptor.getClass().getName()));
+                }
+                try {
+                    final ExecuteContext tempContext = interceptor.before(newContext);
+                    if (tempContext != null && tempContext != newContext) {
+                        tempContext.setInterceptors(interceptors);
+                        tempContext.setInterceptorCursor(cursor);
+                        newContext = tempContext;
+                    }
+                    if (newContext.isSkip()) {
+                        return newContext;
+                    }
+                } catch (Throwable t) {
+                    enterHandler.handle(context, interceptor, t);
+                }
+            } catch (Exception exception) {
+                LOGGER.log(Level.SEVERE, "Exception occurs when method enter.", exception);
+                return newContext;
+            }
+
+            // Specifies that an exception is thrown to the host instance
+            if (newContext.getThrowableOut() != null) {
+                throw newContext.getThrowableOut();
+            }
+        }
+        return newContext;
+    }
+
+    /**
+     * Adviser logic of method exit
+     *
+     * @param context ExecuteContext
+     * @param adviceIndex advice index, assigned at transform time
+     * @param throwHandler exception handler of onThrow
+     * @param exitHandler exception handler of onExit
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    public static ExecuteContext handleMethodExit(ExecuteContext context, int adviceIndex,
+            ExceptionHandler throwHandler, ExceptionHandler exitHandler) throws Throwable {
+        Interceptor[] interceptors = context.getInterceptors();
+        if (interceptors == null || getInterceptorChain(adviceIndex) == null) {
+            return context;
+        }
+        return handleMethodExit(context, interceptors, throwHandler, exitHandler);
+    }
+
     /**
      * Adviser logic of method exit
      *
@@ -123,11 +225,10 @@ public class BaseAdviseHandler {
      */
     public static ExecuteContext handleMethodExit(ExecuteContext context, String adviceKey,
             ExceptionHandler throwHandler, ExceptionHandler exitHandler) throws Throwable {
-        List<Interceptor> interceptorList = INTERCEPTOR_LIST_MAP.get(adviceKey);
-        if (interceptorList == null) {
+        if (!INTERCEPTOR_LIST_MAP.containsKey(adviceKey)) {
             return context;
         }
-        return handleMethodExit(context, context.getInterceptorIterator(), throwHandler, exitHandler);
+        return handleMethodExit(context, AdviserScheduler.getAdviceIndex(adviceKey), throwHandler, exitHandler);
     }
 
     /**
@@ -139,7 +240,10 @@ public class BaseAdviseHandler {
      * @param exitHandler exception handler of onExit
      * @return ExecuteContext
      * @throws Throwable throws to the host instance
+     * @deprecated the interceptors are dispatched by advice index, use
+     * {@link #handleMethodExit(ExecuteContext, int, ExceptionHandler, ExceptionHandler)}
      */
+    @Deprecated
     public static ExecuteContext handleMethodExit(ExecuteContext context, ListIterator<Interceptor> interceptorItr,
             ExceptionHandler throwHandler, ExceptionHandler exitHandler) throws Throwable {
         ExecuteContext newContext = context;
@@ -184,10 +288,160 @@ public class BaseAdviseHandler {
         return newContext;
     }
 
+    /**
+     * logic for onExit&onThrow, the entered interceptors are executed in reverse order
+     *
+     * @param context ExecuteContext
+     * @param interceptors Interceptors
+     * @param throwHandler exception handler of onThrow
+     * @param exitHandler exception handler of onExit
+     * @return ExecuteContext
+     * @throws Throwable throws to the host instance
+     */
+    private static ExecuteContext handleMethodExit(ExecuteContext context, Interceptor[] interceptors,
+            ExceptionHandler throwHandler, ExceptionHandler exitHandler) throws Throwable {
+        ExecuteContext newContext = context;
+        int cursor = context.getInterceptorCursor();
+        while (cursor > 0) {
+            try {
+                final Interceptor interceptor = interceptors[--cursor];
+                newContext.setInterceptorCursor(cursor);
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE,
+                            String.format(Locale.ROOT, "Method[%s] had been exited, interceptor is [%s].",
+                                    MethodKeyCreator.getMethodKey(context.getMethod()),
+                                    interceptor.getClass().getName()));
+                }
+                if (newContext.getThrowable() != null && throwHandler != null) {
+                    try {
+                        final ExecuteContext tempContext = interceptor.onThrow(newContext);
+                        if (tempContext != null) {
+                            newContext = tempContext;
+                        }
+                    } catch (Throwable t) {
+                        throwHandler.handle(newContext, interceptor, t);
+                    }
+                    if (newContext.getThrowableOut() != null) {
+                        throw newContext.getThrowableOut();
+                    }
+                }
+                try {
+                    final ExecuteContext tempContext = interceptor.after(newContext);
+                    if (tempContext != null) {
+                        newContext = tempContext;
+                    }
+                } catch (Throwable t) {
+                    exitHandler.handle(newContext, interceptor, t);
+                }
+            } catch (Exception exception) {
+                LOGGER.log(Level.SEVERE, "Exception occurs when method exit.", exception);
+                return newContext;
+            }
+            if (newContext.getThrowableOut() != null) {
+                throw newContext.getThrowableOut();
+            }
+        }
+        return newContext;
+    }
+
+    /**
+     * Get the interceptor lists indexed by adviceKey, for diagnostics and plugin management. Modify the interceptors
+     * through {@link #addInterceptor} and {@link #removeInterceptors}, so that the interceptor chains are republished
+     *
+     * @return interceptor lists
+     */
     public static Map<String, List<Interceptor>> getInterceptorListMap() {
         return INTERCEPTOR_LIST_MAP;
     }
 
+    /**
+     * Add an interceptor for the adviceKey, and republish the interceptor chain of the advice index
+     *
+     * @param adviceKey adviceKey, kept for diagnostics and plugin management
+     * @param adviceIndex advice index of the adviceKey
+     * @param interceptor interceptor
+     */
+    public static synchronized void addInterceptor(String adviceKey, int adviceIndex, Interceptor interceptor) {
+        List<Interceptor> interceptorList = INTERCEPTOR_LIST_MAP.computeIfAbsent(adviceKey, key -> new ArrayList<>());
+        interceptorList.add(interceptor);
+        publishInterceptorChain(adviceIndex, interceptorList);
+    }
+
+    /**
+     * Remove the interceptors matching the filter for all adviceKeys, and republish the interceptor chains
+     *
+     * @param filter interceptor filter
+     */
+    public static synchronized void removeInterceptors(Predicate<Interceptor> filter) {
+        for (Map.Entry<String, List<Interceptor>> entry : INTERCEPTOR_LIST_MAP.entrySet()) {
+            if (entry.getValue().removeIf(filter)) {
+                publishInterceptorChain(AdviserScheduler.getAdviceIndex(entry.getKey()), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Get the interceptors of the advice index
+     *
+     * @param adviceIndex advice index
+     * @return interceptors, null if no interceptor is registered for the index
+     */
+    public static Interceptor[] getInterceptors(int adviceIndex) {
+        InterceptorChain chain = getInterceptorChain(adviceIndex);
+        return chain == null ? null : chain.interceptors;
+    }
+
+    /**
+     * Whether the execution context of the advice index can be recycled, it is true only when every interceptor
+     * declares that it does not retain the context, see {@link Interceptor#isContextRetained}
+     *
+     * @param adviceIndex advice index
+     * @return true if the execution context can be recycled
+     */
+    public static boolean isContextRecyclable(int adviceIndex) {
+        InterceptorChain chain = getInterceptorChain(adviceIndex);
+        return chain == null || chain.isContextRecyclable;
+    }
+
+    private static InterceptorChain getInterceptorChain(int adviceIndex) {
+        InterceptorChain[] chains = interceptorChains;
+        if (adviceIndex < 0 || adviceIndex >= chains.length) {
+            return null;
+        }
+        return chains[adviceIndex];
+    }
+
+    private static void publishInterceptorChain(int adviceIndex, List<Interceptor> interceptorList) {
+        InterceptorChain[] chains = interceptorChains;
+        InterceptorChain[] newChains = Arrays.copyOf(chains,
+                Math.max(chains.length, Integer.highestOneBit(adviceIndex) << 1));
+        newChains[adviceIndex] = new InterceptorChain(interceptorList.toArray(new Interceptor[0]));
+        interceptorChains = newChains;
+    }
+
+    /**
+     * Immutable snapshot of the interceptors of an advice index
+     *
+     * @since 2026-10-18
+     */
+    private static class InterceptorChain {
+        private final Interceptor[] interceptors;
+
+        private final boolean isContextRecyclable;
+
+        InterceptorChain(Interceptor[] interceptors) {
+            this.interceptors = interceptors;
+            boolean isRecyclable = true;
+            for (Interceptor interceptor : interceptors) {
+                if (interceptor.isContextRetained()) {
+                    isRecyclable = false;
+                    break;
+                }
+            }
+            this.isContextRecyclable = isRecyclable;
+        }
+    }
+
     /**
      * Exception Handler Interface
      *
@@ -39,9 +39,8 @@ public class TemplateForCtor {
      *
      * @param cls enhanced class
      * @param constructor constructor
-     * @param methodKey method key, which is used to find template class
      * @param arguments arguments of method
-     * @param adviceKey advice class name
+     * @param adviceIndex advice index, assigned at transform time
      * @param context execute context
      * @throws Throwable execute exception
      */
@@ -49,14 +48,13 @@ public class TemplateForCtor {
     public static void onMethodEnter(
             @Advice.Origin Class<?> cls,
             @Advice.Origin Constructor<?> constructor,
-            @Advice.Origin("#t\\##m#s") String methodKey,
             @Advice.AllArguments(readOnly = false, typing = Assigner.Typing.DYNAMIC) Object[] arguments,
-            @Advice.Local(value = "_ADVICE_KEY_$SERMANT_LOCAL") String adviceKey,
+            @AdviceIndex int adviceIndex,
             @Advice.Local(value = "_EXECUTE_CONTEXT_$SERMANT_LOCAL") Object context
     ) throws Throwable {
-        adviceKey = "TemplateForCtor_" + Integer.toHexString(methodKey.hashCode()) + "_" + cls.getClassLoader();
-        context = ExecuteContext.forConstructor(cls, constructor, arguments, null);
-        context = AdviserScheduler.onMethodEnter(context, adviceKey);
+        context = ExecuteContext.forConstructor(cls, constructor, arguments,
+                AdviserScheduler.isContextRecyclable(adviceIndex));
+        context = AdviserScheduler.onMethodEnter(context, adviceIndex);
         arguments = ((ExecuteContext) context).getArguments();
     }
 
@@ -64,17 +62,18 @@ public class TemplateForCtor {
      * The post trigger point of method
      *
      * @param obj the object being enhanced
-     * @param adviceKey advice class name
+     * @param adviceIndex advice index, assigned at transform time
      * @param context execute context
      * @throws Throwable execute exception
      */
     @Advice.OnMethodExit
     public static void onMethodExit(
             @Advice.This(typing = Assigner.Typing.DYNAMIC) Object obj,
-            @Advice.Local(value = "_ADVICE_KEY_$SERMANT_LOCAL") String adviceKey,
+            @AdviceIndex int adviceIndex,
             @Advice.Local(value = "_EXECUTE_CONTEXT_$SERMANT_LOCAL") Object context
     ) throws Throwable {
         context = ((ExecuteContext) context).afterConstructor(obj, null);
-        AdviserScheduler.onMethodExit(context, adviceKey);
+        context = AdviserScheduler.onMethodExit(context, adviceIndex);
+        ExecuteContext.recycle(context);
     }
 }
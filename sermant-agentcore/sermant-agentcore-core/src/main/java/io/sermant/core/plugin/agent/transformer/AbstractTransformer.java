@@ -176,7 +176,8 @@ public abstract class AbstractTransformer implements AgentBuilder.Transformer {
     /**
      * The format of the AdviceKey is [standard class name of template class_hash value of meta information of the
      * enhanced method_classloader of the enhanced class]. Meta information of the enhanced method，see{@link
-     * MethodKeyCreator#getMethodDescKey}
+     * MethodKeyCreator#getMethodDescKey}. The adviceKey is resolved to a dense advice index at transform time, so it is
+     * not rebuilt when the enhanced method is called
      *
      * @param templateCls template class
      * @param classLoader classloader of the enhanced class
@@ -21,6 +21,7 @@ import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
 import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
 import io.sermant.core.plugin.agent.info.EnhancementManager;
 import io.sermant.core.plugin.agent.interceptor.Interceptor;
+import io.sermant.core.plugin.agent.template.AdviceIndex;
 import io.sermant.core.plugin.agent.template.BaseAdviseHandler;
 import io.sermant.core.plugin.agent.template.MethodKeyCreator;
 
@@ -30,7 +31,6 @@ import net.bytebuddy.dynamic.DynamicType.Builder;
 import net.bytebuddy.matcher.ElementMatchers;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -61,27 +61,27 @@ public class ReentrantTransformer extends AbstractTransformer {
             Class<?> templateCls, ClassLoader classLoader)
             throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, NoSuchFieldException {
         final String adviceKey = getAdviceKey(templateCls, classLoader, methodDesc);
-        List<Interceptor> interceptorsForAdviceKey = BaseAdviseHandler.getInterceptorListMap()
-                .computeIfAbsent(adviceKey, key -> new ArrayList<>());
+        final int adviceIndex = AdviserScheduler.getAdviceIndex(adviceKey);
         Set<String> createdInterceptorForAdviceKey = plugin.getInterceptors()
                 .computeIfAbsent(adviceKey, key -> new HashSet<>());
         for (Interceptor interceptor : interceptors) {
             // need to check whether the Interceptor is created
             if (checkInterceptor(adviceKey, interceptor.getClass().getCanonicalName())) {
-                interceptorsForAdviceKey.add(interceptor);
+                BaseAdviseHandler.addInterceptor(adviceKey, adviceIndex, interceptor);
                 createdInterceptorForAdviceKey.add(interceptor.getClass().getCanonicalName());
             }
         }
         EnhancementManager.addEnhancements(plugin, interceptors, classLoader,
                 MethodKeyCreator.getMethodDescKey(methodDesc));
-        if (checkAdviceLock(adviceKey)) {
-            return builder.visit(Advice.to(templateCls).on(ElementMatchers.is(methodDesc)));
+        if (checkAdviceLock(adviceKey, adviceIndex)) {
+            return builder.visit(Advice.withCustomMapping().bind(AdviceIndex.class, adviceIndex).to(templateCls)
+                    .on(ElementMatchers.is(methodDesc)));
         }
         return builder;
     }
 
-    private boolean checkAdviceLock(String adviceKey) {
-        if (AdviserScheduler.lock(adviceKey)) {
+    private boolean checkAdviceLock(String adviceKey, int adviceIndex) {
+        if (AdviserScheduler.lock(adviceIndex)) {
             // adviceKey lock is successfully obtained, then manage it in the plugin
             plugin.getAdviceLocks().add(adviceKey);
             return true;
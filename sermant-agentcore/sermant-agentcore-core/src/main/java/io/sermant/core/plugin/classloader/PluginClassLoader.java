@@ -16,6 +16,9 @@
 
 package io.sermant.core.plugin.classloader;
 
+import io.sermant.core.classloader.ClassNotIndexedException;
+import io.sermant.core.classloader.ClassPathIndex;
+import io.sermant.core.classloader.LoadedClassCache;
 import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.config.ConfigManager;
 import io.sermant.core.plugin.agent.config.AgentConfig;
@@ -24,8 +27,6 @@ import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,7 +42,14 @@ public class PluginClassLoader extends URLClassLoader {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private final HashMap<Long, ClassLoader> localLoader = new HashMap<>();
+    static {
+        registerAsParallelCapable();
+    }
+
+    /**
+     * The classLoader of the enhanced class, bound to the thread performing the enhancement or the interception
+     */
+    private final ThreadLocal<ClassLoader> localLoader = new ThreadLocal<>();
 
     /**
      * Whether to use context classLoader
@@ -51,7 +59,12 @@ public class PluginClassLoader extends URLClassLoader {
     /**
      * Manages the loaded classes in the classLoader
      */
-    private final Map<String, Class<?>> pluginClassMap = new HashMap<>();
+    private final LoadedClassCache classCache = new LoadedClassCache();
+
+    /**
+     * Index of the classes in the jars of the classLoader
+     */
+    private final ClassPathIndex classPathIndex;
 
     /**
      * constructor
@@ -62,23 +75,64 @@ public class PluginClassLoader extends URLClassLoader {
     public PluginClassLoader(URL[] urls, ClassLoader parent) {
         super(urls, parent);
         useContextLoader = ConfigManager.getConfig(AgentConfig.class).isUseContextLoader();
+        classPathIndex = new ClassPathIndex(urls);
     }
 
     /**
-     * Load the plugin class and cache it
+     * Load the plugin class and cache it, must be called with the class loading lock held
      *
      * @param name fully qualified name
      * @return class object
      */
     private Class<?> loadPluginClass(String name) {
-        if (!pluginClassMap.containsKey(name)) {
+        if (!classPathIndex.mayContainClass(name) || classCache.isMissing(name)) {
+            return null;
+        }
+        Class<?> clazz = findLoadedClass(name);
+        if (clazz == null) {
             try {
-                pluginClassMap.put(name, findClass(name));
+                clazz = findClass(name);
             } catch (ClassNotFoundException ignored) {
-                pluginClassMap.put(name, null);
+                classCache.markMissing(name);
+                return null;
+            }
+        }
+        classCache.put(name, clazz);
+        return clazz;
+    }
+
+    /**
+     * Load the class through Sermant's own search path, the classes found are cached so that they are returned
+     * without locking next time
+     *
+     * @param name fully qualified name
+     * @return class object, null if not found
+     */
+    private Class<?> loadFromSermantPath(String name) {
+        Class<?> clazz = classCache.get(name);
+        if (clazz != null) {
+            return clazz;
+        }
+        synchronized (getClassLoadingLock(name)) {
+            clazz = classCache.get(name);
+            if (clazz == null) {
+                clazz = loadPluginClass(name);
+            }
+
+            // If the class cannot be loaded on its own, it is loaded in the Sermant search path
+            if (clazz == null) {
+                try {
+                    clazz = super.loadClass(name, false);
+                    classCache.put(name, clazz);
+                } catch (ClassNotFoundException e) {
+                    // Catch the exception that the class cannot be found. The next step is to load the class by
+                    // the localLoader
+                    // ignored
+                    LOGGER.log(Level.FINE, "Load class failed, msg is {0}", e.getMessage());
+                }
             }
+            return clazz;
         }
-        return pluginClassMap.get(name);
     }
 
     /**
@@ -87,7 +141,18 @@ public class PluginClassLoader extends URLClassLoader {
      * @param url search path
      */
     public void appendUrl(URL url) {
+        classPathIndex.add(url);
         this.addURL(url);
+        classCache.clearMissing();
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        // Fail fast for classes not in the jars, super.loadClass looks up the search path again after the parent
+        if (!classPathIndex.mayContainClass(name)) {
+            throw new ClassNotIndexedException(name);
+        }
+        return super.findClass(name);
     }
 
     @Override
@@ -97,42 +162,28 @@ public class PluginClassLoader extends URLClassLoader {
 
     @Override
     public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
-        synchronized (getClassLoadingLock(name)) {
-            Class<?> clazz = loadPluginClass(name);
-
-            // If the class cannot be loaded on its own, it is loaded in the Sermant search path
-            if (clazz == null) {
-                try {
-                    clazz = super.loadClass(name, resolve);
-                } catch (ClassNotFoundException e) {
-                    // Catch the exception that the class cannot be found. The next step is to load the class by
-                    // the localLoader
-                    // ignored
-                    LOGGER.log(Level.FINE, "Load class failed, msg is {0}", e.getMessage());
-                }
-            }
+        Class<?> clazz = loadFromSermantPath(name);
 
-            // If the class cannot be found from the Sermant search path, it is attempted to be loaded via the
-            // thread-bound localClassLoader
-            if (clazz == null) {
-                clazz = getClassFromLocalClassLoader(name);
-            }
+        // If the class cannot be found from the Sermant search path, it is attempted to be loaded via the
+        // thread-bound localClassLoader. The result depends on the thread and is never cached
+        if (clazz == null) {
+            clazz = getClassFromLocalClassLoader(name);
+        }
 
-            // If the class cannot be found, an exception is thrown
-            if (clazz == null) {
-                throw new ClassNotFoundException("Sermant pluginClassLoader can not load class: " + name);
-            }
+        // If the class cannot be found, an exception is thrown
+        if (clazz == null) {
+            throw new ClassNotFoundException("Sermant pluginClassLoader can not load class: " + name);
+        }
 
-            // Parse the class if necessary
-            if (resolve) {
-                resolveClass(clazz);
-            }
-            return clazz;
+        // Parse the class if necessary
+        if (resolve) {
+            resolveClass(clazz);
         }
+        return clazz;
     }
 
     private Class<?> getClassFromLocalClassLoader(String name) {
-        ClassLoader loader = localLoader.get(Thread.currentThread().getId());
+        ClassLoader loader = localLoader.get();
 
         if (loader == null && useContextLoader) {
             loader = Thread.currentThread().getContextClassLoader();
@@ -172,23 +223,13 @@ public class PluginClassLoader extends URLClassLoader {
      * @throws ClassNotFoundException class not found
      */
     public Class<?> loadSermantClass(String name) throws ClassNotFoundException {
-        synchronized (getClassLoadingLock(name)) {
-            Class<?> clazz = loadPluginClass(name);
+        Class<?> clazz = loadFromSermantPath(name);
 
-            if (clazz == null) {
-                try {
-                    clazz = super.loadClass(name, false);
-                } catch (ClassNotFoundException e) {
-                    // Class not found, ignored, exception thrown later
-                }
-            }
-
-            // If the class cannot be found, an exception is thrown
-            if (clazz == null) {
-                throw new ClassNotFoundException("Sermant pluginClassLoader can not load class: " + name);
-            }
-            return clazz;
+        // If the class cannot be found, an exception is thrown
+        if (clazz == null) {
+            throw new ClassNotFoundException("Sermant pluginClassLoader can not load class: " + name);
         }
+        return clazz;
     }
 
     /**
@@ -197,13 +238,13 @@ public class PluginClassLoader extends URLClassLoader {
      * @param loader classLoader
      */
     public void setLocalLoader(ClassLoader loader) {
-        localLoader.put(Thread.currentThread().getId(), loader);
+        localLoader.set(loader);
     }
 
     /**
      * Clear the localClassLoader
      */
     public void removeLocalLoader() {
-        localLoader.remove(Thread.currentThread().getId());
+        localLoader.remove();
     }
 }
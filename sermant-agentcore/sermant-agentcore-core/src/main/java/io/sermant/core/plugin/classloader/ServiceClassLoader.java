@@ -16,6 +16,9 @@
 
 package io.sermant.core.plugin.classloader;
 
+import io.sermant.core.classloader.ClassNotIndexedException;
+import io.sermant.core.classloader.ClassPathIndex;
+import io.sermant.core.classloader.LoadedClassCache;
 import io.sermant.core.common.BootArgsIndexer;
 import io.sermant.core.common.CommonConstant;
 
@@ -23,8 +26,6 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * ServiceClassLoader, used to load the plugin service package
@@ -34,10 +35,19 @@ import java.util.Map;
  * @since 2021-11-12
  */
 public class ServiceClassLoader extends URLClassLoader {
+    static {
+        registerAsParallelCapable();
+    }
+
     /**
      * Manages the loaded classes in the ServiceClassLoader
      */
-    private final Map<String, Class<?>> serviceClassMap = new HashMap<>();
+    private final LoadedClassCache classCache = new LoadedClassCache();
+
+    /**
+     * Index of the classes in the jars of the classLoader
+     */
+    private final ClassPathIndex classPathIndex;
 
     /**
      * Constructor.
@@ -47,23 +57,39 @@ public class ServiceClassLoader extends URLClassLoader {
      */
     public ServiceClassLoader(URL[] urls, ClassLoader parent) {
         super(urls, parent);
+        classPathIndex = new ClassPathIndex(urls);
     }
 
     /**
-     * Load and maintain the classes in the plugin service package
+     * Load and maintain the classes in the plugin service package, must be called with the class loading lock held
      *
      * @param name class full qualified name
      * @return Class object
      */
     private Class<?> loadServiceClass(String name) {
-        if (!serviceClassMap.containsKey(name)) {
+        if (!classPathIndex.mayContainClass(name) || classCache.isMissing(name)) {
+            return null;
+        }
+        Class<?> clazz = findLoadedClass(name);
+        if (clazz == null) {
             try {
-                serviceClassMap.put(name, findClass(name));
+                clazz = findClass(name);
             } catch (ClassNotFoundException ignored) {
-                serviceClassMap.put(name, null);
+                classCache.markMissing(name);
+                return null;
             }
         }
-        return serviceClassMap.get(name);
+        classCache.put(name, clazz);
+        return clazz;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        // Fail fast for classes not in the jars, super.loadClass looks up the search path again after the parent
+        if (!classPathIndex.mayContainClass(name)) {
+            throw new ClassNotIndexedException(name);
+        }
+        return super.findClass(name);
     }
 
     @Override
@@ -73,21 +99,45 @@ public class ServiceClassLoader extends URLClassLoader {
 
     @Override
     public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
-        synchronized (getClassLoadingLock(name)) {
-            Class<?> clazz = loadServiceClass(name);
-            if (clazz == null) {
-                clazz = super.loadClass(name, resolve);
-
-                // Put the classes loaded from itself into the cache
-                if (clazz != null && clazz.getClassLoader() == this) {
-                    serviceClassMap.put(name, clazz);
+        // Classes already resolved are returned without taking the class loading lock
+        Class<?> clazz = classCache.get(name);
+        if (clazz == null) {
+            synchronized (getClassLoadingLock(name)) {
+                clazz = classCache.get(name);
+                if (clazz == null) {
+                    clazz = loadServiceClass(name);
+                }
+                if (clazz == null) {
+                    clazz = super.loadClass(name, false);
+
+                    // The parent falls back to the thread-bound classLoader, only classes of the fixed parent chain
+                    // are the same for every thread and may be cached
+                    if (isDefinedInParentChain(name, clazz)) {
+                        classCache.put(name, clazz);
+                    }
                 }
             }
-            if (resolve) {
-                resolveClass(clazz);
+        }
+        if (resolve) {
+            resolveClass(clazz);
+        }
+        return clazz;
+    }
+
+    private boolean isDefinedInParentChain(String name, Class<?> clazz) {
+        if (!clazz.getName().equals(name)) {
+            return false;
+        }
+        ClassLoader definingLoader = clazz.getClassLoader();
+        if (definingLoader == null) {
+            return true;
+        }
+        for (ClassLoader loader = this; loader != null; loader = loader.getParent()) {
+            if (loader == definingLoader) {
+                return true;
             }
-            return clazz;
         }
+        return false;
     }
 
     @Override
@@ -116,6 +166,8 @@ public class ServiceClassLoader extends URLClassLoader {
 
     @Override
     public void addURL(URL url) {
+        classPathIndex.add(url);
         super.addURL(url);
+        classCache.clearMissing();
     }
 }
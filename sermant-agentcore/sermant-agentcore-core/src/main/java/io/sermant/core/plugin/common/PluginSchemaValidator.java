@@ -21,8 +21,8 @@ import io.sermant.core.utils.JarFileUtils;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 
 /**
@@ -36,7 +36,7 @@ public class PluginSchemaValidator {
     /**
      * A collection of plugin names and versions
      */
-    private static final Map<String, String> PLUGIN_VERSION_MAP = new HashMap<>();
+    private static final Map<String, String> PLUGIN_VERSION_MAP = new ConcurrentHashMap<>();
 
     private PluginSchemaValidator() {
     }
@@ -56,9 +56,7 @@ public class PluginSchemaValidator {
      * @param pluginName plugin name
      */
     public static void setDefaultVersion(String pluginName) {
-        if (!PLUGIN_VERSION_MAP.containsKey(pluginName)) {
-            PLUGIN_VERSION_MAP.put(pluginName, PluginConstant.PLUGIN_DEFAULT_VERSION);
-        }
+        PLUGIN_VERSION_MAP.putIfAbsent(pluginName, PluginConstant.PLUGIN_DEFAULT_VERSION);
     }
 
     /**
@@ -93,10 +91,8 @@ public class PluginSchemaValidator {
         final Object versionAttr = JarFileUtils.getManifestAttr(jarFile, PluginConstant.PLUGIN_VERSION_KEY);
         final String givingVersion =
                 versionAttr == null ? PluginConstant.PLUGIN_DEFAULT_VERSION : versionAttr.toString();
-        final String expectingVersion = PLUGIN_VERSION_MAP.get(pluginName);
-        if (expectingVersion == null) {
-            PLUGIN_VERSION_MAP.put(pluginName, givingVersion);
-        } else if (!expectingVersion.equals(givingVersion)) {
+        final String expectingVersion = PLUGIN_VERSION_MAP.putIfAbsent(pluginName, givingVersion);
+        if (expectingVersion != null && !expectingVersion.equals(givingVersion)) {
             throw new SchemaException(SchemaException.UNEXPECTED_VERSION, pluginName, givingVersion, expectingVersion);
         }
         return true;
@@ -24,9 +24,9 @@ import io.sermant.core.plugin.Plugin;
 import io.sermant.core.plugin.common.PluginConstant;
 
 import java.io.File;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -47,7 +47,7 @@ public class PluginConfigManager {
     /**
      * configuration object map, key is plugin config key and the value is BaseConfig object
      */
-    private static final Map<String, BaseConfig> PLUGIN_CONFIG_MAP = new HashMap<>();
+    private static final Map<String, BaseConfig> PLUGIN_CONFIG_MAP = new ConcurrentHashMap<>();
 
     private PluginConfigManager() {
     }
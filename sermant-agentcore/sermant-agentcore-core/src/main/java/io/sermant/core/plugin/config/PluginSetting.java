@@ -47,6 +47,11 @@ public class PluginSetting {
      */
     private String profile;
 
+    /**
+     * Plugins that must be initialized before a plugin, only used when plugins are initialized in parallel
+     */
+    private Map<String, Set<String>> pluginDependencies;
+
     public Set<String> getPlugins() {
         return plugins;
     }
@@ -78,4 +83,12 @@ public class PluginSetting {
     public void setProfile(String profile) {
         this.profile = profile;
     }
+
+    public Map<String, Set<String>> getPluginDependencies() {
+        return pluginDependencies;
+    }
+
+    public void setPluginDependencies(Map<String, Set<String>> pluginDependencies) {
+        this.pluginDependencies = pluginDependencies;
+    }
 }
@@ -32,12 +32,12 @@ import io.sermant.core.utils.KeyGenerateUtils;
 import io.sermant.core.utils.SpiLoadUtils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -111,7 +111,7 @@ public class ServiceManager {
     /**
      * service map
      */
-    private static final Map<String, BaseService> SERVICES = new HashMap<>();
+    private static final Map<String, BaseService> SERVICES = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
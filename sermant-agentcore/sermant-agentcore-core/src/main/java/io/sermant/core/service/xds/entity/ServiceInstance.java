@@ -66,4 +66,13 @@ public interface ServiceInstance {
      * @return service instance health status
      */
     boolean isHealthy();
+
+    /**
+     * get service instance load balancing weight, the endpoint weight of the EDS resource
+     *
+     * @return load balancing weight, 1 when not specified
+     */
+    default int getWeight() {
+        return 1;
+    }
 }
@@ -46,6 +46,13 @@ public class XdsRateLimit {
      */
     private FractionalPercent percent;
 
+    /**
+     * Token bucket state bound by the consumer of the configuration on first use, so that later requests reach it
+     * without a lookup. It is an Object because the state belongs to the plugin, a newly applied configuration starts
+     * without it
+     */
+    private volatile Object tokenBucketState;
+
     public XdsTokenBucket getTokenBucket() {
         return tokenBucket;
     }
@@ -69,4 +76,12 @@ public class XdsRateLimit {
     public void setPercent(FractionalPercent percent) {
         this.percent = percent;
     }
+
+    public Object getTokenBucketState() {
+        return tokenBucketState;
+    }
+
+    public void setTokenBucketState(Object tokenBucketState) {
+        this.tokenBucketState = tokenBucketState;
+    }
 }
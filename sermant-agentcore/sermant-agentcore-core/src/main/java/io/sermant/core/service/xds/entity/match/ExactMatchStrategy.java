@@ -38,4 +38,8 @@ public class ExactMatchStrategy implements MatchStrategy {
     public boolean isMatch(String requestValue) {
         return exactValue.equals(requestValue);
     }
+
+    public String getExactValue() {
+        return exactValue;
+    }
 }
@@ -38,4 +38,8 @@ public class PrefixMatchStrategy implements MatchStrategy {
     public boolean isMatch(String requestValue) {
         return requestValue != null && requestValue.startsWith(prefix);
     }
+
+    public String getPrefix() {
+        return prefix;
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.utils;
+
+import io.sermant.core.common.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Getter of a field that is looked up by name on the runtime class of the target and its super classes. Like
+ * {@link MethodAccessor}, the getter handle is resolved once per class through a {@link ClassValue}
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class FieldAccessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.genericMethodType(1);
+
+    private static final MethodHandle MISSING_GETTER = MethodHandles.dropArguments(
+            MethodHandles.constant(Object.class, null), 0, Object.class);
+
+    private final String fieldName;
+
+    private final ClassValue<MethodHandle> getters = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private FieldAccessor(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * Accessor of a field in any access level
+     *
+     * @param fieldName field name
+     * @return accessor
+     */
+    public static FieldAccessor of(String fieldName) {
+        return new FieldAccessor(fieldName);
+    }
+
+    /**
+     * Get the field value of the target
+     *
+     * @param target target object
+     * @return field value, null if the target is null or the field does not exist
+     */
+    public Object get(Object target) {
+        if (target == null) {
+            return null;
+        }
+        try {
+            return (Object) getters.get(target.getClass()).invokeExact(target);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            LOGGER.warning(String.format(Locale.ENGLISH, "Could not acquire the value of field %s, reason: %s",
+                    fieldName, throwable.getMessage()));
+            return null;
+        }
+    }
+
+    private MethodHandle resolve(Class<?> type) {
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+            Field field;
+            try {
+                field = clazz.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException ignored) {
+                continue;
+            }
+            try {
+                MethodHandle getter = LOOKUP.unreflectGetter(setAccessible(field));
+                if (Modifier.isStatic(field.getModifiers())) {
+                    getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                }
+                return getter.asType(GETTER_TYPE);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                LOGGER.warning(String.format(Locale.ENGLISH, "Can not access field [%s] of class [%s], reason: %s",
+                        fieldName, clazz.getName(), ex.getMessage()));
+                return MISSING_GETTER;
+            }
+        }
+        LOGGER.warning(String.format(Locale.ENGLISH, "Could not find field named %s in class %s", fieldName,
+                type.getName()));
+        return MISSING_GETTER;
+    }
+
+    private static Field setAccessible(Field field) {
+        AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
+            field.setAccessible(true);
+            return field;
+        });
+        return field;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.utils;
+
+import io.sermant.core.common.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Accessor of a method that is looked up by name on the runtime class of the target, for host classes which plugins
+ * can only reach by reflection. The method handle is resolved once per class through a {@link ClassValue}, so an
+ * invocation costs one class value lookup and one handle invocation. Hold accessors as constants:
+ *
+ * <pre>
+ * private static final MethodAccessor GET_METHOD_NAME = MethodAccessor.of("getMethodName");
+ *
+ * String methodName = (String) GET_METHOD_NAME.invoke(invocation);
+ * </pre>
+ *
+ * A method that does not exist on a class resolves to a handle returning null, as does a method that throws
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class MethodAccessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final String methodName;
+
+    private final Class<?> parameterType;
+
+    private final boolean isDeclared;
+
+    private final MethodType invokeType;
+
+    private final ClassValue<MethodHandle> handles = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private MethodAccessor(String methodName, Class<?> parameterType, boolean isDeclared) {
+        this.methodName = methodName;
+        this.parameterType = parameterType;
+        this.isDeclared = isDeclared;
+        this.invokeType = parameterType == null ? MethodType.genericMethodType(1) : MethodType.genericMethodType(2);
+    }
+
+    /**
+     * Accessor of a public method without parameter, static methods included
+     *
+     * @param methodName method name
+     * @return accessor
+     */
+    public static MethodAccessor of(String methodName) {
+        return new MethodAccessor(methodName, null, false);
+    }
+
+    /**
+     * Accessor of a public method with one parameter, static methods included
+     *
+     * @param methodName method name
+     * @param parameterType parameter type
+     * @return accessor
+     */
+    public static MethodAccessor of(String methodName, Class<?> parameterType) {
+        return new MethodAccessor(methodName, parameterType, false);
+    }
+
+    /**
+     * Accessor of a method without parameter in any access level, declared by the class of the target or its super
+     * classes
+     *
+     * @param methodName method name
+     * @return accessor
+     */
+    public static MethodAccessor ofDeclared(String methodName) {
+        return new MethodAccessor(methodName, null, true);
+    }
+
+    /**
+     * Accessor of a method with one parameter in any access level, declared by the class of the target or its super
+     * classes
+     *
+     * @param methodName method name
+     * @param parameterType parameter type
+     * @return accessor
+     */
+    public static MethodAccessor ofDeclared(String methodName, Class<?> parameterType) {
+        return new MethodAccessor(methodName, parameterType, true);
+    }
+
+    /**
+     * Invoke the method without parameter on the target
+     *
+     * @param target target object
+     * @return return value, null if the target is null, the method does not exist or throws
+     */
+    public Object invoke(Object target) {
+        if (target == null) {
+            return null;
+        }
+        try {
+            return (Object) handles.get(target.getClass()).invokeExact(target);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            logInvokeFailure(target.getClass(), throwable);
+            return null;
+        }
+    }
+
+    /**
+     * Invoke the method with one parameter on the target
+     *
+     * @param target target object
+     * @param parameter parameter
+     * @return return value, null if the target is null, the method does not exist or throws
+     */
+    public Object invoke(Object target, Object parameter) {
+        if (target == null) {
+            return null;
+        }
+        try {
+            return (Object) handles.get(target.getClass()).invokeExact(target, parameter);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            logInvokeFailure(target.getClass(), throwable);
+            return null;
+        }
+    }
+
+    /**
+     * Invoke the static method without parameter of a class
+     *
+     * @param type class declaring the method
+     * @return return value, null if the method does not exist or throws
+     */
+    public Object invokeStatic(Class<?> type) {
+        try {
+            return (Object) handles.get(type).invokeExact((Object) null);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            logInvokeFailure(type, throwable);
+            return null;
+        }
+    }
+
+    /**
+     * Invoke the static method with one parameter of a class
+     *
+     * @param type class declaring the method
+     * @param parameter parameter
+     * @return return value, null if the method does not exist or throws
+     */
+    public Object invokeStatic(Class<?> type, Object parameter) {
+        try {
+            return (Object) handles.get(type).invokeExact((Object) null, parameter);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            logInvokeFailure(type, throwable);
+            return null;
+        }
+    }
+
+    /**
+     * Whether the method exists on a class
+     *
+     * @param type class
+     * @return exists or not
+     */
+    public boolean isPresent(Class<?> type) {
+        return handles.get(type) != missingHandle();
+    }
+
+    private MethodHandle resolve(Class<?> type) {
+        Method method = findMethod(type);
+        if (method == null) {
+            // Due to version limitations, it is possible that methods may not be found
+            LOGGER.warning(String.format(Locale.ENGLISH, "Method [%s] of class [%s] is not found.", methodName,
+                    type.getName()));
+            return missingHandle();
+        }
+        try {
+            MethodHandle handle = LOOKUP.unreflect(setAccessible(method));
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(invokeType);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            LOGGER.warning(String.format(Locale.ENGLISH, "Can not access method [%s] of class [%s], reason: %s",
+                    methodName, type.getName(), ex.getMessage()));
+            return missingHandle();
+        }
+    }
+
+    private Method findMethod(Class<?> type) {
+        if (!isDeclared) {
+            try {
+                return parameterType == null ? type.getMethod(methodName) : type.getMethod(methodName, parameterType);
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+        }
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+            try {
+                return parameterType == null ? clazz.getDeclaredMethod(methodName)
+                        : clazz.getDeclaredMethod(methodName, parameterType);
+            } catch (NoSuchMethodException ignored) {
+                // Continue with the super class
+            }
+        }
+        return null;
+    }
+
+    private MethodHandle missingHandle() {
+        return parameterType == null ? MissingHandles.NO_PARAMETER : MissingHandles.ONE_PARAMETER;
+    }
+
+    private void logInvokeFailure(Class<?> type, Throwable throwable) {
+        LOGGER.warning(String.format(Locale.ENGLISH, "Can not invoke method [%s] in class [%s], reason: %s",
+                methodName, type.getName(), throwable.getMessage()));
+    }
+
+    private static Method setAccessible(Method method) {
+        if (Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return method;
+        }
+        AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
+            method.setAccessible(true);
+            return method;
+        });
+        return method;
+    }
+
+    /**
+     * Handles of methods that are not found, returning null
+     *
+     * @since 2026-10-18
+     */
+    private static class MissingHandles {
+        static final MethodHandle NO_PARAMETER = MethodHandles.dropArguments(
+                MethodHandles.constant(Object.class, null), 0, Object.class);
+
+        static final MethodHandle ONE_PARAMETER = MethodHandles.dropArguments(NO_PARAMETER, 1, Object.class);
+    }
+}
@@ -16,6 +16,8 @@
 
 package io.sermant.core.utils.tag;
 
+import io.sermant.core.utils.MapUtils;
+
 import java.util.List;
 import java.util.Map;
 
@@ -43,6 +45,12 @@ public class TrafficData extends TrafficTag {
         this.httpMethod = httpMethod;
     }
 
+    private TrafficData(TrafficTag snapshot, String path, String httpMethod) {
+        super(snapshot.getKeys(), snapshot.getValues());
+        this.path = path;
+        this.httpMethod = httpMethod;
+    }
+
     public String getPath() {
         return path;
     }
@@ -51,6 +59,14 @@ public class TrafficData extends TrafficTag {
         return httpMethod;
     }
 
+    @Override
+    public TrafficData withTag(Map<String, List<String>> map) {
+        if (MapUtils.isEmpty(map)) {
+            return this;
+        }
+        return new TrafficData(merge(this, new TrafficTag(map)), path, httpMethod);
+    }
+
     @Override
     public String toString() {
         return "{"
@@ -18,17 +18,34 @@ package io.sermant.core.utils.tag;
 
 import io.sermant.core.utils.MapUtils;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
- * TrafficTag
+ * TrafficTag, an immutable snapshot of the tags of a request. The tags are kept as flat arrays sorted by key, so a
+ * snapshot can be shared between threads without copying or locking. Updates produce a new snapshot
  *
  * @author lilai
  * @since 2023-07-17
  */
 public class TrafficTag {
+    private static final String[] EMPTY_KEYS = new String[0];
+
+    private static final List<?>[] EMPTY_VALUES = new List<?>[0];
+
+    private final String[] keys;
+
+    private final List<String>[] values;
+
     private final Map<String, List<String>> tag;
 
     /**
@@ -37,19 +54,222 @@ public class TrafficTag {
      * @param tag TrafficTag map, http request header/dubbo attachment/MQ header or properties
      */
     public TrafficTag(Map<String, List<String>> tag) {
-        this.tag = MapUtils.isEmpty(tag) ? new HashMap<>() : tag;
+        this.keys = sortedKeys(tag);
+        this.values = valuesOf(tag, keys);
+        this.tag = new TagMap();
+    }
+
+    /**
+     * Constructor
+     *
+     * @param keys sorted keys
+     * @param values values of the keys
+     */
+    TrafficTag(String[] keys, List<String>[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.tag = new TagMap();
     }
 
+    /**
+     * Get the tags, the map is unmodifiable
+     *
+     * @return tags
+     */
     public Map<String, List<String>> getTag() {
         return tag;
     }
 
     /**
-     * update TrafficTag
+     * Create a snapshot with the tags of the map added, the tags of the map replace existing ones with the same key.
+     * This snapshot is left untouched
+     *
+     * @param map TrafficTag map
+     * @return new snapshot
+     */
+    public TrafficTag withTag(Map<String, List<String>> map) {
+        if (MapUtils.isEmpty(map)) {
+            return this;
+        }
+        return merge(this, new TrafficTag(map));
+    }
+
+    /**
+     * Update the tags of the current thread. The snapshot is immutable, so if it is the traffic tag or traffic data
+     * of the current thread in {@link TrafficUtils}, it is replaced there by {@link #withTag}. This snapshot, and
+     * snapshots that are not held by the current thread, are left untouched
      *
      * @param map TrafficTag map
+     * @deprecated use {@link TrafficUtils#updateTrafficTag} or {@link #withTag}
      */
+    @Deprecated
     public void updateTag(Map<String, List<String>> map) {
-        this.tag.putAll(map);
+        if (MapUtils.isEmpty(map)) {
+            return;
+        }
+        if (TrafficUtils.getTrafficTag() == this) {
+            TrafficUtils.setTrafficTag(withTag(map));
+        }
+        TrafficData trafficData = TrafficUtils.getTrafficData();
+        if (trafficData == this) {
+            TrafficUtils.setTrafficData(trafficData.withTag(map));
+        }
+    }
+
+    /**
+     * Merge the tags of two snapshots, tags of the update win
+     *
+     * @param base base snapshot
+     * @param update update snapshot
+     * @return merged snapshot
+     */
+    static TrafficTag merge(TrafficTag base, TrafficTag update) {
+        String[] mergedKeys = new String[base.keys.length + update.keys.length];
+        List<String>[] mergedValues = newValues(mergedKeys.length);
+        int baseIndex = 0;
+        int updateIndex = 0;
+        int size = 0;
+        while (baseIndex < base.keys.length || updateIndex < update.keys.length) {
+            int compare;
+            if (baseIndex == base.keys.length) {
+                compare = 1;
+            } else if (updateIndex == update.keys.length) {
+                compare = -1;
+            } else {
+                compare = base.keys[baseIndex].compareTo(update.keys[updateIndex]);
+            }
+            if (compare < 0) {
+                mergedKeys[size] = base.keys[baseIndex];
+                mergedValues[size++] = base.values[baseIndex++];
+            } else {
+                if (compare == 0) {
+                    baseIndex++;
+                }
+                mergedKeys[size] = update.keys[updateIndex];
+                mergedValues[size++] = update.values[updateIndex++];
+            }
+        }
+        return new TrafficTag(Arrays.copyOf(mergedKeys, size), Arrays.copyOf(mergedValues, size));
+    }
+
+    /**
+     * Get the sorted keys of the snapshot
+     *
+     * @return keys
+     */
+    String[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * Get the values of the snapshot, in the order of the keys
+     *
+     * @return values
+     */
+    List<String>[] getValues() {
+        return values;
+    }
+
+    private static String[] sortedKeys(Map<String, List<String>> map) {
+        if (MapUtils.isEmpty(map)) {
+            return EMPTY_KEYS;
+        }
+        String[] keys = new String[map.size()];
+        int size = 0;
+        for (String key : map.keySet()) {
+            if (key != null) {
+                keys[size++] = key;
+            }
+        }
+        keys = Arrays.copyOf(keys, size);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private static List<String>[] valuesOf(Map<String, List<String>> map, String[] keys) {
+        List<String>[] values = newValues(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            List<String> value = map.get(keys[i]);
+            values[i] = value == null ? null : Collections.unmodifiableList(new ArrayList<>(value));
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newValues(int size) {
+        return size == 0 ? (List<String>[]) EMPTY_VALUES : (List<String>[]) new List<?>[size];
+    }
+
+    @Override
+    public String toString() {
+        return tag.toString();
+    }
+
+    /**
+     * Read-only map view over the arrays of the snapshot
+     *
+     * @since 2026-10-18
+     */
+    private final class TagMap extends AbstractMap<String, List<String>> {
+        private final Set<Entry<String, List<String>>> entrySet = new AbstractSet<Entry<String, List<String>>>() {
+            @Override
+            public Iterator<Entry<String, List<String>>> iterator() {
+                return new Iterator<Entry<String, List<String>>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, List<String>> next() {
+                        if (index >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, List<String>> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+
+        @Override
+        public Set<Entry<String, List<String>>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public List<String> get(Object key) {
+            int index = indexOf(key);
+            return index < 0 ? null : values[index];
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super List<String>> action) {
+            for (int i = 0; i < keys.length; i++) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+
+        private int indexOf(Object key) {
+            return key instanceof String ? Arrays.binarySearch(keys, key) : -1;
+        }
     }
 }
@@ -68,7 +68,8 @@ public class TrafficUtils {
     }
 
     /**
-     * Update traffic tag in the thread
+     * Update traffic tag in the thread. The tag is replaced by a new snapshot, snapshots already handed to other
+     * threads stay unchanged
      *
      * @param tagMap TrafficTag map
      */
@@ -81,7 +82,7 @@ public class TrafficUtils {
             TrafficUtils.tag.set(new TrafficTag(tagMap));
             return;
         }
-        trafficTag.updateTag(tagMap);
+        TrafficUtils.tag.set(trafficTag.withTag(tagMap));
     }
 
     /**
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.classloader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * Test JarEntryIndex and ClassPathIndex
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class JarEntryIndexTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testScanAndPersist() throws IOException {
+        File jar = createJar("plugin.jar", null, "com/example/Foo.class", "com/example/Foo$Inner.class",
+                "META-INF/versions/11/com/example/Bar.class", "Root.class", "com/example/config.yaml");
+        JarEntryIndex index = JarEntryIndex.of(jar);
+        assertIndexed(index);
+        Assertions.assertFalse(index.isExtendingClassPath());
+
+        File indexFile = JarEntryIndex.getIndexFile(jar);
+        Assertions.assertTrue(indexFile.isFile());
+        JarEntryIndex persisted = JarEntryIndex.read(indexFile, jar.length(), jar.lastModified());
+        Assertions.assertNotNull(persisted);
+        assertIndexed(persisted);
+
+        // A replaced jar makes the persisted index stale
+        Assertions.assertNull(JarEntryIndex.read(indexFile, jar.length() + 1, jar.lastModified()));
+        Files.write(indexFile.toPath(), new byte[]{1, 2, 3});
+        Assertions.assertNull(JarEntryIndex.read(indexFile, jar.length(), jar.lastModified()));
+        assertIndexed(JarEntryIndex.of(jar));
+    }
+
+    @Test
+    public void testClassPathIndex() throws IOException {
+        File first = createJar("first.jar", null, "com/example/Foo.class");
+        File second = createJar("second.jar", null, "com/example/Bar.class", "org/example/Baz.class");
+        ClassPathIndex index = new ClassPathIndex(new URL[]{first.toURI().toURL()});
+        Assertions.assertTrue(index.mayContainClass("com.example.Foo"));
+        Assertions.assertFalse(index.mayContainClass("com.example.Bar"));
+
+        index.add(second.toURI().toURL());
+        Assertions.assertTrue(index.mayContainClass("com.example.Bar"));
+        Assertions.assertTrue(index.mayContainClass("org.example.Baz"));
+        Assertions.assertFalse(index.mayContainClass("org.example.Foo"));
+
+        // Directories can not be indexed
+        index.add(tempDir.toURI().toURL());
+        Assertions.assertTrue(index.mayContainClass("org.example.Foo"));
+    }
+
+    @Test
+    public void testManifestClassPath() throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "lib/other.jar");
+        File jar = createJar("extending.jar", manifest, "com/example/Foo.class");
+        Assertions.assertTrue(JarEntryIndex.of(jar).isExtendingClassPath());
+        Assertions.assertTrue(new ClassPathIndex(new URL[]{jar.toURI().toURL()}).mayContainClass("com.example.Bar"));
+    }
+
+    private static void assertIndexed(JarEntryIndex index) {
+        Assertions.assertTrue(index.containsClass("com.example.Foo"));
+        Assertions.assertTrue(index.containsClass("com.example.Foo$Inner"));
+        Assertions.assertTrue(index.containsClass("com.example.Bar"));
+        Assertions.assertTrue(index.containsClass("Root"));
+        Assertions.assertFalse(index.containsClass("com.example.Baz"));
+        Assertions.assertFalse(index.containsClass("com.example.config"));
+        Assertions.assertFalse(index.containsClass("com.other.Foo"));
+    }
+
+    private File createJar(String name, Manifest manifest, String... entries) throws IOException {
+        File jar = new File(tempDir, name);
+        try (OutputStream fileStream = Files.newOutputStream(jar.toPath());
+                JarOutputStream output = manifest == null ? new JarOutputStream(fileStream)
+                        : new JarOutputStream(fileStream, manifest)) {
+            for (String entry : entries) {
+                output.putNextEntry(new JarEntry(entry));
+                output.write(new byte[]{0});
+                output.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
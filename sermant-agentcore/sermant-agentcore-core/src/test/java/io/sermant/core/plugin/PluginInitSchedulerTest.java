@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test PluginInitScheduler
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class PluginInitSchedulerTest {
+    private static final long TIMEOUT_SECONDS = 10L;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testIndependentPluginsRunConcurrently() {
+        List<String> names = Arrays.asList("plugin-a", "plugin-b");
+        CountDownLatch latch = new CountDownLatch(names.size());
+
+        // Each plugin waits for the other one to start, which only completes when both are prepared concurrently
+        Map<String, CompletableFuture<Boolean>> tasks = new PluginInitScheduler<>(names, Collections.emptyMap(),
+                pool, name -> {
+                    latch.countDown();
+                    return await(latch);
+                }).scheduleAll();
+        for (String name : names) {
+            Assertions.assertTrue(tasks.get(name).join());
+        }
+    }
+
+    @Test
+    public void testDeclaredOrderIsKept() {
+        List<String> names = Arrays.asList("plugin-a", "plugin-b", "plugin-c");
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        dependencies.put("plugin-a", Collections.singleton("plugin-b"));
+        dependencies.put("plugin-b", Collections.singleton("plugin-c"));
+        List<String> prepared = new CopyOnWriteArrayList<>();
+        Map<String, CompletableFuture<String>> tasks = new PluginInitScheduler<>(names, dependencies, pool, name -> {
+            prepared.add(name);
+            return name;
+        }).scheduleAll();
+        for (String name : names) {
+            Assertions.assertEquals(name, tasks.get(name).join());
+        }
+        Assertions.assertEquals(Arrays.asList("plugin-c", "plugin-b", "plugin-a"), prepared);
+    }
+
+    @Test
+    public void testFailedAndCircularDependencies() {
+        List<String> names = Arrays.asList("plugin-a", "plugin-b", "plugin-c");
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        dependencies.put("plugin-a", Collections.singleton("plugin-b"));
+        dependencies.put("plugin-b", Collections.singleton("plugin-a"));
+        dependencies.put("plugin-c", Collections.singleton("plugin-a"));
+        Map<String, CompletableFuture<String>> tasks = new PluginInitScheduler<>(names, dependencies, pool, name -> {
+            if ("plugin-a".equals(name)) {
+                throw new IllegalStateException("prepare failed");
+            }
+            return name;
+        }).scheduleAll();
+        Assertions.assertThrows(CompletionException.class, () -> tasks.get("plugin-a").join());
+        Assertions.assertEquals("plugin-b", tasks.get("plugin-b").join());
+        Assertions.assertEquals("plugin-c", tasks.get("plugin-c").join());
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.adviser;
+
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test AdviserScheduler under hot-plugging of advisers
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class AdviserSchedulerTest {
+    private static final int INVOKER_THREADS = 64;
+
+    private static final int HOT_PLUG_ROUNDS = 2000;
+
+    @Test
+    public void testRegistryAndUnRegistry() {
+        long version = AdviserScheduler.getAdviserVersion();
+        CountingAdviser adviser = new CountingAdviser();
+        AdviserScheduler.registry(adviser);
+        try {
+            Assertions.assertEquals(version + 1, AdviserScheduler.getAdviserVersion());
+        } finally {
+            AdviserScheduler.unRegistry(adviser);
+        }
+        Assertions.assertEquals(version + 2, AdviserScheduler.getAdviserVersion());
+
+        // Unregistering an unknown adviser changes nothing
+        AdviserScheduler.unRegistry(new CountingAdviser());
+        Assertions.assertEquals(version + 2, AdviserScheduler.getAdviserVersion());
+    }
+
+    @Test
+    public void testHotPluggingWhileInvoking() throws Exception {
+        String adviceKey = "TemplateForMember_hot_plugging_" + System.nanoTime();
+        Method method = Object.class.getMethod("toString");
+        Object target = new Object();
+        CountingAdviser resident = new CountingAdviser();
+        AdviserScheduler.registry(resident);
+        ExecutorService executor = Executors.newFixedThreadPool(INVOKER_THREADS);
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        AtomicLong invocations = new AtomicLong();
+        CyclicBarrier barrier = new CyclicBarrier(INVOKER_THREADS + 1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < INVOKER_THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    while (isRunning.get()) {
+                        invoke(ExecuteContext.forMemberMethod(target, method, new Object[0], false), adviceKey);
+                        invocations.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            barrier.await();
+            for (int i = 0; i < HOT_PLUG_ROUNDS; i++) {
+                CountingAdviser plugged = new CountingAdviser();
+                AdviserScheduler.registry(plugged);
+                AdviserScheduler.unRegistry(plugged);
+            }
+        } finally {
+            isRunning.set(false);
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            AdviserScheduler.unRegistry(resident);
+        }
+        Assertions.assertTrue(executor.isTerminated());
+        for (Future<?> future : futures) {
+            // Rethrows any exception caught by the invoker threads, such as ConcurrentModificationException
+            future.get();
+        }
+        Assertions.assertEquals(invocations.get() * 2, resident.enterCount.get());
+        Assertions.assertEquals(invocations.get() * 2, resident.exitCount.get());
+    }
+
+    @Test
+    public void testAdviceLockIsExclusive() throws Exception {
+        int adviceIndex = AdviserScheduler.getAdviceIndex("TemplateForMember_lock_" + System.nanoTime());
+        AtomicInteger winners = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < INVOKER_THREADS; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (AdviserScheduler.lock(adviceIndex)) {
+                    winners.incrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(1, winners.get());
+        AdviserScheduler.unLock(adviceIndex);
+        Assertions.assertTrue(AdviserScheduler.lock(adviceIndex));
+        AdviserScheduler.unLock(adviceIndex);
+    }
+
+    @Test
+    public void testUnLockUnknownAdviceKey() {
+        String adviceKey = "TemplateForMember_unlock_" + System.nanoTime();
+        int firstIndex = AdviserScheduler.getAdviceIndex(adviceKey + "_first");
+        AdviserScheduler.unLock(adviceKey);
+        Assertions.assertEquals(firstIndex + 1, AdviserScheduler.getAdviceIndex(adviceKey + "_second"));
+
+        Assertions.assertTrue(AdviserScheduler.lock(adviceKey));
+        Assertions.assertFalse(AdviserScheduler.lock(adviceKey));
+        AdviserScheduler.unLock(adviceKey);
+        Assertions.assertTrue(AdviserScheduler.lock(adviceKey));
+        AdviserScheduler.unLock(adviceKey);
+    }
+
+    private static void invoke(ExecuteContext context, String adviceKey) throws Exception {
+        try {
+            int adviceIndex = AdviserScheduler.getAdviceIndex(adviceKey);
+            ExecuteContext executeContext = AdviserScheduler.onMethodEnter(context, adviceIndex);
+            executeContext = executeContext.afterMethod(null, null);
+            AdviserScheduler.onMethodExit(executeContext, adviceIndex);
+            AdviserScheduler.onMethodEnter(executeContext, adviceKey);
+            AdviserScheduler.onMethodExit(executeContext, adviceKey);
+        } catch (Exception exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Adviser which counts the calls
+     *
+     * @since 2026-10-18
+     */
+    private static class CountingAdviser implements AdviserInterface {
+        private final AtomicLong enterCount = new AtomicLong();
+
+        private final AtomicLong exitCount = new AtomicLong();
+
+        @Override
+        public ExecuteContext onMethodEnter(ExecuteContext context, String adviceKey) {
+            enterCount.incrementAndGet();
+            return context;
+        }
+
+        @Override
+        public ExecuteContext onMethodExit(ExecuteContext context, String adviceKey) {
+            exitCount.incrementAndGet();
+            return context;
+        }
+    }
+}
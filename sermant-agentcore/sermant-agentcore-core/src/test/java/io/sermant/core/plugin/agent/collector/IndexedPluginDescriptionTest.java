@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.collector;
+
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.declarer.AbstractPluginDeclarer;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
+import io.sermant.core.plugin.agent.declarer.PluginDeclarer;
+import io.sermant.core.plugin.agent.matcher.ClassMatcher;
+import io.sermant.core.plugin.agent.prefilter.UnmatchedClassFilter;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test IndexedPluginDescription
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class IndexedPluginDescriptionTest {
+    @Test
+    public void testIndexAcrossPlugins() {
+        IndexedPluginDescription description = new IndexedPluginDescription(createPluginDeclarers(), false);
+
+        // Names shared by several plugins are indexed once, fuzzy matchers stay in the residual list
+        Assertions.assertEquals(3, description.getIndexedNameCount());
+        Assertions.assertEquals(2, description.getFuzzyDeclarerCount());
+    }
+
+    @Test
+    public void testMatches() {
+        IndexedPluginDescription description = new IndexedPluginDescription(createPluginDeclarers(), false);
+        Assertions.assertTrue(description.matches(typeOf("com.example.Alpha")));
+        Assertions.assertTrue(description.matches(typeOf("com.example.Gamma")));
+        Assertions.assertTrue(description.matches(typeOf("com.example.fuzzy.Anything")));
+        Assertions.assertTrue(description.matches(typeOf("com.example.AnyService")));
+        Assertions.assertFalse(description.matches(typeOf("com.example.Other")));
+    }
+
+    @Test
+    public void testUnmatchedClassFilter() {
+        IndexedPluginDescription description = new IndexedPluginDescription(createPluginDeclarers(), true);
+        String matchedByName = "com.example.Beta";
+        String unmatched = "com.example.unmatched.Nothing" + System.nanoTime();
+        Assertions.assertTrue(description.matches(typeOf(matchedByName)));
+        Assertions.assertFalse(description.matches(typeOf(unmatched)));
+
+        // A class is only recorded as unmatched when no plugin matches it, not when a single fuzzy matcher fails
+        Assertions.assertFalse(UnmatchedClassFilter.isUnmatched(matchedByName));
+        Assertions.assertTrue(UnmatchedClassFilter.isUnmatched(unmatched));
+    }
+
+    private static Map<Plugin, List<PluginDeclarer>> createPluginDeclarers() {
+        Map<Plugin, List<PluginDeclarer>> pluginDeclarers = new LinkedHashMap<>();
+        pluginDeclarers.put(new Plugin("plugin-a", null, false, null), Arrays.asList(
+                new TestDeclarer(ClassMatcher.nameContains("com.example.Alpha", "com.example.Beta")),
+                new TestDeclarer(ClassMatcher.namePrefixedWith("com.example.fuzzy."))));
+        pluginDeclarers.put(new Plugin("plugin-b", null, false, null), Arrays.asList(
+                new TestDeclarer(ClassMatcher.nameEquals("com.example.Alpha")),
+                new TestDeclarer(ClassMatcher.nameEquals("com.example.Gamma")),
+                new TestDeclarer(ClassMatcher.nameSuffixedWith("Service"))));
+        return pluginDeclarers;
+    }
+
+    static TypeDescription typeOf(String typeName) {
+        return new TypeDescription.Latent(typeName, Modifier.PUBLIC, TypeDescription.Generic.OBJECT);
+    }
+
+    /**
+     * Plugin declarer with a given class matcher and no interceptors
+     *
+     * @author agent
+     * @since 2026-10-18
+     */
+    static class TestDeclarer extends AbstractPluginDeclarer {
+        private final ClassMatcher classMatcher;
+
+        TestDeclarer(ClassMatcher classMatcher) {
+            this.classMatcher = classMatcher;
+        }
+
+        @Override
+        public ClassMatcher getClassMatcher() {
+            return classMatcher;
+        }
+
+        @Override
+        public InterceptDeclarer[] getInterceptDeclarers(ClassLoader classLoader) {
+            return new InterceptDeclarer[0];
+        }
+    }
+}
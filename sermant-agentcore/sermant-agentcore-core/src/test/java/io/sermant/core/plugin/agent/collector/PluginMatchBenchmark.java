@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.collector;
+
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.collector.IndexedPluginDescriptionTest.TestDeclarer;
+import io.sermant.core.plugin.agent.declarer.PluginDeclarer;
+import io.sermant.core.plugin.agent.matcher.ClassMatcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup matching cost over a synthetic classpath of 50k classes: one description per plugin chained on the agent
+ * builder, against a single description indexing the declarers of all plugins. Run with the main method from the test
+ * classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PluginMatchBenchmark {
+    private static final int CLASS_COUNT = 50_000;
+
+    private static final int PLUGIN_COUNT = 40;
+
+    private static final int NAMED_DECLARERS_PER_PLUGIN = 25;
+
+    private static final int FUZZY_DECLARERS_PER_PLUGIN = 2;
+
+    private final List<TypeDescription> classpath = new ArrayList<>(CLASS_COUNT);
+
+    private final List<IndexedPluginDescription> chainedDescriptions = new ArrayList<>();
+
+    private IndexedPluginDescription indexedDescription;
+
+    /**
+     * Build the synthetic classpath and the plugin declarers
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            classpath.add(IndexedPluginDescriptionTest.typeOf("com.example.pkg" + (i % 500) + ".Type" + i));
+        }
+        Map<Plugin, List<PluginDeclarer>> pluginDeclarers = new LinkedHashMap<>();
+        for (int pluginIndex = 0; pluginIndex < PLUGIN_COUNT; pluginIndex++) {
+            List<PluginDeclarer> declarers = new ArrayList<>();
+            for (int i = 0; i < NAMED_DECLARERS_PER_PLUGIN; i++) {
+                int classIndex = (pluginIndex * NAMED_DECLARERS_PER_PLUGIN + i) * 37 % CLASS_COUNT;
+                declarers.add(new TestDeclarer(
+                        ClassMatcher.nameEquals("com.example.pkg" + (classIndex % 500) + ".Type" + classIndex)));
+            }
+            for (int i = 0; i < FUZZY_DECLARERS_PER_PLUGIN; i++) {
+                declarers.add(new TestDeclarer(ClassMatcher.namePrefixedWith("org.framework" + pluginIndex + "_" + i)));
+            }
+            Plugin plugin = new Plugin("plugin-" + pluginIndex, null, false, null);
+            pluginDeclarers.put(plugin, declarers);
+            chainedDescriptions.add(new IndexedPluginDescription(Collections.singletonMap(plugin, declarers), false));
+        }
+        indexedDescription = new IndexedPluginDescription(pluginDeclarers, false);
+    }
+
+    /**
+     * Every class is offered to the description of each plugin in turn
+     *
+     * @return number of matched classes
+     */
+    @Benchmark
+    public int chainedPerPlugin() {
+        int matched = 0;
+        for (TypeDescription typeDescription : classpath) {
+            for (IndexedPluginDescription description : chainedDescriptions) {
+                if (description.matches(typeDescription)) {
+                    matched++;
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Every class is offered once to the description indexing all plugins
+     *
+     * @return number of matched classes
+     */
+    @Benchmark
+    public int indexedAcrossPlugins() {
+        int matched = 0;
+        for (TypeDescription typeDescription : classpath) {
+            if (indexedDescription.matches(typeDescription)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run benchmark failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PluginMatchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
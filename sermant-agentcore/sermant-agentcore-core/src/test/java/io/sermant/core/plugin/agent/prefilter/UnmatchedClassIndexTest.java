@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.prefilter;
+
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test UnmatchedClassIndex and UnmatchedClassFilter
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class UnmatchedClassIndexTest {
+    private static final byte[] FINGERPRINT = fingerprintOf(1);
+
+    @TempDir
+    File tempDir;
+
+    @AfterEach
+    public void tearDown() {
+        UnmatchedClassFilter.clear();
+    }
+
+    @Test
+    public void testWriteAndLoad() throws IOException {
+        File file = new File(tempDir, "unmatched.idx");
+        List<String> classNames = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            classNames.add("com.example.pkg" + (i % 100) + ".Type" + i);
+        }
+        classNames.add("com.example.Größe");
+        classNames.add("com.example.Gr");
+        UnmatchedClassIndex.write(file, FINGERPRINT, classNames);
+
+        UnmatchedClassIndex index = UnmatchedClassIndex.load(file, FINGERPRINT);
+        Assertions.assertEquals(classNames.size(), index.size());
+        for (String className : classNames) {
+            Assertions.assertTrue(index.contains(className), className);
+        }
+        Assertions.assertFalse(index.contains("com.example.pkg0.Type1"));
+        Assertions.assertFalse(index.contains("com.example.G"));
+        Assertions.assertFalse(index.contains("com.example.Größer"));
+        Assertions.assertFalse(index.contains(""));
+    }
+
+    @Test
+    public void testStaleIndex() throws IOException {
+        File file = new File(tempDir, "unmatched.idx");
+        UnmatchedClassIndex.write(file, FINGERPRINT, Collections.singletonList("com.example.Type"));
+        Assertions.assertSame(UnmatchedClassIndex.EMPTY, UnmatchedClassIndex.load(file, fingerprintOf(2)));
+
+        // The text file of older versions is not an index either
+        Files.write(file.toPath(), Arrays.asList("com.example.Type", "com.example.Other"));
+        Assertions.assertSame(UnmatchedClassIndex.EMPTY, UnmatchedClassIndex.load(file, FINGERPRINT));
+        Assertions.assertSame(UnmatchedClassIndex.EMPTY,
+                UnmatchedClassIndex.load(new File(tempDir, "absent.idx"), FINGERPRINT));
+    }
+
+    @Test
+    public void testFilterRoundTrip() {
+        File file = new File(tempDir, "unmatched.idx");
+        UnmatchedClassFilter.load(file, FINGERPRINT);
+        UnmatchedClassFilter.addUnmatchedClass("com.example.Unmatched");
+        UnmatchedClassFilter.save(file);
+        UnmatchedClassFilter.clear();
+
+        UnmatchedClassFilter.load(file, FINGERPRINT);
+        Assertions.assertTrue(UnmatchedClassFilter.isUnmatched("com.example.Unmatched"));
+        Assertions.assertFalse(UnmatchedClassFilter.isUnmatched("com.example.Matched"));
+
+        // Only classes seen in this run are persisted again
+        UnmatchedClassFilter.save(file);
+        UnmatchedClassFilter.clear();
+        UnmatchedClassFilter.load(file, fingerprintOf(2));
+        Assertions.assertFalse(UnmatchedClassFilter.isUnmatched("com.example.Unmatched"));
+    }
+
+    @Test
+    public void testFingerprint() throws IOException {
+        File pluginDir = new File(tempDir, "plugin-a");
+        Assertions.assertTrue(pluginDir.mkdirs());
+        File pluginJar = new File(pluginDir, "plugin-a.jar");
+        Files.write(pluginJar.toPath(), new byte[]{1});
+        Plugin plugin = new Plugin("plugin-a", pluginDir.getPath(), false, null);
+        AgentConfig config = new AgentConfig();
+        byte[] fingerprint = buildFingerprint(Collections.singletonList(plugin), config);
+        Assertions.assertArrayEquals(fingerprint,
+                buildFingerprint(Collections.singletonList(plugin), config));
+
+        // Upgrading a plugin jar invalidates the index
+        Files.write(pluginJar.toPath(), new byte[]{1, 2});
+        Assertions.assertFalse(Arrays.equals(fingerprint,
+                buildFingerprint(Collections.singletonList(plugin), config)));
+        Assertions.assertFalse(Arrays.equals(fingerprint,
+                buildFingerprint(Collections.emptyList(), config)));
+    }
+
+    private static byte[] buildFingerprint(List<Plugin> plugins, AgentConfig config) {
+        return UnmatchedClassFilter.buildFingerprint("1.0.0", Collections.emptyList(), plugins, config);
+    }
+
+    private static byte[] fingerprintOf(int seed) {
+        byte[] fingerprint = new byte[UnmatchedClassIndex.FINGERPRINT_LENGTH];
+        Arrays.fill(fingerprint, (byte) seed);
+        return fingerprint;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.template;
+
+import io.sermant.core.plugin.agent.adviser.AdviserInterface;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the adviceKey string dispatch with the advice index dispatch on a no-op interceptor. Run with the main
+ * method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdviceDispatchBenchmark {
+    private static final String METHOD_KEY = "io.sermant.demo.Service#invoke(java.lang.String)";
+
+    private final AdviserInterface adviser = new DefaultAdviser();
+
+    private final Object target = new Object();
+
+    private final Object[] arguments = new Object[]{"sermant"};
+
+    private final ClassLoader classLoader = AdviceDispatchBenchmark.class.getClassLoader();
+
+    private Method method;
+
+    private int adviceIndex;
+
+    /**
+     * Register a no-op interceptor for both the adviceKey and the advice index
+     *
+     * @throws NoSuchMethodException method not found
+     */
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = Object.class.getMethod("toString");
+        String adviceKey = "TemplateForMember_" + Integer.toHexString(METHOD_KEY.hashCode()) + "_" + classLoader;
+        adviceIndex = AdviserScheduler.getAdviceIndex(adviceKey);
+        BaseAdviseHandler.addInterceptor(adviceKey, adviceIndex, new AbstractInterceptor() {
+            @Override
+            public ExecuteContext before(ExecuteContext context) {
+                return context;
+            }
+
+            @Override
+            public ExecuteContext after(ExecuteContext context) {
+                return context;
+            }
+        });
+        AdviserScheduler.registry(adviser);
+    }
+
+    /**
+     * Unregister the adviser
+     */
+    @TearDown
+    public void tearDown() {
+        AdviserScheduler.unRegistry(adviser);
+    }
+
+    /**
+     * The dispatch before advice index, the adviceKey is built on every call
+     *
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    @Benchmark
+    public ExecuteContext adviceKeyDispatch() throws Throwable {
+        String adviceKey = "TemplateForMember_" + Integer.toHexString(METHOD_KEY.hashCode()) + "_" + classLoader;
+        ExecuteContext context = ExecuteContext.forMemberMethod(target, method, arguments, null, null);
+        context = AdviserScheduler.onMethodEnter(context, adviceKey);
+        context = context.afterMethod(null, null);
+        return AdviserScheduler.onMethodExit(context, adviceKey);
+    }
+
+    /**
+     * The dispatch with the advice index written into the advice at transform time
+     *
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    @Benchmark
+    public ExecuteContext adviceIndexDispatch() throws Throwable {
+        ExecuteContext context = ExecuteContext.forMemberMethod(target, method, arguments, null, null);
+        context = AdviserScheduler.onMethodEnter(context, adviceIndex);
+        context = context.afterMethod(null, null);
+        return AdviserScheduler.onMethodExit(context, adviceIndex);
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run benchmark failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AdviceDispatchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.template;
+
+import io.sermant.core.plugin.agent.adviser.AdviserInterface;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+import io.sermant.core.plugin.agent.interceptor.Interceptor;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ListIterator;
+
+/**
+ * Test dispatching interceptors by the advice index written into the advice at transform time
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class AdviceIndexDispatchTest {
+    private final AdviserInterface adviser = new DefaultAdviser();
+
+    @BeforeEach
+    public void setUp() {
+        AdviserScheduler.registry(adviser);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        AdviserScheduler.unRegistry(adviser);
+    }
+
+    @Test
+    public void testAdviceIndexIsStable() {
+        String adviceKey = "TemplateForMember_stable_" + System.nanoTime();
+        int adviceIndex = AdviserScheduler.getAdviceIndex(adviceKey);
+        Assertions.assertEquals(adviceIndex, AdviserScheduler.getAdviceIndex(adviceKey));
+        Assertions.assertEquals(adviceKey, AdviserScheduler.getAdviceKey(adviceIndex));
+        Assertions.assertNotEquals(adviceIndex, AdviserScheduler.getAdviceIndex(adviceKey + "_other"));
+        Assertions.assertNull(AdviserScheduler.getAdviceKey(-1));
+    }
+
+    @Test
+    public void testInterceptorListGrowsWithAdviceIndex() {
+        int adviceIndex = 0;
+        for (int i = 0; i < 600; i++) {
+            adviceIndex = AdviserScheduler.getAdviceIndex("TemplateForMember_grow_" + i);
+        }
+        String adviceKey = "TemplateForMember_grow_599";
+        Interceptor interceptor = new AbstractInterceptor() {
+            @Override
+            public ExecuteContext before(ExecuteContext context) {
+                return context;
+            }
+
+            @Override
+            public ExecuteContext after(ExecuteContext context) {
+                return context;
+            }
+        };
+        BaseAdviseHandler.addInterceptor(adviceKey, adviceIndex, interceptor);
+        Assertions.assertArrayEquals(new Interceptor[]{interceptor}, BaseAdviseHandler.getInterceptors(adviceIndex));
+        Assertions.assertEquals(Collections.singletonList(interceptor),
+                BaseAdviseHandler.getInterceptorListMap().get(adviceKey));
+        Assertions.assertNull(BaseAdviseHandler.getInterceptors(Integer.MAX_VALUE));
+
+        BaseAdviseHandler.removeInterceptors(item -> item == interceptor);
+        Assertions.assertEquals(0, BaseAdviseHandler.getInterceptors(adviceIndex).length);
+    }
+
+    @Test
+    public void testEnhancedMethodDispatchByAdviceIndex() throws Exception {
+        String adviceKey = "TemplateForMember_dispatch_" + System.nanoTime();
+        int adviceIndex = AdviserScheduler.getAdviceIndex(adviceKey);
+        BaseAdviseHandler.addInterceptor(adviceKey, adviceIndex, new AbstractInterceptor() {
+            @Override
+            public ExecuteContext before(ExecuteContext context) {
+                context.getArguments()[0] = "sermant";
+                return context;
+            }
+
+            @Override
+            public ExecuteContext after(ExecuteContext context) {
+                context.changeResult(context.getResult() + "!");
+                return context;
+            }
+        });
+        Class<?> enhancedCls = new ByteBuddy().redefine(Greeting.class)
+                .visit(Advice.withCustomMapping().bind(AdviceIndex.class, adviceIndex).to(TemplateForMember.class)
+                        .on(ElementMatchers.named("hello")))
+                .make()
+                .load(Greeting.class.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        Object greeting = enhancedCls.getDeclaredConstructor().newInstance();
+        Method hello = enhancedCls.getMethod("hello", String.class);
+        Assertions.assertEquals("hello sermant!", hello.invoke(greeting, "world"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testInterceptorIteratorAdaptsToCursor() throws NoSuchMethodException {
+        Interceptor first = new PassInterceptor();
+        Interceptor second = new PassInterceptor();
+        ExecuteContext context = ExecuteContext.forMemberMethod(new Object(), Object.class.getMethod("toString"),
+                new Object[0], false);
+        Assertions.assertNull(context.getInterceptorIterator());
+
+        ListIterator<Interceptor> iterator = Arrays.asList(first, second).listIterator();
+        iterator.next();
+        context.setInterceptorIterator(iterator);
+        Assertions.assertArrayEquals(new Interceptor[]{first, second}, context.getInterceptors());
+        Assertions.assertEquals(1, context.getInterceptorCursor());
+        Assertions.assertEquals(1, iterator.nextIndex());
+
+        context.setInterceptorCursor(2);
+        ListIterator<Interceptor> exitIterator = context.getInterceptorIterator();
+        Assertions.assertSame(second, exitIterator.previous());
+        Assertions.assertSame(first, exitIterator.previous());
+        Assertions.assertFalse(exitIterator.hasPrevious());
+    }
+
+    /**
+     * Class to be enhanced
+     *
+     * @since 2026-10-18
+     */
+    public static class Greeting {
+        /**
+         * Say hello
+         *
+         * @param name name
+         * @return greeting
+         */
+        public String hello(String name) {
+            return "hello " + name;
+        }
+    }
+
+    /**
+     * Interceptor that does nothing
+     *
+     * @since 2026-10-18
+     */
+    private static class PassInterceptor extends AbstractInterceptor {
+        @Override
+        public ExecuteContext before(ExecuteContext context) {
+            return context;
+        }
+
+        @Override
+        public ExecuteContext after(ExecuteContext context) {
+            return context;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.template;
+
+import io.sermant.core.plugin.agent.adviser.AdviserInterface;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+/**
+ * Test that the steady-state dispatch of a pass-through interceptor chain does not allocate
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class AllocationFreeDispatchTest {
+    private static final int WARM_UP_CALLS = 20000;
+
+    private static final int MEASURED_CALLS = 100000;
+
+    /**
+     * Bytes tolerated over all the measured calls, for the allocation made by reading the allocation counter itself
+     */
+    private static final long ALLOCATION_TOLERANCE = 1024L;
+
+    private final AdviserInterface adviser = new DefaultAdviser();
+
+    private final Object target = new Object();
+
+    private final Object[] arguments = new Object[0];
+
+    private Method method;
+
+    private int adviceIndex;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        method = Object.class.getMethod("toString");
+        String adviceKey = "TemplateForMember_allocation_" + System.nanoTime();
+        adviceIndex = AdviserScheduler.getAdviceIndex(adviceKey);
+        BaseAdviseHandler.addInterceptor(adviceKey, adviceIndex, new PassThroughInterceptor());
+        AdviserScheduler.registry(adviser);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        AdviserScheduler.unRegistry(adviser);
+    }
+
+    @Test
+    public void testContextIsRecycled() throws Throwable {
+        Assertions.assertTrue(AdviserScheduler.isContextRecyclable(adviceIndex));
+        ExecuteContext first = dispatch();
+        ExecuteContext second = dispatch();
+        Assertions.assertSame(first, second);
+        Assertions.assertNull(second.getObject());
+        Assertions.assertNull(second.getInterceptors());
+    }
+
+    @Test
+    public void testRetainedContextIsNotRecycled() throws Throwable {
+        String adviceKey = "TemplateForMember_retained_" + System.nanoTime();
+        adviceIndex = AdviserScheduler.getAdviceIndex(adviceKey);
+        BaseAdviseHandler.addInterceptor(adviceKey, adviceIndex, new PassThroughInterceptor() {
+            @Override
+            public boolean isContextRetained() {
+                return true;
+            }
+        });
+        Assertions.assertFalse(AdviserScheduler.isContextRecyclable(adviceIndex));
+        Assertions.assertNotSame(dispatch(), dispatch());
+    }
+
+    @Test
+    public void testNestedCallsDoNotShareContext() throws Throwable {
+        ExecuteContext outer = ExecuteContext.forMemberMethod(target, method, arguments, true);
+        ExecuteContext inner = ExecuteContext.forMemberMethod(target, method, arguments, true);
+        Assertions.assertNotSame(outer, inner);
+        ExecuteContext.recycle(inner);
+        ExecuteContext.recycle(inner);
+        ExecuteContext.recycle(outer);
+        ExecuteContext first = ExecuteContext.forMemberMethod(target, method, arguments, true);
+        ExecuteContext second = ExecuteContext.forMemberMethod(target, method, arguments, true);
+        Assertions.assertNotSame(first, second);
+    }
+
+    @Test
+    public void testZeroBytesPerCall() throws Throwable {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadMxBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+        Assumptions.assumeTrue(allocationMxBean.isThreadAllocatedMemorySupported());
+        allocationMxBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            dispatch();
+        }
+        long before = allocationMxBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            dispatch();
+        }
+        long allocated = allocationMxBean.getThreadAllocatedBytes(threadId) - before;
+        Assertions.assertTrue(allocated <= ALLOCATION_TOLERANCE, "allocated " + allocated + " bytes");
+    }
+
+    private ExecuteContext dispatch() throws Throwable {
+        ExecuteContext context = ExecuteContext.forMemberMethod(target, method, arguments,
+                AdviserScheduler.isContextRecyclable(adviceIndex));
+        context = AdviserScheduler.onMethodEnter(context, adviceIndex);
+        context = context.afterMethod(null, null);
+        context = AdviserScheduler.onMethodExit(context, adviceIndex);
+        ExecuteContext.recycle(context);
+        return context;
+    }
+
+    /**
+     * Interceptor which does nothing and does not retain the context
+     *
+     * @since 2026-10-18
+     */
+    private static class PassThroughInterceptor extends AbstractInterceptor {
+        @Override
+        public ExecuteContext before(ExecuteContext context) {
+            return context;
+        }
+
+        @Override
+        public ExecuteContext after(ExecuteContext context) {
+            return context;
+        }
+
+        @Override
+        public boolean isContextRetained() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.classloader;
+
+import io.sermant.core.config.ConfigManager;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.utils.ClassUtils;
+import io.sermant.core.utils.CollectionUtils;
+import io.sermant.core.utils.MapUtils;
+import io.sermant.core.utils.StringUtils;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@code loadClass} hammered from 8 threads: classes of the plugin search path and of the parent, against
+ * a classloader locking on every lookup as PluginClassLoader used to. Run with the main method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ClassLoadingBenchmark {
+    private static final String[] SERMANT_CLASSES = {
+            StringUtils.class.getName(), ClassUtils.class.getName(), CollectionUtils.class.getName(),
+            MapUtils.class.getName()
+    };
+
+    private static final String PARENT_CLASS = "java.util.ArrayList";
+
+    private PluginClassLoader pluginClassLoader;
+
+    private LockingClassLoader lockingClassLoader;
+
+    /**
+     * Create the classloaders and load the classes once
+     *
+     * @throws ClassNotFoundException class not found
+     */
+    @Setup
+    public void setUp() throws ClassNotFoundException {
+        URL[] urls = {StringUtils.class.getProtectionDomain().getCodeSource().getLocation()};
+        try (MockedStatic<ConfigManager> configManager = Mockito.mockStatic(ConfigManager.class)) {
+            configManager.when(() -> ConfigManager.getConfig(AgentConfig.class)).thenReturn(new AgentConfig());
+            pluginClassLoader = new PluginClassLoader(urls, ClassLoader.getSystemClassLoader().getParent());
+        }
+        lockingClassLoader = new LockingClassLoader(urls, ClassLoader.getSystemClassLoader().getParent());
+        for (String name : SERMANT_CLASSES) {
+            pluginClassLoader.loadClass(name);
+            lockingClassLoader.loadClass(name);
+        }
+    }
+
+    /**
+     * Classes of the plugin search path
+     *
+     * @param cursor per thread cursor
+     * @return class
+     * @throws ClassNotFoundException class not found
+     */
+    @Benchmark
+    public Class<?> sermantClass(Cursor cursor) throws ClassNotFoundException {
+        return pluginClassLoader.loadClass(cursor.next());
+    }
+
+    /**
+     * Classes delegated to the parent
+     *
+     * @return class
+     * @throws ClassNotFoundException class not found
+     */
+    @Benchmark
+    public Class<?> parentClass() throws ClassNotFoundException {
+        return pluginClassLoader.loadClass(PARENT_CLASS);
+    }
+
+    /**
+     * Classes of the search path, locking on every lookup
+     *
+     * @param cursor per thread cursor
+     * @return class
+     * @throws ClassNotFoundException class not found
+     */
+    @Benchmark
+    public Class<?> lockingSermantClass(Cursor cursor) throws ClassNotFoundException {
+        return lockingClassLoader.loadClass(cursor.next());
+    }
+
+    /**
+     * Classes delegated to the parent, locking on every lookup
+     *
+     * @return class
+     * @throws ClassNotFoundException class not found
+     */
+    @Benchmark
+    public Class<?> lockingParentClass() throws ClassNotFoundException {
+        return lockingClassLoader.loadClass(PARENT_CLASS);
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ClassLoadingBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Cursor over the class names, one per thread
+     *
+     * @since 2026-10-18
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        String next() {
+            index = (index + 1) % SERMANT_CLASSES.length;
+            return SERMANT_CLASSES[index];
+        }
+    }
+
+    /**
+     * The lookup of PluginClassLoader before it became parallel capable: a cache consulted under the class loading
+     * lock, which is the classloader itself
+     *
+     * @since 2026-10-18
+     */
+    private static class LockingClassLoader extends URLClassLoader {
+        private final Map<String, Class<?>> classMap = new HashMap<>();
+
+        LockingClassLoader(URL[] urls, ClassLoader parent) {
+            super(urls, parent);
+        }
+
+        @Override
+        public Class<?> loadClass(String name) throws ClassNotFoundException {
+            return loadClass(name, false);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                if (!classMap.containsKey(name)) {
+                    try {
+                        classMap.put(name, findClass(name));
+                    } catch (ClassNotFoundException ignored) {
+                        classMap.put(name, null);
+                    }
+                }
+                Class<?> clazz = classMap.get(name);
+                return clazz == null ? super.loadClass(name, resolve) : clazz;
+            }
+        }
+    }
+}
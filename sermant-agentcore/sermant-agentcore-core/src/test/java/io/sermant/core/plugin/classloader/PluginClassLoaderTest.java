@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.plugin.classloader;
+
+import io.sermant.core.config.ConfigManager;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.utils.StringUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test PluginClassLoader
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class PluginClassLoaderTest {
+    private static final String SERMANT_CLASS = StringUtils.class.getName();
+
+    private static final String LOCAL_CLASS = "com.example.LocalOnly";
+
+    private static final int THREADS = 8;
+
+    private MockedStatic<ConfigManager> configManagerMockedStatic;
+
+    @BeforeEach
+    public void setUp() {
+        configManagerMockedStatic = Mockito.mockStatic(ConfigManager.class);
+        configManagerMockedStatic.when(() -> ConfigManager.getConfig(AgentConfig.class)).thenReturn(new AgentConfig());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        configManagerMockedStatic.close();
+    }
+
+    @Test
+    public void testConcurrentLoading() throws Exception {
+        PluginClassLoader loader = new PluginClassLoader(new URL[]{coreClasses()}, null);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Class<?>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return loader.loadClass(SERMANT_CLASS);
+                }));
+            }
+            start.countDown();
+            Class<?> loaded = futures.get(0).get(10, TimeUnit.SECONDS);
+            Assertions.assertSame(loader, loaded.getClassLoader());
+            for (Future<Class<?>> future : futures) {
+                Assertions.assertSame(loaded, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLocalLoaderIsBoundToThread() throws Exception {
+        PluginClassLoader loader = new PluginClassLoader(new URL[0], null);
+        loader.setLocalLoader(new LocalLoader());
+        try {
+            Assertions.assertSame(Runnable.class, loader.loadClass(LOCAL_CLASS));
+            Assertions.assertThrows(ClassNotFoundException.class, () -> loader.loadSermantClass(LOCAL_CLASS));
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> future = executor.submit(() -> Assertions.assertThrows(ClassNotFoundException.class,
+                        () -> loader.loadClass(LOCAL_CLASS)));
+                future.get(10, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+        } finally {
+            loader.removeLocalLoader();
+        }
+        Assertions.assertThrows(ClassNotFoundException.class, () -> loader.loadClass(LOCAL_CLASS));
+    }
+
+    @Test
+    public void testServiceLoaderDoesNotCacheThreadBoundClasses() throws Exception {
+        PluginClassLoader pluginLoader = new PluginClassLoader(new URL[0], null);
+        ServiceClassLoader serviceLoader = new ServiceClassLoader(new URL[0], pluginLoader);
+        URLClassLoader hostLoader = new URLClassLoader(new URL[]{coreClasses()}, null);
+        pluginLoader.setLocalLoader(hostLoader);
+        try {
+            Assertions.assertSame(hostLoader, serviceLoader.loadClass(SERMANT_CLASS).getClassLoader());
+        } finally {
+            pluginLoader.removeLocalLoader();
+        }
+        Assertions.assertThrows(ClassNotFoundException.class, () -> serviceLoader.loadClass(SERMANT_CLASS));
+        Assertions.assertSame(String.class, serviceLoader.loadClass(String.class.getName()));
+    }
+
+    @Test
+    public void testAppendUrlClearsMissingClasses() throws Exception {
+        PluginClassLoader loader = new PluginClassLoader(new URL[0], null);
+        Assertions.assertThrows(ClassNotFoundException.class, () -> loader.loadSermantClass(SERMANT_CLASS));
+        loader.appendUrl(coreClasses());
+        Assertions.assertSame(loader, loader.loadSermantClass(SERMANT_CLASS).getClassLoader());
+    }
+
+    private static URL coreClasses() {
+        return StringUtils.class.getProtectionDomain().getCodeSource().getLocation();
+    }
+
+    /**
+     * Stands for the classloader of the enhanced class
+     *
+     * @since 2026-10-18
+     */
+    private static class LocalLoader extends ClassLoader {
+        LocalLoader() {
+            super(null);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            if (LOCAL_CLASS.equals(name)) {
+                return Runnable.class;
+            }
+            throw new ClassNotFoundException(name);
+        }
+    }
+}
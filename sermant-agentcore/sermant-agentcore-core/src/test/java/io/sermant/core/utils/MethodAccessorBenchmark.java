@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the method name, arguments and attachments of a dubbo like invocation, as the router does on every call:
+ * the class value keyed accessors against the name keyed reflective path of the router and registry plugins, which
+ * builds a class#method(parameter) key, probes a map of optional methods and calls {@link Method#invoke}. Run with
+ * the main method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MethodAccessorBenchmark {
+    private static final MethodAccessor GET_METHOD_NAME = MethodAccessor.of("getMethodName");
+
+    private static final MethodAccessor GET_ARGUMENTS = MethodAccessor.of("getArguments");
+
+    private static final MethodAccessor GET_PARAMETER = MethodAccessor.of("getParameter", String.class);
+
+    private static final FieldAccessor ATTACHMENTS = FieldAccessor.of("attachments");
+
+    private static final Map<String, Optional<Method>> METHOD_MAP = new ConcurrentHashMap<>();
+
+    private static final int EXTRA_LENGTH_FOR_METHOD_KEY = 3;
+
+    private final Object invocation = new Invocation();
+
+    /**
+     * Read through the accessors
+     *
+     * @return read values
+     */
+    @Benchmark
+    public int accessor() {
+        int hash = GET_METHOD_NAME.invoke(invocation).hashCode();
+        hash += ((Object[]) GET_ARGUMENTS.invoke(invocation)).length;
+        hash += GET_PARAMETER.invoke(invocation, "group").hashCode();
+        return hash + ATTACHMENTS.get(invocation).hashCode();
+    }
+
+    /**
+     * Read through the name keyed method map and the field cache of {@link ReflectUtils}
+     *
+     * @return read values
+     */
+    @Benchmark
+    public int reflection() {
+        int hash = invoke(invocation, "getMethodName", null, null).hashCode();
+        hash += ((Object[]) invoke(invocation, "getArguments", null, null)).length;
+        hash += invoke(invocation, "getParameter", "group", String.class).hashCode();
+        return hash + ReflectUtils.getFieldValue(invocation, "attachments").orElse(null).hashCode();
+    }
+
+    private static Object invoke(Object obj, String name, Object parameter, Class<?> parameterClass) {
+        Class<?> invokeClass = obj.getClass();
+        Optional<Method> method = METHOD_MAP.computeIfAbsent(buildMethodKey(invokeClass, name, parameterClass),
+                key -> {
+                    try {
+                        if (parameterClass == null) {
+                            return Optional.of(invokeClass.getMethod(name));
+                        }
+                        return Optional.of(invokeClass.getMethod(name, parameterClass));
+                    } catch (NoSuchMethodException ex) {
+                        return Optional.empty();
+                    }
+                });
+        if (method.isPresent()) {
+            try {
+                if (parameterClass == null) {
+                    return Optional.ofNullable(method.get().invoke(obj)).orElse(null);
+                }
+                return Optional.ofNullable(method.get().invoke(obj, parameter)).orElse(null);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static String buildMethodKey(Class<?> clazz, String methodName, Class<?> parameterClass) {
+        String parameterClassName = parameterClass == null ? "" : parameterClass.getName();
+        String className = clazz.getName();
+        StringBuilder sb = new StringBuilder(
+                className.length() + methodName.length() + parameterClassName.length() + EXTRA_LENGTH_FOR_METHOD_KEY);
+        sb.append(className).append("#").append(methodName).append("(").append(parameterClassName).append(")");
+        return sb.toString();
+    }
+
+    /**
+     * Invocation with the members read by the router
+     *
+     * @since 2026-10-18
+     */
+    public static class Invocation {
+        private final Map<String, Object> attachments = Collections.singletonMap("version", "1.0.0");
+
+        private final Object[] arguments = {"sermant", 1};
+
+        public String getMethodName() {
+            return "sayHello";
+        }
+
+        public Object[] getArguments() {
+            return arguments;
+        }
+
+        public String getParameter(String key) {
+            return key;
+        }
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run benchmark failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MethodAccessorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
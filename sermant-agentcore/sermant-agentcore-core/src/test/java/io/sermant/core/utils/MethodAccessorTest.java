@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Method and field accessor tests
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class MethodAccessorTest {
+    private static final MethodAccessor GET_NAME = MethodAccessor.of("getName");
+
+    private static final MethodAccessor GREET = MethodAccessor.of("greet", String.class);
+
+    private static final MethodAccessor SECRET = MethodAccessor.ofDeclared("secret");
+
+    private static final MethodAccessor FAIL = MethodAccessor.of("fail");
+
+    private static final MethodAccessor GET_CONTEXT = MethodAccessor.of("getContext");
+
+    private static final FieldAccessor ATTACHMENTS = FieldAccessor.of("attachments");
+
+    @Test
+    public void testInvoke() {
+        Assertions.assertEquals("parent", GET_NAME.invoke(new Parent()));
+        Assertions.assertEquals("child", GET_NAME.invoke(new Child()));
+        Assertions.assertEquals("hello sermant", GREET.invoke(new Child(), "sermant"));
+        Assertions.assertEquals("secret", SECRET.invoke(new Child()));
+        Assertions.assertSame(Child.CONTEXT, GET_CONTEXT.invokeStatic(Child.class));
+        Assertions.assertEquals("1", MethodAccessor.of("valueOf", Object.class).invokeStatic(String.class, 1));
+    }
+
+    @Test
+    public void testMissingMethod() {
+        Assertions.assertNull(GET_NAME.invoke(new Object()));
+        Assertions.assertNull(GET_NAME.invoke(null));
+        Assertions.assertNull(FAIL.invoke(new Child()));
+        Assertions.assertNull(MethodAccessor.of("secret").invoke(new Child()));
+        Assertions.assertTrue(GET_NAME.isPresent(Child.class));
+        Assertions.assertFalse(GET_NAME.isPresent(Object.class));
+    }
+
+    @Test
+    public void testGetField() {
+        Assertions.assertEquals(Collections.singletonMap("key", "value"), ATTACHMENTS.get(new Child()));
+        Assertions.assertNull(ATTACHMENTS.get(new Object()));
+        Assertions.assertNull(ATTACHMENTS.get(null));
+        Assertions.assertEquals("parent", FieldAccessor.of("NAME").get(new Parent()));
+    }
+
+    /**
+     * Parent class declaring the members
+     *
+     * @since 2026-10-18
+     */
+    public static class Parent {
+        private static final String NAME = "parent";
+
+        private final Map<String, String> attachments = Collections.singletonMap("key", "value");
+
+        public String getName() {
+            return NAME;
+        }
+
+        public String greet(String name) {
+            return "hello " + name;
+        }
+
+        public String fail() {
+            throw new IllegalStateException("fail");
+        }
+
+        private String secret() {
+            return "secret";
+        }
+    }
+
+    /**
+     * Non-public subclass overriding a method
+     *
+     * @since 2026-10-18
+     */
+    static class Child extends Parent {
+        static final Object CONTEXT = new Object();
+
+        public static Object getContext() {
+            return CONTEXT;
+        }
+
+        @Override
+        public String getName() {
+            return "child";
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.core.utils.tag;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test TrafficTag and TrafficUtils
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class TrafficTagTest {
+    @AfterEach
+    public void tearDown() {
+        TrafficUtils.removeTrafficTag();
+    }
+
+    @Test
+    public void testSnapshot() {
+        Map<String, List<String>> tags = new HashMap<>();
+        List<String> values = new ArrayList<>(Collections.singletonList("v1"));
+        tags.put("b", values);
+        tags.put("a", Collections.singletonList("v0"));
+        tags.put("c", null);
+        TrafficTag trafficTag = new TrafficTag(tags);
+
+        // Later changes of the source map do not leak into the snapshot
+        tags.put("d", Collections.singletonList("v3"));
+        values.add("v2");
+        Assertions.assertEquals(3, trafficTag.getTag().size());
+        Assertions.assertEquals(Collections.singletonList("v1"), trafficTag.getTag().get("b"));
+        Assertions.assertTrue(trafficTag.getTag().containsKey("c"));
+        Assertions.assertNull(trafficTag.getTag().get("d"));
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(trafficTag.getTag().keySet()));
+
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> trafficTag.getTag().put("e", Collections.emptyList()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> trafficTag.getTag().get("b").add("v4"));
+        Assertions.assertTrue(new TrafficTag(null).getTag().isEmpty());
+    }
+
+    @Test
+    public void testCopyOnWriteUpdate() {
+        TrafficUtils.updateTrafficTag(Collections.singletonMap("a", Collections.singletonList("v0")));
+        TrafficTag captured = TrafficUtils.getTrafficTag();
+
+        Map<String, List<String>> update = new HashMap<>();
+        update.put("a", Collections.singletonList("v1"));
+        update.put("b", Collections.singletonList("v2"));
+        TrafficUtils.updateTrafficTag(update);
+        TrafficTag updated = TrafficUtils.getTrafficTag();
+
+        Assertions.assertNotSame(captured, updated);
+        Assertions.assertEquals(Collections.singletonMap("a", Collections.singletonList("v0")), captured.getTag());
+        Assertions.assertEquals(update, updated.getTag());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedUpdateTag() {
+        TrafficTag captured = new TrafficTag(Collections.singletonMap("a", Collections.singletonList("v0")));
+        TrafficUtils.setTrafficTag(captured);
+        captured.updateTag(Collections.singletonMap("b", Collections.singletonList("v1")));
+        Assertions.assertEquals(1, captured.getTag().size());
+        Assertions.assertEquals(2, TrafficUtils.getTrafficTag().getTag().size());
+
+        // A snapshot that is no longer held by the current thread does not replace the thread's tag
+        TrafficTag current = TrafficUtils.getTrafficTag();
+        captured.updateTag(Collections.singletonMap("c", Collections.singletonList("v2")));
+        Assertions.assertSame(current, TrafficUtils.getTrafficTag());
+
+        TrafficData trafficData = new TrafficData(Collections.emptyMap(), "/path", "GET");
+        TrafficUtils.setTrafficData(trafficData);
+        try {
+            trafficData.updateTag(Collections.singletonMap("a", Collections.singletonList("v0")));
+            Assertions.assertEquals("/path", TrafficUtils.getTrafficData().getPath());
+            Assertions.assertEquals(1, TrafficUtils.getTrafficData().getTag().size());
+        } finally {
+            TrafficUtils.removeTrafficData();
+        }
+    }
+
+    @Test
+    public void testTrafficDataUpdate() {
+        TrafficData trafficData = new TrafficData(Collections.singletonMap("a", Collections.singletonList("v0")),
+                "/path", "GET");
+        TrafficData updated = trafficData.withTag(Collections.singletonMap("b", Collections.singletonList("v1")));
+        Assertions.assertEquals("/path", updated.getPath());
+        Assertions.assertEquals("GET", updated.getHttpMethod());
+        Assertions.assertEquals(2, updated.getTag().size());
+        Assertions.assertEquals(1, trafficData.getTag().size());
+        Assertions.assertSame(trafficData, trafficData.withTag(Collections.emptyMap()));
+    }
+}
@@ -44,4 +44,39 @@ public interface AdviserInterface {
      * @throws Throwable Throwable
      */
     ExecuteContext onMethodExit(ExecuteContext context, String adviceKey) throws Throwable;
+
+    /**
+     * The preceding trigger point of method, the adviceIndex is the dense index of the adviceKey
+     *
+     * @param context execute Context
+     * @param adviceIndex advice index, see {@link AdviserScheduler#getAdviceIndex}
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    default ExecuteContext onMethodEnter(ExecuteContext context, int adviceIndex) throws Throwable {
+        return onMethodEnter(context, AdviserScheduler.getAdviceKey(adviceIndex));
+    }
+
+    /**
+     * The post trigger point of method, the adviceIndex is the dense index of the adviceKey
+     *
+     * @param context execute Context
+     * @param adviceIndex advice index, see {@link AdviserScheduler#getAdviceIndex}
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    default ExecuteContext onMethodExit(ExecuteContext context, int adviceIndex) throws Throwable {
+        return onMethodExit(context, AdviserScheduler.getAdviceKey(adviceIndex));
+    }
+
+    /**
+     * Whether the execution context of the enhanced method can be recycled, which means no interceptor of the adviser
+     * retains it after the method exits
+     *
+     * @param adviceIndex advice index, see {@link AdviserScheduler#getAdviceIndex}
+     * @return true if the execution context can be recycled
+     */
+    default boolean isContextRecyclable(int adviceIndex) {
+        return false;
+    }
 }
@@ -18,8 +18,9 @@ package io.sermant.core.plugin.agent.adviser;
 
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -29,9 +30,28 @@ import java.util.concurrent.ConcurrentHashMap;
  * @since 2023-04-11
  */
 public class AdviserScheduler {
-    private static final ArrayList<AdviserInterface> ADVISERS = new ArrayList<>();
+    /**
+     * Advice indexes that hold advice lock
+     */
+    private static final Set<Integer> ADVICE_LOCKS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Dense integer index of each adviceKey, shared by all Sermant in the same JVM
+     */
+    private static final Map<String, Integer> ADVICE_INDEXES = new ConcurrentHashMap<>();
+
+    private static final int INIT_ADVICE_KEY_CAPACITY = 256;
 
-    private static final Map<String, Boolean> ADVICE_LOCKS = new ConcurrentHashMap<>();
+    /**
+     * Immutable snapshot of the registered advisers, replaced as a whole on registry and unRegistry, so that the
+     * enhanced methods read it without lock
+     */
+    private static volatile AdviserSnapshot adviserSnapshot = new AdviserSnapshot(0L, new AdviserInterface[0]);
+
+    /**
+     * The adviceKey of each index, used for diagnostics only
+     */
+    private static volatile String[] adviceKeys = new String[INIT_ADVICE_KEY_CAPACITY];
 
     private AdviserScheduler() {
     }
@@ -41,8 +61,11 @@ public class AdviserScheduler {
      *
      * @param adviser adviser
      */
-    public static void registry(AdviserInterface adviser) {
-        ADVISERS.add(adviser);
+    public static synchronized void registry(AdviserInterface adviser) {
+        AdviserSnapshot snapshot = adviserSnapshot;
+        AdviserInterface[] advisers = Arrays.copyOf(snapshot.advisers, snapshot.advisers.length + 1);
+        advisers[advisers.length - 1] = adviser;
+        adviserSnapshot = new AdviserSnapshot(snapshot.version + 1, advisers);
     }
 
     /**
@@ -50,8 +73,27 @@ public class AdviserScheduler {
      *
      * @param adviser adviser
      */
-    public static void unRegistry(AdviserInterface adviser) {
-        ADVISERS.remove(adviser);
+    public static synchronized void unRegistry(AdviserInterface adviser) {
+        AdviserSnapshot snapshot = adviserSnapshot;
+        AdviserInterface[] advisers = snapshot.advisers;
+        for (int i = 0; i < advisers.length; i++) {
+            if (advisers[i] == adviser || (advisers[i] != null && advisers[i].equals(adviser))) {
+                AdviserInterface[] newAdvisers = new AdviserInterface[advisers.length - 1];
+                System.arraycopy(advisers, 0, newAdvisers, 0, i);
+                System.arraycopy(advisers, i + 1, newAdvisers, i, advisers.length - i - 1);
+                adviserSnapshot = new AdviserSnapshot(snapshot.version + 1, newAdvisers);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Get the version of the registered advisers, which increases on every registry and unRegistry
+     *
+     * @return version
+     */
+    static long getAdviserVersion() {
+        return adviserSnapshot.version;
     }
 
     /**
@@ -68,7 +110,7 @@ public class AdviserScheduler {
         ExecuteContext executeContext = (ExecuteContext) context;
 
         // In multi-sermant scenario, method enter is executed in sequence
-        for (AdviserInterface currentAdviser : ADVISERS) {
+        for (AdviserInterface currentAdviser : adviserSnapshot.advisers) {
             if (currentAdviser != null) {
                 executeContext = currentAdviser.onMethodEnter(executeContext, adviceKey);
             }
@@ -76,6 +118,27 @@ public class AdviserScheduler {
         return executeContext;
     }
 
+    /**
+     * The Adviser logic of the method entry, the adviceIndex is assigned at transform time, see
+     * {@link #getAdviceIndex}
+     *
+     * @param context execute context
+     * @param adviceIndex The advice index
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    public static ExecuteContext onMethodEnter(Object context, int adviceIndex) throws Throwable {
+        ExecuteContext executeContext = (ExecuteContext) context;
+
+        // In multi-sermant scenario, method enter is executed in sequence
+        for (AdviserInterface currentAdviser : adviserSnapshot.advisers) {
+            if (currentAdviser != null) {
+                executeContext = currentAdviser.onMethodEnter(executeContext, adviceIndex);
+            }
+        }
+        return executeContext;
+    }
+
     /**
      * The Adviser logic of the method exit
      *
@@ -90,8 +153,9 @@ public class AdviserScheduler {
         ExecuteContext executeContext = (ExecuteContext) context;
 
         // In multi-sermant scenario, method exit is executed in reverse order
-        for (int i = ADVISERS.size() - 1; i >= 0; i--) {
-            AdviserInterface currentAdviser = ADVISERS.get(i);
+        AdviserInterface[] advisers = adviserSnapshot.advisers;
+        for (int i = advisers.length - 1; i >= 0; i--) {
+            AdviserInterface currentAdviser = advisers[i];
             if (currentAdviser != null) {
                 executeContext = currentAdviser.onMethodExit(executeContext, adviceKey);
             }
@@ -100,18 +164,110 @@ public class AdviserScheduler {
     }
 
     /**
-     * Add an advice lock to the adviceKey
+     * The Adviser logic of the method exit, the adviceIndex is assigned at transform time, see
+     * {@link #getAdviceIndex}
+     *
+     * @param context execute context
+     * @param adviceIndex The advice index
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    public static ExecuteContext onMethodExit(Object context, int adviceIndex) throws Throwable {
+        ExecuteContext executeContext = (ExecuteContext) context;
+
+        // In multi-sermant scenario, method exit is executed in reverse order
+        AdviserInterface[] advisers = adviserSnapshot.advisers;
+        for (int i = advisers.length - 1; i >= 0; i--) {
+            AdviserInterface currentAdviser = advisers[i];
+            if (currentAdviser != null) {
+                executeContext = currentAdviser.onMethodExit(executeContext, adviceIndex);
+            }
+        }
+        return executeContext;
+    }
+
+    /**
+     * Whether the execution context of the enhanced method can be recycled after the method exits, it is true only
+     * when all registered advisers agree, see {@link AdviserInterface#isContextRecyclable}
+     *
+     * @param adviceIndex The advice index
+     * @return true if the execution context can be recycled
+     */
+    public static boolean isContextRecyclable(int adviceIndex) {
+        AdviserInterface[] advisers = adviserSnapshot.advisers;
+        if (advisers.length == 0) {
+            return false;
+        }
+        for (AdviserInterface currentAdviser : advisers) {
+            if (currentAdviser != null && !currentAdviser.isContextRecyclable(adviceIndex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the dense integer index of the adviceKey, a new index is assigned if the adviceKey is seen for the first
+     * time. The same adviceKey always gets the same index, so that all Sermant in the same JVM agree on it
+     *
+     * @param adviceKey Indicate the enhancement location
+     * @return advice index
+     */
+    public static int getAdviceIndex(String adviceKey) {
+        Integer adviceIndex = ADVICE_INDEXES.get(adviceKey);
+        if (adviceIndex != null) {
+            return adviceIndex;
+        }
+        synchronized (ADVICE_INDEXES) {
+            adviceIndex = ADVICE_INDEXES.get(adviceKey);
+            if (adviceIndex != null) {
+                return adviceIndex;
+            }
+            int newIndex = ADVICE_INDEXES.size();
+            String[] keys = adviceKeys;
+            if (newIndex >= keys.length) {
+                keys = Arrays.copyOf(keys, keys.length << 1);
+            }
+            keys[newIndex] = adviceKey;
+            adviceKeys = keys;
+            ADVICE_INDEXES.put(adviceKey, newIndex);
+            return newIndex;
+        }
+    }
+
+    /**
+     * Get the adviceKey of the advice index, for diagnostics only
+     *
+     * @param adviceIndex advice index
+     * @return adviceKey, null if the index has not been assigned
+     */
+    public static String getAdviceKey(int adviceIndex) {
+        String[] keys = adviceKeys;
+        if (adviceIndex < 0 || adviceIndex >= keys.length) {
+            return null;
+        }
+        return keys[adviceIndex];
+    }
+
+    /**
+     * Add an advice lock to the adviceKey, the lock is held on the advice index, which is assigned if the adviceKey is
+     * seen for the first time
      *
      * @param adviceKey Indicate the enhancement location
      * @return Whether the lock can be acquired
      */
     public static boolean lock(String adviceKey) {
-        Boolean adviceLock = ADVICE_LOCKS.get(adviceKey);
-        if (adviceLock == null || !adviceLock) {
-            ADVICE_LOCKS.put(adviceKey, Boolean.TRUE);
-            return true;
-        }
-        return false;
+        return lock(getAdviceIndex(adviceKey));
+    }
+
+    /**
+     * Add an advice lock to the advice index, only one caller can acquire the lock until it is released
+     *
+     * @param adviceIndex advice index
+     * @return Whether the lock can be acquired
+     */
+    public static boolean lock(int adviceIndex) {
+        return ADVICE_LOCKS.add(adviceIndex);
     }
 
     /**
@@ -120,6 +276,34 @@ public class AdviserScheduler {
      * @param adviceKey Indicate the enhancement location
      */
     public static void unLock(String adviceKey) {
-        ADVICE_LOCKS.put(adviceKey, Boolean.FALSE);
+        Integer adviceIndex = ADVICE_INDEXES.get(adviceKey);
+        if (adviceIndex != null) {
+            unLock(adviceIndex);
+        }
+    }
+
+    /**
+     * Release the advice lock on the advice index
+     *
+     * @param adviceIndex advice index
+     */
+    public static void unLock(int adviceIndex) {
+        ADVICE_LOCKS.remove(adviceIndex);
+    }
+
+    /**
+     * Versioned snapshot of the registered advisers
+     *
+     * @since 2026-10-18
+     */
+    private static class AdviserSnapshot {
+        private final long version;
+
+        private final AdviserInterface[] advisers;
+
+        AdviserSnapshot(long version, AdviserInterface[] advisers) {
+            this.version = version;
+            this.advisers = advisers;
+        }
     }
 }
@@ -22,8 +22,10 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 
@@ -35,20 +37,31 @@ import java.util.Map;
  * @since 2022-01-25
  */
 public class ExecuteContext {
+    /**
+     * The maximum number of recyclable execution contexts kept by each thread, which bounds the depth of nested
+     * enhanced calls that can be served without allocation
+     */
+    private static final int POOL_CAPACITY = 16;
+
+    /**
+     * Recyclable execution contexts of each thread
+     */
+    private static final ThreadLocal<ContextPool> CONTEXT_POOL = ThreadLocal.withInitial(ContextPool::new);
+
     /**
      * enhanced class
      */
-    private final Class<?> rawCls;
+    private Class<?> rawCls;
 
     /**
      * Enhanced constructor, null if enhance method
      */
-    private final Constructor<?> constructor;
+    private Constructor<?> constructor;
 
     /**
      * Enhanced method, null if enhance constructor
      */
-    private final Method method;
+    private Method method;
 
     /**
      * Enhanced object, note:
@@ -105,9 +118,19 @@ public class ExecuteContext {
     private Map<String, Object> localFields;
 
     /**
-     * Interceptor bidirectional iterator
+     * Interceptors executed by the current adviser
+     */
+    private Interceptor[] interceptors;
+
+    /**
+     * The number of interceptors whose preceding trigger point has been executed
+     */
+    private int interceptorCursor;
+
+    /**
+     * Whether the execution context is returned to the pool of the current thread after the method exits
      */
-    private ListIterator<Interceptor> interceptorIterator;
+    private boolean isRecyclable;
 
     /**
      * Map of raw fields, where each fetched field is temporarily stored
@@ -123,6 +146,72 @@ public class ExecuteContext {
         this.arguments = arguments;
     }
 
+    /**
+     * Create execution context for constructor, the context is taken from the pool of the current thread if it is
+     * recyclable, see {@link #recycle}
+     *
+     * @param cls The enhanced class
+     * @param constructor The enhanced constructor
+     * @param arguments Constructor input arguments
+     * @param isRecyclable Whether no interceptor retains the context after the method exits
+     * @return ExecuteContext
+     */
+    public static ExecuteContext forConstructor(Class<?> cls, Constructor<?> constructor, Object[] arguments,
+            boolean isRecyclable) {
+        if (!isRecyclable) {
+            return new ExecuteContext(null, cls, constructor, null, arguments);
+        }
+        return CONTEXT_POOL.get().acquire(null, cls, constructor, null, arguments);
+    }
+
+    /**
+     * Creates execution context for member method, the context is taken from the pool of the current thread if it is
+     * recyclable, see {@link #recycle}
+     *
+     * @param object Enhanced object
+     * @param method Enhanced method
+     * @param arguments method arguments
+     * @param isRecyclable Whether no interceptor retains the context after the method exits
+     * @return ExecuteContext
+     */
+    public static ExecuteContext forMemberMethod(Object object, Method method, Object[] arguments,
+            boolean isRecyclable) {
+        if (!isRecyclable) {
+            return new ExecuteContext(object, object.getClass(), null, method, arguments);
+        }
+        return CONTEXT_POOL.get().acquire(object, object.getClass(), null, method, arguments);
+    }
+
+    /**
+     * Creates execution context for static method, the context is taken from the pool of the current thread if it is
+     * recyclable, see {@link #recycle}
+     *
+     * @param cls Enhanced class
+     * @param method Enhanced method
+     * @param arguments method arguments
+     * @param isRecyclable Whether no interceptor retains the context after the method exits
+     * @return ExecuteContext
+     */
+    public static ExecuteContext forStaticMethod(Class<?> cls, Method method, Object[] arguments,
+            boolean isRecyclable) {
+        if (!isRecyclable) {
+            return new ExecuteContext(null, cls, null, method, arguments);
+        }
+        return CONTEXT_POOL.get().acquire(null, cls, null, method, arguments);
+    }
+
+    /**
+     * Return the execution context to the pool of the current thread after the method exits. Only the context created
+     * as recyclable is returned, others are left to the garbage collector
+     *
+     * @param context execute context
+     */
+    public static void recycle(Object context) {
+        if (context instanceof ExecuteContext && ((ExecuteContext) context).isRecyclable) {
+            CONTEXT_POOL.get().release((ExecuteContext) context);
+        }
+    }
+
     /**
      * Create execution context for constructor
      *
@@ -240,13 +329,68 @@ public class ExecuteContext {
         return extMemberFields;
     }
 
+    /**
+     * Get interceptor bidirectional iterator, positioned after the interceptors whose preceding trigger point has
+     * been executed. The iterator is a view over {@link #getInterceptors}, moving it does not change the cursor
+     *
+     * @return interceptor iterator, null if no interceptors are set
+     * @deprecated the interceptors are walked by {@link #getInterceptors} and {@link #getInterceptorCursor}
+     */
+    @Deprecated
     public ListIterator<Interceptor> getInterceptorIterator() {
-        return interceptorIterator;
+        if (interceptors == null) {
+            return null;
+        }
+        return Arrays.asList(interceptors).listIterator(interceptorCursor);
+    }
+
+    /**
+     * Set interceptor bidirectional iterator. The interceptors it walks and its current position are copied to
+     * {@link #setInterceptors} and {@link #setInterceptorCursor}, the iterator is left at its current position
+     *
+     * @param interceptorIterator interceptor iterator
+     * @deprecated the interceptors are walked by {@link #setInterceptors} and {@link #setInterceptorCursor}
+     */
+    @Deprecated
+    public void setInterceptorIterator(ListIterator<Interceptor> interceptorIterator) {
+        if (interceptorIterator == null) {
+            this.interceptors = null;
+            this.interceptorCursor = 0;
+            return;
+        }
+        final int cursor = interceptorIterator.nextIndex();
+        while (interceptorIterator.hasPrevious()) {
+            interceptorIterator.previous();
+        }
+        final List<Interceptor> interceptorList = new ArrayList<>();
+        while (interceptorIterator.hasNext()) {
+            interceptorList.add(interceptorIterator.next());
+        }
+        while (interceptorIterator.nextIndex() > cursor) {
+            interceptorIterator.previous();
+        }
+        this.interceptors = interceptorList.toArray(new Interceptor[0]);
+        this.interceptorCursor = cursor;
+    }
+
+    public Interceptor[] getInterceptors() {
+        return interceptors;
+    }
+
+    public void setInterceptors(Interceptor[] interceptors) {
+        this.interceptors = interceptors;
     }
 
-    public void setInterceptorIterator(
-            ListIterator<Interceptor> interceptorIterator) {
-        this.interceptorIterator = interceptorIterator;
+    public int getInterceptorCursor() {
+        return interceptorCursor;
+    }
+
+    public void setInterceptorCursor(int interceptorCursor) {
+        this.interceptorCursor = interceptorCursor;
+    }
+
+    public boolean isRecyclable() {
+        return isRecyclable;
     }
 
     /**
@@ -594,6 +738,26 @@ public class ExecuteContext {
         return this;
     }
 
+    private void reset(Object thisObj, Class<?> cls, Constructor<?> thisConstructor, Method thisMethod,
+            Object[] thisArguments) {
+        this.object = thisObj;
+        this.rawCls = cls;
+        this.constructor = thisConstructor;
+        this.method = thisMethod;
+        this.arguments = thisArguments;
+        this.isSkip = false;
+        this.isChangeThrowable = false;
+        this.result = null;
+        this.throwable = null;
+        this.throwableOut = null;
+        this.extStaticFields = null;
+        this.extMemberFields = null;
+        this.localFields = null;
+        this.interceptors = null;
+        this.interceptorCursor = 0;
+        this.rawFields = null;
+    }
+
     @Override
     public String toString() {
         return "ExecuteContext{"
@@ -611,4 +775,39 @@ public class ExecuteContext {
                 + ", rawFields=" + rawFields
                 + '}';
     }
+
+    /**
+     * Recyclable execution contexts of a thread. Contexts are taken in stack order, so nested enhanced calls on the
+     * same thread never share a context
+     *
+     * @since 2026-10-18
+     */
+    private static class ContextPool {
+        private final ExecuteContext[] contexts = new ExecuteContext[POOL_CAPACITY];
+
+        private int size;
+
+        ExecuteContext acquire(Object object, Class<?> cls, Constructor<?> constructor, Method method,
+                Object[] arguments) {
+            if (size == 0) {
+                ExecuteContext context = new ExecuteContext(object, cls, constructor, method, arguments);
+                context.isRecyclable = true;
+                return context;
+            }
+            ExecuteContext context = contexts[--size];
+            contexts[size] = null;
+            context.reset(object, cls, constructor, method, arguments);
+            context.isRecyclable = true;
+            return context;
+        }
+
+        void release(ExecuteContext context) {
+            // A pooled context is not recyclable, so that it is never released twice
+            context.reset(null, null, null, null, null);
+            context.isRecyclable = false;
+            if (size < contexts.length) {
+                contexts[size++] = context;
+            }
+        }
+    }
 }
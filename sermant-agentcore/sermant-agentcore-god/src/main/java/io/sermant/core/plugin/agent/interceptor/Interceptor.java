@@ -52,4 +52,15 @@ public interface Interceptor {
      * @throws Exception Execution exception
      */
     ExecuteContext onThrow(ExecuteContext context) throws Exception;
+
+    /**
+     * Whether the interceptor keeps a reference to the execution context after the enhanced method exits, such as
+     * handing it to another thread. The execution context can only be recycled when no interceptor of the enhanced
+     * method retains it
+     *
+     * @return true if the execution context is retained
+     */
+    default boolean isContextRetained() {
+        return true;
+    }
 }
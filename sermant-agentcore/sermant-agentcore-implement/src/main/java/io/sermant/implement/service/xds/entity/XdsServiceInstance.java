@@ -40,6 +40,8 @@ public class XdsServiceInstance implements ServiceInstance {
 
     private Map<String, String> metadata;
 
+    private int weight = 1;
+
     @Override
     public String getClusterName() {
         return cluster;
@@ -70,6 +72,11 @@ public class XdsServiceInstance implements ServiceInstance {
         return healthStatus;
     }
 
+    @Override
+    public int getWeight() {
+        return weight;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -82,13 +89,14 @@ public class XdsServiceInstance implements ServiceInstance {
         return port == instance.port && healthStatus == instance.healthStatus
                 && Objects.equals(cluster, instance.cluster)
                 && Objects.equals(service, instance.service)
+                && weight == instance.weight
                 && Objects.equals(host, instance.host)
                 && Objects.equals(metadata, instance.metadata);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(cluster, service, host, port, healthStatus, metadata);
+        return Objects.hash(cluster, service, host, port, healthStatus, metadata, weight);
     }
 
     public void setCluster(String cluster) {
@@ -114,4 +122,8 @@ public class XdsServiceInstance implements ServiceInstance {
     public void setMetadata(Map<String, String> metadata) {
         this.metadata = metadata;
     }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
 }
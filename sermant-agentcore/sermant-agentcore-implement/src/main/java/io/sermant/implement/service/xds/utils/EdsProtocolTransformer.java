@@ -137,6 +137,9 @@ public class EdsProtocolTransformer {
                 .forEach(struct -> struct.getFieldsMap()
                         .forEach((key, value) -> metadata.put(key, value.getStringValue())));
         instance.setMetadata(metadata);
+        if (endpoint.hasLoadBalancingWeight() && endpoint.getLoadBalancingWeight().getValue() > 0) {
+            instance.setWeight(endpoint.getLoadBalancingWeight().getValue());
+        }
         if (HealthStatus.HEALTHY.equals(endpoint.getHealthStatus())
                 || HealthStatus.UNKNOWN.equals(endpoint.getHealthStatus())) {
             instance.setHealthStatus(true);
@@ -75,6 +75,11 @@ public interface Cache<K, V> {
      */
     V evict(K key);
 
+    /**
+     * remove all cached values
+     */
+    void clear();
+
     /**
      * release
      */
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.cache;
+
+import io.sermant.flowcontrol.common.factory.FlowControlThreadFactory;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The maintenance thread shared by all timed caches, started with the first scheduled cache and stopped once the last
+ * one is released
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class CacheMaintainer {
+    private static ScheduledThreadPoolExecutor executor;
+
+    private static int taskCount;
+
+    private CacheMaintainer() {
+    }
+
+    /**
+     * Schedule the maintenance of a cache
+     *
+     * @param task maintenance task
+     * @param periodMs period in milliseconds
+     * @return scheduled task, to cancel when the cache is released
+     */
+    static synchronized ScheduledFuture<?> schedule(Runnable task, long periodMs) {
+        if (executor == null) {
+            executor = new ScheduledThreadPoolExecutor(1,
+                    new FlowControlThreadFactory("TimedConcurrentMapCache-thread"));
+            executor.setRemoveOnCancelPolicy(true);
+        }
+        taskCount++;
+        return executor.scheduleWithFixedDelay(task, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancel the maintenance of a cache
+     *
+     * @param future scheduled task
+     */
+    static synchronized void cancel(ScheduledFuture<?> future) {
+        if (!future.cancel(false) || executor == null) {
+            return;
+        }
+        if (--taskCount == 0) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+}
@@ -50,6 +50,11 @@ public class ConcurrentMapCache<K, V> implements Cache<K, V> {
         return cache.remove(key);
     }
 
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
     @Override
     public void release() {
         cache.clear();
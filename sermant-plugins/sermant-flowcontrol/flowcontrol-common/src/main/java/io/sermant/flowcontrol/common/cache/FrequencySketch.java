@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.cache;
+
+/**
+ * Count-min sketch of the access frequency of keys with four bit counters, sixteen to a long. The counters are halved
+ * once ten times the capacity of the cache has been sampled, so that the frequencies follow recent accesses. Not
+ * thread safe, used under the eviction lock of the cache
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+        0xcbf29ce484222325L};
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private static final int MAX_COUNT = 15;
+
+    private static final int MIN_TABLE_SIZE = 16;
+
+    private static final int SAMPLE_FACTOR = 10;
+
+    private final long[] table;
+
+    private final int tableMask;
+
+    private final int sampleSize;
+
+    private int size;
+
+    /**
+     * Constructor
+     *
+     * @param maximumSize maximum size of the cache
+     */
+    FrequencySketch(int maximumSize) {
+        final int capacity = Math.max(maximumSize, MIN_TABLE_SIZE);
+        final int tableSize = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity)
+                << 1;
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = SAMPLE_FACTOR * capacity;
+    }
+
+    /**
+     * Estimated frequency of the key
+     *
+     * @param key key
+     * @return frequency, at most 15
+     */
+    int frequency(Object key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int offset = (start + i) << 2;
+            final int count = (int) ((table[indexOf(hash, i)] >>> offset) & MAX_COUNT);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Record an access of the key
+     *
+     * @param key key
+     */
+    void increment(Object key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        boolean isAdded = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            isAdded |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (isAdded && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        final int offset = counter << 2;
+        final long mask = (long) MAX_COUNT << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size >>> 1) - (odd >>> 2);
+    }
+
+    private int indexOf(int hash, int seedIndex) {
+        long result = (hash + SEEDS[seedIndex]) * SEEDS[seedIndex];
+        result += result >>> 32;
+        return (int) result & tableMask;
+    }
+
+    private static int spread(int hashCode) {
+        int hash = hashCode;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -17,33 +17,45 @@
 
 package io.sermant.flowcontrol.common.cache;
 
-import io.sermant.core.common.LoggerFactory;
-import io.sermant.flowcontrol.common.factory.FlowControlThreadFactory;
-
-import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.logging.Logger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * periodic cache clearing
+ * bounded cache whose entries expire after not being accessed for the eviction time
+ *
+ * <p>Entries first enter a small window ordered by access, entries leaving the window compete with the least recently
+ * used entry of the main space: the one accessed less often according to a frequency sketch is evicted (W-TinyLFU),
+ * so that a burst of one-off keys does not flush the frequently used ones. Reads are recorded in a lossy buffer and
+ * replayed under the eviction lock, so that gets never block. Expired entries are removed from the least recently used
+ * ends by the maintenance thread shared by all caches</p>
  *
  * @param <K> key
  * @param <V> value
  * @author zhouss
  * @since 2022-07-21
  */
-public class TimedConcurrentMapCache<K extends Timed, V> extends ConcurrentMapCache<K, V> {
-    private static final Logger LOGGER = LoggerFactory.getLogger();
-
+public class TimedConcurrentMapCache<K, V> implements Cache<K, V> {
     /**
      * default check interval
      */
     private static final long CHECK_INTERVAL = 60000L;
 
+    /**
+     * percentage of the maximum size given to the window
+     */
+    private static final int WINDOW_PERCENT = 1;
+
+    private static final int PERCENT = 100;
+
+    private static final int READ_BUFFER_SIZE = 64;
+
+    private final ConcurrentHashMap<K, Node<K, V>> cache = new ConcurrentHashMap<>();
+
     /**
      * maximum cache number
      */
@@ -52,14 +64,29 @@ public class TimedConcurrentMapCache<K extends Timed, V> extends ConcurrentMapCa
     /**
      * cache expiration time
      */
-    private final long evictTimeMs;
+    private final long evictTimeNanos;
 
-    /**
-     * the oldest key
-     */
-    private K lastOldestKey;
+    private final int maxWindowSize;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final AccessOrder<K, V> window = new AccessOrder<>();
 
-    private ScheduledThreadPoolExecutor scheduledThreadPoolExecutor;
+    private final AccessOrder<K, V> main = new AccessOrder<>();
+
+    private final FrequencySketch sketch;
+
+    private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+    private final AtomicLong readCount = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final ScheduledFuture<?> maintenanceTask;
 
     /**
      * timed cache constructor
@@ -68,83 +95,292 @@ public class TimedConcurrentMapCache<K extends Timed, V> extends ConcurrentMapCa
      * @param evictTimeMs expiration time in milliseconds
      */
     public TimedConcurrentMapCache(int maxSize, long evictTimeMs) {
-        this.maxSize = maxSize;
-        this.evictTimeMs = evictTimeMs;
-        initEvictTask();
+        this.maxSize = Math.max(maxSize, 0);
+        this.evictTimeNanos = TimeUnit.MILLISECONDS.toNanos(evictTimeMs);
+        this.maxWindowSize = Math.max(1, this.maxSize * WINDOW_PERCENT / PERCENT);
+        this.sketch = new FrequencySketch(this.maxSize);
+        this.maintenanceTask = CacheMaintainer.schedule(this::runMaintenance,
+                Math.max(1L, Math.min(CHECK_INTERVAL, evictTimeMs)));
+    }
+
+    @Override
+    public Object getCacheTarget() {
+        return cache;
+    }
+
+    @Override
+    public V get(K key) {
+        final Node<K, V> node = cache.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        final long now = System.nanoTime();
+        if (now - node.accessTime >= evictTimeNanos) {
+            missCount.increment();
+            return null;
+        }
+        node.accessTime = now;
+        hitCount.increment();
+        recordRead(node);
+        return node.value;
     }
 
     @Override
     public void put(K key, V value) {
-        if (super.size() >= maxSize) {
-            if (!checkEvict()) {
-                LOGGER.fine(String.format(Locale.ENGLISH,
-                        "[TimedConcurrentMapCache] can not put key, because capacity has been max (%s)", maxSize));
-                return;
+        final Node<K, V> node = new Node<>(key, value, System.nanoTime());
+        final Node<K, V> replaced = cache.put(key, node);
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            if (replaced != null) {
+                unlink(replaced);
             }
+
+            // the node may have been replaced or evicted meanwhile, it is then linked by no one
+            if (cache.get(key) == node) {
+                sketch.increment(key);
+                window.addLast(node);
+                evictIfNeeded();
+            }
+        } finally {
+            evictionLock.unlock();
         }
-        key.setTimestamp(System.currentTimeMillis());
-        super.put(key, value);
     }
 
-    private boolean checkEvict() {
-        if (lastOldestKey == null) {
-            return false;
+    @Override
+    public V evict(K key) {
+        final Node<K, V> node = cache.remove(key);
+        if (node == null) {
+            return null;
         }
-
-        // remove the last oldest key
-        evict(lastOldestKey);
-        lastOldestKey = null;
-        return super.size() <= maxSize;
+        evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            evictionLock.unlock();
+        }
+        return node.value;
     }
 
     @Override
-    public V get(K key) {
-        final V value = super.get(key);
-        if (value != null) {
-            key.setTimestamp(System.currentTimeMillis());
+    public void clear() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            cache.clear();
+            window.clear();
+            main.clear();
+        } finally {
+            evictionLock.unlock();
         }
-        return value;
     }
 
     @Override
-    public V evict(K key) {
-        return super.evict(key);
+    public void release() {
+        clear();
+        CacheMaintainer.cancel(maintenanceTask);
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * number of gets that found a live entry
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
     }
 
-    private void initEvictTask() {
-        scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1, new FlowControlThreadFactory(
-                "TimedConcurrentMapCache-thread"));
-        scheduledThreadPoolExecutor.scheduleAtFixedRate(this::removeEvictedCache, 0, Math.min(CHECK_INTERVAL,
-                evictTimeMs), TimeUnit.MILLISECONDS);
+    /**
+     * number of gets that found no or an expired entry
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * number of entries evicted for the size bound or expired
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
     }
 
-    private void removeEvictedCache() {
-        final Object cacheTarget = getCacheTarget();
-        if (!(cacheTarget instanceof ConcurrentHashMap)) {
-            return;
+    private void recordRead(Node<K, V> node) {
+        final long index = readCount.getAndIncrement();
+        final int slot = (int) index & (READ_BUFFER_SIZE - 1);
+        readBuffer.lazySet(slot, node);
+        if (slot == READ_BUFFER_SIZE - 1 && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
         }
-        ConcurrentHashMap<K, V> cache = (ConcurrentHashMap<K, V>) cacheTarget;
-        final long currentTimeMillis = System.currentTimeMillis();
-        AtomicLong timestamp = new AtomicLong(Long.MAX_VALUE);
-        AtomicReference<K> curOldestKey = new AtomicReference<>();
-        cache.forEach((key, value) -> {
-            if (currentTimeMillis - key.getTimestamp() >= evictTimeMs) {
-                cache.remove(key);
-                return;
+    }
+
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            final Node<K, V> node = readBuffer.getAndSet(i, null);
+            if (node != null && node.order != null) {
+                sketch.increment(node.key);
+                node.order.moveToLast(node);
             }
-            if (key.getTimestamp() < timestamp.get()) {
-                timestamp.set(key.getTimestamp());
-                curOldestKey.set(key);
+        }
+    }
+
+    private void evictIfNeeded() {
+        Node<K, V> candidate = null;
+        while (window.size > maxWindowSize) {
+            candidate = window.head;
+            window.unlink(candidate);
+            main.addLast(candidate);
+        }
+        while (window.size + main.size > maxSize) {
+            final Node<K, V> victim = main.head;
+            if (victim == null) {
+                evictNode(window.head);
+            } else if (candidate == null || candidate.order != main || candidate == victim
+                    || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evictNode(victim);
+            } else {
+                // the entry leaving the window is accessed less often than the one it would replace
+                evictNode(candidate);
+                candidate = null;
             }
-        });
-        lastOldestKey = curOldestKey.get();
+        }
     }
 
-    @Override
-    public void release() {
-        super.release();
-        if (scheduledThreadPoolExecutor != null) {
-            scheduledThreadPoolExecutor.shutdown();
+    private void evictNode(Node<K, V> node) {
+        unlink(node);
+        cache.remove(node.key, node);
+        evictionCount.increment();
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.order != null) {
+            node.order.unlink(node);
+        }
+    }
+
+    private void runMaintenance() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            final long now = System.nanoTime();
+            expire(window, now);
+            expire(main, now);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void expire(AccessOrder<K, V> order, long now) {
+        Node<K, V> node = order.head;
+        while (node != null && now - node.accessTime >= evictTimeNanos) {
+            final Node<K, V> next = node.next;
+            evictNode(node);
+            node = next;
+        }
+    }
+
+    /**
+     * cache entry, the links are guarded by the eviction lock
+     *
+     * @param <K> key
+     * @param <V> value
+     * @since 2026-10-18
+     */
+    private static final class Node<K, V> {
+        private final K key;
+
+        private final V value;
+
+        private volatile long accessTime;
+
+        private AccessOrder<K, V> order;
+
+        private Node<K, V> prev;
+
+        private Node<K, V> next;
+
+        Node(K key, V value, long accessTime) {
+            this.key = key;
+            this.value = value;
+            this.accessTime = accessTime;
+        }
+    }
+
+    /**
+     * doubly linked list of entries from the least to the most recently used, guarded by the eviction lock
+     *
+     * @param <K> key
+     * @param <V> value
+     * @since 2026-10-18
+     */
+    private static final class AccessOrder<K, V> {
+        private Node<K, V> head;
+
+        private Node<K, V> tail;
+
+        private int size;
+
+        void addLast(Node<K, V> node) {
+            node.order = this;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void unlink(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.order = null;
+            size--;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (tail != node) {
+                unlink(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            for (Node<K, V> node = head; node != null; ) {
+                final Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.order = null;
+                node = next;
+            }
+            head = null;
+            tail = null;
+            size = 0;
         }
     }
 }
@@ -234,6 +234,16 @@ public class ConfigConst {
      */
     public static final long DEFAULT_TIME_CACHE_CHECK_INTERVAL = 3600L;
 
+    /**
+     * Default length of a bucket of the system status sliding window, in milliseconds
+     */
+    public static final long DEFAULT_SYSTEM_WINDOW_BUCKET_MS = 1000L;
+
+    /**
+     * Default number of buckets of the system status sliding window, one minute with the default bucket length
+     */
+    public static final int DEFAULT_SYSTEM_WINDOW_BUCKET_COUNT = 60;
+
     /**
      * connection timeout
      */
@@ -304,6 +304,18 @@ public class FlowControlConfig implements PluginConfig {
     @ConfigFieldKey("enable-system-rule")
     private boolean enableSystemRule;
 
+    /**
+     * length of a bucket of the system status sliding window, in milliseconds
+     */
+    @ConfigFieldKey("system-window-bucket-ms")
+    private long systemWindowBucketMs = ConfigConst.DEFAULT_SYSTEM_WINDOW_BUCKET_MS;
+
+    /**
+     * number of buckets of the system status sliding window
+     */
+    @ConfigFieldKey("system-window-bucket-count")
+    private int systemWindowBucketCount = ConfigConst.DEFAULT_SYSTEM_WINDOW_BUCKET_COUNT;
+
     public boolean isUseOriginInvoker() {
         return useOriginInvoker;
     }
@@ -719,4 +731,20 @@ public class FlowControlConfig implements PluginConfig {
     public boolean isEnableSystemRule() {
         return enableSystemRule;
     }
+
+    public long getSystemWindowBucketMs() {
+        return systemWindowBucketMs;
+    }
+
+    public void setSystemWindowBucketMs(long systemWindowBucketMs) {
+        this.systemWindowBucketMs = systemWindowBucketMs;
+    }
+
+    public int getSystemWindowBucketCount() {
+        return systemWindowBucketCount;
+    }
+
+    public void setSystemWindowBucketCount(int systemWindowBucketCount) {
+        this.systemWindowBucketCount = systemWindowBucketCount;
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import io.sermant.flowcontrol.common.core.match.CompiledRequestMatcher.Condition;
+import io.sermant.flowcontrol.common.entity.RequestEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The service scenarios compiled into a decision tree: request matchers are grouped by method, then indexed by path
+ * condition, so that one lookup per level yields the candidate matchers of a request, of which only the remaining
+ * conditions are checked
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class CompiledMatchGroup {
+    private static final int DEFAULT_BUSINESS_SIZE = 4;
+
+    private final Map<String, PathIndex> methodIndexes = new HashMap<>();
+
+    private final PathIndex anyMethodIndex = new PathIndex();
+
+    private CompiledMatchGroup() {
+    }
+
+    /**
+     * Compile the service scenarios
+     *
+     * @param businessMatchers service scenarios
+     * @return compiled scenarios
+     */
+    static CompiledMatchGroup compile(Collection<BusinessMatcher> businessMatchers) {
+        final CompiledMatchGroup matchGroup = new CompiledMatchGroup();
+        for (BusinessMatcher businessMatcher : businessMatchers) {
+            if (businessMatcher.getMatches() == null) {
+                continue;
+            }
+            for (RequestMatcher requestMatcher : businessMatcher.getMatches()) {
+                matchGroup.add(businessMatcher.getName(), requestMatcher);
+            }
+        }
+        matchGroup.anyMethodIndex.build();
+        matchGroup.methodIndexes.values().forEach(PathIndex::build);
+        return matchGroup;
+    }
+
+    private void add(String businessName, RequestMatcher requestMatcher) {
+        final CompiledRequestMatcher matcher = CompiledRequestMatcher.compile(businessName, requestMatcher);
+        if (matcher == null) {
+            return;
+        }
+        final Condition indexedCondition = PathIndex.selectIndexedCondition(matcher.getPathConditions());
+        if (indexedCondition != null) {
+            matcher.removePathCondition(indexedCondition);
+        }
+        if (requestMatcher.getMethod() == null) {
+            anyMethodIndex.add(matcher, indexedCondition);
+            return;
+        }
+        for (String method : new HashSet<>(requestMatcher.getMethod())) {
+            methodIndexes.computeIfAbsent(method, key -> new PathIndex()).add(matcher, indexedCondition);
+        }
+    }
+
+    /**
+     * Match the request against all service scenarios
+     *
+     * @param request request information
+     * @return names of the matched service scenarios
+     */
+    Set<String> match(RequestEntity request) {
+        final String method = request.getMethod();
+        if (method == null) {
+            return Collections.emptySet();
+        }
+        final List<CompiledRequestMatcher> candidates = new ArrayList<>();
+        final PathIndex methodIndex = methodIndexes.get(method);
+        if (methodIndex != null) {
+            methodIndex.collect(request.getApiPath(), candidates);
+        }
+        anyMethodIndex.collect(request.getApiPath(), candidates);
+        Set<String> result = null;
+        for (CompiledRequestMatcher candidate : candidates) {
+            if (result != null && result.contains(candidate.getBusinessName())) {
+                continue;
+            }
+            if (candidate.match(request)) {
+                if (result == null) {
+                    result = new HashSet<>(DEFAULT_BUSINESS_SIZE);
+                }
+                result.add(candidate.getBusinessName());
+            }
+        }
+        return result == null ? Collections.emptySet() : result;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import io.sermant.flowcontrol.common.core.match.operator.Operator;
+import io.sermant.flowcontrol.common.core.match.operator.OperatorManager;
+import io.sermant.flowcontrol.common.entity.RequestEntity;
+import io.sermant.flowcontrol.common.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link RequestMatcher} with its operators resolved, checking the conditions left once the method and the indexed
+ * path condition are known to match
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class CompiledRequestMatcher {
+    private static final Condition[] NO_CONDITIONS = new Condition[0];
+
+    private final String businessName;
+
+    private final String serviceName;
+
+    private final String[] headerNames;
+
+    private final Condition[][] headerConditions;
+
+    private Condition[] pathConditions;
+
+    private CompiledRequestMatcher(String businessName, String serviceName, String[] headerNames,
+            Condition[][] headerConditions, Condition[] pathConditions) {
+        this.businessName = businessName;
+        this.serviceName = serviceName;
+        this.headerNames = headerNames;
+        this.headerConditions = headerConditions;
+        this.pathConditions = pathConditions;
+    }
+
+    /**
+     * Resolve the operators of the request matcher
+     *
+     * @param businessName service scenario name
+     * @param requestMatcher request matcher
+     * @return compiled matcher, null if it can never match, for an empty or unknown operator
+     */
+    static CompiledRequestMatcher compile(String businessName, RequestMatcher requestMatcher) {
+        final Map<String, RawOperator> headers = requestMatcher.getHeaders();
+        final int headerSize = headers == null ? 0 : headers.size();
+        final String[] headerNames = new String[headerSize];
+        final Condition[][] headerConditions = new Condition[headerSize][];
+        if (headers != null) {
+            int index = 0;
+            for (Map.Entry<String, RawOperator> entry : headers.entrySet()) {
+                headerNames[index] = entry.getKey();
+                headerConditions[index] = resolve(entry.getValue());
+                if (headerConditions[index] == null) {
+                    return null;
+                }
+                index++;
+            }
+        }
+        Condition[] pathConditions = NO_CONDITIONS;
+        if (requestMatcher.getApiPath() != null) {
+            pathConditions = resolve(requestMatcher.getApiPath());
+            if (pathConditions == null) {
+                return null;
+            }
+        }
+        return new CompiledRequestMatcher(businessName, requestMatcher.getServiceName(), headerNames,
+                headerConditions, pathConditions);
+    }
+
+    private static Condition[] resolve(RawOperator rawOperator) {
+        if (rawOperator == null || rawOperator.isEmpty()) {
+            return null;
+        }
+        final List<Condition> conditions = new ArrayList<>(rawOperator.size());
+        for (Map.Entry<String, String> entry : rawOperator.entrySet()) {
+            final Operator operator = OperatorManager.INSTANCE.getOperator(entry.getKey());
+            if (operator == null) {
+                // no relevant matcher, data error！
+                return null;
+            }
+            conditions.add(new Condition(operator, String.valueOf(entry.getValue())));
+        }
+        return conditions.toArray(NO_CONDITIONS);
+    }
+
+    String getBusinessName() {
+        return businessName;
+    }
+
+    Condition[] getPathConditions() {
+        return pathConditions;
+    }
+
+    /**
+     * Leave out the path condition checked by the index
+     *
+     * @param indexedCondition path condition the matcher is indexed by
+     */
+    void removePathCondition(Condition indexedCondition) {
+        final List<Condition> conditions = new ArrayList<>(pathConditions.length);
+        for (Condition condition : pathConditions) {
+            if (condition != indexedCondition) {
+                conditions.add(condition);
+            }
+        }
+        pathConditions = conditions.toArray(NO_CONDITIONS);
+    }
+
+    /**
+     * Check the service name, the headers and the path conditions not covered by the index
+     *
+     * @param request request information
+     * @return if it matches
+     */
+    boolean match(RequestEntity request) {
+        if (serviceName != null && !serviceName.equals(request.getServiceName())) {
+            return false;
+        }
+        if (headerNames.length > 0) {
+            final Map<String, String> headers = request.getHeaders();
+            for (int i = 0; i < headerNames.length; i++) {
+                final String headerValue = headers.get(headerNames[i]);
+                if (StringUtils.isEmpty(headerValue) || !match(headerValue, headerConditions[i])) {
+                    return false;
+                }
+            }
+        }
+        return match(request.getApiPath(), pathConditions);
+    }
+
+    private static boolean match(String target, Condition[] conditions) {
+        for (Condition condition : conditions) {
+            if (!condition.operator.match(target, condition.pattern)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * An operator with its pattern
+     *
+     * @since 2026-10-18
+     */
+    static final class Condition {
+        private final Operator operator;
+
+        private final String pattern;
+
+        Condition(Operator operator, String pattern) {
+            this.operator = operator;
+            this.pattern = pattern;
+        }
+
+        Operator getOperator() {
+            return operator;
+        }
+
+        String getPattern() {
+            return pattern;
+        }
+    }
+}
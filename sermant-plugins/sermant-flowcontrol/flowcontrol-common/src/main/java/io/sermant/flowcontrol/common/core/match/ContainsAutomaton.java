@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import io.sermant.flowcontrol.common.core.match.PatternTrie.Node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton of contained patterns, collecting the values of every pattern occurring in the target in one
+ * pass over the target. All patterns are added first, then the automaton is built once
+ *
+ * @param <V> value type
+ * @author agent
+ * @since 2026-10-18
+ */
+final class ContainsAutomaton<V> {
+    private final Node<V> root = new Node<>();
+
+    private boolean isEmpty = true;
+
+    /**
+     * Add a pattern
+     *
+     * @param pattern contained pattern
+     * @param value value of the pattern
+     */
+    void add(String pattern, V value) {
+        Node<V> node = root;
+        for (int i = 0; i < pattern.length(); i++) {
+            node = node.getOrAddChild(pattern.charAt(i));
+        }
+        if (node.values == null) {
+            node.values = new ArrayList<>(1);
+        }
+        node.values.add(value);
+        isEmpty = false;
+    }
+
+    /**
+     * Link every node to the node of its longest proper suffix in the trie, and to the nearest such node ending a
+     * pattern, breadth first. The empty pattern is left out of the output links, it is collected once per target
+     */
+    void build() {
+        final Queue<Node<V>> queue = new ArrayDeque<>();
+        root.failure = root;
+        for (Node<V> child : root.children) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final Node<V> node = queue.poll();
+            for (int i = 0; i < node.labels.length; i++) {
+                final Node<V> child = node.children[i];
+                queue.add(child);
+                Node<V> failure = node.failure;
+                Node<V> next = failure.getChild(node.labels[i]);
+                while (next == null && failure != root) {
+                    failure = failure.failure;
+                    next = failure.getChild(node.labels[i]);
+                }
+                if (next == null) {
+                    child.failure = root;
+                    continue;
+                }
+                child.failure = next;
+                child.output = next.values == null ? next.output : next;
+            }
+        }
+    }
+
+    /**
+     * Collect the values of the patterns contained in the target, a pattern occurring several times is collected as
+     * many times
+     *
+     * @param target target, null contains no pattern
+     * @param out collected values
+     */
+    void collect(String target, List<V> out) {
+        if (target == null || isEmpty) {
+            return;
+        }
+        if (root.values != null) {
+            out.addAll(root.values);
+        }
+        Node<V> state = root;
+        for (int i = 0; i < target.length(); i++) {
+            final char label = target.charAt(i);
+            Node<V> next = state.getChild(label);
+            while (next == null && state != root) {
+                state = state.failure;
+                next = state.getChild(label);
+            }
+            if (next == null) {
+                continue;
+            }
+            state = next;
+            for (Node<V> node = state.values == null ? state.output : state; node != null; node = node.output) {
+                out.addAll(node.values);
+            }
+        }
+    }
+}
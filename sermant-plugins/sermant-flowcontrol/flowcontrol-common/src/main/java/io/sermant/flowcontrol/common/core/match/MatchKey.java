@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Cache key of the matched service scenarios of a request, the request projected on the attributes the scenarios
+ * reference. The hash is computed once, and keys of different projections are never equal, so results matched before
+ * a rule update can not be hit after it
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class MatchKey {
+    private final MatchProjection projection;
+
+    private final String businessName;
+
+    private final String method;
+
+    private final String apiPath;
+
+    private final String serviceName;
+
+    private final String[] headerValues;
+
+    private final int hash;
+
+    /**
+     * Constructor
+     *
+     * @param projection projection the key was built with
+     * @param businessName service scenario name, null for all scenarios
+     * @param method projected method
+     * @param apiPath projected path
+     * @param serviceName projected service name
+     * @param headerValues values of the referenced headers in the order of the projection
+     */
+    MatchKey(MatchProjection projection, String businessName, String method, String apiPath, String serviceName,
+            String[] headerValues) {
+        this.projection = projection;
+        this.businessName = businessName;
+        this.method = method;
+        this.apiPath = apiPath;
+        this.serviceName = serviceName;
+        this.headerValues = headerValues;
+        int result = System.identityHashCode(projection);
+        result = 31 * result + Objects.hashCode(businessName);
+        result = 31 * result + Objects.hashCode(method);
+        result = 31 * result + Objects.hashCode(apiPath);
+        result = 31 * result + Objects.hashCode(serviceName);
+        this.hash = 31 * result + Arrays.hashCode(headerValues);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MatchKey)) {
+            return false;
+        }
+        final MatchKey that = (MatchKey) obj;
+        return hash == that.hash && projection == that.projection && Objects.equals(businessName, that.businessName)
+                && Objects.equals(method, that.method) && Objects.equals(apiPath, that.apiPath)
+                && Objects.equals(serviceName, that.serviceName) && Arrays.equals(headerValues, that.headerValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
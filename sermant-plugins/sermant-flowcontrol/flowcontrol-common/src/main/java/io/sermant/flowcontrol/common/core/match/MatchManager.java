@@ -39,10 +39,19 @@ public enum MatchManager {
 
     private static final int DEFAULT_BUSINESS_SIZE = 4;
 
-    private final MatchedCache matchedCache = new MatchedCache();
+    private final MatchedCache matchedCache;
 
     private MatchGroupResolver matchGroupResolver;
 
+    private volatile CompiledMatchGroup compiledMatchGroup;
+
+    MatchManager() {
+        // Recompile before the matched cache is refreshed by its own listener
+        ResolverManager.INSTANCE.registerListener(MatchGroupResolver.CONFIG_KEY,
+                (updateKey, rules) -> compileMatchGroup());
+        matchedCache = new MatchedCache();
+    }
+
     /**
      * matches all service scenarios
      *
@@ -61,12 +70,13 @@ public enum MatchManager {
      * @return matching service scenarios
      */
     public Set<String> matchWithCache(RequestEntity request, String businessName) {
-        final Set<String> businesses = matchedCache.getDelegate().get(request);
+        final MatchKey key = matchedCache.createKey(request, businessName);
+        final Set<String> businesses = matchedCache.getDelegate().get(key);
         if (businesses != null) {
             return businesses;
         }
         final Set<String> result = match(request, businessName);
-        matchedCache.getDelegate().put(request, result);
+        matchedCache.getDelegate().put(key, result);
         return result;
     }
 
@@ -78,6 +88,10 @@ public enum MatchManager {
      * @return matching service scenarios
      */
     public Set<String> match(RequestEntity request, String businessName) {
+        if (businessName == null) {
+            return matchAll(request);
+        }
+
         // matchingRule
         final Map<String, BusinessMatcher> matchGroups = getMatchGroups(businessName);
         final Set<String> result = new HashSet<>(DEFAULT_BUSINESS_SIZE);
@@ -94,11 +108,26 @@ public enum MatchManager {
         return result.isEmpty() ? Collections.emptySet() : result;
     }
 
+    private Set<String> matchAll(RequestEntity request) {
+        CompiledMatchGroup matchGroup = compiledMatchGroup;
+        if (matchGroup == null) {
+            matchGroup = compileMatchGroup();
+        }
+        final Set<String> result = matchGroup.match(request);
+
+        // resourceName（service scenario name）
+        result.removeIf(business -> !ResolverManager.INSTANCE.hasMatchedRule(business));
+        return result.isEmpty() ? Collections.emptySet() : result;
+    }
+
+    private CompiledMatchGroup compileMatchGroup() {
+        final CompiledMatchGroup matchGroup = CompiledMatchGroup.compile(getMatchGroupResolver().getRules().values());
+        compiledMatchGroup = matchGroup;
+        return matchGroup;
+    }
+
     private Map<String, BusinessMatcher> getMatchGroups(String businessName) {
         final Map<String, BusinessMatcher> matchGroups = getMatchGroupResolver().getRules();
-        if (businessName == null) {
-            return matchGroups;
-        }
         final BusinessMatcher businessMatcher = matchGroups.get(businessName);
         if (businessMatcher == null) {
             return Collections.emptyMap();
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import io.sermant.flowcontrol.common.entity.RequestEntity;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The request attributes referenced by the service scenarios, computed when the scenarios are loaded. Requests are
+ * cached by their projection on these attributes only, so that headers no scenario looks at, such as trace or request
+ * ids, do not make every request a distinct cache key
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class MatchProjection {
+    /**
+     * Stands for any non-null method when no scenario matches methods, scenarios still never match a request without
+     * method
+     */
+    private static final String ANY_METHOD = "";
+
+    private final String[] headerNames;
+
+    private final boolean isApiPathReferenced;
+
+    private final boolean isMethodReferenced;
+
+    private final boolean isServiceNameReferenced;
+
+    private MatchProjection(String[] headerNames, boolean isApiPathReferenced, boolean isMethodReferenced,
+            boolean isServiceNameReferenced) {
+        this.headerNames = headerNames;
+        this.isApiPathReferenced = isApiPathReferenced;
+        this.isMethodReferenced = isMethodReferenced;
+        this.isServiceNameReferenced = isServiceNameReferenced;
+    }
+
+    /**
+     * Compute the projection of the service scenarios
+     *
+     * @param businessMatchers service scenarios
+     * @return projection
+     */
+    static MatchProjection compile(Collection<BusinessMatcher> businessMatchers) {
+        final TreeSet<String> headerNames = new TreeSet<>();
+        boolean isApiPathReferenced = false;
+        boolean isMethodReferenced = false;
+        boolean isServiceNameReferenced = false;
+        for (BusinessMatcher businessMatcher : businessMatchers) {
+            if (businessMatcher.getMatches() == null) {
+                continue;
+            }
+            for (RequestMatcher requestMatcher : businessMatcher.getMatches()) {
+                if (requestMatcher.getHeaders() != null) {
+                    headerNames.addAll(requestMatcher.getHeaders().keySet());
+                }
+                isApiPathReferenced |= requestMatcher.getApiPath() != null;
+                isMethodReferenced |= requestMatcher.getMethod() != null;
+                isServiceNameReferenced |= requestMatcher.getServiceName() != null;
+            }
+        }
+        return new MatchProjection(headerNames.toArray(new String[0]), isApiPathReferenced, isMethodReferenced,
+                isServiceNameReferenced);
+    }
+
+    /**
+     * Project the request on the referenced attributes
+     *
+     * @param request request information
+     * @param businessName service scenario name, null for all scenarios
+     * @return cache key of the request
+     */
+    MatchKey project(RequestEntity request, String businessName) {
+        final String[] headerValues = new String[headerNames.length];
+        final Map<String, String> headers = request.getHeaders();
+        if (headers != null) {
+            for (int i = 0; i < headerNames.length; i++) {
+                headerValues[i] = headers.get(headerNames[i]);
+            }
+        }
+        final String method = request.getMethod();
+        return new MatchKey(this, businessName, isMethodReferenced || method == null ? method : ANY_METHOD,
+                isApiPathReferenced ? request.getApiPath() : null,
+                isServiceNameReferenced ? request.getServiceName() : null, headerValues);
+    }
+}
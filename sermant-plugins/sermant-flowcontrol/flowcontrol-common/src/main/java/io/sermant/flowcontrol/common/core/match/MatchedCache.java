@@ -27,21 +27,22 @@ import io.sermant.flowcontrol.common.core.resolver.AbstractResolver;
 import io.sermant.flowcontrol.common.core.resolver.listener.ConfigUpdateListener;
 import io.sermant.flowcontrol.common.entity.RequestEntity;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.Collections;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 /**
- * matching cache, cache the request body that already matches
+ * matching cache, cache the request body that already matches. Requests are keyed by their projection on the headers,
+ * path, method and service name the service scenarios reference, recomputed whenever a rule is updated
  *
  * @author zhouss
  * @since 2022-07-21
  */
 public class MatchedCache {
-    private volatile Cache<RequestEntity, Set<String>> cache;
+    private volatile Cache<MatchKey, Set<String>> cache;
+
+    private volatile MatchProjection projection;
 
     /**
      * constructor
@@ -59,7 +60,7 @@ public class MatchedCache {
      *
      * @return Cache
      */
-    public Cache<RequestEntity, Set<String>> getDelegate() {
+    public Cache<MatchKey, Set<String>> getDelegate() {
         if (cache != null) {
             return cache;
         }
@@ -73,6 +74,30 @@ public class MatchedCache {
         return cache;
     }
 
+    /**
+     * Create the cache key of the request
+     *
+     * @param request request information
+     * @param businessName service scenario name, null for all scenarios
+     * @return cache key
+     */
+    public MatchKey createKey(RequestEntity request, String businessName) {
+        MatchProjection curProjection = projection;
+        if (curProjection == null) {
+            curProjection = compileProjection();
+        }
+        return curProjection.project(request, businessName);
+    }
+
+    private MatchProjection compileProjection() {
+        final MatchGroupResolver resolver = ResolverManager.INSTANCE.getResolver(MatchGroupResolver.CONFIG_KEY);
+        final Collection<BusinessMatcher> businessMatchers = resolver == null ? Collections.emptyList()
+                : resolver.getRules().values();
+        final MatchProjection newProjection = MatchProjection.compile(businessMatchers);
+        projection = newProjection;
+        return newProjection;
+    }
+
     /**
      * release resource
      */
@@ -83,37 +108,18 @@ public class MatchedCache {
     }
 
     /**
-     * cache listeners that listen for all policy changes
+     * cache listeners that listen for all policy changes, the referenced attributes may have changed and so may the
+     * matched scenarios, the projection is recomputed and the keys of the former one are dropped
      *
      * @since 2022-07-21
      */
     class CacheListener implements ConfigUpdateListener {
         @Override
         public void notify(String updateKey, Map rules) {
-            if (cache == null) {
-                return;
-            }
-            final Object cacheTarget = cache.getCacheTarget();
-            if (!(cacheTarget instanceof Map)) {
-                return;
-            }
-            Map<RequestEntity, Set<String>> curCache = (Map<RequestEntity, Set<String>>) cacheTarget;
-            updateAllBusinessCache(curCache);
-        }
-
-        private void updateAllBusinessCache(Map<RequestEntity, Set<String>> curCache) {
-            final List<RequestEntity> needRemoveEntity = new ArrayList<>();
-            for (Entry<RequestEntity, Set<String>> entry : curCache.entrySet()) {
-                final RequestEntity requestEntity = entry.getKey();
-                final Set<String> match = MatchManager.INSTANCE.match(requestEntity, null);
-                if (!match.isEmpty()) {
-                    cache.put(requestEntity, match);
-                } else {
-                    needRemoveEntity.add(entry.getKey());
-                }
+            compileProjection();
+            if (cache != null) {
+                cache.clear();
             }
-            needRemoveEntity.forEach(requestEntity -> cache.evict(requestEntity));
-            needRemoveEntity.clear();
         }
     }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import io.sermant.flowcontrol.common.core.match.CompiledRequestMatcher.Condition;
+import io.sermant.flowcontrol.common.core.match.operator.ContainsOperator;
+import io.sermant.flowcontrol.common.core.match.operator.ExactOperator;
+import io.sermant.flowcontrol.common.core.match.operator.PrefixOperator;
+import io.sermant.flowcontrol.common.core.match.operator.SuffixOperator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request matchers indexed by one of their path conditions: exact paths in a hash map, prefixes and suffixes in tries
+ * and contained patterns in an Aho-Corasick automaton. Matchers without indexable path condition are always candidates
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class PathIndex {
+    private final Map<String, List<CompiledRequestMatcher>> exactPaths = new HashMap<>();
+
+    private final PatternTrie<CompiledRequestMatcher> prefixes = new PatternTrie<>(false);
+
+    private final PatternTrie<CompiledRequestMatcher> suffixes = new PatternTrie<>(true);
+
+    private final ContainsAutomaton<CompiledRequestMatcher> containedPatterns = new ContainsAutomaton<>();
+
+    private final List<CompiledRequestMatcher> anyPath = new ArrayList<>();
+
+    /**
+     * Choose the path condition to index a matcher by, the most selective one
+     *
+     * @param pathConditions path conditions of the matcher
+     * @return indexed condition, null if none can be indexed
+     */
+    static Condition selectIndexedCondition(Condition[] pathConditions) {
+        Condition selected = null;
+        int selectedRank = Integer.MAX_VALUE;
+        for (Condition condition : pathConditions) {
+            final int rank = rank(condition);
+            if (rank < selectedRank) {
+                selected = condition;
+                selectedRank = rank;
+            }
+        }
+        return selected;
+    }
+
+    private static int rank(Condition condition) {
+        if (condition.getOperator() instanceof ExactOperator) {
+            return 0;
+        }
+        if (condition.getOperator() instanceof PrefixOperator) {
+            return 1;
+        }
+        if (condition.getOperator() instanceof SuffixOperator) {
+            return 2;
+        }
+        if (condition.getOperator() instanceof ContainsOperator) {
+            return 3;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Add a matcher
+     *
+     * @param matcher compiled request matcher
+     * @param indexedCondition condition to index the matcher by, null to make it a candidate of every path
+     */
+    void add(CompiledRequestMatcher matcher, Condition indexedCondition) {
+        if (indexedCondition == null) {
+            anyPath.add(matcher);
+            return;
+        }
+        final Object operator = indexedCondition.getOperator();
+        final String pattern = indexedCondition.getPattern();
+        if (operator instanceof ExactOperator) {
+            exactPaths.computeIfAbsent(pattern, key -> new ArrayList<>(1)).add(matcher);
+        } else if (operator instanceof PrefixOperator) {
+            prefixes.add(pattern, matcher);
+        } else if (operator instanceof SuffixOperator) {
+            suffixes.add(pattern, matcher);
+        } else {
+            containedPatterns.add(pattern, matcher);
+        }
+    }
+
+    /**
+     * Build the index once all matchers are added
+     */
+    void build() {
+        containedPatterns.build();
+    }
+
+    /**
+     * Collect the matchers whose indexed path condition matches
+     *
+     * @param path request path
+     * @param out candidate matchers
+     */
+    void collect(String path, List<CompiledRequestMatcher> out) {
+        if (path != null) {
+            final List<CompiledRequestMatcher> exactMatchers = exactPaths.get(path);
+            if (exactMatchers != null) {
+                out.addAll(exactMatchers);
+            }
+            prefixes.collect(path, out);
+            suffixes.collect(path, out);
+            containedPatterns.collect(path, out);
+        }
+        out.addAll(anyPath);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Trie of prefix patterns, or of suffix patterns when reversed, collecting the values of every pattern the target
+ * starts (ends) with in one walk along the target
+ *
+ * @param <V> value type
+ * @author agent
+ * @since 2026-10-18
+ */
+final class PatternTrie<V> {
+    private final boolean isReversed;
+
+    private final Node<V> root = new Node<>();
+
+    private boolean isEmpty = true;
+
+    /**
+     * Constructor
+     *
+     * @param isReversed whether patterns are suffixes, walked from the end of the target
+     */
+    PatternTrie(boolean isReversed) {
+        this.isReversed = isReversed;
+    }
+
+    /**
+     * Add a pattern
+     *
+     * @param pattern prefix or suffix
+     * @param value value of the pattern
+     */
+    void add(String pattern, V value) {
+        Node<V> node = root;
+        final int length = pattern.length();
+        for (int i = 0; i < length; i++) {
+            node = node.getOrAddChild(pattern.charAt(isReversed ? length - 1 - i : i));
+        }
+        if (node.values == null) {
+            node.values = new ArrayList<>(1);
+        }
+        node.values.add(value);
+        isEmpty = false;
+    }
+
+    /**
+     * Collect the values of the patterns matching the target
+     *
+     * @param target target, null matches no pattern
+     * @param out collected values
+     */
+    void collect(String target, List<V> out) {
+        if (target == null || isEmpty) {
+            return;
+        }
+        Node<V> node = root;
+        final int length = target.length();
+        for (int i = 0; ; i++) {
+            if (node.values != null) {
+                out.addAll(node.values);
+            }
+            if (i == length) {
+                return;
+            }
+            node = node.getChild(target.charAt(isReversed ? length - 1 - i : i));
+            if (node == null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Trie node, children are looked up by binary search over the sorted labels. The failure and output links are only
+     * set in the nodes of a {@link ContainsAutomaton}
+     *
+     * @param <V> value type
+     * @since 2026-10-18
+     */
+    static final class Node<V> {
+        private static final char[] NO_LABELS = new char[0];
+
+        char[] labels = NO_LABELS;
+
+        Node<V>[] children = newChildren(0);
+
+        List<V> values;
+
+        Node<V> failure;
+
+        Node<V> output;
+
+        Node<V> getChild(char label) {
+            final int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+
+        Node<V> getOrAddChild(char label) {
+            final int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            final int insertion = -index - 1;
+            final char[] newLabels = new char[labels.length + 1];
+            final Node<V>[] newChildren = newChildren(labels.length + 1);
+            System.arraycopy(labels, 0, newLabels, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            System.arraycopy(labels, insertion, newLabels, insertion + 1, labels.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, labels.length - insertion);
+            final Node<V> child = new Node<>();
+            newLabels[insertion] = label;
+            newChildren[insertion] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] newChildren(int size) {
+            return (Node<V>[]) new Node[size];
+        }
+    }
+}
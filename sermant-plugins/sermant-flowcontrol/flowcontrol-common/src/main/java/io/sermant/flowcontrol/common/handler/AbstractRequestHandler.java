@@ -22,28 +22,45 @@ import io.sermant.flowcontrol.common.core.match.MatchManager;
 import io.sermant.flowcontrol.common.core.resolver.AbstractResolver;
 import io.sermant.flowcontrol.common.entity.RequestEntity;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * interceptRequestHandler
  *
+ * <p>Handlers are kept per business scenario. When the rule of a scenario changes, the existing handler is offered to
+ * {@link #updateHandler(String, Object, Object)} first so that a threshold change keeps the collected state (circuit
+ * breaker statistics, rate limiter permits), only handlers that cannot be reconfigured are dropped and recreated. The
+ * handler list of a matched scenario set is computed once and reused until the next rule change</p>
+ *
  * @param <H> processor indicates resilience4j processors
  * @param <R> resolver analytic rule
  * @author zhouss
  * @since 2022-01-22
  */
 public abstract class AbstractRequestHandler<H, R> {
+    /**
+     * Maximum number of cached scenario sets, the cache is cleared when exceeded
+     */
+    private static final int MAX_HANDLER_LIST_CACHE_SIZE = 1024;
+
     /**
      * Handler cache
      */
     private final Map<String, Optional<H>> handlers = new ConcurrentHashMap<>();
 
+    /**
+     * Handler lists by matched scenario set, replaced as a whole on rule change so that a list computed from the
+     * handlers before the change can never be cached after it
+     */
+    private volatile Map<Set<String>, List<H>> handlerListCache = new ConcurrentHashMap<>();
+
     /**
      * construction method
      */
@@ -52,7 +69,18 @@ public abstract class AbstractRequestHandler<H, R> {
     }
 
     private void registerConfigListener() {
-        ResolverManager.INSTANCE.registerListener(configKey(), (updateKey, rules) -> handlers.remove(updateKey));
+        ResolverManager.INSTANCE.registerListener(configKey(),
+                (updateKey, rules) -> onRuleUpdated(updateKey, (R) rules.get(updateKey)));
+    }
+
+    private void onRuleUpdated(String businessName, R rule) {
+        handlers.computeIfPresent(businessName, (name, handler) -> {
+            if (rule == null || !handler.isPresent()) {
+                return null;
+            }
+            return updateHandler(name, handler.get(), rule) ? handler : null;
+        });
+        handlerListCache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -76,11 +104,31 @@ public abstract class AbstractRequestHandler<H, R> {
      * @return handler
      */
     public List<H> createOrGetHandlers(Set<String> businessNames) {
-        return businessNames.stream()
-                .map(businessName -> handlers.computeIfAbsent(businessName, fn -> create(businessName)))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        if (businessNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<Set<String>, List<H>> cache = handlerListCache;
+        List<H> handlerList = cache.get(businessNames);
+        if (handlerList != null) {
+            return handlerList;
+        }
+        handlerList = buildHandlers(businessNames);
+        if (cache.size() >= MAX_HANDLER_LIST_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.putIfAbsent(new HashSet<>(businessNames), handlerList);
+        return handlerList;
+    }
+
+    private List<H> buildHandlers(Set<String> businessNames) {
+        final List<H> result = new ArrayList<>(businessNames.size());
+        for (String businessName : businessNames) {
+            handlers.computeIfAbsent(businessName, this::create).ifPresent(result::add);
+        }
+        if (result.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(result);
     }
 
     private Optional<H> create(String businessName) {
@@ -101,6 +149,19 @@ public abstract class AbstractRequestHandler<H, R> {
      */
     protected abstract Optional<H> createHandler(String businessName, R rule);
 
+    /**
+     * Apply an updated rule to an existing handler in place
+     *
+     * @param businessName service scenario name
+     * @param handler handler created from the previous rule
+     * @param rule updated rule
+     * @return true if the handler has been reconfigured and is kept, false to drop it and create a new one from the
+     * updated rule on next request
+     */
+    protected boolean updateHandler(String businessName, H handler, R rule) {
+        return false;
+    }
+
     /**
      * get configuration key
      *
@@ -16,7 +16,8 @@
 
 package io.sermant.flowcontrol.common.util;
 
-import io.sermant.core.utils.ReflectUtils;
+import io.sermant.core.utils.FieldAccessor;
+import io.sermant.core.utils.MethodAccessor;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,9 +35,13 @@ public class DubboAttachmentsHelper {
 
     private static final String ALIBABA_RPC_CONTEXT = "com.alibaba.dubbo.rpc.RpcContext";
 
-    private static final String ATTACHMENTS_FIELD = "attachments";
+    private static final FieldAccessor ATTACHMENTS = FieldAccessor.of("attachments");
 
-    private static final String GET_CONTEXT_METHOD = "getContext";
+    private static final MethodAccessor GET_CONTEXT = MethodAccessor.of("getContext");
+
+    private static final ContextClass APACHE_CONTEXT_CLASS = new ContextClass(APACHE_RPC_CONTEXT);
+
+    private static final ContextClass ALIBABA_CONTEXT_CLASS = new ContextClass(ALIBABA_RPC_CONTEXT);
 
     private DubboAttachmentsHelper() {
     }
@@ -53,28 +58,47 @@ public class DubboAttachmentsHelper {
             return Collections.emptyMap();
         }
         final Map<String, String> attachments = new HashMap<>();
-        if (isApache) {
-            attachments.putAll(getAttachmentsFromContext(APACHE_RPC_CONTEXT));
-        } else {
-            attachments.putAll(getAttachmentsFromContext(ALIBABA_RPC_CONTEXT));
-        }
-        final Optional<Object> fieldValue = ReflectUtils.getFieldValue(invocation, ATTACHMENTS_FIELD);
-        if (fieldValue.isPresent() && fieldValue.get() instanceof Map) {
-            attachments.putAll((Map<String, String>) fieldValue.get());
+        final ContextClass contextClass = isApache ? APACHE_CONTEXT_CLASS : ALIBABA_CONTEXT_CLASS;
+        attachments.putAll(getAttachmentsFromContext(contextClass.get(invocation.getClass())));
+        final Object fieldValue = ATTACHMENTS.get(invocation);
+        if (fieldValue instanceof Map) {
+            attachments.putAll((Map<String, String>) fieldValue);
         }
         return Collections.unmodifiableMap(attachments);
     }
 
-    private static Map<String, String> getAttachmentsFromContext(String contextClazz) {
-        final Optional<Object> context = ReflectUtils.invokeMethod(contextClazz, GET_CONTEXT_METHOD, null,
-                null);
-        if (!context.isPresent()) {
+    private static Map<String, String> getAttachmentsFromContext(Optional<Class<?>> contextClass) {
+        if (!contextClass.isPresent()) {
             return Collections.emptyMap();
         }
-        final Optional<Object> attachments = ReflectUtils.getFieldValue(context.get(), ATTACHMENTS_FIELD);
-        if (attachments.isPresent() && attachments.get() instanceof Map) {
-            return (Map<String, String>) attachments.get();
+        final Object attachments = ATTACHMENTS.get(GET_CONTEXT.invokeStatic(contextClass.get()));
+        if (attachments instanceof Map) {
+            return (Map<String, String>) attachments;
         }
         return Collections.emptyMap();
     }
+
+    /**
+     * RpcContext class seen by the class loader of an invocation class
+     *
+     * @since 2026-10-18
+     */
+    private static class ContextClass extends ClassValue<Optional<Class<?>>> {
+        private final String className;
+
+        ContextClass(String className) {
+            this.className = className;
+        }
+
+        @Override
+        protected Optional<Class<?>> computeValue(Class<?> type) {
+            final ClassLoader classLoader = type.getClassLoader() == null
+                    ? Thread.currentThread().getContextClassLoader() : type.getClassLoader();
+            try {
+                return Optional.of(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException ignored) {
+                return Optional.empty();
+            }
+        }
+    }
 }
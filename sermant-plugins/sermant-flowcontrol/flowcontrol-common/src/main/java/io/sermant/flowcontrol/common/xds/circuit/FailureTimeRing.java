@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.xds.circuit;
+
+import io.sermant.core.common.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * Failure times of one kind of failure of an instance. Each failure takes the next sequence of an atomic counter and
+ * writes its time in milliseconds to the slot of that sequence in a ring of primitive longs, so recording never locks
+ * or allocates. The ring holds at least as many times as the failure threshold, the threshold failures are reached
+ * within the interval when the time of the threshold-th last failure is in the interval. Thresholds above 65536 are
+ * capped to it with a warning. A failure whose time is not written yet reads as an older time, which only delays the
+ * check to the next failure
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class FailureTimeRing {
+    /**
+     * Maximum number of failure times held, larger thresholds are capped to it
+     */
+    static final int MAX_CAPACITY = 1 << 16;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * The last capped threshold that was reported, so that a rule is reported once rather than on every failure
+     */
+    private static volatile int reportedThreshold;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicReference<AtomicLongArray> times =
+            new AtomicReference<>(new AtomicLongArray(MIN_CAPACITY));
+
+    /**
+     * Failures before this sequence are discarded
+     */
+    private volatile long resetSequence;
+
+    /**
+     * Record a failure
+     *
+     * @param failureThreshold failure threshold of the rule, failures are not recorded when it is not positive
+     * @param currentTime failure time in milliseconds
+     */
+    public void record(int failureThreshold, long currentTime) {
+        if (failureThreshold <= 0) {
+            return;
+        }
+        AtomicLongArray ring = ensureCapacity(failureThreshold);
+        long current = sequence.getAndIncrement();
+        ring.set((int) current & (ring.length() - 1), currentTime);
+    }
+
+    /**
+     * Whether the threshold failures are reached within the interval
+     *
+     * @param failureThreshold failure threshold
+     * @param interval interval in milliseconds
+     * @param currentTime current time in milliseconds
+     * @return reached or not
+     */
+    public boolean isReached(int failureThreshold, long interval, long currentTime) {
+        if (failureThreshold <= 0) {
+            return false;
+        }
+        int threshold = Math.min(failureThreshold, MAX_CAPACITY);
+        long current = sequence.get();
+        if (current - resetSequence < threshold) {
+            return false;
+        }
+        AtomicLongArray ring = times.get();
+        if (ring.length() < threshold) {
+            return false;
+        }
+        long time = ring.get((int) (current - threshold) & (ring.length() - 1));
+        return currentTime - time <= interval;
+    }
+
+    /**
+     * Number of the failures recorded since the last reset
+     *
+     * @return failure count
+     */
+    public long getFailureCount() {
+        return sequence.get() - resetSequence;
+    }
+
+    /**
+     * Discard the recorded failures
+     */
+    public void reset() {
+        resetSequence = sequence.get();
+    }
+
+    /**
+     * Grow the ring to hold the threshold failures, rules rarely change, so the ring is replaced only when the
+     * threshold is raised. The recorded times are copied to the new ring, a failure recorded concurrently with the
+     * copy may be lost
+     *
+     * @param failureThreshold failure threshold
+     * @return ring
+     */
+    private AtomicLongArray ensureCapacity(int failureThreshold) {
+        if (failureThreshold > MAX_CAPACITY && failureThreshold != reportedThreshold) {
+            reportedThreshold = failureThreshold;
+            LOGGER.warning(String.format(Locale.ENGLISH, "The consecutive failure threshold %d of the instance "
+                    + "circuit breaker exceeds the maximum %d, %d is used instead.", failureThreshold, MAX_CAPACITY,
+                    MAX_CAPACITY));
+        }
+        AtomicLongArray ring = times.get();
+        int capacity = Math.min(failureThreshold, MAX_CAPACITY);
+        if (ring.length() >= capacity) {
+            return ring;
+        }
+        int newCapacity = Integer.highestOneBit(capacity - 1) << 1;
+        AtomicLongArray newRing = new AtomicLongArray(newCapacity);
+        long current = sequence.get();
+        for (long i = Math.max(current - ring.length(), 0L); i < current; i++) {
+            newRing.set((int) i & (newCapacity - 1), ring.get((int) i & (ring.length() - 1)));
+        }
+        return times.compareAndSet(ring, newRing) ? newRing : times.get();
+    }
+}
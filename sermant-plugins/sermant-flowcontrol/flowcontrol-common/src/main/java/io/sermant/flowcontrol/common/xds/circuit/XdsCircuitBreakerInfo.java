@@ -16,111 +16,107 @@
 
 package io.sermant.flowcontrol.common.xds.circuit;
 
-import java.util.Deque;
-import java.util.LinkedList;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Circuit Breaker information
+ * Circuit Breaker information of an instance. The failures of each kind are kept in a {@link FailureTimeRing}. The
+ * ejection state is one long updated with CAS, the low 44 bits hold the end time of the circuit breaker in
+ * milliseconds and the high 20 bits the number of circuit breakers, so that the instance is ejected once by one of
+ * the threads that see the threshold reached
  *
  * @author zhp
  * @since 2024-12-02
  */
 public class XdsCircuitBreakerInfo {
     /**
-     * Number of local failures
+     * Maximum number of circuit breakers counted, the count stays at the maximum once reached
      */
-    private Deque<Long> localFailure;
+    public static final int MAX_CIRCUIT_BREAKER_COUNT = (1 << 20) - 1;
 
-    /**
-     * Number of gateway errors, Response status code 502,503,504 is gateway error
-     */
-    private Deque<Long> gateWayFailure;
+    private static final int COUNT_SHIFT = 44;
 
-    /**
-     * The number of server errors
-     */
-    private Deque<Long> serverFailure;
+    private static final long END_TIME_MASK = (1L << COUNT_SHIFT) - 1;
 
     /**
-     * Identification of whether the circuit breaker is open or not
+     * Number of local failures
      */
-    private boolean isOpen;
+    private final FailureTimeRing localFailure = new FailureTimeRing();
 
     /**
-     * End time of circuit breaker
+     * Number of gateway errors, Response status code 502,503,504 is gateway error
      */
-    private long circuitBreakerEndTime;
+    private final FailureTimeRing gateWayFailure = new FailureTimeRing();
 
     /**
-     * Number of circuit breakers
+     * The number of server errors
      */
-    private AtomicInteger circuitBreakerCount;
+    private final FailureTimeRing serverFailure = new FailureTimeRing();
 
     /**
-     * Constructor
+     * Number of circuit breakers and end time of circuit breaker
      */
-    public XdsCircuitBreakerInfo() {
-        this.localFailure = new LinkedList<>();
-        this.gateWayFailure = new LinkedList<>();
-        this.serverFailure = new LinkedList<>();
-        this.circuitBreakerCount = new AtomicInteger(0);
-    }
+    private final AtomicLong ejectionState = new AtomicLong();
 
-    public Deque<Long> getLocalFailure() {
+    public FailureTimeRing getLocalFailure() {
         return localFailure;
     }
 
-    public void setLocalFailure(Deque<Long> localFailure) {
-        this.localFailure = localFailure;
-    }
-
-    public Deque<Long> getGateWayFailure() {
+    public FailureTimeRing getGateWayFailure() {
         return gateWayFailure;
     }
 
-    public void setGateWayFailure(Deque<Long> gateWayFailure) {
-        this.gateWayFailure = gateWayFailure;
-    }
-
-    public Deque<Long> getServerFailure() {
+    public FailureTimeRing getServerFailure() {
         return serverFailure;
     }
 
-    public void setServerFailure(Deque<Long> serverFailure) {
-        this.serverFailure = serverFailure;
-    }
-
-    public boolean isOpen() {
-        return isOpen;
+    /**
+     * Whether the circuit breaker is open at the specified time
+     *
+     * @param currentTime current time in milliseconds
+     * @return open or not
+     */
+    public boolean isOpen(long currentTime) {
+        return getCircuitBreakerEndTime() > currentTime;
     }
 
-    public void setOpen(boolean open) {
-        isOpen = open;
+    /**
+     * Open the circuit breaker unless it is already open, the circuit breaker is open for the number of circuit
+     * breakers multiplied by the interval, and the recorded failures are discarded
+     *
+     * @param interval interval in milliseconds
+     * @param currentTime current time in milliseconds
+     * @return whether this call opened the circuit breaker
+     */
+    public boolean tryOpen(long interval, long currentTime) {
+        while (true) {
+            long current = ejectionState.get();
+            if ((current & END_TIME_MASK) > currentTime) {
+                return false;
+            }
+            long count = Math.min((current >>> COUNT_SHIFT) + 1, MAX_CIRCUIT_BREAKER_COUNT);
+            long duration = interval <= 0 ? 0L : Math.min(interval, END_TIME_MASK / count) * count;
+            long endTime = Math.min(currentTime + duration, END_TIME_MASK);
+            if (ejectionState.compareAndSet(current, (count << COUNT_SHIFT) | endTime)) {
+                cleanRequestData();
+                return true;
+            }
+        }
     }
 
     public long getCircuitBreakerEndTime() {
-        return circuitBreakerEndTime;
-    }
-
-    public void setCircuitBreakerEndTime(long circuitBreakerEndTime) {
-        this.circuitBreakerEndTime = circuitBreakerEndTime;
-    }
-
-    public AtomicInteger getCircuitBreakerCount() {
-        return circuitBreakerCount;
+        return ejectionState.get() & END_TIME_MASK;
     }
 
-    public void setCircuitBreakerCount(AtomicInteger circuitBreakerCount) {
-        this.circuitBreakerCount = circuitBreakerCount;
+    public int getCircuitBreakerCount() {
+        return (int) (ejectionState.get() >>> COUNT_SHIFT);
     }
 
     /**
      * reset the data
      */
     public void cleanRequestData() {
-        this.localFailure.clear();
-        this.gateWayFailure.clear();
-        this.serverFailure.clear();
+        this.localFailure.reset();
+        this.gateWayFailure.reset();
+        this.serverFailure.reset();
     }
 }
@@ -17,11 +17,9 @@
 package io.sermant.flowcontrol.common.xds.circuit;
 
 import io.sermant.core.service.xds.entity.XdsInstanceCircuitBreakers;
-import io.sermant.core.utils.CollectionUtils;
 import io.sermant.flowcontrol.common.entity.FlowControlScenario;
 import io.sermant.flowcontrol.common.util.XdsThreadLocalUtil;
 
-import java.util.Deque;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -47,7 +45,9 @@ public class XdsCircuitBreakerManager {
     private static final Map<String, Map<String, AtomicInteger>> REQUEST_CIRCUIT_BREAKER_MAP =
             new ConcurrentHashMap<>();
 
-    private static final String GATE_WAY_FAILURE = "502,503,504";
+    private static final int BAD_GATEWAY = 502;
+
+    private static final int GATEWAY_TIMEOUT = 504;
 
     private XdsCircuitBreakerManager() {
     }
@@ -83,7 +83,7 @@ public class XdsCircuitBreakerManager {
     public static boolean needsInstanceCircuitBreaker(FlowControlScenario scenarioInfo, String address) {
         XdsCircuitBreakerInfo circuitBreakerInfo = getCircuitBreakerInfo(scenarioInfo.getServiceName(),
                 scenarioInfo.getRouteName(), address);
-        return isCircuitBreakerOpen(circuitBreakerInfo);
+        return circuitBreakerInfo.isOpen(System.currentTimeMillis());
     }
 
     /**
@@ -97,51 +97,24 @@ public class XdsCircuitBreakerManager {
             FlowControlScenario scenarioInfo) {
         XdsCircuitBreakerInfo circuitBreakerInfo = getCircuitBreakerInfo(scenarioInfo.getServiceName(),
                 scenarioInfo.getRouteName(), scenarioInfo.getAddress());
-        if (!XdsThreadLocalUtil.getSendByteFlag() && circuitBreakers.isSplitExternalLocalOriginErrors()
-                && shouldCircuitBreakerByFailure(circuitBreakerInfo.getLocalFailure(),
-                circuitBreakers.getConsecutiveLocalOriginFailure(), circuitBreakers.getInterval())) {
-            openCircuitBreaker(circuitBreakerInfo, circuitBreakers.getInterval());
-        }
-        if (shouldCircuitBreakerByFailure(circuitBreakerInfo.getGateWayFailure(),
-                circuitBreakers.getConsecutiveGatewayFailure(), circuitBreakers.getInterval())) {
-            openCircuitBreaker(circuitBreakerInfo, circuitBreakers.getInterval());
-        }
-        if (shouldCircuitBreakerByFailure(circuitBreakerInfo.getServerFailure(),
-                circuitBreakers.getConsecutive5xxFailure(), circuitBreakers.getInterval())) {
-            openCircuitBreaker(circuitBreakerInfo, circuitBreakers.getInterval());
+        long currentTime = System.currentTimeMillis();
+        if (isFailureThresholdReached(circuitBreakerInfo, circuitBreakers, currentTime)) {
+            circuitBreakerInfo.tryOpen(circuitBreakers.getInterval(), currentTime);
         }
     }
 
-    private static void openCircuitBreaker(XdsCircuitBreakerInfo circuitBreakerInfo, long interval) {
-        circuitBreakerInfo.setOpen(true);
-        circuitBreakerInfo.getCircuitBreakerCount().incrementAndGet();
-        circuitBreakerInfo.cleanRequestData();
-        circuitBreakerInfo.setCircuitBreakerEndTime(
-                System.currentTimeMillis() + circuitBreakerInfo.getCircuitBreakerCount().get() * interval);
-    }
-
-    private static boolean shouldCircuitBreakerByFailure(Deque<Long> times, int failureRequestThreshold,
-            long interval) {
-        if (failureRequestThreshold <= 0 || CollectionUtils.isEmpty(times) || times.size() < failureRequestThreshold) {
-            return false;
-        }
-        for (int i = times.size(); i > failureRequestThreshold; i--) {
-            times.removeFirst();
+    private static boolean isFailureThresholdReached(XdsCircuitBreakerInfo circuitBreakerInfo,
+            XdsInstanceCircuitBreakers circuitBreakers, long currentTime) {
+        long interval = circuitBreakers.getInterval();
+        if (!XdsThreadLocalUtil.getSendByteFlag() && circuitBreakers.isSplitExternalLocalOriginErrors()
+                && circuitBreakerInfo.getLocalFailure().isReached(circuitBreakers.getConsecutiveLocalOriginFailure(),
+                interval, currentTime)) {
+            return true;
         }
-        long currentTime = System.currentTimeMillis();
-        Long time = times.getFirst();
-        return currentTime - time <= interval;
-    }
-
-    /**
-     * Check if circuit breaker is open
-     *
-     * @param circuitBreakerInfo circuit Breaker information
-     * @return if circuit breaker is open
-     */
-    private static boolean isCircuitBreakerOpen(XdsCircuitBreakerInfo circuitBreakerInfo) {
-        return circuitBreakerInfo.isOpen()
-                && circuitBreakerInfo.getCircuitBreakerEndTime() > System.currentTimeMillis();
+        return circuitBreakerInfo.getGateWayFailure().isReached(circuitBreakers.getConsecutiveGatewayFailure(),
+                interval, currentTime)
+                || circuitBreakerInfo.getServerFailure().isReached(circuitBreakers.getConsecutive5xxFailure(),
+                interval, currentTime);
     }
 
     /**
@@ -156,34 +129,40 @@ public class XdsCircuitBreakerManager {
             XdsInstanceCircuitBreakers circuitBreakers) {
         XdsCircuitBreakerInfo circuitBreakerInfo = getCircuitBreakerInfo(scenarioInfo.getServiceName(),
                 scenarioInfo.getRouteName(), address);
-        if (isCircuitBreakerOpen(circuitBreakerInfo)) {
+        long currentTime = System.currentTimeMillis();
+        if (circuitBreakerInfo.isOpen(currentTime)) {
             return;
         }
-        long currentTime = System.currentTimeMillis();
         if (!XdsThreadLocalUtil.getSendByteFlag()) {
-            recordRequestTime(circuitBreakerInfo.getLocalFailure(), circuitBreakers.getConsecutiveLocalOriginFailure(),
+            circuitBreakerInfo.getLocalFailure().record(circuitBreakers.getConsecutiveLocalOriginFailure(),
                     currentTime);
         }
-        if (code != 0 && GATE_WAY_FAILURE.contains(String.valueOf(code))) {
-            recordRequestTime(circuitBreakerInfo.getGateWayFailure(), circuitBreakers.getConsecutiveGatewayFailure(),
+        if (isGatewayFailure(code)) {
+            circuitBreakerInfo.getGateWayFailure().record(circuitBreakers.getConsecutiveGatewayFailure(),
                     currentTime);
         }
-        recordRequestTime(circuitBreakerInfo.getServerFailure(), circuitBreakers.getConsecutive5xxFailure(),
-                currentTime);
+        circuitBreakerInfo.getServerFailure().record(circuitBreakers.getConsecutive5xxFailure(), currentTime);
     }
 
-    private static void recordRequestTime(Deque<Long> times, int failureRequestThreshold, long currentTime) {
-        if (failureRequestThreshold <= 0) {
-            return;
-        }
-        for (int i = times.size(); i >= failureRequestThreshold && !times.isEmpty(); i--) {
-            times.removeFirst();
-        }
-        times.add(currentTime);
+    /**
+     * Whether the response status code is a gateway error, 502, 503 or 504
+     *
+     * @param code response code
+     * @return gateway error or not
+     */
+    private static boolean isGatewayFailure(int code) {
+        return code >= BAD_GATEWAY && code <= GATEWAY_TIMEOUT;
     }
 
-    private static XdsCircuitBreakerInfo getCircuitBreakerInfo(String serviceName, String routeName,
-            String address) {
+    /**
+     * Get the circuit breaker information of an instance
+     *
+     * @param serviceName service name
+     * @param routeName route name
+     * @param address instance address
+     * @return circuit breaker information
+     */
+    static XdsCircuitBreakerInfo getCircuitBreakerInfo(String serviceName, String routeName, String address) {
         Map<String, Map<String, XdsCircuitBreakerInfo>> serviceCircuitBreakerMap = INSTANCE_CIRCUIT_BREAKER_MAP.
                 computeIfAbsent(serviceName, key -> new ConcurrentHashMap<>());
         Map<String, XdsCircuitBreakerInfo> instanceCircuitBreakerMap = serviceCircuitBreakerMap.
@@ -36,7 +36,7 @@ public class XdsLoadBalancerFactory {
 
     private static final Map<String, XdsLoadBalancer> LOAD_BALANCERS = new ConcurrentHashMap<>();
 
-    private static final String RANDOM = "RANDOM";
+    private static final Map<String, XdsLoadBalancer> RANDOM_LOAD_BALANCERS = new ConcurrentHashMap<>();
 
     private XdsLoadBalancerFactory() {
     }
@@ -54,10 +54,11 @@ public class XdsLoadBalancerFactory {
     /**
      * getRandomLoadBalancer
      *
+     * @param clusterName cluster name
      * @return XdsLoadBalancer
      */
-    private static XdsLoadBalancer getRandomLoadBalancer() {
-        return LOAD_BALANCERS.computeIfAbsent(RANDOM, key -> new XdsRandomLoadBalancer());
+    private static XdsLoadBalancer getRandomLoadBalancer(String clusterName) {
+        return RANDOM_LOAD_BALANCERS.computeIfAbsent(clusterName, key -> new XdsRandomLoadBalancer());
     }
 
     /**
@@ -75,7 +76,7 @@ public class XdsLoadBalancerFactory {
         }
         XdsLbPolicy lbPolicy = lbPolicyOptional.get();
         if (lbPolicy == XdsLbPolicy.RANDOM) {
-            return getRandomLoadBalancer();
+            return getRandomLoadBalancer(clusterName);
         }
         return getRoundRobinLoadBalancer(clusterName);
     }
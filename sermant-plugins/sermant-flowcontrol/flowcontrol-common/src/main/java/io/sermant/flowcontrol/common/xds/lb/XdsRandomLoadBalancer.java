@@ -19,30 +19,100 @@ package io.sermant.flowcontrol.common.xds.lb;
 import io.sermant.core.service.xds.entity.ServiceInstance;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * XdsRandomLoadBalancer
+ * XdsRandomLoadBalancer, one per cluster. Instances of different weights are picked with an alias table built once
+ * per EDS snapshot, so a weighted pick takes two random numbers whatever the number of instances
  *
  * @author daizhenyu
  * @since 2024-08-30
  **/
 public class XdsRandomLoadBalancer implements XdsLoadBalancer {
-    private final Random random;
-
-    /**
-     * Constructor
-     */
-    public XdsRandomLoadBalancer() {
-        this.random = new Random();
-    }
+    private volatile AliasTable aliasTable = new AliasTable(InstanceSnapshot.EMPTY);
 
     @Override
     public ServiceInstance selectInstance(List<ServiceInstance> instances) {
+        int size = instances.size();
+        if (size == 1) {
+            return instances.get(0);
+        }
+        AliasTable current = aliasTable;
+        if (!current.snapshot.isSnapshotOf(instances)) {
+            current = new AliasTable(new InstanceSnapshot(instances));
+            aliasTable = current;
+        }
+
         // Select a random index from the list
-        int index = random.nextInt(instances.size());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(size);
+        if (current.probabilities != null && random.nextDouble() >= current.probabilities[index]) {
+            index = current.aliases[index];
+        }
+        return current.snapshot.get(index);
+    }
+
+    /**
+     * Alias table of an EDS snapshot (Vose): each column keeps its own instance with its probability and its alias
+     * instance otherwise
+     *
+     * @since 2026-10-18
+     */
+    private static class AliasTable {
+        private final InstanceSnapshot snapshot;
+
+        private final double[] probabilities;
+
+        private final int[] aliases;
+
+        AliasTable(InstanceSnapshot snapshot) {
+            this.snapshot = snapshot;
+            if (!snapshot.isWeighted()) {
+                this.probabilities = null;
+                this.aliases = null;
+                return;
+            }
+            int[] weights = snapshot.getWeights();
+            int size = weights.length;
+            long total = 0L;
+            for (int weight : weights) {
+                total += weight;
+            }
+            double[] scaled = new double[size];
+            int[] small = new int[size];
+            int[] large = new int[size];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < size; i++) {
+                scaled[i] = (double) weights[i] * size / total;
+                if (scaled[i] < 1.0d) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+            this.probabilities = new double[size];
+            this.aliases = new int[size];
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                probabilities[less] = scaled[less];
+                aliases[less] = more;
+                scaled[more] = scaled[more] + scaled[less] - 1.0d;
+                if (scaled[more] < 1.0d) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
 
-        // Return the randomly selected instance
-        return instances.get(index);
+            // Columns left over are full up to rounding errors
+            while (largeCount > 0) {
+                probabilities[large[--largeCount]] = 1.0d;
+            }
+            while (smallCount > 0) {
+                probabilities[small[--smallCount]] = 1.0d;
+            }
+        }
     }
 }
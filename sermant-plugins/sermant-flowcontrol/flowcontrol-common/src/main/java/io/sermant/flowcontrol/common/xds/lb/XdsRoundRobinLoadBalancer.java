@@ -19,38 +19,121 @@ package io.sermant.flowcontrol.common.xds.lb;
 import io.sermant.core.service.xds.entity.ServiceInstance;
 
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * XdsRoundRobinLoadBalancer
+ * XdsRoundRobinLoadBalancer, one per cluster. Instances of equal weight are visited in turn, instances of different
+ * weights in the order of the smooth weighted round-robin, which is computed once per EDS snapshot and then walked
+ * with a lock-free striped counter
  *
  * @author daizhenyu
  * @since 2024-08-30
  **/
 public class XdsRoundRobinLoadBalancer implements XdsLoadBalancer {
-    private final AtomicInteger index;
+    /**
+     * Maximum length of a weighted schedule, larger weights are scaled down proportionally
+     */
+    static final int MAX_SCHEDULE_LENGTH = 4096;
+
+    private final StripedCounter index;
+
+    private volatile Schedule schedule = new Schedule(InstanceSnapshot.EMPTY);
 
     /**
      * constructor
      */
     public XdsRoundRobinLoadBalancer() {
-        this.index = new AtomicInteger(0);
+        this.index = new StripedCounter();
     }
 
     @Override
     public ServiceInstance selectInstance(List<ServiceInstance> instances) {
-        synchronized (XdsRoundRobinLoadBalancer.class) {
-            // safely calculate the index based on the current size of the instances list
-            int currentIndex = index.getAndUpdate(i -> (i + 1) % instances.size());
-
-            // double-check size to avoid index out of bounds
-            if (currentIndex >= instances.size()) {
-                currentIndex = 0;
-                index.set(1);
+        int size = instances.size();
+        if (size == 1) {
+            return instances.get(0);
+        }
+        Schedule current = schedule;
+        if (!current.snapshot.isSnapshotOf(instances)) {
+            current = new Schedule(new InstanceSnapshot(instances));
+            schedule = current;
+        }
+        long count = index.getAndIncrement();
+        if (current.sequence == null) {
+            return current.snapshot.get((int) (count % size));
+        }
+        return current.snapshot.get(current.sequence[(int) (count % current.sequence.length)]);
+    }
+
+    /**
+     * Instance order of an EDS snapshot
+     *
+     * @since 2026-10-18
+     */
+    private static class Schedule {
+        private final InstanceSnapshot snapshot;
+
+        private final int[] sequence;
+
+        Schedule(InstanceSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.sequence = snapshot.isWeighted() ? buildSequence(snapshot.getWeights()) : null;
+        }
+
+        /**
+         * Smooth weighted round-robin: every step adds the weights to the current weights, picks the largest and
+         * lowers it by the total, which spreads the picks of an instance evenly over the cycle
+         *
+         * @param weights weights of the instances
+         * @return instance indexes of one cycle
+         */
+        private static int[] buildSequence(int[] weights) {
+            int[] effectiveWeights = scale(weights);
+            int total = 0;
+            for (int weight : effectiveWeights) {
+                total += weight;
+            }
+            int[] sequence = new int[total];
+            long[] currentWeights = new long[effectiveWeights.length];
+            for (int step = 0; step < total; step++) {
+                int selected = 0;
+                for (int i = 0; i < effectiveWeights.length; i++) {
+                    currentWeights[i] += effectiveWeights[i];
+                    if (currentWeights[i] > currentWeights[selected]) {
+                        selected = i;
+                    }
+                }
+                currentWeights[selected] -= total;
+                sequence[step] = selected;
             }
+            return sequence;
+        }
 
-            // return the instance at the current index
-            return instances.get(currentIndex);
+        private static int[] scale(int[] weights) {
+            int gcd = weights[0];
+            long total = 0L;
+            for (int weight : weights) {
+                gcd = gcd(gcd, weight);
+                total += weight;
+            }
+            total /= gcd;
+            int[] scaled = new int[weights.length];
+            for (int i = 0; i < weights.length; i++) {
+                scaled[i] = weights[i] / gcd;
+                if (total > MAX_SCHEDULE_LENGTH) {
+                    scaled[i] = (int) Math.max(1L, Math.round((double) scaled[i] * MAX_SCHEDULE_LENGTH / total));
+                }
+            }
+            return scaled;
+        }
+
+        private static int gcd(int first, int second) {
+            int left = first;
+            int right = second;
+            while (right != 0) {
+                int remainder = left % right;
+                left = right;
+                right = remainder;
+            }
+            return left;
         }
     }
 }
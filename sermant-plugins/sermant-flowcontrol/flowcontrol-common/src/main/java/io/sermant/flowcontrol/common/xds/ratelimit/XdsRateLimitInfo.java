@@ -16,43 +16,90 @@
 
 package io.sermant.flowcontrol.common.xds.ratelimit;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import io.sermant.core.service.xds.entity.XdsTokenBucket;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * xds rate limit information
+ * xds rate limit information, the token bucket of a route. The current tokens and the last fill time are packed into
+ * one long and updated with a CAS loop, so consuming a token never blocks. The low 30 bits hold the tokens and the
+ * high 34 bits the last fill time in milliseconds since the bucket was created, compared modulo 2^34 (about 198
+ * days)
  *
  * @author zhp
  * @since 2024-12-05
  */
 public class XdsRateLimitInfo {
-    private long lastFilledTime;
+    /**
+     * Maximum number of tokens a bucket can hold, larger bucket sizes are truncated
+     */
+    public static final int MAX_TOKENS = (1 << 30) - 1;
+
+    private static final int TIME_SHIFT = 30;
 
-    private AtomicInteger currentTokens;
+    private static final long TIME_MASK = (1L << (Long.SIZE - TIME_SHIFT)) - 1;
+
+    private final long createTime = System.nanoTime();
+
+    private final AtomicLong state;
 
     /**
      * Constructor
      *
-     * @param lastFilledTime Time to fill tokens
      * @param currentTokens Current number of tokens
      */
-    public XdsRateLimitInfo(long lastFilledTime, int currentTokens) {
-        this.lastFilledTime = lastFilledTime;
-        this.currentTokens = new AtomicInteger(currentTokens);
+    public XdsRateLimitInfo(int currentTokens) {
+        this.state = new AtomicLong(pack(Math.min(Math.max(currentTokens, 0), MAX_TOKENS), 0L));
     }
 
-    public long getLastFilledTime() {
-        return lastFilledTime;
+    /**
+     * Fill the tokens for the intervals elapsed since the last fill and consume one token
+     *
+     * @param tokenBucket token rule information
+     * @return whether a token was consumed
+     */
+    public boolean tryConsume(XdsTokenBucket tokenBucket) {
+        long maxTokens = Math.min(tokenBucket.getMaxTokens(), MAX_TOKENS);
+        long fillInterval = tokenBucket.getFillInterval();
+        long now = currentTime();
+        while (true) {
+            long current = state.get();
+            long tokens = current & MAX_TOKENS;
+            long lastFilledTime = current >>> TIME_SHIFT;
+
+            // Sign extend the difference, a thread with an older timestamp may lose the race to a newer one
+            long elapsed = ((now - lastFilledTime) << TIME_SHIFT) >> TIME_SHIFT;
+            if (elapsed >= fillInterval && fillInterval > 0) {
+                long fills = elapsed / fillInterval;
+                tokens = fills >= maxTokens ? maxTokens
+                        : Math.min(maxTokens, tokens + fills * Math.max(tokenBucket.getTokensPerFill(), 0));
+                lastFilledTime += fills * fillInterval;
+            }
+            tokens = Math.min(tokens, maxTokens);
+            if (tokens < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, pack(tokens - 1, lastFilledTime))) {
+                return true;
+            }
+        }
     }
 
-    public void setLastFilledTime(long lastFilledTime) {
-        this.lastFilledTime = lastFilledTime;
+    /**
+     * Get the current number of tokens, without the tokens to be filled
+     *
+     * @return current number of tokens
+     */
+    public int getCurrentTokens() {
+        return (int) (state.get() & MAX_TOKENS);
     }
 
-    public AtomicInteger getCurrentTokens() {
-        return currentTokens;
+    private long currentTime() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - createTime) & TIME_MASK;
     }
 
-    public void setCurrentTokens(AtomicInteger currentTokens) {
-        this.currentTokens = currentTokens;
+    private static long pack(long tokens, long lastFilledTime) {
+        return ((lastFilledTime & TIME_MASK) << TIME_SHIFT) | tokens;
     }
 }
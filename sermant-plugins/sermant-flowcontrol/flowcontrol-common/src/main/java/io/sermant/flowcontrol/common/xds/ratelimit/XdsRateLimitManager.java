@@ -16,14 +16,14 @@
 
 package io.sermant.flowcontrol.common.xds.ratelimit;
 
+import io.sermant.core.service.xds.entity.XdsRateLimit;
 import io.sermant.core.service.xds.entity.XdsTokenBucket;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Circuit Breaker manager
+ * Rate limit manager
  *
  * @author zhp
  * @since 2024-12-02
@@ -46,36 +46,49 @@ public class XdsRateLimitManager {
      * @param tokenBucket token rule info
      * @return the result of Consumer results
      */
-    public static synchronized boolean fillAndConsumeToken(String serviceName, String routeName,
+    public static boolean fillAndConsumeToken(String serviceName, String routeName, XdsTokenBucket tokenBucket) {
+        return getRateLimitInfo(serviceName, routeName, tokenBucket).tryConsume(tokenBucket);
+    }
+
+    /**
+     * Get the token bucket of the route, created full when the route is limited for the first time. The bucket is a
+     * handle which can be kept by the caller and consumed directly with {@link XdsRateLimitInfo#tryConsume}
+     *
+     * @param serviceName service name
+     * @param routeName route name
+     * @param tokenBucket token rule info
+     * @return token bucket of the route
+     */
+    public static XdsRateLimitInfo getRateLimitInfo(String serviceName, String routeName,
             XdsTokenBucket tokenBucket) {
-        Map<String, XdsRateLimitInfo> limitInfoMap = RATE_LIMIT_INFO_MAP.computeIfAbsent(serviceName,
-                key -> new ConcurrentHashMap<>());
-        XdsRateLimitInfo xdsRateLimitInfo = limitInfoMap.computeIfAbsent(routeName, key ->
-                new XdsRateLimitInfo(System.currentTimeMillis(), tokenBucket.getMaxTokens()));
-        fillToken(xdsRateLimitInfo, tokenBucket);
-        AtomicInteger currentTokens = xdsRateLimitInfo.getCurrentTokens();
-        if (1 <= currentTokens.get()) {
-            currentTokens.addAndGet(-1);
-            return true;
+        Map<String, XdsRateLimitInfo> limitInfoMap = RATE_LIMIT_INFO_MAP.get(serviceName);
+        if (limitInfoMap == null) {
+            limitInfoMap = RATE_LIMIT_INFO_MAP.computeIfAbsent(serviceName, key -> new ConcurrentHashMap<>());
+        }
+        XdsRateLimitInfo xdsRateLimitInfo = limitInfoMap.get(routeName);
+        if (xdsRateLimitInfo == null) {
+            xdsRateLimitInfo = limitInfoMap.computeIfAbsent(routeName,
+                    key -> new XdsRateLimitInfo(tokenBucket.getMaxTokens()));
         }
-        return false;
+        return xdsRateLimitInfo;
     }
 
     /**
-     * Fill tokenBucket, the token will be consumption when receiving the requests
+     * Get the token bucket of the route bound to its rate limiting configuration. The bucket is looked up by name
+     * once per applied configuration and kept on it, later requests read it from the configuration directly
      *
-     * @param xdsRateLimitInfo current rate limit info
-     * @param tokenBucket token rule information
+     * @param serviceName service name
+     * @param routeName route name
+     * @param rateLimit rate limiting configuration of the route
+     * @return token bucket of the route
      */
-    private static void fillToken(XdsRateLimitInfo xdsRateLimitInfo, XdsTokenBucket tokenBucket) {
-        long now = System.currentTimeMillis();
-        long timeElapsed = now - xdsRateLimitInfo.getLastFilledTime();
-        long tokensToAdd = (timeElapsed / tokenBucket.getFillInterval()) * tokenBucket.getTokensPerFill();
-        if (tokensToAdd > 0) {
-            int currentToken = xdsRateLimitInfo.getCurrentTokens().get();
-            xdsRateLimitInfo.getCurrentTokens().set((int) Math.min(tokenBucket.getMaxTokens(),
-                    currentToken + tokensToAdd));
-            xdsRateLimitInfo.setLastFilledTime(now);
+    public static XdsRateLimitInfo getRateLimitInfo(String serviceName, String routeName, XdsRateLimit rateLimit) {
+        final Object state = rateLimit.getTokenBucketState();
+        if (state instanceof XdsRateLimitInfo) {
+            return (XdsRateLimitInfo) state;
         }
+        final XdsRateLimitInfo xdsRateLimitInfo = getRateLimitInfo(serviceName, routeName, rateLimit.getTokenBucket());
+        rateLimit.setTokenBucketState(xdsRateLimitInfo);
+        return xdsRateLimitInfo;
     }
 }
@@ -25,7 +25,12 @@ import io.sermant.core.utils.ReflectUtils;
 
 import org.junit.Test;
 
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * periodically clear cache tests
@@ -57,15 +62,102 @@ public class TimedConcurrentMapCacheTest {
         assertTrue(cache.getCacheTarget() instanceof ConcurrentHashMap);
 
         // expiredTest
-        cache.put(new Key(), value);
-        cache.put(new Key(), value);
-        cache.put(new Key(), value);
-        ReflectUtils.invokeMethod(cache, "removeEvictedCache", null, null);
-        cache.put(new Key(), value);
-        assertEquals(3, cache.size());
+        final TimedConcurrentMapCache<Key, String> timedCache = new TimedConcurrentMapCache<>(maxSize, evictMs);
+        timedCache.put(new Key(), value);
+        timedCache.put(new Key(), value);
+        timedCache.put(new Key(), value);
+        ReflectUtils.invokeMethod(timedCache, "runMaintenance", null, null);
+        timedCache.put(new Key(), value);
+        assertEquals(3, timedCache.size());
         Thread.sleep(evictMs);
-        ReflectUtils.invokeMethod(cache, "removeEvictedCache", null, null);
+        ReflectUtils.invokeMethod(timedCache, "runMaintenance", null, null);
+        assertEquals(0, timedCache.size());
+        timedCache.release();
+    }
+
+    /**
+     * the cache never exceeds its maximum size, and frequently used keys survive a scan of keys used once
+     */
+    @Test
+    public void testBoundedSize() {
+        int maxSize = 100;
+        final TimedConcurrentMapCache<String, String> cache = new TimedConcurrentMapCache<>(maxSize, 60000L);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < maxSize / 2; i++) {
+                cache.put("hot-" + i, "val");
+                cache.get("hot-" + i);
+            }
+        }
+        for (int i = 0; i < maxSize * 10; i++) {
+            cache.put("scan-" + i, "val");
+            assertTrue(cache.size() <= maxSize);
+        }
+        int hotHits = 0;
+        for (int i = 0; i < maxSize / 2; i++) {
+            if (cache.get("hot-" + i) != null) {
+                hotHits++;
+            }
+        }
+        assertTrue(hotHits >= maxSize / 2 - 1);
+        assertEquals(maxSize / 2 + maxSize * 10 - cache.size(), cache.getEvictionCount());
+        cache.release();
+    }
+
+    /**
+     * hits and misses are counted
+     */
+    @Test
+    public void testCounters() {
+        final TimedConcurrentMapCache<String, String> cache = new TimedConcurrentMapCache<>(10, 60000L);
+        cache.put("key", "val");
+        cache.get("key");
+        cache.get("key");
+        cache.get("absent");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        cache.clear();
+        assertNull(cache.get("key"));
         assertEquals(0, cache.size());
+        cache.release();
+    }
+
+    /**
+     * concurrent gets, puts and evictions keep the cache bounded
+     */
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        int maxSize = 64;
+        final TimedConcurrentMapCache<Integer, Integer> cache = new TimedConcurrentMapCache<>(maxSize, 60000L);
+        int threadCount = 4;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        final AtomicInteger mismatches = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            final int seed = i;
+            executorService.execute(() -> {
+                final Random random = new Random(seed);
+                for (int j = 0; j < 100000; j++) {
+                    final int key = random.nextInt(maxSize * 4);
+                    final Integer cached = cache.get(key);
+                    if (cached != null) {
+                        if (cached != key) {
+                            mismatches.incrementAndGet();
+                        }
+                    } else if (j % 7 == 0) {
+                        cache.evict(key);
+                    } else {
+                        cache.put(key, key);
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        assertEquals(0, mismatches.get());
+        assertTrue(cache.size() <= maxSize);
+        cache.release();
     }
 
     static class Key implements Timed {
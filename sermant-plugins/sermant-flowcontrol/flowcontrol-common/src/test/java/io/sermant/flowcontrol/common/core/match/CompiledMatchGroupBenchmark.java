@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import io.sermant.flowcontrol.common.entity.HttpRequestEntity;
+import io.sermant.flowcontrol.common.entity.RequestEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching requests against 10, 100 and 1000 service scenarios: the compiled decision tree against the iteration of
+ * every scenario and its conditions. Scenarios mostly match exact paths, then path prefixes, suffixes and contained
+ * segments, some restricted to methods or a tenant header. Run with the main method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompiledMatchGroupBenchmark {
+    private static final int REQUEST_COUNT = 1024;
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE"};
+
+    /**
+     * Number of service scenarios
+     */
+    @Param({"10", "100", "1000"})
+    public int scenarios;
+
+    private final List<BusinessMatcher> businessMatchers = new ArrayList<>();
+
+    private final HttpRequestEntity[] requests = new HttpRequestEntity[REQUEST_COUNT];
+
+    private CompiledMatchGroup matchGroup;
+
+    private int index;
+
+    /**
+     * Build the scenarios and the requests, and check both ways of matching agree
+     */
+    @Setup
+    public void setUp() {
+        final Random random = new Random(0L);
+        for (int i = 0; i < scenarios; i++) {
+            final RequestMatcher requestMatcher = new RequestMatcher();
+            final int kind = random.nextInt(20);
+            if (kind < 10) {
+                requestMatcher.setApiPath(createOperator("exact", "/api/v1/service" + i + "/items"));
+            } else if (kind < 15) {
+                requestMatcher.setApiPath(createOperator("prefix", "/api/v1/service" + i + "/"));
+            } else if (kind < 18) {
+                requestMatcher.setApiPath(createOperator("suffix", "/service" + i + "/export"));
+            } else {
+                requestMatcher.setApiPath(createOperator("contains", "/service" + i + "/"));
+            }
+            if (random.nextBoolean()) {
+                requestMatcher.setMethod(Collections.singletonList(METHODS[random.nextInt(METHODS.length)]));
+            }
+            if (random.nextInt(5) == 0) {
+                requestMatcher.setHeaders(Collections.singletonMap("x-tenant",
+                        createOperator("exact", "tenant-" + random.nextInt(4))));
+            }
+            final BusinessMatcher businessMatcher = new BusinessMatcher();
+            businessMatcher.setName("scenario-" + i);
+            businessMatcher.setMatches(Collections.singletonList(requestMatcher));
+            businessMatchers.add(businessMatcher);
+        }
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final Map<String, String> headers = new HashMap<>();
+            headers.put("x-tenant", "tenant-" + random.nextInt(4));
+            final String path = "/api/v1/service" + random.nextInt(scenarios * 2) + (random.nextBoolean() ? "/items"
+                    : "/export");
+            requests[i] = new HttpRequestEntity.Builder().setApiPath(path)
+                    .setMethod(METHODS[random.nextInt(METHODS.length)]).setHeaders(headers).build();
+        }
+        matchGroup = CompiledMatchGroup.compile(businessMatchers);
+        for (HttpRequestEntity request : requests) {
+            if (!matchGroup.match(request).equals(matchLinear(request))) {
+                throw new IllegalStateException("Inconsistent matching result of " + request.getApiPath());
+            }
+        }
+    }
+
+    /**
+     * Match with the compiled decision tree
+     *
+     * @return matched scenarios
+     */
+    @Benchmark
+    public Set<String> compiled() {
+        return matchGroup.match(nextRequest());
+    }
+
+    /**
+     * Match by iterating every scenario
+     *
+     * @return matched scenarios
+     */
+    @Benchmark
+    public Set<String> linear() {
+        return matchLinear(nextRequest());
+    }
+
+    private HttpRequestEntity nextRequest() {
+        final HttpRequestEntity request = requests[index];
+        index = (index + 1) & (REQUEST_COUNT - 1);
+        return request;
+    }
+
+    private Set<String> matchLinear(RequestEntity request) {
+        final Set<String> result = new HashSet<>();
+        for (BusinessMatcher businessMatcher : businessMatchers) {
+            if (businessMatcher.match(request)) {
+                result.add(businessMatcher.getName());
+            }
+        }
+        return result.isEmpty() ? Collections.emptySet() : result;
+    }
+
+    private static RawOperator createOperator(String operator, String value) {
+        final RawOperator rawOperator = new RawOperator();
+        rawOperator.put(operator, value);
+        return rawOperator;
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CompiledMatchGroupBenchmark.class.getSimpleName()).build()).run();
+    }
+}
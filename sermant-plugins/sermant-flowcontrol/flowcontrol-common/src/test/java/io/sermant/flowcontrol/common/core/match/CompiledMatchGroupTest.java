@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import io.sermant.flowcontrol.common.entity.HttpRequestEntity;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * compiled service scenario test
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class CompiledMatchGroupTest {
+    private static final String[] OPERATORS = {"exact", "prefix", "suffix", "contains", "compare"};
+
+    private static final String[] METHODS = {"GET", "POST", "PUT"};
+
+    private static final String[] SEGMENTS = {"api", "v1", "user", "order", "1", "12", "she", "hers"};
+
+    /**
+     * overlapping contained patterns are all found
+     */
+    @Test
+    public void testContainsAutomaton() {
+        final ContainsAutomaton<String> automaton = new ContainsAutomaton<>();
+        for (String pattern : Arrays.asList("he", "she", "his", "hers", "")) {
+            automaton.add(pattern, pattern);
+        }
+        automaton.build();
+        final List<String> found = new ArrayList<>();
+        automaton.collect("ushers", found);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("he", "she", "hers", "")), new HashSet<>(found));
+        found.clear();
+        automaton.collect(null, found);
+        Assert.assertTrue(found.isEmpty());
+    }
+
+    /**
+     * prefix and suffix patterns are found along the path
+     */
+    @Test
+    public void testPatternTrie() {
+        final PatternTrie<String> prefixes = new PatternTrie<>(false);
+        final PatternTrie<String> suffixes = new PatternTrie<>(true);
+        for (String pattern : Arrays.asList("/api", "/api/v1", "/apis", ".json", "v1.json")) {
+            prefixes.add(pattern, pattern);
+            suffixes.add(pattern, pattern);
+        }
+        final List<String> found = new ArrayList<>();
+        prefixes.collect("/api/v1.json", found);
+        Assert.assertEquals(Arrays.asList("/api", "/api/v1"), found);
+        found.clear();
+        suffixes.collect("/api/v1.json", found);
+        Assert.assertEquals(Arrays.asList(".json", "v1.json"), found);
+    }
+
+    /**
+     * the compiled scenarios match the same requests as the scenarios themselves
+     */
+    @Test
+    public void testSameResultAsScenarios() {
+        final Random random = new Random(0L);
+        for (int round = 0; round < 20; round++) {
+            final List<BusinessMatcher> businessMatchers = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                businessMatchers.add(randomScenario(random, "scenario-" + i));
+            }
+            final CompiledMatchGroup matchGroup = CompiledMatchGroup.compile(businessMatchers);
+            for (int i = 0; i < 500; i++) {
+                final HttpRequestEntity request = randomRequest(random);
+                final Set<String> expected = new HashSet<>();
+                for (BusinessMatcher businessMatcher : businessMatchers) {
+                    if (businessMatcher.match(request)) {
+                        expected.add(businessMatcher.getName());
+                    }
+                }
+                Assert.assertEquals(expected, matchGroup.match(request));
+            }
+        }
+    }
+
+    /**
+     * requests without method match nothing
+     */
+    @Test
+    public void testMissingMethod() {
+        final BusinessMatcher businessMatcher = new BusinessMatcher();
+        businessMatcher.setName("scenario");
+        businessMatcher.setMatches(Collections.singletonList(new RequestMatcher()));
+        final CompiledMatchGroup matchGroup = CompiledMatchGroup.compile(Collections.singletonList(businessMatcher));
+        Assert.assertEquals(Collections.singleton("scenario"), matchGroup.match(new HttpRequestEntity.Builder()
+                .setApiPath("/api").setMethod("GET").setHeaders(Collections.emptyMap()).build()));
+        Assert.assertTrue(matchGroup.match(new HttpRequestEntity.Builder().setApiPath("/api")
+                .setHeaders(Collections.emptyMap()).build()).isEmpty());
+    }
+
+    private BusinessMatcher randomScenario(Random random, String name) {
+        final List<RequestMatcher> requestMatchers = new ArrayList<>();
+        final int size = 1 + random.nextInt(2);
+        for (int i = 0; i < size; i++) {
+            final RequestMatcher requestMatcher = new RequestMatcher();
+            if (random.nextInt(4) > 0) {
+                requestMatcher.setApiPath(randomOperator(random, random.nextInt(5) == 0
+                        ? String.valueOf(random.nextInt(30)) : randomPath(random)));
+            }
+            if (random.nextBoolean()) {
+                requestMatcher.setMethod(Arrays.asList(METHODS[random.nextInt(METHODS.length)],
+                        METHODS[random.nextInt(METHODS.length)]));
+            }
+            if (random.nextInt(3) == 0) {
+                requestMatcher.setHeaders(Collections.singletonMap("x-tenant",
+                        randomOperator(random, "tenant-" + random.nextInt(3))));
+            }
+            if (random.nextInt(5) == 0) {
+                requestMatcher.setServiceName("service-" + random.nextInt(2));
+            }
+            requestMatchers.add(requestMatcher);
+        }
+        final BusinessMatcher businessMatcher = new BusinessMatcher();
+        businessMatcher.setName(name);
+        businessMatcher.setMatches(requestMatchers);
+        return businessMatcher;
+    }
+
+    private RawOperator randomOperator(Random random, String value) {
+        final RawOperator rawOperator = new RawOperator();
+        final int size = random.nextInt(8) == 0 ? 2 : 1;
+        for (int i = 0; i < size; i++) {
+            final String operator = OPERATORS[random.nextInt(OPERATORS.length)];
+            if ("compare".equals(operator) && Character.isDigit(value.charAt(0))) {
+                rawOperator.put(operator, ">" + random.nextInt(20));
+            } else if (!"compare".equals(operator)) {
+                final int start = random.nextInt(value.length());
+                rawOperator.put(operator, value.substring(start, start + random.nextInt(value.length() - start + 1)));
+            }
+        }
+        return rawOperator;
+    }
+
+    private HttpRequestEntity randomRequest(Random random) {
+        final Map<String, String> headers = new HashMap<>();
+        if (random.nextBoolean()) {
+            headers.put("x-tenant", "tenant-" + random.nextInt(3));
+        }
+        final String path = random.nextInt(10) == 0 ? String.valueOf(random.nextInt(30)) : randomPath(random);
+        return new HttpRequestEntity.Builder().setApiPath(path).setMethod(METHODS[random.nextInt(METHODS.length)])
+                .setHeaders(headers).setServiceName("service-" + random.nextInt(2)).build();
+    }
+
+    private String randomPath(Random random) {
+        final StringBuilder path = new StringBuilder();
+        final int size = 1 + random.nextInt(3);
+        for (int i = 0; i < size; i++) {
+            path.append('/').append(SEGMENTS[random.nextInt(SEGMENTS.length)]);
+        }
+        return path.toString();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import io.sermant.flowcontrol.common.entity.HttpRequestEntity;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * request projection test
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class MatchProjectionTest {
+    private static final String BUSINESS_NAME = "scenario";
+
+    /**
+     * requests differing in headers no scenario references share the key
+     */
+    @Test
+    public void testUnreferencedHeadersIgnored() {
+        final MatchProjection projection = MatchProjection.compile(Collections.singletonList(
+                createMatcher("x-tenant", null)));
+        final MatchKey key = projection.project(createRequest("/api/a", "GET", "tenant-1", "trace-1"), null);
+        Assert.assertEquals(key, projection.project(createRequest("/api/b", "POST", "tenant-1", "trace-2"), null));
+        Assert.assertEquals(key.hashCode(),
+                projection.project(createRequest("/api/c", "PUT", "tenant-1", "trace-3"), null).hashCode());
+        Assert.assertNotEquals(key, projection.project(createRequest("/api/a", "GET", "tenant-2", "trace-1"), null));
+        Assert.assertNotEquals(key, projection.project(createRequest("/api/a", "GET", null, "trace-1"), null));
+        Assert.assertNotEquals(key, projection.project(createRequest("/api/a", "GET", "tenant-1", "trace-1"),
+                BUSINESS_NAME));
+    }
+
+    /**
+     * path and method take part in the key once referenced
+     */
+    @Test
+    public void testReferencedPathAndMethod() {
+        final MatchProjection projection = MatchProjection.compile(Arrays.asList(createMatcher(null, "/api"),
+                createMatcher("x-tenant", null)));
+        final MatchKey key = projection.project(createRequest("/api/a", "GET", "tenant-1", "trace-1"), null);
+        Assert.assertEquals(key, projection.project(createRequest("/api/a", "GET", "tenant-1", "trace-2"), null));
+        Assert.assertNotEquals(key, projection.project(createRequest("/api/b", "GET", "tenant-1", "trace-1"), null));
+        Assert.assertNotEquals(key, projection.project(createRequest("/api/a", "POST", "tenant-1", "trace-1"), null));
+    }
+
+    /**
+     * requests without method never match, they must not share the key of requests with one
+     */
+    @Test
+    public void testMissingMethod() {
+        final MatchProjection projection = MatchProjection.compile(Collections.singletonList(
+                createMatcher("x-tenant", null)));
+        Assert.assertNotEquals(projection.project(createRequest("/api", "GET", "tenant-1", null), null),
+                projection.project(createRequest("/api", null, "tenant-1", null), null));
+    }
+
+    /**
+     * keys of another projection are never equal
+     */
+    @Test
+    public void testProjectionIdentity() {
+        final BusinessMatcher matcher = createMatcher("x-tenant", null);
+        final MatchProjection projection = MatchProjection.compile(Collections.singletonList(matcher));
+        final MatchProjection other = MatchProjection.compile(Collections.singletonList(matcher));
+        final HttpRequestEntity request = createRequest("/api", "GET", "tenant-1", null);
+        Assert.assertNotEquals(projection.project(request, null), other.project(request, null));
+    }
+
+    private BusinessMatcher createMatcher(String header, String pathPrefix) {
+        final RequestMatcher requestMatcher = new RequestMatcher();
+        if (header != null) {
+            final RawOperator operator = new RawOperator();
+            operator.put("prefix", "tenant");
+            requestMatcher.setHeaders(Collections.singletonMap(header, operator));
+        }
+        if (pathPrefix != null) {
+            final RawOperator operator = new RawOperator();
+            operator.put("prefix", pathPrefix);
+            requestMatcher.setApiPath(operator);
+            requestMatcher.setMethod(Collections.singletonList("GET"));
+        }
+        final BusinessMatcher businessMatcher = new BusinessMatcher();
+        businessMatcher.setName(BUSINESS_NAME);
+        businessMatcher.setMatches(Collections.singletonList(requestMatcher));
+        return businessMatcher;
+    }
+
+    private HttpRequestEntity createRequest(String path, String method, String tenant, String traceId) {
+        final Map<String, String> headers = new HashMap<>();
+        if (tenant != null) {
+            headers.put("x-tenant", tenant);
+        }
+        if (traceId != null) {
+            headers.put("x-trace-id", traceId);
+        }
+        return new HttpRequestEntity.Builder().setApiPath(path).setMethod(method).setHeaders(headers)
+                .setServiceName("service").build();
+    }
+}
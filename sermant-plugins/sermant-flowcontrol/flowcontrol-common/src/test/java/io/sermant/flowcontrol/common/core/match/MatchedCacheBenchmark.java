@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.core.match;
+
+import io.sermant.flowcontrol.common.cache.Cache;
+import io.sermant.flowcontrol.common.cache.TimedConcurrentMapCache;
+import io.sermant.flowcontrol.common.config.ConfigConst;
+import io.sermant.flowcontrol.common.entity.HttpRequestEntity;
+import io.sermant.flowcontrol.common.entity.RequestEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cached matching of requests carrying high cardinality headers (request and trace ids, user ids, timestamps) against
+ * 20 service scenarios that only reference a tenant header, the path and the method: the cache keyed by the projection
+ * of the request against the cache keyed by the whole request used before, which misses on every request. Both caches
+ * have the default capacity. Run with the main method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchedCacheBenchmark {
+    private static final int SCENARIO_COUNT = 20;
+
+    private static final int REQUEST_COUNT = 4096;
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE"};
+
+    private static final String[] USER_AGENTS = {"okhttp/4.9.3", "Apache-HttpClient/4.5.13", "curl/7.88.1",
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64)", "Java/1.8.0_392"};
+
+    private final List<BusinessMatcher> businessMatchers = new ArrayList<>();
+
+    private final HttpRequestEntity[] requests = new HttpRequestEntity[REQUEST_COUNT];
+
+    private Cache<RequestEntity, Set<String>> requestCache;
+
+    private Cache<MatchKey, Set<String>> projectedCache;
+
+    private MatchProjection projection;
+
+    private int index;
+
+    /**
+     * Build the scenarios and the requests
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SCENARIO_COUNT; i++) {
+            final RequestMatcher requestMatcher = new RequestMatcher();
+            requestMatcher.setApiPath(createOperator("prefix", "/api/v1/resource" + i));
+            requestMatcher.setMethod(Arrays.asList(METHODS[i % METHODS.length], METHODS[(i + 1) % METHODS.length]));
+            requestMatcher.setHeaders(Collections.singletonMap("x-tenant", createOperator("exact", "tenant-" + i % 5)));
+            final BusinessMatcher businessMatcher = new BusinessMatcher();
+            businessMatcher.setName("scenario-" + i);
+            businessMatcher.setMatches(Collections.singletonList(requestMatcher));
+            businessMatchers.add(businessMatcher);
+        }
+        final Random random = new Random(0L);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final Map<String, String> headers = new HashMap<>();
+            headers.put("x-tenant", "tenant-" + random.nextInt(5));
+            headers.put("x-request-id", UUID.randomUUID().toString());
+            headers.put("traceparent", "00-" + UUID.randomUUID().toString().replace("-", "") + "-"
+                    + Long.toHexString(random.nextLong()) + "-01");
+            headers.put("x-user-id", String.valueOf(random.nextInt(100000)));
+            headers.put("x-timestamp", String.valueOf(System.currentTimeMillis() + i));
+            headers.put("user-agent", USER_AGENTS[random.nextInt(USER_AGENTS.length)]);
+            headers.put("accept", "application/json");
+            headers.put("content-type", "application/json;charset=UTF-8");
+            headers.put("host", "provider.default.svc.cluster.local:8080");
+            headers.put("content-length", String.valueOf(random.nextInt(4096)));
+            requests[i] = new HttpRequestEntity.Builder().setApiPath("/api/v1/resource" + random.nextInt(SCENARIO_COUNT)
+                    + "/items").setMethod(METHODS[random.nextInt(METHODS.length)]).setHeaders(headers)
+                    .setServiceName("provider").build();
+        }
+        requestCache = new TimedConcurrentMapCache<>(ConfigConst.DEFAULT_MAX_CACHE_SIZE, TimeUnit.HOURS.toMillis(1));
+        projectedCache = new TimedConcurrentMapCache<>(ConfigConst.DEFAULT_MAX_CACHE_SIZE, TimeUnit.HOURS.toMillis(1));
+        projection = MatchProjection.compile(businessMatchers);
+    }
+
+    /**
+     * Stop the eviction tasks of the caches
+     */
+    @TearDown
+    public void tearDown() {
+        requestCache.release();
+        projectedCache.release();
+    }
+
+    /**
+     * Cache keyed by the projection of the request
+     *
+     * @return matched scenarios
+     */
+    @Benchmark
+    public Set<String> projectedKey() {
+        final HttpRequestEntity request = nextRequest();
+        final MatchKey key = projection.project(request, null);
+        final Set<String> businesses = projectedCache.get(key);
+        if (businesses != null) {
+            return businesses;
+        }
+        final Set<String> result = match(request);
+        projectedCache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Cache keyed by the whole request
+     *
+     * @return matched scenarios
+     */
+    @Benchmark
+    public Set<String> requestKey() {
+        final HttpRequestEntity request = nextRequest();
+        final Set<String> businesses = requestCache.get(request);
+        if (businesses != null) {
+            return businesses;
+        }
+        final Set<String> result = match(request);
+        requestCache.put(request, result);
+        return result;
+    }
+
+    private HttpRequestEntity nextRequest() {
+        final HttpRequestEntity request = requests[index];
+        index = (index + 1) & (REQUEST_COUNT - 1);
+        return request;
+    }
+
+    private Set<String> match(RequestEntity request) {
+        final Set<String> result = new HashSet<>();
+        for (BusinessMatcher businessMatcher : businessMatchers) {
+            if (businessMatcher.match(request)) {
+                result.add(businessMatcher.getName());
+            }
+        }
+        return result.isEmpty() ? Collections.emptySet() : result;
+    }
+
+    private static RawOperator createOperator(String operator, String value) {
+        final RawOperator rawOperator = new RawOperator();
+        rawOperator.put(operator, value);
+        return rawOperator;
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MatchedCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.handler;
+
+import io.sermant.core.operation.OperationManager;
+import io.sermant.core.operation.converter.api.YamlConverter;
+import io.sermant.flowcontrol.common.core.ResolverManager;
+import io.sermant.flowcontrol.common.core.resolver.BulkheadRuleResolver;
+import io.sermant.flowcontrol.common.core.rule.BulkheadRule;
+import io.sermant.implement.operation.converter.YamlConverterImpl;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * test the handler cache and the in place update of handlers
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class AbstractRequestHandlerTest {
+    private static final String KEY_PREFIX = BulkheadRuleResolver.CONFIG_KEY + ".";
+
+    private MockedStatic<OperationManager> operationManagerMockedStatic;
+
+    private TestHandler handler;
+
+    @Before
+    public void setUp() {
+        operationManagerMockedStatic = Mockito.mockStatic(OperationManager.class);
+        operationManagerMockedStatic.when(() -> OperationManager.getOperation(YamlConverter.class))
+                .thenReturn(new YamlConverterImpl());
+        ResolverManager.INSTANCE.getResolversMap().put(KEY_PREFIX, new BulkheadRuleResolver());
+        handler = new TestHandler();
+    }
+
+    @After
+    public void tearDown() {
+        operationManagerMockedStatic.close();
+    }
+
+    @Test
+    public void testHandlerListCache() {
+        publish("cacheA", 2, "1S");
+        publish("cacheB", 3, "1S");
+        final Set<String> businessNames = new HashSet<>(Arrays.asList("cacheA", "cacheB", "cacheMissing"));
+        final List<TestBulkhead> handlers = handler.createOrGetHandlers(businessNames);
+        Assert.assertEquals(2, handlers.size());
+        Assert.assertSame(handlers, handler.createOrGetHandlers(new HashSet<>(businessNames)));
+        Assert.assertTrue(handler.createOrGetHandlers(Collections.singleton("cacheMissing")).isEmpty());
+        Assert.assertTrue(handler.createOrGetHandlers(Collections.emptySet()).isEmpty());
+    }
+
+    @Test
+    public void testUpdateInPlace() {
+        publish("updateA", 2, "1S");
+        final Set<String> businessNames = Collections.singleton("updateA");
+        final List<TestBulkhead> handlers = handler.createOrGetHandlers(businessNames);
+        final TestBulkhead bulkhead = handlers.get(0);
+        Assert.assertEquals(2, bulkhead.maxConcurrentCalls);
+
+        // only the threshold changes, the handler is kept and reconfigured
+        publish("updateA", 5, "1S");
+        final List<TestBulkhead> updatedHandlers = handler.createOrGetHandlers(businessNames);
+        Assert.assertNotSame(handlers, updatedHandlers);
+        Assert.assertSame(bulkhead, updatedHandlers.get(0));
+        Assert.assertEquals(5, bulkhead.maxConcurrentCalls);
+    }
+
+    @Test
+    public void testRecreateAndDelete() {
+        publish("recreateA", 2, "1S");
+        final Set<String> businessNames = Collections.singleton("recreateA");
+        final TestBulkhead bulkhead = handler.createOrGetHandlers(businessNames).get(0);
+
+        // the handler can not be reconfigured, it is recreated from the new rule
+        publish("recreateA", 2, "2S");
+        final TestBulkhead recreated = handler.createOrGetHandlers(businessNames).get(0);
+        Assert.assertNotSame(bulkhead, recreated);
+        Assert.assertEquals(2000L, recreated.maxWaitDuration);
+
+        ResolverManager.INSTANCE.resolve(KEY_PREFIX + "recreateA", null, true);
+        Assert.assertTrue(handler.createOrGetHandlers(businessNames).isEmpty());
+    }
+
+    private void publish(String businessName, int maxConcurrentCalls, String maxWaitDuration) {
+        ResolverManager.INSTANCE.resolve(KEY_PREFIX + businessName,
+                "maxConcurrentCalls: " + maxConcurrentCalls + "\nmaxWaitDuration: " + maxWaitDuration, false);
+    }
+
+    /**
+     * handler whose concurrency can be changed in place, but not its wait duration
+     *
+     * @since 2026-10-18
+     */
+    private static class TestHandler extends AbstractRequestHandler<TestBulkhead, BulkheadRule> {
+        @Override
+        protected Optional<TestBulkhead> createHandler(String businessName, BulkheadRule rule) {
+            return Optional.of(new TestBulkhead(rule.getMaxConcurrentCalls(), rule.getParsedMaxWaitDuration()));
+        }
+
+        @Override
+        protected boolean updateHandler(String businessName, TestBulkhead bulkhead, BulkheadRule rule) {
+            if (bulkhead.maxWaitDuration != rule.getParsedMaxWaitDuration()) {
+                return false;
+            }
+            bulkhead.maxConcurrentCalls = rule.getMaxConcurrentCalls();
+            return true;
+        }
+
+        @Override
+        protected String configKey() {
+            return BulkheadRuleResolver.CONFIG_KEY;
+        }
+    }
+
+    /**
+     * handler state
+     *
+     * @since 2026-10-18
+     */
+    private static class TestBulkhead {
+        private final long maxWaitDuration;
+
+        private int maxConcurrentCalls;
+
+        TestBulkhead(int maxConcurrentCalls, long maxWaitDuration) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.maxWaitDuration = maxWaitDuration;
+        }
+    }
+}
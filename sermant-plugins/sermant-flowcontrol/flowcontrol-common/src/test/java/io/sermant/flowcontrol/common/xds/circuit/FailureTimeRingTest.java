@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.xds.circuit;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Failure time ring Test
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class FailureTimeRingTest {
+    @Test
+    public void testIsReached() {
+        final FailureTimeRing ring = new FailureTimeRing();
+        ring.record(3, 1000L);
+        ring.record(3, 1500L);
+        assertFalse(ring.isReached(3, 1000L, 2000L));
+        ring.record(3, 2000L);
+        assertTrue(ring.isReached(3, 1000L, 2000L));
+
+        // The third last failure is out of the interval
+        assertFalse(ring.isReached(3, 500L, 2000L));
+        ring.record(3, 2100L);
+        assertTrue(ring.isReached(3, 600L, 2100L));
+        assertFalse(ring.isReached(0, 600L, 2100L));
+        ring.reset();
+        assertFalse(ring.isReached(3, 1000L, 2100L));
+        assertEquals(0, ring.getFailureCount());
+    }
+
+    @Test
+    public void testGrowWithThreshold() {
+        final FailureTimeRing ring = new FailureTimeRing();
+        for (int i = 0; i < 8; i++) {
+            ring.record(8, i);
+        }
+
+        // Raising the threshold keeps the recorded times
+        for (int i = 8; i < 20; i++) {
+            ring.record(20, i);
+        }
+        assertTrue(ring.isReached(20, 19L, 19L));
+        assertFalse(ring.isReached(20, 18L, 19L));
+    }
+
+    @Test
+    public void testThresholdAboveMaximumIsCapped() {
+        final FailureTimeRing ring = new FailureTimeRing();
+        final int threshold = FailureTimeRing.MAX_CAPACITY + 1;
+        for (int i = 0; i < FailureTimeRing.MAX_CAPACITY; i++) {
+            ring.record(threshold, 1000L);
+        }
+        assertEquals(FailureTimeRing.MAX_CAPACITY, ring.getFailureCount());
+        assertTrue(ring.isReached(threshold, 1000L, 1000L));
+    }
+
+    @Test
+    public void testConcurrentRecord() throws InterruptedException {
+        final FailureTimeRing ring = new FailureTimeRing();
+        final int threadCount = 8;
+        final int failures = 10000;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        final AtomicInteger reached = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < failures; j++) {
+                    ring.record(5, System.currentTimeMillis());
+                    if (ring.isReached(5, 60000L, System.currentTimeMillis())) {
+                        reached.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        assertEquals(threadCount * failures, ring.getFailureCount());
+        assertTrue(reached.get() > 0);
+        assertTrue(ring.isReached(5, 60000L, System.currentTimeMillis()));
+    }
+}
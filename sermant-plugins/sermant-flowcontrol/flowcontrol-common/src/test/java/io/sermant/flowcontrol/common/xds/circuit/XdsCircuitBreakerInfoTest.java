@@ -19,12 +19,14 @@ package io.sermant.flowcontrol.common.xds.circuit;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.Deque;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Circuit Breaker information Test
@@ -41,54 +43,53 @@ public class XdsCircuitBreakerInfoTest {
     }
 
     @Test
-    public void testLocalFailureGetterAndSetter() {
-        final Deque<Long> localFailure = new ConcurrentLinkedDeque<>();
-        localFailure.add(1L);
-        xdsCircuitBreakerInfoUnderTest.setLocalFailure(localFailure);
-        assertEquals(localFailure, xdsCircuitBreakerInfoUnderTest.getLocalFailure());
-    }
-
-    @Test
-    public void testServerFailureGetterAndSetter() {
-        final Deque<Long> serverFailure = new ConcurrentLinkedDeque<>();
-        serverFailure.add(1L);
-        xdsCircuitBreakerInfoUnderTest.setServerFailure(serverFailure);
-        assertEquals(serverFailure, xdsCircuitBreakerInfoUnderTest.getServerFailure());
-    }
-
-    @Test
-    public void testGateWayFailureGetterAndSetter() {
-        final Deque<Long> gateWayFailure = new ConcurrentLinkedDeque<>();
-        gateWayFailure.add(1L);
-        xdsCircuitBreakerInfoUnderTest.setGateWayFailure(gateWayFailure);
-        assertEquals(gateWayFailure, xdsCircuitBreakerInfoUnderTest.getGateWayFailure());
-    }
+    public void testTryOpen() {
+        final long currentTime = System.currentTimeMillis();
+        assertFalse(xdsCircuitBreakerInfoUnderTest.isOpen(currentTime));
+        assertTrue(xdsCircuitBreakerInfoUnderTest.tryOpen(1000L, currentTime));
+        assertEquals(1, xdsCircuitBreakerInfoUnderTest.getCircuitBreakerCount());
+        assertEquals(currentTime + 1000L, xdsCircuitBreakerInfoUnderTest.getCircuitBreakerEndTime());
+        assertTrue(xdsCircuitBreakerInfoUnderTest.isOpen(currentTime + 999L));
 
-    @Test
-    public void testIsOpenGetterAndSetter() {
-        final boolean isOpen = false;
-        xdsCircuitBreakerInfoUnderTest.setOpen(isOpen);
-        assertFalse(xdsCircuitBreakerInfoUnderTest.isOpen());
-    }
+        // An open circuit breaker is not opened again
+        assertFalse(xdsCircuitBreakerInfoUnderTest.tryOpen(1000L, currentTime + 500L));
+        assertEquals(1, xdsCircuitBreakerInfoUnderTest.getCircuitBreakerCount());
 
-    @Test
-    public void testCircuitBreakerTimeGetterAndSetter() {
-        final long circuitBreakerTime = System.currentTimeMillis();
-        xdsCircuitBreakerInfoUnderTest.setCircuitBreakerEndTime(circuitBreakerTime);
-        assertEquals(circuitBreakerTime, xdsCircuitBreakerInfoUnderTest.getCircuitBreakerEndTime());
+        // The circuit breaker time is the number of circuit breakers multiplied by the interval
+        assertFalse(xdsCircuitBreakerInfoUnderTest.isOpen(currentTime + 1000L));
+        assertTrue(xdsCircuitBreakerInfoUnderTest.tryOpen(1000L, currentTime + 1000L));
+        assertEquals(2, xdsCircuitBreakerInfoUnderTest.getCircuitBreakerCount());
+        assertEquals(currentTime + 3000L, xdsCircuitBreakerInfoUnderTest.getCircuitBreakerEndTime());
     }
 
     @Test
-    public void testCircuitBreakerCountGetterAndSetter() {
-        final AtomicInteger circuitBreakerCount = new AtomicInteger(1);
-        xdsCircuitBreakerInfoUnderTest.setCircuitBreakerCount(circuitBreakerCount);
-        assertEquals(circuitBreakerCount, xdsCircuitBreakerInfoUnderTest.getCircuitBreakerCount());
+    public void testOpenOnceConcurrently() throws InterruptedException {
+        final long currentTime = System.currentTimeMillis();
+        final int threadCount = 8;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        final AtomicInteger opened = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    if (xdsCircuitBreakerInfoUnderTest.tryOpen(60000L, currentTime)) {
+                        opened.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        assertEquals(1, opened.get());
+        assertEquals(1, xdsCircuitBreakerInfoUnderTest.getCircuitBreakerCount());
     }
 
     @Test
     public void testCleanRequestDate() {
-        testCircuitBreakerTimeGetterAndSetter();
+        xdsCircuitBreakerInfoUnderTest.getServerFailure().record(1, System.currentTimeMillis());
+        assertEquals(1, xdsCircuitBreakerInfoUnderTest.getServerFailure().getFailureCount());
         xdsCircuitBreakerInfoUnderTest.cleanRequestData();
-        assertEquals(0, xdsCircuitBreakerInfoUnderTest.getServerFailure().size());
+        assertEquals(0, xdsCircuitBreakerInfoUnderTest.getServerFailure().getFailureCount());
     }
 }
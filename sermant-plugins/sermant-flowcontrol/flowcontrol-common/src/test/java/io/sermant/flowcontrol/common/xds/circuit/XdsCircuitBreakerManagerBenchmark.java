@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.xds.circuit;
+
+import io.sermant.core.service.xds.entity.XdsInstanceCircuitBreakers;
+import io.sermant.flowcontrol.common.entity.FlowControlScenario;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cost of one second of 10k failing requests per second, each recording the failure and checking the thresholds of
+ * its instance: the atomic failure rings and ejection word against the deques of boxed times and the status code
+ * string used before, which are guarded by the instance here since they are not thread safe. The interval is 0, so an
+ * instance is ejected whenever its thresholds are reached within one millisecond and is restored at once, which keeps
+ * every path busy. Run with the main method from the test classpath, the gc profiler reports the allocated bytes
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class XdsCircuitBreakerManagerBenchmark {
+    private static final int FAILING_REQUESTS_PER_SECOND = 10000;
+
+    private static final String GATE_WAY_FAILURE = "502,503,504";
+
+    private static final int STATUS_CODE = 503;
+
+    /**
+     * Number of instances the failures are spread over
+     */
+    @Param({"1", "100"})
+    public int instances;
+
+    private final XdsInstanceCircuitBreakers circuitBreakers = new XdsInstanceCircuitBreakers();
+
+    private final Map<String, Map<String, Map<String, LegacyInfo>>> legacyInfoMap = new ConcurrentHashMap<>();
+
+    private FlowControlScenario[] scenarios;
+
+    /**
+     * Create the rule and the scenarios of the instances
+     */
+    @Setup
+    public void setUp() {
+        circuitBreakers.setConsecutiveLocalOriginFailure(5);
+        circuitBreakers.setConsecutiveGatewayFailure(5);
+        circuitBreakers.setConsecutive5xxFailure(5);
+        circuitBreakers.setInterval(0L);
+        scenarios = new FlowControlScenario[instances];
+        for (int i = 0; i < instances; i++) {
+            FlowControlScenario scenario = new FlowControlScenario();
+            scenario.setServiceName("benchmarkService");
+            scenario.setRouteName("route-" + instances);
+            scenario.setAddress("10.0.0." + i + ":8080");
+            scenarios[i] = scenario;
+        }
+    }
+
+    /**
+     * Failures recorded in the atomic failure rings
+     *
+     * @return ejected instances
+     */
+    @Benchmark
+    public int lockFree() {
+        int ejected = 0;
+        for (int i = 0; i < FAILING_REQUESTS_PER_SECOND; i++) {
+            FlowControlScenario scenario = scenarios[i % instances];
+            XdsCircuitBreakerManager.recordFailureRequest(scenario, scenario.getAddress(), STATUS_CODE,
+                    circuitBreakers);
+            XdsCircuitBreakerManager.setCircuitBeakerStatus(circuitBreakers, scenario);
+            if (XdsCircuitBreakerManager.needsInstanceCircuitBreaker(scenario, scenario.getAddress())) {
+                ejected++;
+            }
+        }
+        return ejected;
+    }
+
+    /**
+     * Failures recorded in the deques of boxed times
+     *
+     * @return ejected instances
+     */
+    @Benchmark
+    public int deque() {
+        int ejected = 0;
+        for (int i = 0; i < FAILING_REQUESTS_PER_SECOND; i++) {
+            FlowControlScenario scenario = scenarios[i % instances];
+            LegacyInfo info = getLegacyInfo(scenario);
+            synchronized (info) {
+                info.recordFailureRequest(STATUS_CODE, circuitBreakers);
+            }
+            info = getLegacyInfo(scenario);
+            synchronized (info) {
+                info.setCircuitBeakerStatus(circuitBreakers);
+            }
+            if (getLegacyInfo(scenario).isCircuitBreakerOpen()) {
+                ejected++;
+            }
+        }
+        return ejected;
+    }
+
+    private LegacyInfo getLegacyInfo(FlowControlScenario scenario) {
+        return legacyInfoMap.computeIfAbsent(scenario.getServiceName(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(scenario.getRouteName(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(scenario.getAddress(), key -> new LegacyInfo());
+    }
+
+    /**
+     * Instance state and algorithm of the deque implementation
+     *
+     * @since 2026-10-18
+     */
+    private static class LegacyInfo {
+        private final Deque<Long> localFailure = new LinkedList<>();
+
+        private final Deque<Long> gateWayFailure = new LinkedList<>();
+
+        private final Deque<Long> serverFailure = new LinkedList<>();
+
+        private final AtomicInteger circuitBreakerCount = new AtomicInteger();
+
+        private volatile boolean isOpen;
+
+        private volatile long circuitBreakerEndTime;
+
+        void recordFailureRequest(int code, XdsInstanceCircuitBreakers rule) {
+            if (isCircuitBreakerOpen()) {
+                return;
+            }
+            long currentTime = System.currentTimeMillis();
+            recordRequestTime(localFailure, rule.getConsecutiveLocalOriginFailure(), currentTime);
+            if (code != 0 && GATE_WAY_FAILURE.contains(String.valueOf(code))) {
+                recordRequestTime(gateWayFailure, rule.getConsecutiveGatewayFailure(), currentTime);
+            }
+            recordRequestTime(serverFailure, rule.getConsecutive5xxFailure(), currentTime);
+        }
+
+        void setCircuitBeakerStatus(XdsInstanceCircuitBreakers rule) {
+            if (shouldCircuitBreakerByFailure(gateWayFailure, rule.getConsecutiveGatewayFailure(),
+                    rule.getInterval())) {
+                openCircuitBreaker(rule.getInterval());
+            }
+            if (shouldCircuitBreakerByFailure(serverFailure, rule.getConsecutive5xxFailure(), rule.getInterval())) {
+                openCircuitBreaker(rule.getInterval());
+            }
+        }
+
+        boolean isCircuitBreakerOpen() {
+            return isOpen && circuitBreakerEndTime > System.currentTimeMillis();
+        }
+
+        private void openCircuitBreaker(long interval) {
+            isOpen = true;
+            circuitBreakerCount.incrementAndGet();
+            localFailure.clear();
+            gateWayFailure.clear();
+            serverFailure.clear();
+            circuitBreakerEndTime = System.currentTimeMillis() + circuitBreakerCount.get() * interval;
+        }
+
+        private static boolean shouldCircuitBreakerByFailure(Deque<Long> times, int threshold, long interval) {
+            if (threshold <= 0 || times.isEmpty() || times.size() < threshold) {
+                return false;
+            }
+            for (int i = times.size(); i > threshold; i--) {
+                times.removeFirst();
+            }
+            return System.currentTimeMillis() - times.getFirst() <= interval;
+        }
+
+        private static void recordRequestTime(Deque<Long> times, int threshold, long currentTime) {
+            if (threshold <= 0) {
+                return;
+            }
+            for (int i = times.size(); i >= threshold && !times.isEmpty(); i--) {
+                times.removeFirst();
+            }
+            times.add(currentTime);
+        }
+    }
+
+    /**
+     * Run the benchmark with the gc profiler
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(XdsCircuitBreakerManagerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
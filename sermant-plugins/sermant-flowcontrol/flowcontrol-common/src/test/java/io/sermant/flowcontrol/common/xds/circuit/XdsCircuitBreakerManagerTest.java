@@ -21,6 +21,11 @@ import io.sermant.flowcontrol.common.entity.FlowControlScenario;
 import io.sermant.flowcontrol.common.util.XdsThreadLocalUtil;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -102,4 +107,66 @@ public class XdsCircuitBreakerManagerTest {
         result = XdsCircuitBreakerManager.needsInstanceCircuitBreaker(scenarioInfo, ADDRESS);
         assertTrue(result);
     }
+
+    @Test
+    public void testGatewayFailureCode() {
+        final FlowControlScenario scenarioInfo = buildScenario("127.0.0.1:8081");
+        final XdsInstanceCircuitBreakers circuitBreakers = new XdsInstanceCircuitBreakers();
+        circuitBreakers.setConsecutiveGatewayFailure(1);
+        circuitBreakers.setInterval(60000L);
+
+        // Status codes that are only substrings of the gateway codes are not gateway errors
+        XdsCircuitBreakerManager.recordFailureRequest(scenarioInfo, scenarioInfo.getAddress(), 2, circuitBreakers);
+        XdsCircuitBreakerManager.recordFailureRequest(scenarioInfo, scenarioInfo.getAddress(), 50, circuitBreakers);
+        XdsCircuitBreakerManager.setCircuitBeakerStatus(circuitBreakers, scenarioInfo);
+        assertFalse(XdsCircuitBreakerManager.needsInstanceCircuitBreaker(scenarioInfo, scenarioInfo.getAddress()));
+        XdsCircuitBreakerManager.recordFailureRequest(scenarioInfo, scenarioInfo.getAddress(), 504, circuitBreakers);
+        XdsCircuitBreakerManager.setCircuitBeakerStatus(circuitBreakers, scenarioInfo);
+        assertTrue(XdsCircuitBreakerManager.needsInstanceCircuitBreaker(scenarioInfo, scenarioInfo.getAddress()));
+    }
+
+    @Test
+    public void testConcurrentFailures() throws InterruptedException {
+        final FlowControlScenario scenarioInfo = buildScenario("127.0.0.1:8082");
+        final XdsInstanceCircuitBreakers circuitBreakers = new XdsInstanceCircuitBreakers();
+        circuitBreakers.setConsecutiveGatewayFailure(5);
+        circuitBreakers.setConsecutive5xxFailure(10);
+        circuitBreakers.setInterval(60000L);
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger errors = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    for (int j = 0; j < 10000; j++) {
+                        XdsCircuitBreakerManager.recordFailureRequest(scenarioInfo, scenarioInfo.getAddress(), 503,
+                                circuitBreakers);
+                        XdsCircuitBreakerManager.setCircuitBeakerStatus(circuitBreakers, scenarioInfo);
+                    }
+                } catch (RuntimeException ex) {
+                    errors.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        assertEquals(0, errors.get());
+        assertTrue(XdsCircuitBreakerManager.needsInstanceCircuitBreaker(scenarioInfo, scenarioInfo.getAddress()));
+
+        // The instance is ejected once, the failures recorded while it is ejected are ignored
+        assertEquals(1, XdsCircuitBreakerManager.getCircuitBreakerInfo(SERVICE_NAME, ROUTE_NAME,
+                scenarioInfo.getAddress()).getCircuitBreakerCount());
+    }
+
+    private FlowControlScenario buildScenario(String address) {
+        final FlowControlScenario scenarioInfo = new FlowControlScenario();
+        scenarioInfo.setServiceName(SERVICE_NAME);
+        scenarioInfo.setClusterName(CLUSTER_NAME);
+        scenarioInfo.setRouteName(ROUTE_NAME);
+        scenarioInfo.setAddress(address);
+        return scenarioInfo;
+    }
 }
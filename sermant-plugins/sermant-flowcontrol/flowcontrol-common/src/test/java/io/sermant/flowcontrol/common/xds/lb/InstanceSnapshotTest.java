@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.xds.lb;
+
+import io.sermant.core.service.xds.entity.ServiceInstance;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test of the snapshot and counter shared by the load balancers
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class InstanceSnapshotTest {
+    @Test
+    public void testIsSnapshotOf() {
+        List<ServiceInstance> instances = XdsRoundRobinLoadBalancerTest.createInstances(1, 1, 1);
+        InstanceSnapshot snapshot = new InstanceSnapshot(instances);
+        Assert.assertTrue(snapshot.isSnapshotOf(instances));
+        Assert.assertTrue(snapshot.isSnapshotOf(new ArrayList<>(instances)));
+        Assert.assertFalse(snapshot.isSnapshotOf(instances.subList(0, 2)));
+
+        // same instances in another order, or equal but other objects, are another snapshot
+        List<ServiceInstance> reversed = new ArrayList<>(instances);
+        Collections.reverse(reversed);
+        Assert.assertFalse(snapshot.isSnapshotOf(reversed));
+        List<ServiceInstance> equalInstances = XdsRoundRobinLoadBalancerTest.createInstances(1, 1, 1);
+        Assert.assertEquals(instances, equalInstances);
+        Assert.assertFalse(snapshot.isSnapshotOf(equalInstances));
+        Assert.assertTrue(InstanceSnapshot.EMPTY.isSnapshotOf(Collections.emptyList()));
+    }
+
+    @Test
+    public void testWeights() {
+        InstanceSnapshot equal = new InstanceSnapshot(XdsRoundRobinLoadBalancerTest.createInstances(2, 2));
+        Assert.assertFalse(equal.isWeighted());
+        InstanceSnapshot weighted = new InstanceSnapshot(XdsRoundRobinLoadBalancerTest.createInstances(0, -1, 3));
+        Assert.assertTrue(weighted.isWeighted());
+        Assert.assertArrayEquals(new int[]{1, 1, 3}, weighted.getWeights());
+    }
+
+    @Test
+    public void testStripedCounter() throws InterruptedException {
+        StripedCounter counter = new StripedCounter();
+        Assert.assertEquals(0L, counter.getAndIncrement());
+        Assert.assertEquals(1L, counter.getAndIncrement());
+
+        int threadCount = 8;
+        int increments = 10000;
+        AtomicLong negative = new AtomicLong();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < increments; j++) {
+                    if (counter.getAndIncrement() < 0) {
+                        negative.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        Assert.assertEquals(0L, negative.get());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.xds.lb;
+
+import io.sermant.core.service.xds.entity.ServiceInstance;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * XdsRandomLoadBalancerTest
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class XdsRandomLoadBalancerTest {
+    private static final int PICKS = 100000;
+
+    @Test
+    public void testSelectInstance() {
+        XdsLoadBalancer loadBalancer = new XdsRandomLoadBalancer();
+        List<ServiceInstance> instances = XdsRoundRobinLoadBalancerTest.createInstances(1, 1);
+        int[] counts = new int[instances.size()];
+        for (int i = 0; i < PICKS; i++) {
+            counts[instances.indexOf(loadBalancer.selectInstance(instances))]++;
+        }
+        Assert.assertEquals(0.5d, (double) counts[0] / PICKS, 0.01d);
+    }
+
+    @Test
+    public void testWeightedSelectInstance() {
+        XdsLoadBalancer loadBalancer = new XdsRandomLoadBalancer();
+        List<ServiceInstance> instances = XdsRoundRobinLoadBalancerTest.createInstances(1, 3, 6);
+        int[] counts = new int[instances.size()];
+        for (int i = 0; i < PICKS; i++) {
+            counts[instances.indexOf(loadBalancer.selectInstance(instances))]++;
+        }
+        Assert.assertEquals(0.1d, (double) counts[0] / PICKS, 0.01d);
+        Assert.assertEquals(0.3d, (double) counts[1] / PICKS, 0.01d);
+        Assert.assertEquals(0.6d, (double) counts[2] / PICKS, 0.01d);
+
+        // a changed EDS snapshot takes effect on the next pick
+        List<ServiceInstance> changed = XdsRoundRobinLoadBalancerTest.createInstances(9, 1);
+        counts = new int[changed.size()];
+        for (int i = 0; i < PICKS; i++) {
+            counts[changed.indexOf(loadBalancer.selectInstance(changed))]++;
+        }
+        Assert.assertEquals(0.9d, (double) counts[0] / PICKS, 0.01d);
+    }
+}
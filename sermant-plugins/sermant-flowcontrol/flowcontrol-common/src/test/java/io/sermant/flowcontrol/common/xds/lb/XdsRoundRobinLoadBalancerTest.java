@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.xds.lb;
+
+import io.sermant.core.service.xds.entity.ServiceInstance;
+import io.sermant.implement.service.xds.entity.XdsServiceInstance;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * XdsRoundRobinLoadBalancerTest
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class XdsRoundRobinLoadBalancerTest {
+    @Test
+    public void testSelectInstance() {
+        XdsLoadBalancer loadBalancer = new XdsRoundRobinLoadBalancer();
+        List<ServiceInstance> instances = createInstances(1, 1);
+        Assert.assertSame(instances.get(0), loadBalancer.selectInstance(instances));
+        Assert.assertSame(instances.get(1), loadBalancer.selectInstance(instances));
+        Assert.assertSame(instances.get(0), loadBalancer.selectInstance(instances));
+
+        List<ServiceInstance> single = createInstances(5);
+        Assert.assertSame(single.get(0), loadBalancer.selectInstance(single));
+    }
+
+    @Test
+    public void testWeightedSelectInstance() {
+        XdsLoadBalancer loadBalancer = new XdsRoundRobinLoadBalancer();
+        List<ServiceInstance> instances = createInstances(1, 2, 3);
+
+        // smooth weighted round-robin spreads the picks of an instance over the cycle
+        List<ServiceInstance> expected = Arrays.asList(instances.get(2), instances.get(1), instances.get(0),
+                instances.get(2), instances.get(1), instances.get(2));
+        List<ServiceInstance> selected = new ArrayList<>();
+        for (int i = 0; i < expected.size(); i++) {
+            selected.add(loadBalancer.selectInstance(new ArrayList<>(instances)));
+        }
+        Assert.assertEquals(expected, selected);
+
+        int[] counts = new int[instances.size()];
+        for (int i = 0; i < 600; i++) {
+            counts[instances.indexOf(loadBalancer.selectInstance(new ArrayList<>(instances)))]++;
+        }
+        Assert.assertArrayEquals(new int[]{100, 200, 300}, counts);
+
+        // a changed EDS snapshot takes effect on the next pick
+        List<ServiceInstance> changed = createInstances(1, 1);
+        Assert.assertSame(changed.get(0), loadBalancer.selectInstance(changed));
+        Assert.assertSame(changed.get(1), loadBalancer.selectInstance(changed));
+    }
+
+    @Test
+    public void testLargeWeightsAreScaledDown() {
+        XdsLoadBalancer loadBalancer = new XdsRoundRobinLoadBalancer();
+        List<ServiceInstance> instances = createInstances(1, XdsRoundRobinLoadBalancer.MAX_SCHEDULE_LENGTH * 4);
+        int[] counts = new int[instances.size()];
+        for (int i = 0; i < XdsRoundRobinLoadBalancer.MAX_SCHEDULE_LENGTH; i++) {
+            counts[instances.indexOf(loadBalancer.selectInstance(instances))]++;
+        }
+        Assert.assertEquals(1, counts[0]);
+        Assert.assertEquals(XdsRoundRobinLoadBalancer.MAX_SCHEDULE_LENGTH - 1, counts[1]);
+    }
+
+    @Test
+    public void testConcurrentFairness() throws InterruptedException {
+        XdsLoadBalancer loadBalancer = new XdsRoundRobinLoadBalancer();
+        List<ServiceInstance> instances = createInstances(1, 1, 1, 1, 1);
+        int threadCount = 8;
+        int rounds = 1000;
+        Map<ServiceInstance, AtomicInteger> counts = new ConcurrentHashMap<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < rounds * instances.size(); j++) {
+                    counts.computeIfAbsent(loadBalancer.selectInstance(instances), key -> new AtomicInteger())
+                            .incrementAndGet();
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        for (ServiceInstance instance : instances) {
+            Assert.assertEquals(threadCount * rounds, counts.get(instance).get());
+        }
+    }
+
+    /**
+     * Create instances of a cluster with the weights
+     *
+     * @param weights load balancing weights
+     * @return instances
+     */
+    static List<ServiceInstance> createInstances(int... weights) {
+        List<ServiceInstance> instances = new ArrayList<>();
+        for (int i = 0; i < weights.length; i++) {
+            XdsServiceInstance instance = new XdsServiceInstance();
+            instance.setService("serviceA");
+            instance.setCluster("outbound|8080||serviceA.default.svc.cluster.local");
+            instance.setHost("127.0.0." + (i + 1));
+            instance.setPort(8080);
+            instance.setWeight(weights[i]);
+            instances.add(instance);
+        }
+        return instances;
+    }
+}
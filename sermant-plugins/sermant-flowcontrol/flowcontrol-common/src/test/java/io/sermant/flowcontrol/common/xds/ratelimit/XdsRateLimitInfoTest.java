@@ -16,12 +16,13 @@
 
 package io.sermant.flowcontrol.common.xds.ratelimit;
 
+import io.sermant.core.service.xds.entity.XdsTokenBucket;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * xds rate limit information Testz
@@ -30,24 +31,42 @@ import static org.junit.Assert.assertEquals;
  * @since 2024-12-05
  */
 public class XdsRateLimitInfoTest {
-    private XdsRateLimitInfo xdsRateLimitInfoUnderTest;
+    private XdsTokenBucket tokenBucket;
 
     @Before
     public void setUp() throws Exception {
-        xdsRateLimitInfoUnderTest = new XdsRateLimitInfo(0L, 0);
+        tokenBucket = new XdsTokenBucket();
+        tokenBucket.setMaxTokens(2);
+        tokenBucket.setTokensPerFill(1);
+        tokenBucket.setFillInterval(50L);
     }
 
     @Test
-    public void testLastFilledTimeGetterAndSetter() {
-        final long lastFilledTime = 0L;
-        xdsRateLimitInfoUnderTest.setLastFilledTime(lastFilledTime);
-        assertEquals(lastFilledTime, xdsRateLimitInfoUnderTest.getLastFilledTime());
+    public void testCurrentTokens() {
+        assertEquals(0, new XdsRateLimitInfo(0).getCurrentTokens());
+        assertEquals(0, new XdsRateLimitInfo(-1).getCurrentTokens());
+        assertEquals(XdsRateLimitInfo.MAX_TOKENS, new XdsRateLimitInfo(Integer.MAX_VALUE).getCurrentTokens());
+    }
+
+    @Test
+    public void testTryConsume() throws InterruptedException {
+        final XdsRateLimitInfo xdsRateLimitInfo = new XdsRateLimitInfo(2);
+        assertTrue(xdsRateLimitInfo.tryConsume(tokenBucket));
+        assertTrue(xdsRateLimitInfo.tryConsume(tokenBucket));
+        assertFalse(xdsRateLimitInfo.tryConsume(tokenBucket));
+
+        // Tokens are filled per elapsed interval, up to the bucket size
+        Thread.sleep(250L);
+        assertTrue(xdsRateLimitInfo.tryConsume(tokenBucket));
+        assertTrue(xdsRateLimitInfo.tryConsume(tokenBucket));
+        assertFalse(xdsRateLimitInfo.tryConsume(tokenBucket));
     }
 
     @Test
-    public void testCurrentTokensGetterAndSetter() {
-        final AtomicInteger currentTokens = new AtomicInteger(0);
-        xdsRateLimitInfoUnderTest.setCurrentTokens(currentTokens);
-        assertEquals(currentTokens, xdsRateLimitInfoUnderTest.getCurrentTokens());
+    public void testShrinkBucket() {
+        final XdsRateLimitInfo xdsRateLimitInfo = new XdsRateLimitInfo(2);
+        tokenBucket.setMaxTokens(1);
+        assertTrue(xdsRateLimitInfo.tryConsume(tokenBucket));
+        assertFalse(xdsRateLimitInfo.tryConsume(tokenBucket));
     }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.common.xds.ratelimit;
+
+import io.sermant.core.service.xds.entity.XdsTokenBucket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contention of token consumption on xDS rate limited routes: the lock-free bucket, either resolved by name or
+ * through a kept route handle, against the globally synchronized refill-then-decrement used before. Each thread
+ * limits one of {@link #routes} routes. Run with the main method, which repeats the suite with 1 to 64 threads
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XdsRateLimitManagerBenchmark {
+    private static final String SERVICE_NAME = "benchmarkService";
+
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 64};
+
+    private static final Map<String, Map<String, LockedBucket>> LOCKED_BUCKET_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * Number of routes the threads are spread over
+     */
+    @Param({"1", "16"})
+    public int routes;
+
+    private final AtomicInteger threadIndex = new AtomicInteger();
+
+    private XdsTokenBucket tokenBucket;
+
+    private String[] routeNames;
+
+    private XdsRateLimitInfo[] handles;
+
+    /**
+     * Create a bucket refilled every millisecond, large enough that some requests pass and others are limited
+     */
+    @Setup
+    public void setUp() {
+        tokenBucket = new XdsTokenBucket();
+        tokenBucket.setMaxTokens(1000);
+        tokenBucket.setTokensPerFill(1000);
+        tokenBucket.setFillInterval(1L);
+        routeNames = new String[routes];
+        handles = new XdsRateLimitInfo[routes];
+        for (int i = 0; i < routes; i++) {
+            routeNames[i] = "route-" + routes + "-" + i;
+            handles[i] = XdsRateLimitManager.getRateLimitInfo(SERVICE_NAME, routeNames[i], tokenBucket);
+        }
+    }
+
+    /**
+     * Route of the benchmark thread
+     *
+     * @since 2026-10-18
+     */
+    @State(Scope.Thread)
+    public static class ThreadRoute {
+        int index;
+
+        /**
+         * Assign the route of the thread
+         *
+         * @param benchmark benchmark state
+         */
+        @Setup
+        public void setUp(XdsRateLimitManagerBenchmark benchmark) {
+            index = benchmark.threadIndex.getAndIncrement() % benchmark.routes;
+        }
+    }
+
+    /**
+     * Lock-free bucket resolved by service and route name
+     *
+     * @param route route of the thread
+     * @return consumed or not
+     */
+    @Benchmark
+    public boolean lockFree(ThreadRoute route) {
+        return XdsRateLimitManager.fillAndConsumeToken(SERVICE_NAME, routeNames[route.index], tokenBucket);
+    }
+
+    /**
+     * Lock-free bucket through the kept route handle
+     *
+     * @param route route of the thread
+     * @return consumed or not
+     */
+    @Benchmark
+    public boolean lockFreeHandle(ThreadRoute route) {
+        return handles[route.index].tryConsume(tokenBucket);
+    }
+
+    /**
+     * Globally synchronized bucket
+     *
+     * @param route route of the thread
+     * @return consumed or not
+     */
+    @Benchmark
+    public boolean synchronizedBucket(ThreadRoute route) {
+        return lockedFillAndConsume(SERVICE_NAME, routeNames[route.index], tokenBucket);
+    }
+
+    private static synchronized boolean lockedFillAndConsume(String serviceName, String routeName,
+            XdsTokenBucket bucket) {
+        LockedBucket lockedBucket = LOCKED_BUCKET_MAP.computeIfAbsent(serviceName, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(routeName, key -> new LockedBucket(bucket.getMaxTokens()));
+        long now = System.currentTimeMillis();
+        long tokensToAdd = (now - lockedBucket.lastFilledTime) / bucket.getFillInterval() * bucket.getTokensPerFill();
+        if (tokensToAdd > 0) {
+            lockedBucket.tokens.set((int) Math.min(bucket.getMaxTokens(), lockedBucket.tokens.get() + tokensToAdd));
+            lockedBucket.lastFilledTime = now;
+        }
+        if (lockedBucket.tokens.get() >= 1) {
+            lockedBucket.tokens.addAndGet(-1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Bucket state of the synchronized implementation
+     *
+     * @since 2026-10-18
+     */
+    private static class LockedBucket {
+        private final AtomicInteger tokens;
+
+        private long lastFilledTime = System.currentTimeMillis();
+
+        LockedBucket(int tokens) {
+            this.tokens = new AtomicInteger(tokens);
+        }
+    }
+
+    /**
+     * Run the benchmark with 1 to 64 threads
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder().include(XdsRateLimitManagerBenchmark.class.getSimpleName())
+                    .threads(threads).build()).run();
+        }
+    }
+}
@@ -16,10 +16,19 @@
 
 package io.sermant.flowcontrol.common.xds.ratelimit;
 
+import io.sermant.core.service.xds.entity.XdsRateLimit;
 import io.sermant.core.service.xds.entity.XdsTokenBucket;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -55,4 +64,55 @@ public class XdsRateLimitManagerTest {
         result = XdsRateLimitManager.fillAndConsumeToken(SERVICE_NAME, ROUTE_NAME, tokenBucket);
         assertFalse(result);
     }
+
+    @Test
+    public void testConcurrentConsumeToken() throws InterruptedException {
+        final XdsTokenBucket tokenBucket = new XdsTokenBucket();
+        tokenBucket.setMaxTokens(1000);
+        tokenBucket.setTokensPerFill(1000);
+        tokenBucket.setFillInterval(TimeUnit.HOURS.toMillis(1));
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger consumed = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < 500; j++) {
+                    if (XdsRateLimitManager.fillAndConsumeToken(SERVICE_NAME, "routeB", tokenBucket)) {
+                        consumed.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Every token is consumed exactly once
+        assertEquals(1000, consumed.get());
+        assertEquals(0, XdsRateLimitManager.getRateLimitInfo(SERVICE_NAME, "routeB", tokenBucket)
+                .getCurrentTokens());
+    }
+
+    @Test
+    public void testRateLimitInfoBoundToConfiguration() {
+        final XdsTokenBucket tokenBucket = new XdsTokenBucket();
+        tokenBucket.setMaxTokens(1);
+        tokenBucket.setTokensPerFill(1);
+        tokenBucket.setFillInterval(TimeUnit.HOURS.toMillis(1));
+        final XdsRateLimit rateLimit = new XdsRateLimit();
+        rateLimit.setTokenBucket(tokenBucket);
+        final XdsRateLimitInfo rateLimitInfo = XdsRateLimitManager.getRateLimitInfo(SERVICE_NAME, "routeC", rateLimit);
+        assertSame(rateLimitInfo, rateLimit.getTokenBucketState());
+
+        // The bound bucket is used without looking up the route
+        assertSame(rateLimitInfo, XdsRateLimitManager.getRateLimitInfo(SERVICE_NAME, "routeD", rateLimit));
+
+        // A newly applied configuration of the same route keeps consuming the tokens of the route
+        final XdsRateLimit appliedRateLimit = new XdsRateLimit();
+        appliedRateLimit.setTokenBucket(tokenBucket);
+        assertTrue(rateLimitInfo.tryConsume(tokenBucket));
+        assertFalse(XdsRateLimitManager.getRateLimitInfo(SERVICE_NAME, "routeC", appliedRateLimit)
+                .tryConsume(tokenBucket));
+    }
 }
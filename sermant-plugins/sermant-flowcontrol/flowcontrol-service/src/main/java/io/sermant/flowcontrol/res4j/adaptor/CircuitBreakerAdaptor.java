@@ -33,15 +33,20 @@ import java.util.concurrent.TimeUnit;
 public class CircuitBreakerAdaptor implements CircuitBreaker {
     private final CircuitBreaker oldCircuitBreaker;
 
+    /**
+     * rule the circuit breaker is currently configured with, replaced when only the force flags are updated
+     */
+    private volatile CircuitBreakerRule rule;
+
     /**
      * force off the circuit breaker
      */
-    private boolean forceClosed = false;
+    private volatile boolean forceClosed = false;
 
     /**
      * force open the circuit breaker
      */
-    private boolean forceOpen = false;
+    private volatile boolean forceOpen = false;
 
     /**
      * constructor
@@ -51,8 +56,22 @@ public class CircuitBreakerAdaptor implements CircuitBreaker {
      */
     public CircuitBreakerAdaptor(CircuitBreaker oldCircuitBreaker, CircuitBreakerRule rule) {
         this.oldCircuitBreaker = oldCircuitBreaker;
-        this.forceClosed = rule.isForceClosed();
-        this.forceOpen = rule.isForceOpen();
+        updateRule(rule);
+    }
+
+    /**
+     * apply an updated rule whose circuit breaker configuration is unchanged, the collected statistics are kept
+     *
+     * @param updatedRule updated circuit breaker rule
+     */
+    public final void updateRule(CircuitBreakerRule updatedRule) {
+        this.rule = updatedRule;
+        this.forceClosed = updatedRule.isForceClosed();
+        this.forceOpen = updatedRule.isForceOpen();
+    }
+
+    public CircuitBreakerRule getRule() {
+        return rule;
     }
 
     @Override
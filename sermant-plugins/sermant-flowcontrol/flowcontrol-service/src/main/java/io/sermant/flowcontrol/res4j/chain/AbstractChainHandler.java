@@ -21,6 +21,7 @@ import io.sermant.core.plugin.config.PluginConfigManager;
 import io.sermant.flowcontrol.common.config.XdsFlowControlConfig;
 import io.sermant.flowcontrol.common.entity.FlowControlScenario;
 import io.sermant.flowcontrol.common.entity.RequestEntity.RequestType;
+import io.sermant.flowcontrol.res4j.chain.context.ContextKey;
 import io.sermant.flowcontrol.res4j.chain.context.RequestContext;
 
 /**
@@ -36,6 +37,8 @@ public abstract class AbstractChainHandler implements RequestHandler, Comparable
 
     private AbstractChainHandler next;
 
+    private ContextKey<Boolean> skipKey;
+
     @Override
     public void onBefore(RequestContext context, FlowControlScenario flowControlScenario) {
         AbstractChainHandler cur = getNextHandler(context, flowControlScenario);
@@ -77,8 +80,8 @@ public abstract class AbstractChainHandler implements RequestHandler, Comparable
                 && context.getRequestEntity().getRequestType() != direct) {
             return true;
         }
-        final String skipKey = skipCacheKey(tmp);
-        Boolean isSkip = context.get(skipKey, Boolean.class);
+        final ContextKey<Boolean> skipKey = tmp.getSkipKey();
+        Boolean isSkip = context.get(skipKey);
         if (isSkip == null) {
             isSkip = tmp.isSkip(context, scenario);
             context.save(skipKey, isSkip);
@@ -86,12 +89,18 @@ public abstract class AbstractChainHandler implements RequestHandler, Comparable
         return isSkip;
     }
 
-    private String skipCacheKey(AbstractChainHandler tmp) {
-        String className = tmp.getClass().getName();
-        RequestType direct = tmp.direct();
-
-        // The length of the String Builder is initialized for performance
-        return direct + "_" + className + "_skip_flag";
+    /**
+     * Key of the cached skip flag, created once per handler, the handler class and direction are fixed
+     *
+     * @return skip flag key
+     */
+    ContextKey<Boolean> getSkipKey() {
+        ContextKey<Boolean> key = skipKey;
+        if (key == null) {
+            key = ContextKey.of(direct() + "_" + getClass().getName() + "_skip_flag");
+            skipKey = key;
+        }
+        return key;
     }
 
     /**
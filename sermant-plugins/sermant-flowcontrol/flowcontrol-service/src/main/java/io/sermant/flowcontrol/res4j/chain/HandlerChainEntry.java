@@ -55,16 +55,7 @@ public enum HandlerChainEntry {
      * @param flowControlResult flow control result
      */
     public void onBefore(String sourceName, RequestEntity requestEntity, FlowControlResult flowControlResult) {
-        try {
-            final RequestContext threadLocalContext = ChainContext.getThreadLocalContext(sourceName);
-            threadLocalContext.setRequestEntity(requestEntity);
-            chain.onBefore(threadLocalContext, null);
-        } catch (Exception ex) {
-            flowControlResult.setRequestType(requestEntity.getRequestType());
-            FlowControlExceptionUtils.handleException(ex, flowControlResult);
-            ChainContext.getThreadLocalContext(sourceName).save(HandlerConstants.OCCURRED_FLOW_EXCEPTION, ex);
-            LOGGER.log(Level.FINE, ex, ex::getMessage);
-        }
+        onBefore(null, sourceName, requestEntity, flowControlResult);
     }
 
     /**
@@ -77,19 +68,34 @@ public enum HandlerChainEntry {
      */
     public void onDubboBefore(String sourceName, RequestEntity requestEntity, FlowControlResult flowControlResult,
             boolean isProvider) {
-        String formatSourceName = formatSourceName(sourceName, isProvider);
-        configPrefix(formatSourceName, isProvider);
-        onBefore(formatSourceName, requestEntity, flowControlResult);
+        onBefore(getNamePrefix(isProvider), sourceName, requestEntity, flowControlResult);
     }
 
-    private String formatSourceName(String sourceName, boolean isProvider) {
-        String prefix = isProvider ? HandlerConstants.THREAD_LOCAL_DUBBO_PROVIDER_PREFIX
-                : HandlerConstants.THREAD_LOCAL_DUBBO_CONSUMER_PREFIX;
+    private void onBefore(String namePrefix, String sourceName, RequestEntity requestEntity,
+            FlowControlResult flowControlResult) {
+        try {
+            final RequestContext threadLocalContext = ChainContext.getThreadLocalContext(namePrefix, sourceName);
+            threadLocalContext.setRequestEntity(requestEntity);
+            chain.onBefore(threadLocalContext, null);
+        } catch (Exception ex) {
+            flowControlResult.setRequestType(requestEntity.getRequestType());
+            FlowControlExceptionUtils.handleException(ex, flowControlResult);
+            ChainContext.getThreadLocalContext(namePrefix, sourceName)
+                    .save(HandlerConstants.OCCURRED_FLOW_EXCEPTION_KEY, ex);
+            LOGGER.log(Level.FINE, ex, ex::getMessage);
+        }
+    }
 
-        // The length of the String Builder is initialized for performance
-        StringBuilder sb = new StringBuilder(prefix.length() + sourceName.length());
-        sb.append(prefix).append(sourceName);
-        return sb.toString();
+    /**
+     * The provider and consumer contexts of one dubbo source are kept apart by the name prefix, which is compared
+     * separately from the source name instead of being concatenated for every call
+     *
+     * @param isProvider whether it is the production end
+     * @return name prefix
+     */
+    private String getNamePrefix(boolean isProvider) {
+        return isProvider ? HandlerConstants.THREAD_LOCAL_DUBBO_PROVIDER_PREFIX
+                : HandlerConstants.THREAD_LOCAL_DUBBO_CONSUMER_PREFIX;
     }
 
     /**
@@ -99,20 +105,7 @@ public enum HandlerChainEntry {
      * @param result execution result
      */
     public void onResult(String sourceName, Object result) {
-        try {
-            chain.onResult(ChainContext.getThreadLocalContext(sourceName), XdsThreadLocalUtil.getScenarioInfo(),
-                    result);
-        } finally {
-            ChainContext.remove(sourceName);
-        }
-    }
-
-    private void configPrefix(String sourceName, boolean isProvider) {
-        if (isProvider) {
-            ChainContext.setKeyPrefix(sourceName, HandlerConstants.THREAD_LOCAL_DUBBO_PROVIDER_PREFIX);
-        } else {
-            ChainContext.setKeyPrefix(sourceName, HandlerConstants.THREAD_LOCAL_DUBBO_CONSUMER_PREFIX);
-        }
+        onResult(null, sourceName, result);
     }
 
     /**
@@ -123,9 +116,16 @@ public enum HandlerChainEntry {
      * @param isProvider whether it is the production end
      */
     public void onDubboResult(String sourceName, Object result, boolean isProvider) {
-        final String formatSourceName = formatSourceName(sourceName, isProvider);
-        configPrefix(formatSourceName, isProvider);
-        onResult(formatSourceName, result);
+        onResult(getNamePrefix(isProvider), sourceName, result);
+    }
+
+    private void onResult(String namePrefix, String sourceName, Object result) {
+        try {
+            chain.onResult(ChainContext.getThreadLocalContext(namePrefix, sourceName),
+                    XdsThreadLocalUtil.getScenarioInfo(), result);
+        } finally {
+            ChainContext.remove(namePrefix, sourceName);
+        }
     }
 
     /**
@@ -135,9 +135,7 @@ public enum HandlerChainEntry {
      * @param throwable exception message
      */
     public void onThrow(String sourceName, Throwable throwable) {
-        final RequestContext context = ChainContext.getThreadLocalContext(sourceName);
-        context.save(HandlerConstants.OCCURRED_REQUEST_EXCEPTION, throwable);
-        chain.onThrow(context, XdsThreadLocalUtil.getScenarioInfo(), throwable);
+        onThrow(null, sourceName, throwable);
     }
 
     /**
@@ -148,8 +146,12 @@ public enum HandlerChainEntry {
      * @param isProvider is provider
      */
     public void onDubboThrow(String sourceName, Throwable throwable, boolean isProvider) {
-        final String formatSourceName = formatSourceName(sourceName, isProvider);
-        configPrefix(formatSourceName, isProvider);
-        onThrow(formatSourceName, throwable);
+        onThrow(getNamePrefix(isProvider), sourceName, throwable);
+    }
+
+    private void onThrow(String namePrefix, String sourceName, Throwable throwable) {
+        final RequestContext context = ChainContext.getThreadLocalContext(namePrefix, sourceName);
+        context.save(HandlerConstants.OCCURRED_REQUEST_EXCEPTION_KEY, throwable);
+        chain.onThrow(context, XdsThreadLocalUtil.getScenarioInfo(), throwable);
     }
 }
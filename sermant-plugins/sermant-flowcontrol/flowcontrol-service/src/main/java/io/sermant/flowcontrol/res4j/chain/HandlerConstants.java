@@ -17,6 +17,8 @@
 
 package io.sermant.flowcontrol.res4j.chain;
 
+import io.sermant.flowcontrol.res4j.chain.context.ContextKey;
+
 /**
  * handler constant
  *
@@ -89,6 +91,17 @@ public class HandlerConstants {
      */
     public static final String OCCURRED_REQUEST_EXCEPTION = "__OCCURRED_REQUEST_EXCEPTION__";
 
+    /**
+     * Context key of {@link #OCCURRED_FLOW_EXCEPTION}, the variable is also readable by its name
+     */
+    public static final ContextKey<Exception> OCCURRED_FLOW_EXCEPTION_KEY = ContextKey.of(OCCURRED_FLOW_EXCEPTION);
+
+    /**
+     * Context key of {@link #OCCURRED_REQUEST_EXCEPTION}, the variable is also readable by its name
+     */
+    public static final ContextKey<Throwable> OCCURRED_REQUEST_EXCEPTION_KEY =
+            ContextKey.of(OCCURRED_REQUEST_EXCEPTION);
+
     /**
      * thread variable provider key prefix
      */
@@ -99,12 +112,6 @@ public class HandlerConstants {
      */
     public static final String THREAD_LOCAL_DUBBO_CONSUMER_PREFIX = "CONSUMER:";
 
-    /**
-     * key prefix
-     */
-    public static final String THREAD_LOCAL_KEY_PREFIX = HandlerConstants.class.getName()
-            + "___THREAD_LOCAL_KEY_PREFIX___";
-
     private HandlerConstants() {
     }
 }
@@ -17,23 +17,19 @@
 
 package io.sermant.flowcontrol.res4j.chain.context;
 
-import io.sermant.flowcontrol.res4j.chain.HandlerConstants;
-
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
- * Chain context
+ * Chain context, the request contexts of the current thread. Each thread keeps a fixed array of contexts, the active
+ * ones first followed by the released ones, which are reused by later requests of the thread instead of allocating
+ * new contexts and maps for every request
  *
  * @author zhouss
  * @since 2022-07-11
  */
 public class ChainContext {
-    private static final ThreadLocal<Map<String, RequestContext>> THREAD_LOCAL_CONTEXT_MAP = new ThreadLocal<>();
-
     private static final int MAX_SIZE = 11;
 
+    private static final ThreadLocal<ContextHolder> THREAD_LOCAL_CONTEXT = new ThreadLocal<>();
+
     private ChainContext() {
     }
 
@@ -45,25 +41,35 @@ public class ChainContext {
      * @throws IllegalArgumentException Throw an exception when the thread variable exceeds the maximum size
      */
     public static RequestContext getThreadLocalContext(String name) {
-        Map<String, RequestContext> contextMap = THREAD_LOCAL_CONTEXT_MAP.get();
-        if (contextMap == null) {
-            contextMap = new ConcurrentHashMap<>(MAX_SIZE);
-            THREAD_LOCAL_CONTEXT_MAP.set(contextMap);
-        }
-        if (contextMap.size() >= MAX_SIZE) {
-            throw new IllegalArgumentException("Can not create context in current thread!");
+        return getThreadLocalContext(null, name);
+    }
+
+    /**
+     * Gets a cache of thread variables with the specified prefix and name, the prefix is compared separately, so the
+     * caller does not need to concatenate the source name
+     *
+     * @param namePrefix name prefix, may be null
+     * @param name name
+     * @return ThreadLocalContext
+     * @throws IllegalArgumentException Throw an exception when the thread variable exceeds the maximum size
+     */
+    public static RequestContext getThreadLocalContext(String namePrefix, String name) {
+        ContextHolder holder = THREAD_LOCAL_CONTEXT.get();
+        if (holder == null) {
+            holder = new ContextHolder();
+            THREAD_LOCAL_CONTEXT.set(holder);
         }
-        return contextMap.computeIfAbsent(name, sourceName -> new RequestContext(THREAD_LOCAL_CONTEXT_MAP, sourceName));
+        return holder.getOrCreate(namePrefix, name);
     }
 
     /**
      * clear thread variable
      */
     public static void remove() {
-        final Map<String, RequestContext> contextMap = THREAD_LOCAL_CONTEXT_MAP.get();
-        if (contextMap != null) {
-            contextMap.clear();
-            THREAD_LOCAL_CONTEXT_MAP.remove();
+        final ContextHolder holder = THREAD_LOCAL_CONTEXT.get();
+        if (holder != null) {
+            holder.clear();
+            THREAD_LOCAL_CONTEXT.remove();
         }
     }
 
@@ -73,39 +79,80 @@ public class ChainContext {
      * @param name name
      */
     public static void remove(String name) {
-        final Map<String, RequestContext> contextMap = THREAD_LOCAL_CONTEXT_MAP.get();
-        if (contextMap != null) {
-            contextMap.remove(name);
-            if (contextMap.isEmpty()) {
-                THREAD_LOCAL_CONTEXT_MAP.remove();
-            }
-        }
+        remove(null, name);
     }
 
     /**
-     * add presets for thread variables
-     * <p>
-     * {@link RequestContext#get(String, Class)} {@link RequestContext#save(String, Object)} {@link
-     * RequestContext#remove(String)}
-     * </p>
+     * remove specified cache, the released context is kept by the current thread for reuse
      *
-     * @param sourceName source name
-     * @param keyPrefix prefix
+     * @param namePrefix name prefix, may be null
+     * @param name name
      */
-    public static void setKeyPrefix(String sourceName, String keyPrefix) {
-        if (keyPrefix != null) {
-            getThreadLocalContext(sourceName).save(HandlerConstants.THREAD_LOCAL_KEY_PREFIX, keyPrefix);
+    public static void remove(String namePrefix, String name) {
+        final ContextHolder holder = THREAD_LOCAL_CONTEXT.get();
+        if (holder != null) {
+            holder.release(namePrefix, name);
         }
     }
 
     /**
-     * gets the key prefix of the current thread variable
+     * Number of the active contexts of the current thread
      *
-     * @param sourceName source name
-     * @return keyPrefix
+     * @return active context count
      */
-    public static Optional<String> getKeyPrefix(String sourceName) {
-        return Optional.ofNullable(getThreadLocalContext(sourceName)
-                .get(HandlerConstants.THREAD_LOCAL_KEY_PREFIX, String.class));
+    static int activeSize() {
+        final ContextHolder holder = THREAD_LOCAL_CONTEXT.get();
+        return holder == null ? 0 : holder.size;
+    }
+
+    /**
+     * Contexts of one thread, [0, size) are active, the initialized ones after size are released and reusable
+     *
+     * @since 2026-10-18
+     */
+    private static class ContextHolder {
+        private final RequestContext[] contexts = new RequestContext[MAX_SIZE];
+
+        private int size;
+
+        RequestContext getOrCreate(String namePrefix, String name) {
+            for (int i = 0; i < size; i++) {
+                if (contexts[i].isSource(namePrefix, name)) {
+                    return contexts[i];
+                }
+            }
+            if (size >= MAX_SIZE) {
+                throw new IllegalArgumentException("Can not create context in current thread!");
+            }
+            RequestContext context = contexts[size];
+            if (context == null) {
+                context = new RequestContext(namePrefix, name);
+                contexts[size] = context;
+            } else {
+                context.reset(namePrefix, name);
+            }
+            size++;
+            return context;
+        }
+
+        void release(String namePrefix, String name) {
+            for (int i = 0; i < size; i++) {
+                final RequestContext context = contexts[i];
+                if (context.isSource(namePrefix, name)) {
+                    context.clear();
+                    size--;
+                    contexts[i] = contexts[size];
+                    contexts[size] = context;
+                    return;
+                }
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                contexts[i].clear();
+            }
+            size = 0;
+        }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.res4j.chain.context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Typed key of a {@link RequestContext} variable. Every name is assigned a slot index once when its key is first
+ * created, the context stores the variable in that slot, so that saving and reading a variable is an array access
+ * instead of a map lookup by a concatenated string. Keys are meant to be kept in constants or fields, a slot is never
+ * released, so keys must not be created for names built per request
+ *
+ * @param <T> variable type
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class ContextKey<T> {
+    private static final Map<String, ContextKey<?>> KEYS = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger INDEX = new AtomicInteger();
+
+    private final String name;
+
+    private final int index;
+
+    private ContextKey(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * Get the key of the specified name, the same key is returned for the same name
+     *
+     * @param name variable name
+     * @param <T> variable type
+     * @return key
+     */
+    public static <T> ContextKey<T> of(String name) {
+        ContextKey<?> key = KEYS.get(name);
+        if (key == null) {
+            key = KEYS.computeIfAbsent(name, keyName -> new ContextKey<>(keyName, INDEX.getAndIncrement()));
+        }
+        return (ContextKey<T>) key;
+    }
+
+    /**
+     * Get the existing key of the specified name without creating one
+     *
+     * @param name variable name
+     * @param <T> variable type
+     * @return key, null if no key of the name was created
+     */
+    static <T> ContextKey<T> find(String name) {
+        return name == null ? null : (ContextKey<T>) KEYS.get(name);
+    }
+
+    /**
+     * Number of the slots assigned so far
+     *
+     * @return slot count
+     */
+    static int slotCount() {
+        return INDEX.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
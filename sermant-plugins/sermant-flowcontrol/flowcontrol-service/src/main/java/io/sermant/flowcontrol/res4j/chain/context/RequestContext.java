@@ -19,14 +19,18 @@ package io.sermant.flowcontrol.res4j.chain.context;
 
 import io.sermant.core.common.LoggerFactory;
 import io.sermant.flowcontrol.common.entity.RequestEntity;
-import io.sermant.flowcontrol.res4j.chain.HandlerConstants;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 /**
- * RequestContext
+ * RequestContext, the variables of one request source on the current thread. Variables are kept in the slots of
+ * their {@link ContextKey}, the context is only accessed by its own thread and reused by {@link ChainContext} once the
+ * request is finished. Variables accessed by name share the slot of the key of that name if it exists, other names are
+ * kept in a map of the context, so that arbitrary names do not register a global key
  *
  * @author zhouss
  * @since 2022-07-11
@@ -34,23 +38,103 @@ import java.util.logging.Logger;
 public class RequestContext {
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private final Map<String, Object> localMap = new ConcurrentHashMap<>();
+    private Object[] slots;
 
-    private final ThreadLocal<Map<String, RequestContext>> threadLocal;
+    private String namePrefix;
 
-    private final String sourceName;
+    private String name;
+
+    private String sourceName;
+
+    private Map<String, Object> namedVariables;
 
     private RequestEntity requestEntity;
 
     /**
      * constructor
      *
-     * @param threadLocal thread variable
-     * @param sourceName source name
+     * @param namePrefix source name prefix, such as the dubbo provider or consumer prefix, may be null
+     * @param name source name
+     */
+    RequestContext(String namePrefix, String name) {
+        this.slots = new Object[Math.max(ContextKey.slotCount(), 1)];
+        reset(namePrefix, name);
+    }
+
+    /**
+     * Reuse the context for another source, the context must be cleared before
+     *
+     * @param newNamePrefix source name prefix
+     * @param newName source name
+     */
+    final void reset(String newNamePrefix, String newName) {
+        this.namePrefix = newNamePrefix;
+        this.name = newName;
+        this.sourceName = null;
+    }
+
+    /**
+     * Whether the context belongs to the specified source, compared by parts without building the full name
+     *
+     * @param targetNamePrefix source name prefix
+     * @param targetName source name
+     * @return matched or not
+     */
+    boolean isSource(String targetNamePrefix, String targetName) {
+        return name.equals(targetName) && Objects.equals(namePrefix, targetNamePrefix);
+    }
+
+    /**
+     * save thread variable
+     *
+     * @param key variable key
+     * @param target save object
+     * @param <T> variable type
+     */
+    public <T> void save(ContextKey<T> key, T target) {
+        if (key == null || target == null) {
+            LOGGER.warning("ThreadLocal name or target can not be empty!");
+            return;
+        }
+        final int index = key.getIndex();
+        if (index >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(ContextKey.slotCount(), index + 1));
+        }
+        slots[index] = target;
+    }
+
+    /**
+     * get thread variable
+     *
+     * @param key variable key
+     * @param <T> variable type
+     * @return result
+     */
+    public <T> T get(ContextKey<T> key) {
+        final int index = key.getIndex();
+        return index < slots.length ? (T) slots[index] : null;
+    }
+
+    /**
+     * remove thread variable
+     *
+     * @param key variable key
+     */
+    public void remove(ContextKey<?> key) {
+        final int index = key.getIndex();
+        if (index < slots.length) {
+            slots[index] = null;
+        }
+    }
+
+    /**
+     * Whether the specified key exists in the thread variable
+     *
+     * @param key thread variable key
+     * @return existence or not
      */
-    public RequestContext(ThreadLocal<Map<String, RequestContext>> threadLocal, String sourceName) {
-        this.threadLocal = threadLocal;
-        this.sourceName = sourceName;
+    public boolean hasKey(ContextKey<?> key) {
+        return get(key) != null;
     }
 
     /**
@@ -64,7 +148,15 @@ public class RequestContext {
             LOGGER.warning("ThreadLocal name or target can not be empty!");
             return;
         }
-        localMap.put(formatKey(name), target);
+        final ContextKey<Object> key = ContextKey.find(name);
+        if (key != null) {
+            save(key, target);
+            return;
+        }
+        if (namedVariables == null) {
+            namedVariables = new HashMap<>();
+        }
+        namedVariables.put(name, target);
     }
 
     /**
@@ -76,7 +168,11 @@ public class RequestContext {
      * @return result
      */
     public <T> T get(String name, Class<T> clazz) {
-        return (T) localMap.get(formatKey(name));
+        final ContextKey<Object> key = ContextKey.find(name);
+        if (key != null) {
+            return (T) get(key);
+        }
+        return namedVariables == null ? null : (T) namedVariables.get(name);
     }
 
     /**
@@ -85,32 +181,33 @@ public class RequestContext {
      * @param name variable name
      */
     public void remove(String name) {
-        localMap.remove(formatKey(name));
-        if (localMap.isEmpty()) {
-            threadLocal.remove();
+        final ContextKey<Object> key = ContextKey.find(name);
+        if (key != null) {
+            remove(key);
+        } else if (namedVariables != null) {
+            namedVariables.remove(name);
         }
     }
 
     /**
-     * clean all data
+     * Whether the specified key exists in the thread variable
+     *
+     * @param key thread variable key
+     * @return existence or not
      */
-    public void clear() {
-        localMap.clear();
-    }
-
-    private boolean isNeedFormat(String name) {
-        return !HandlerConstants.THREAD_LOCAL_KEY_PREFIX.equals(name);
+    public boolean hasKey(String key) {
+        return get(key, Object.class) != null;
     }
 
-    private String formatKey(String name) {
-        if (!isNeedFormat(name)) {
-            return name;
-        }
-        final String keyPrefix = get(HandlerConstants.THREAD_LOCAL_KEY_PREFIX, String.class);
-        if (keyPrefix == null) {
-            return name;
+    /**
+     * clean all data
+     */
+    public void clear() {
+        Arrays.fill(slots, null);
+        if (namedVariables != null) {
+            namedVariables.clear();
         }
-        return keyPrefix + name;
+        requestEntity = null;
     }
 
     public RequestEntity getRequestEntity() {
@@ -121,17 +218,15 @@ public class RequestContext {
         this.requestEntity = requestEntity;
     }
 
-    public String getSourceName() {
-        return sourceName;
-    }
-
     /**
-     * Whether the specified key exists in the thread variable
+     * Get the source name, including the prefix
      *
-     * @param key thread variable key
-     * @return existence or not
+     * @return source name
      */
-    public boolean hasKey(String key) {
-        return localMap.containsKey(key);
+    public String getSourceName() {
+        if (sourceName == null) {
+            sourceName = namePrefix == null ? name : namePrefix + name;
+        }
+        return sourceName;
     }
 }
@@ -21,7 +21,6 @@ import io.github.resilience4j.bulkhead.Bulkhead;
 import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.sermant.flowcontrol.common.entity.FlowControlScenario;
 import io.sermant.flowcontrol.res4j.chain.HandlerConstants;
-import io.sermant.flowcontrol.res4j.chain.context.ChainContext;
 import io.sermant.flowcontrol.res4j.chain.context.RequestContext;
 import io.sermant.flowcontrol.res4j.handler.BulkheadHandler;
 
@@ -41,7 +40,7 @@ public class BulkheadRequestHandler extends FlowControlHandler<Bulkhead> {
         final List<Bulkhead> handlers =
                 bulkheadHandler.createOrGetHandlers(flowControlScenario.getMatchedScenarioNames());
         if (!handlers.isEmpty()) {
-            context.save(getContextName(), handlers);
+            context.save(getContextKey(), handlers);
             handlers.forEach(Bulkhead::acquirePermission);
         }
         super.onBefore(context, flowControlScenario);
@@ -55,12 +54,12 @@ public class BulkheadRequestHandler extends FlowControlHandler<Bulkhead> {
     @Override
     public void onResult(RequestContext context, FlowControlScenario flowControlScenario, Object result) {
         try {
-            final List<Bulkhead> bulkheads = getHandlersFromCache(context.getSourceName(), getContextName());
-            if (bulkheads != null && !isOccurBulkheadLimit(context.getSourceName())) {
+            final List<Bulkhead> bulkheads = getHandlersFromCache(context);
+            if (bulkheads != null && !isOccurBulkheadLimit(context)) {
                 bulkheads.forEach(Bulkhead::onComplete);
             }
         } finally {
-            context.remove(getContextName());
+            context.remove(getContextKey());
         }
         super.onResult(context, flowControlScenario, result);
     }
@@ -68,12 +67,11 @@ public class BulkheadRequestHandler extends FlowControlHandler<Bulkhead> {
     /**
      * 是否触发隔离仓策略
      *
-     * @param sourceName 线程变量的名称
+     * @param context 线程变量
      * @return 若触发隔离仓则无需释放资源
      */
-    private boolean isOccurBulkheadLimit(String sourceName) {
-        return ChainContext.getThreadLocalContext(sourceName)
-                .get(HandlerConstants.OCCURRED_FLOW_EXCEPTION, Exception.class) instanceof BulkheadFullException;
+    private boolean isOccurBulkheadLimit(RequestContext context) {
+        return context.get(HandlerConstants.OCCURRED_FLOW_EXCEPTION_KEY) instanceof BulkheadFullException;
     }
 
     @Override
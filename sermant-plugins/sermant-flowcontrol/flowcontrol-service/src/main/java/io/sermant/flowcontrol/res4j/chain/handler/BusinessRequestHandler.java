@@ -22,7 +22,7 @@ import io.sermant.flowcontrol.common.core.match.MatchManager;
 import io.sermant.flowcontrol.common.entity.FlowControlScenario;
 import io.sermant.flowcontrol.res4j.chain.AbstractChainHandler;
 import io.sermant.flowcontrol.res4j.chain.HandlerConstants;
-import io.sermant.flowcontrol.res4j.chain.context.ChainContext;
+import io.sermant.flowcontrol.res4j.chain.context.ContextKey;
 import io.sermant.flowcontrol.res4j.chain.context.RequestContext;
 
 import java.util.Set;
@@ -34,7 +34,8 @@ import java.util.Set;
  * @since 2022-07-05
  */
 public class BusinessRequestHandler extends AbstractChainHandler {
-    private static final String MATCHED_SCENARIO_INFO = "__MATCHED_SCENARIO_INFO__";
+    private static final ContextKey<FlowControlScenario> MATCHED_SCENARIO_INFO =
+            ContextKey.of("__MATCHED_SCENARIO_INFO__");
 
     @Override
     public void onBefore(RequestContext context, FlowControlScenario flowControlScenario) {
@@ -66,12 +67,12 @@ public class BusinessRequestHandler extends AbstractChainHandler {
         try {
             super.onResult(context, scenarioInfo, result);
         } finally {
-            ChainContext.getThreadLocalContext(context.getSourceName()).remove(MATCHED_SCENARIO_INFO);
+            context.remove(MATCHED_SCENARIO_INFO);
         }
     }
 
     private FlowControlScenario getMatchedScenarioInfo(RequestContext context) {
-        return context.get(MATCHED_SCENARIO_INFO, FlowControlScenario.class);
+        return context.get(MATCHED_SCENARIO_INFO);
     }
 
     @Override
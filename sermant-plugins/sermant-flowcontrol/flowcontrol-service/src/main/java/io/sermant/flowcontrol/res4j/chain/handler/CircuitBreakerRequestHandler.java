@@ -22,6 +22,7 @@ import io.sermant.core.utils.CollectionUtils;
 import io.sermant.flowcontrol.common.entity.FlowControlScenario;
 import io.sermant.flowcontrol.res4j.adaptor.CircuitBreakerAdaptor;
 import io.sermant.flowcontrol.res4j.chain.HandlerConstants;
+import io.sermant.flowcontrol.res4j.chain.context.ContextKey;
 import io.sermant.flowcontrol.res4j.chain.context.RequestContext;
 import io.sermant.flowcontrol.res4j.exceptions.CircuitBreakerException;
 import io.sermant.flowcontrol.res4j.handler.CircuitBreakerHandler;
@@ -42,6 +43,8 @@ public class CircuitBreakerRequestHandler extends FlowControlHandler<CircuitBrea
 
     private final CircuitBreakerHandler circuitBreakerHandler = getHandler();
 
+    private ContextKey<Long> startTimeKey;
+
     @Override
     public void onBefore(RequestContext context, FlowControlScenario flowControlScenario) {
         final List<CircuitBreaker> circuitBreakers =
@@ -54,8 +57,8 @@ public class CircuitBreakerRequestHandler extends FlowControlHandler<CircuitBrea
 
             // Use the built-in method to get the time. Since the time of each circuit breaker in the list is the same,
             // take the first one
-            context.save(getStartTime(), circuitBreakers.get(0).getCurrentTimestamp());
-            context.save(getContextName(), circuitBreakers);
+            context.save(getStartTimeKey(), circuitBreakers.get(0).getCurrentTimestamp());
+            context.save(getContextKey(), circuitBreakers);
         }
         super.onBefore(context, flowControlScenario);
     }
@@ -92,15 +95,15 @@ public class CircuitBreakerRequestHandler extends FlowControlHandler<CircuitBrea
         try {
             process(context, null, result, true);
         } finally {
-            context.remove(getContextName());
-            context.remove(getStartTime());
+            context.remove(getContextKey());
+            context.remove(getStartTimeKey());
         }
         super.onResult(context, scenario, result);
     }
 
     private void process(RequestContext context, Throwable throwable, Object result, boolean isResult) {
-        final Long startTime = context.get(getStartTime(), Long.class);
-        final List<CircuitBreaker> circuitBreakers = getHandlersFromCache(context.getSourceName(), getContextName());
+        final Long startTime = context.get(getStartTimeKey());
+        final List<CircuitBreaker> circuitBreakers = getHandlersFromCache(context);
         if (startTime == null || circuitBreakers == null || circuitBreakers.isEmpty()) {
             return;
         }
@@ -109,7 +112,7 @@ public class CircuitBreakerRequestHandler extends FlowControlHandler<CircuitBrea
         if (throwable != null) {
             circuitBreakers.forEach(circuitBreaker -> circuitBreaker.onError(duration, timestampUnit, throwable));
         }
-        if (isResult && context.get(HandlerConstants.OCCURRED_REQUEST_EXCEPTION, Throwable.class) == null) {
+        if (isResult && context.get(HandlerConstants.OCCURRED_REQUEST_EXCEPTION_KEY) == null) {
             circuitBreakers.forEach(circuitBreaker -> circuitBreaker.onResult(duration, timestampUnit, result));
         }
     }
@@ -152,6 +155,20 @@ public class CircuitBreakerRequestHandler extends FlowControlHandler<CircuitBrea
         return START_TIME;
     }
 
+    /**
+     * Get the context key of the start time, created once from {@link #getStartTime()}
+     *
+     * @return the context key of the start time
+     */
+    protected ContextKey<Long> getStartTimeKey() {
+        ContextKey<Long> key = startTimeKey;
+        if (key == null) {
+            key = ContextKey.of(getStartTime());
+            startTimeKey = key;
+        }
+        return key;
+    }
+
     @Override
     public int getOrder() {
         return HandlerConstants.CIRCUIT_BREAKER_ORDER;
@@ -42,14 +42,14 @@ public class FaultRequestHandler extends FlowControlHandler<Fault> {
         final List<Fault> faults = faultHandler.createOrGetHandlers(flowControlScenario.getMatchedScenarioNames());
         if (!faults.isEmpty()) {
             faults.forEach(Fault::acquirePermission);
-            context.save(getContextName(), faults);
+            context.save(getContextKey(), faults);
         }
         super.onBefore(context, flowControlScenario);
     }
 
     @Override
     public void onResult(RequestContext context, FlowControlScenario flowControlScenario, Object result) {
-        context.remove(getContextName());
+        context.remove(getContextKey());
         super.onResult(context, flowControlScenario, result);
     }
 
@@ -20,7 +20,7 @@ package io.sermant.flowcontrol.res4j.chain.handler;
 import io.sermant.core.utils.CollectionUtils;
 import io.sermant.flowcontrol.common.entity.FlowControlScenario;
 import io.sermant.flowcontrol.res4j.chain.AbstractChainHandler;
-import io.sermant.flowcontrol.res4j.chain.context.ChainContext;
+import io.sermant.flowcontrol.res4j.chain.context.ContextKey;
 import io.sermant.flowcontrol.res4j.chain.context.RequestContext;
 
 import java.util.List;
@@ -33,17 +33,32 @@ import java.util.List;
  * @since 2022-07-18
  */
 public abstract class FlowControlHandler<T> extends AbstractChainHandler {
+    private ContextKey<List<T>> contextKey;
+
     /**
      * gets the flow control processing unit {@link io.github.resilience4j.ratelimiter.RateLimiter}
      * {@link io.github.resilience4j.bulkhead.Bulkhead}
      * {@link io.github.resilience4j.circuitbreaker.CircuitBreaker}
      *
-     * @param sourceName source name
-     * @param cacheName cache name
+     * @param context request context
      * @return handlers
      */
-    protected List<T> getHandlersFromCache(String sourceName, String cacheName) {
-        return ChainContext.getThreadLocalContext(sourceName).get(cacheName, List.class);
+    protected List<T> getHandlersFromCache(RequestContext context) {
+        return context.get(getContextKey());
+    }
+
+    /**
+     * gets the context key of the flow control processing units, created once from {@link #getContextName()}
+     *
+     * @return context key
+     */
+    protected ContextKey<List<T>> getContextKey() {
+        ContextKey<List<T>> key = contextKey;
+        if (key == null) {
+            key = ContextKey.of(getContextName());
+            contextKey = key;
+        }
+        return key;
     }
 
     /**
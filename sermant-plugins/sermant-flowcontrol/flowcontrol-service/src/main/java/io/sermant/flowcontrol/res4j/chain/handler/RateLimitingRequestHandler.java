@@ -39,7 +39,7 @@ public class RateLimitingRequestHandler extends FlowControlHandler<RateLimiter>
         final List<RateLimiter> handlers =
                 rateLimitingHandler.createOrGetHandlers(scenarioInfo.getMatchedScenarioNames());
         if (!handlers.isEmpty()) {
-            context.save(getContextName(), handlers);
+            context.save(getContextKey(), handlers);
             handlers.forEach(rateLimiter -> RateLimiter.waitForPermission(rateLimiter, 1));
         }
         super.onBefore(context, scenarioInfo);
@@ -47,7 +47,7 @@ public class RateLimitingRequestHandler extends FlowControlHandler<RateLimiter>
 
     @Override
     public void onThrow(RequestContext context, FlowControlScenario scenarioInfo, Throwable throwable) {
-        final List<RateLimiter> rateLimiters = getHandlersFromCache(context.getSourceName(), getContextName());
+        final List<RateLimiter> rateLimiters = getHandlersFromCache(context);
         if (rateLimiters != null) {
             rateLimiters.forEach(rateLimiter -> rateLimiter.onError(throwable));
         }
@@ -57,12 +57,12 @@ public class RateLimitingRequestHandler extends FlowControlHandler<RateLimiter>
     @Override
     public void onResult(RequestContext context, FlowControlScenario scenarioInfo, Object result) {
         try {
-            final List<RateLimiter> rateLimiters = getHandlersFromCache(context.getSourceName(), getContextName());
+            final List<RateLimiter> rateLimiters = getHandlersFromCache(context);
             if (rateLimiters != null) {
                 rateLimiters.forEach(rateLimiter -> rateLimiter.onResult(result));
             }
         } finally {
-            context.remove(getContextName());
+            context.remove(getContextKey());
         }
         super.onResult(context, scenarioInfo, result);
     }
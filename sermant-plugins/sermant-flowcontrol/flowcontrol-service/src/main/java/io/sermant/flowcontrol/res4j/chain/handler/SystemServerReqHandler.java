@@ -22,6 +22,7 @@ import io.sermant.flowcontrol.common.core.rule.fault.Fault;
 import io.sermant.flowcontrol.common.entity.FlowControlScenario;
 import io.sermant.flowcontrol.common.entity.RequestEntity.RequestType;
 import io.sermant.flowcontrol.res4j.chain.HandlerConstants;
+import io.sermant.flowcontrol.res4j.chain.context.ContextKey;
 import io.sermant.flowcontrol.res4j.chain.context.RequestContext;
 import io.sermant.flowcontrol.res4j.exceptions.SystemRuleFault;
 import io.sermant.flowcontrol.res4j.handler.SystemRuleHandler;
@@ -29,6 +30,7 @@ import io.sermant.flowcontrol.res4j.util.SystemRuleUtils;
 import io.sermant.flowcontrol.res4j.windows.WindowsArray;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * system rule flow control Handler
@@ -37,6 +39,8 @@ import java.util.List;
  * @since 2022-12-05
  */
 public class SystemServerReqHandler extends FlowControlHandler<Fault> {
+    private static final ContextKey<Long> REQUEST_START_TIME = ContextKey.of(CommonConst.REQUEST_START_TIME);
+
     private final SystemRuleHandler systemRuleHandler = new SystemRuleHandler();
 
     private final String contextName = SystemServerReqHandler.class.getName();
@@ -52,29 +56,32 @@ public class SystemServerReqHandler extends FlowControlHandler<Fault> {
             }
 
             // record request time
-            context.save(CommonConst.REQUEST_START_TIME, System.currentTimeMillis());
-            WindowsArray.INSTANCE.addThreadNum(context.get(CommonConst.REQUEST_START_TIME, long.class));
+            long startTime = System.nanoTime();
+            context.save(REQUEST_START_TIME, startTime);
+            WindowsArray.INSTANCE.addThreadNum(startTime);
         }
         super.onBefore(context, businessEntity);
     }
 
     @Override
     public void onThrow(RequestContext context, FlowControlScenario scenarioInfo, Throwable throwable) {
-        context.remove(getContextName());
-        context.remove(CommonConst.REQUEST_START_TIME);
+        if (SystemRuleUtils.isEnableSystemRule() && context.hasKey(REQUEST_START_TIME)) {
+            WindowsArray.INSTANCE.decreaseThreadNum(context.get(REQUEST_START_TIME));
+        }
+        context.remove(getContextKey());
+        context.remove(REQUEST_START_TIME);
         super.onThrow(context, scenarioInfo, throwable);
     }
 
     @Override
     public void onResult(RequestContext context, FlowControlScenario scenarioInfo, Object result) {
-        if (SystemRuleUtils.isEnableSystemRule() && context.hasKey(CommonConst.REQUEST_START_TIME)) {
-            long startTime = context.get(CommonConst.REQUEST_START_TIME, long.class);
-            WindowsArray.INSTANCE.addSuccess(startTime);
-            WindowsArray.INSTANCE.decreaseThreadNum(startTime);
-            WindowsArray.INSTANCE.addRt(startTime, System.currentTimeMillis() - startTime);
-            context.remove(CommonConst.REQUEST_START_TIME);
+        if (SystemRuleUtils.isEnableSystemRule() && context.hasKey(REQUEST_START_TIME)) {
+            long startTime = context.get(REQUEST_START_TIME);
+            WindowsArray.INSTANCE.addResult(startTime,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            context.remove(REQUEST_START_TIME);
         }
-        context.remove(getContextName());
+        context.remove(getContextKey());
         super.onResult(context, scenarioInfo, result);
     }
 
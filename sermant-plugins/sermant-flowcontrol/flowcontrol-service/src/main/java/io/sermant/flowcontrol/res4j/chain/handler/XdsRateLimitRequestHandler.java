@@ -25,6 +25,7 @@ import io.sermant.flowcontrol.common.entity.RequestEntity;
 import io.sermant.flowcontrol.common.entity.RequestEntity.RequestType;
 import io.sermant.flowcontrol.common.util.RandomUtil;
 import io.sermant.flowcontrol.common.xds.handler.XdsHandler;
+import io.sermant.flowcontrol.common.xds.ratelimit.XdsRateLimitInfo;
 import io.sermant.flowcontrol.common.xds.ratelimit.XdsRateLimitManager;
 import io.sermant.flowcontrol.res4j.chain.AbstractXdsChainHandler;
 import io.sermant.flowcontrol.res4j.chain.HandlerConstants;
@@ -65,8 +66,9 @@ public class XdsRateLimitRequestHandler extends AbstractXdsChainHandler {
         if (randomNum >= fractionalPercent.getNumerator()) {
             return;
         }
-        if (!XdsRateLimitManager.fillAndConsumeToken(scenarioInfo.getServiceName(), scenarioInfo.getRouteName(),
-                tokenBucket)) {
+        XdsRateLimitInfo rateLimitInfo = XdsRateLimitManager.getRateLimitInfo(scenarioInfo.getServiceName(),
+                scenarioInfo.getRouteName(), xdsRateLimit);
+        if (!rateLimitInfo.tryConsume(tokenBucket)) {
             throw new RateLimitException(xdsRateLimit.getResponseHeaderOption());
         }
     }
@@ -34,13 +34,36 @@ import java.util.Optional;
  * @since 2022-01-24
  */
 public class BulkheadHandler extends AbstractRequestHandler<Bulkhead, BulkheadRule> {
+    /**
+     * Registry shared by the bulkheads of all business scenarios
+     */
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
     @Override
     protected final Optional<Bulkhead> createHandler(String businessName, BulkheadRule rule) {
-        final BulkheadConfig config = BulkheadConfig.custom()
+        bulkheadRegistry.remove(businessName);
+        return Optional.of(bulkheadRegistry.bulkhead(businessName, buildConfig(rule)));
+    }
+
+    /**
+     * The bulkhead is reconfigured in place, calls already holding a permit are not affected
+     *
+     * @param businessName service scenario name
+     * @param bulkhead bulkhead created from the previous rule
+     * @param rule updated rule
+     * @return always true
+     */
+    @Override
+    protected final boolean updateHandler(String businessName, Bulkhead bulkhead, BulkheadRule rule) {
+        bulkhead.changeConfig(buildConfig(rule));
+        return true;
+    }
+
+    private BulkheadConfig buildConfig(BulkheadRule rule) {
+        return BulkheadConfig.custom()
                 .maxConcurrentCalls(rule.getMaxConcurrentCalls())
                 .maxWaitDuration(Duration.ofMillis(rule.getParsedMaxWaitDuration()))
                 .build();
-        return Optional.of(BulkheadRegistry.of(config).bulkhead(businessName));
     }
 
     @Override
@@ -41,25 +41,67 @@ import java.util.Optional;
  * @since 2022-01-24
  */
 public class CircuitBreakerHandler extends AbstractRequestHandler<CircuitBreaker, CircuitBreakerRule> {
+    /**
+     * Registry shared by the circuit breakers of all business scenarios
+     */
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
     @Override
     protected final Optional<CircuitBreaker> createHandler(String businessName, CircuitBreakerRule rule) {
         final SlidingWindowType slidingWindowType = getSlidingWindowType(rule.getSlidingWindowType());
-        CircuitBreaker circuitBreaker = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+        final CircuitBreakerConfig config = CircuitBreakerConfig.custom()
                 .failureRateThreshold(rule.getFailureRateThreshold())
                 .slowCallRateThreshold(rule.getSlowCallRateThreshold())
                 .waitDurationInOpenState(Duration.ofMillis(rule.getParsedWaitDurationInOpenState()))
                 .slowCallDurationThreshold(Duration.ofMillis(rule.getParsedSlowCallDurationThreshold()))
                 .permittedNumberOfCallsInHalfOpenState(rule.getPermittedNumberOfCallsInHalfOpenState())
                 .minimumNumberOfCalls(rule.getMinimumNumberOfCalls()).slidingWindowType(slidingWindowType)
-                .slidingWindowSize(getWindowSize(slidingWindowType, rule.getParsedSlidingWindowSize())).build())
-                .circuitBreaker(businessName);
+                .slidingWindowSize(getWindowSize(slidingWindowType, rule.getParsedSlidingWindowSize())).build();
+        circuitBreakerRegistry.remove(businessName);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(businessName, config);
         if (MonitorUtils.isStartMonitor()) {
             addEventConsumers(circuitBreaker);
-            ServiceCollectorService.CIRCUIT_BREAKER_MAP.putIfAbsent(businessName, circuitBreaker);
+            ServiceCollectorService.CIRCUIT_BREAKER_MAP.put(businessName, circuitBreaker);
         }
         return Optional.of(new CircuitBreakerAdaptor(circuitBreaker, rule));
     }
 
+    /**
+     * The state machine of resilience4j can not be reconfigured, so the circuit breaker is only kept with its
+     * statistics when the update just toggles forced opening or closing
+     *
+     * @param businessName service scenario name
+     * @param circuitBreaker circuit breaker created from the previous rule
+     * @param rule updated rule
+     * @return updated in place or not
+     */
+    @Override
+    protected final boolean updateHandler(String businessName, CircuitBreaker circuitBreaker,
+            CircuitBreakerRule rule) {
+        if (!(circuitBreaker instanceof CircuitBreakerAdaptor)) {
+            return false;
+        }
+        final CircuitBreakerAdaptor adaptor = (CircuitBreakerAdaptor) circuitBreaker;
+        if (!isSameBreakerConfig(adaptor.getRule(), rule)) {
+            return false;
+        }
+        adaptor.updateRule(rule);
+        return true;
+    }
+
+    private boolean isSameBreakerConfig(CircuitBreakerRule previous, CircuitBreakerRule rule) {
+        return Float.compare(previous.getFailureRateThreshold(), rule.getFailureRateThreshold()) == 0
+                && Float.compare(previous.getSlowCallRateThreshold(), rule.getSlowCallRateThreshold()) == 0
+                && previous.getParsedWaitDurationInOpenState() == rule.getParsedWaitDurationInOpenState()
+                && previous.getParsedSlowCallDurationThreshold() == rule.getParsedSlowCallDurationThreshold()
+                && previous.getPermittedNumberOfCallsInHalfOpenState()
+                == rule.getPermittedNumberOfCallsInHalfOpenState()
+                && previous.getMinimumNumberOfCalls() == rule.getMinimumNumberOfCalls()
+                && getSlidingWindowType(previous.getSlidingWindowType())
+                == getSlidingWindowType(rule.getSlidingWindowType())
+                && previous.getParsedSlidingWindowSize() == rule.getParsedSlidingWindowSize();
+    }
+
     /**
      * increased event consumption processing
      *
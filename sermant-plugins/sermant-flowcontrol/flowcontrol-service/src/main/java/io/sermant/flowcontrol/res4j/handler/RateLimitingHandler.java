@@ -34,6 +34,11 @@ import java.util.Optional;
  * @since 2022-01-22
  */
 public class RateLimitingHandler extends AbstractRequestHandler<RateLimiter, RateLimitingRule> {
+    /**
+     * Registry shared by the rate limiters of all business scenarios
+     */
+    private final RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.ofDefaults();
+
     @Override
     protected final Optional<RateLimiter> createHandler(String businessName, RateLimitingRule rule) {
         RateLimiterConfig config = RateLimiterConfig.custom()
@@ -41,8 +46,32 @@ public class RateLimitingHandler extends AbstractRequestHandler<RateLimiter, Rat
                 .limitRefreshPeriod(Duration.ofMillis(rule.getParsedLimitRefreshPeriod()))
                 .timeoutDuration(Duration.ofMillis(rule.getParsedTimeoutDuration()))
                 .build();
-        RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.of(config);
-        return Optional.of(rateLimiterRegistry.rateLimiter(businessName));
+        rateLimiterRegistry.remove(businessName);
+        return Optional.of(rateLimiterRegistry.rateLimiter(businessName, config));
+    }
+
+    /**
+     * The rate and timeout can be changed on the running rate limiter, which keeps the permits of the current
+     * period. A new refresh period requires a new rate limiter
+     *
+     * @param businessName service scenario name
+     * @param rateLimiter rate limiter created from the previous rule
+     * @param rule updated rule
+     * @return updated in place or not
+     */
+    @Override
+    protected final boolean updateHandler(String businessName, RateLimiter rateLimiter, RateLimitingRule rule) {
+        final RateLimiterConfig config = rateLimiter.getRateLimiterConfig();
+        if (config.getLimitRefreshPeriod().toMillis() != rule.getParsedLimitRefreshPeriod()) {
+            return false;
+        }
+        if (config.getLimitForPeriod() != rule.getRate()) {
+            rateLimiter.changeLimitForPeriod(rule.getRate());
+        }
+        if (config.getTimeoutDuration().toMillis() != rule.getParsedTimeoutDuration()) {
+            rateLimiter.changeTimeoutDuration(Duration.ofMillis(rule.getParsedTimeoutDuration()));
+        }
+        return true;
     }
 
     @Override
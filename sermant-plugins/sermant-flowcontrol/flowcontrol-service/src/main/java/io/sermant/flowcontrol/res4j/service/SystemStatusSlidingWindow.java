@@ -15,8 +15,10 @@
 
 package io.sermant.flowcontrol.res4j.service;
 
+import io.sermant.core.plugin.config.PluginConfigManager;
 import io.sermant.core.plugin.service.PluginService;
 import io.sermant.flowcontrol.common.config.CommonConst;
+import io.sermant.flowcontrol.common.config.FlowControlConfig;
 import io.sermant.flowcontrol.res4j.windows.SystemStatusTask;
 import io.sermant.flowcontrol.res4j.windows.WindowsArray;
 
@@ -38,7 +40,8 @@ public class SystemStatusSlidingWindow implements PluginService {
         /**
          * initialize the sliding window
          */
-        WindowsArray.INSTANCE.initWindowsArray();
+        FlowControlConfig config = PluginConfigManager.getPluginConfig(FlowControlConfig.class);
+        WindowsArray.INSTANCE.initWindowsArray(config.getSystemWindowBucketMs(), config.getSystemWindowBucketCount());
 
         /**
          * a scheduled task updates the system status
@@ -77,6 +77,15 @@ public class SystemRuleUtils {
         return SystemStatus.getInstance().getAveRt();
     }
 
+    /**
+     * get the 99th percentile response time
+     *
+     * @return 99th percentile response time
+     */
+    public static double getP99Rt() {
+        return SystemStatus.getInstance().getP99Rt();
+    }
+
     /**
      * get system load
      *
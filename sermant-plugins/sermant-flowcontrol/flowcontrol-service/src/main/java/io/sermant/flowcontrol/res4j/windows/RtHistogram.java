@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.res4j.windows;
+
+/**
+ * Log-linear layout of the response time histogram of a window bucket: one slot per millisecond up to 8ms, then four
+ * slots per power of two, which bounds the relative error of a percentile to 25% with 120 slots
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class RtHistogram {
+    /**
+     * number of slots
+     */
+    static final int SIZE = 120;
+
+    private static final int LINEAR_SLOTS = 8;
+
+    private static final int LINEAR_BITS = 3;
+
+    private static final int SUB_SLOT_BITS = 2;
+
+    private static final int SUB_SLOTS = 1 << SUB_SLOT_BITS;
+
+    private RtHistogram() {
+    }
+
+    /**
+     * slot of a response time
+     *
+     * @param rt response time in milliseconds
+     * @return slot
+     */
+    static int indexOf(long rt) {
+        if (rt < LINEAR_SLOTS) {
+            return (int) Math.max(rt, 0L);
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(rt);
+        int sub = (int) (rt >>> (exponent - SUB_SLOT_BITS)) & (SUB_SLOTS - 1);
+        return Math.min(LINEAR_SLOTS + (exponent - LINEAR_BITS) * SUB_SLOTS + sub, SIZE - 1);
+    }
+
+    /**
+     * largest response time of a slot
+     *
+     * @param index slot
+     * @return response time in milliseconds
+     */
+    static long upperBound(int index) {
+        if (index < LINEAR_SLOTS) {
+            return index;
+        }
+        int exponent = LINEAR_BITS + (index - LINEAR_SLOTS) / SUB_SLOTS;
+        int sub = (index - LINEAR_SLOTS) % SUB_SLOTS;
+        long lower = (long) (SUB_SLOTS + sub) << (exponent - SUB_SLOT_BITS);
+        return lower + (1L << (exponent - SUB_SLOT_BITS)) - 1;
+    }
+}
@@ -46,6 +46,11 @@ public class SystemStatus {
      */
     private double aveRt = 0d;
 
+    /**
+     * 99th percentile response time
+     */
+    private double p99Rt = 0d;
+
     /**
      * minimum response time
      */
@@ -92,6 +97,14 @@ public class SystemStatus {
         return aveRt;
     }
 
+    public void setP99Rt(double p99Rt) {
+        this.p99Rt = p99Rt;
+    }
+
+    public double getP99Rt() {
+        return p99Rt;
+    }
+
     public void setMinRt(double minRt) {
         this.minRt = minRt;
     }
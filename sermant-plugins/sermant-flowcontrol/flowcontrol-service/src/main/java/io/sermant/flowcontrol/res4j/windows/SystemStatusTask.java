@@ -25,21 +25,19 @@ import java.lang.management.ManagementFactory;
 import java.util.TimerTask;
 
 /**
- * sliding window scheduling tasks
+ * sliding window scheduling tasks, computes the system status from the sliding window every second. The window
+ * rotates by itself, so a late run only delays the status
  *
  * @author xuezechao1
  * @since 2022-12-07
  */
 public class SystemStatusTask extends TimerTask {
+    private static final double P99 = 99d;
+
     private final SystemStatus systemStatus = SystemStatus.getInstance();
 
     @Override
     public void run() {
-        // new window initialization data
-        if (WindowsArray.INSTANCE.calculateCurrentWindowsIndex() == 0) {
-            initMinRtAndMaxThreadNum();
-        }
-
         // update system load and cpu usage
         OperatingSystemMXBean operatingSystemMxBean = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
         systemStatus.setCurrentLoad(operatingSystemMxBean.getSystemLoadAverage());
@@ -48,74 +46,54 @@ public class SystemStatusTask extends TimerTask {
         // Update minimum response time and maximum number of threads
         updateMinRtAndMaxThreadNum();
 
-        // updated qps and average response time
-        updateQpsAndAveRt();
-
-        // reset next second data
-        WindowsArray.INSTANCE.resetNextWindows();
+        // updated qps and response time
+        updateQpsAndRt();
     }
 
     /**
      * check data item
      *
-     * @param windowsBucket data window
+     * @param windowStatistic data window
      * @return whether the window is valid
      */
-    private boolean checkBucket(WindowsBucket windowsBucket) {
-        if (windowsBucket == null || windowsBucket.success.sum() == 0
-                || windowsBucket.rt.sum() == 0) {
-            return false;
-        }
-        return true;
-    }
-
-    /**
-     * Initializes the minimum response time and maximum number of threads
-     */
-    private void initMinRtAndMaxThreadNum() {
-        systemStatus.setMinRt(Double.MAX_VALUE);
-        systemStatus.setMaxThreadNum(Long.MIN_VALUE);
+    private boolean checkWindow(WindowStatistic windowStatistic) {
+        return windowStatistic.getSuccess() != 0 && windowStatistic.getRt() != 0;
     }
 
     /**
-     * Update the minimum response time and maximum number of threads
+     * Update the minimum response time and maximum number of threads over the seconds held by the sliding window
      */
     private void updateMinRtAndMaxThreadNum() {
-        WindowsBucket windowsBucket = WindowsArray.INSTANCE.getCurrentWindow();
-
-        // total number of successful calls
-        long successNum = windowsBucket.success.sum();
-
-        // total response time
-        double rt = windowsBucket.rt.sum();
-
-        // number of threads in existence
-        double threadNum = windowsBucket.threadNum.sum();
-        if (0 != successNum) {
-            systemStatus.setMinRt(Math.min(systemStatus.getMinRt(), rt / successNum));
+        double minRt = Double.MAX_VALUE;
+        long maxThreadNum = Long.MIN_VALUE;
+        for (WindowStatistic window : WindowsArray.INSTANCE.getSecondWindows()) {
+            if (window.getSuccess() != 0) {
+                minRt = Math.min(minRt, window.getAveRt());
+            }
+            maxThreadNum = Math.max(maxThreadNum, window.getThreadNum() + window.getSuccess());
         }
-        systemStatus.setMaxThreadNum((long) Math.max(systemStatus.getMaxThreadNum(), threadNum + successNum));
+        systemStatus.setMinRt(minRt);
+        systemStatus.setMaxThreadNum(maxThreadNum);
     }
 
     /**
-     * updated qps and average response time
+     * updated qps, average and percentile response time
      */
-    private void updateQpsAndAveRt() {
-        WindowsBucket previousWindowsBucket = WindowsArray.INSTANCE.getPreviousWindow();
-        if (checkBucket(previousWindowsBucket)) {
-            systemStatus.setQps(previousWindowsBucket.success.sum());
-            systemStatus.setAveRt(previousWindowsBucket.rt.sum() / systemStatus.getQps());
+    private void updateQpsAndRt() {
+        WindowStatistic previousWindow = WindowsArray.INSTANCE.getPreviousWindow();
+        if (checkWindow(previousWindow)) {
+            systemStatus.setQps((double) CommonConst.S_MS_UNIT * previousWindow.getSuccess()
+                    / previousWindow.getDurationMillis());
+            systemStatus.setAveRt(previousWindow.getAveRt());
+            systemStatus.setP99Rt(previousWindow.getRtPercentile(P99));
             return;
         }
-        WindowsBucket currentWindowsBucket = WindowsArray.INSTANCE.getCurrentWindow();
-        if (checkBucket(currentWindowsBucket)) {
-            long currentMillis = System.currentTimeMillis() % CommonConst.S_MS_UNIT;
-            if (currentMillis != 0) {
-                systemStatus.setQps(
-                        (double) CommonConst.S_MS_UNIT * currentWindowsBucket.success.sum() / currentMillis);
-                systemStatus.setAveRt(
-                        (double) currentWindowsBucket.rt.sum() / currentWindowsBucket.success.sum());
-            }
+        WindowStatistic currentWindow = WindowsArray.INSTANCE.getCurrentWindow();
+        if (checkWindow(currentWindow) && currentWindow.getDurationMillis() != 0) {
+            systemStatus.setQps((double) CommonConst.S_MS_UNIT * currentWindow.getSuccess()
+                    / currentWindow.getDurationMillis());
+            systemStatus.setAveRt(currentWindow.getAveRt());
+            systemStatus.setP99Rt(currentWindow.getRtPercentile(P99));
         }
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.res4j.windows;
+
+/**
+ * statistics of consecutive buckets of the sliding window
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class WindowStatistic {
+    private final long durationMillis;
+
+    private final long[] rtHistogram = new long[RtHistogram.SIZE];
+
+    private long success;
+
+    private long rt;
+
+    private long threadNum;
+
+    /**
+     * constructor
+     *
+     * @param durationMillis time covered by the statistics, in milliseconds
+     */
+    WindowStatistic(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * add the counters of a bucket
+     *
+     * @param bucket bucket
+     */
+    void add(WindowsBucket bucket) {
+        success += bucket.success.sum();
+        rt += bucket.rt.sum();
+        threadNum += bucket.threadNum.sum();
+        for (int i = 0; i < rtHistogram.length; i++) {
+            rtHistogram[i] += bucket.rtHistogram.get(i);
+        }
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getSuccess() {
+        return success;
+    }
+
+    public long getRt() {
+        return rt;
+    }
+
+    public long getThreadNum() {
+        return threadNum;
+    }
+
+    /**
+     * average response time of the successful requests
+     *
+     * @return average response time in milliseconds, 0 without request
+     */
+    public double getAveRt() {
+        return success == 0 ? 0d : (double) rt / success;
+    }
+
+    /**
+     * response time percentile of the successful requests
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return upper bound of the response time in milliseconds, 0 without request
+     */
+    public double getRtPercentile(double percentile) {
+        long total = 0L;
+        for (long count : rtHistogram) {
+            total += count;
+        }
+        if (total == 0L) {
+            return 0d;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(total * Math.min(Math.max(percentile, 0d), 100d) / 100d));
+        long seen = 0L;
+        for (int i = 0; i < rtHistogram.length; i++) {
+            seen += rtHistogram[i];
+            if (seen >= rank) {
+                return RtHistogram.upperBound(i);
+            }
+        }
+        return RtHistogram.upperBound(rtHistogram.length - 1);
+    }
+}
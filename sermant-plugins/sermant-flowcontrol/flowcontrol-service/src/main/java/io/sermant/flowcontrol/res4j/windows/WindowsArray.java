@@ -17,14 +17,18 @@
 
 package io.sermant.flowcontrol.res4j.windows;
 
-import io.sermant.flowcontrol.common.config.CommonConst;
+import io.sermant.flowcontrol.common.config.ConfigConst;
 
-import java.util.Calendar;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReferenceArray;
-import java.util.stream.Stream;
 
 /**
- * sliding window
+ * sliding window, a ring of buckets keyed by the number of bucket lengths elapsed on {@link System#nanoTime()} since
+ * the window was initialized. A bucket is replaced lazily by the first access to its slot in a new round, so the
+ * statistics do not depend on a timer resetting the next bucket in time. Request times passed to the window are
+ * {@link System#nanoTime()} values
  *
  * @author xuezechao1
  * @since 2022-12-07
@@ -35,60 +39,95 @@ public enum WindowsArray {
      */
     INSTANCE;
 
+    private static final long SECOND_NANOS = 1000L * 1000L * 1000L;
+
+    private static final int MIN_WINDOWS_SIZE = 2;
+
     /**
-     * default window size
+     * sliding window ring
      */
-    private static final int DEFAULT_WINDOWS_SIZE = 60;
+    private volatile Ring ring = new Ring(ConfigConst.DEFAULT_SYSTEM_WINDOW_BUCKET_MS,
+            ConfigConst.DEFAULT_SYSTEM_WINDOW_BUCKET_COUNT);
 
     /**
-     * sliding window array
+     * initialize with the default bucket length and number
      */
-    private static AtomicReferenceArray<WindowsBucket> windowsArray = null;
+    public void initWindowsArray() {
+        initWindowsArray(ConfigConst.DEFAULT_SYSTEM_WINDOW_BUCKET_MS, ConfigConst.DEFAULT_SYSTEM_WINDOW_BUCKET_COUNT);
+    }
 
     /**
-     * initialize
+     * initialize, the buckets of one second are aggregated for the statistics per second, so the bucket length
+     * should divide one second or be a multiple of it
+     *
+     * @param bucketMillis bucket length in milliseconds
+     * @param bucketCount number of buckets
      */
-    public void initWindowsArray() {
-        windowsArray = new AtomicReferenceArray<>(DEFAULT_WINDOWS_SIZE);
-        Stream.iterate(0, num -> num + 1).limit(DEFAULT_WINDOWS_SIZE)
-                .forEach(index -> windowsArray.set(index, new WindowsBucket()));
+    public void initWindowsArray(long bucketMillis, int bucketCount) {
+        ring = new Ring(Math.max(bucketMillis, 1L), Math.max(bucketCount, MIN_WINDOWS_SIZE));
     }
 
     /**
-     * gets the current point in time window
+     * gets the statistics of the last second up to now
      *
-     * @return current point in time window
+     * @return statistics of the current second
      */
-    public WindowsBucket getCurrentWindow() {
-        return windowsArray.get(calculateCurrentWindowsIndex());
+    public WindowStatistic getCurrentWindow() {
+        Ring current = ring;
+        long now = System.nanoTime();
+        long epoch = current.epochOf(now);
+        long elapsedNanos = now - current.startTime - epoch * current.bucketNanos;
+        long durationNanos = (current.bucketsPerSecond - 1) * current.bucketNanos + elapsedNanos;
+        return current.aggregate(epoch - current.bucketsPerSecond + 1, epoch,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
     }
 
     /**
-     * gets a window before the current point in time
+     * gets the statistics of the second before the current one
      *
-     * @return window before the current point in time
+     * @return statistics of the previous second
      */
-    public WindowsBucket getPreviousWindow() {
-        return windowsArray.get(calculatePreviousWindowsIndex());
+    public WindowStatistic getPreviousWindow() {
+        Ring current = ring;
+        long epoch = current.epochOf(System.nanoTime()) - current.bucketsPerSecond;
+        return current.aggregate(epoch - current.bucketsPerSecond + 1, epoch,
+                TimeUnit.NANOSECONDS.toMillis(current.bucketsPerSecond * current.bucketNanos));
     }
 
     /**
-     * gets the window for the specified index
+     * gets the statistics of every second held by the window, the current second last
      *
-     * @param index index
-     * @return the window for the specified index
+     * @return statistics per second
      */
-    public WindowsBucket getWindow(int index) {
-        return windowsArray.get(index);
+    public List<WindowStatistic> getSecondWindows() {
+        Ring current = ring;
+        long epoch = current.epochOf(System.nanoTime());
+        long seconds = Math.max(current.size / current.bucketsPerSecond, 1L);
+        List<WindowStatistic> windows = new ArrayList<>((int) seconds);
+        long secondMillis = TimeUnit.NANOSECONDS.toMillis(current.bucketsPerSecond * current.bucketNanos);
+        for (long second = seconds - 1; second >= 0; second--) {
+            long to = epoch - second * current.bucketsPerSecond;
+            windows.add(current.aggregate(to - current.bucketsPerSecond + 1, to, secondMillis));
+        }
+        return windows;
     }
 
     /**
-     * gets the current number of threads
+     * gets the current number of threads, the requests started in the last second and not finished yet
      *
      * @return the current number of threads
      */
     public long getThreadNum() {
-        return getCurrentWindow().threadNum.sum();
+        Ring current = ring;
+        long epoch = current.epochOf(System.nanoTime());
+        long threadNum = 0L;
+        for (long i = epoch - current.bucketsPerSecond + 1; i <= epoch; i++) {
+            WindowsBucket bucket = current.getBucket(i);
+            if (bucket != null) {
+                threadNum += bucket.threadNum.sum();
+            }
+        }
+        return threadNum;
     }
 
     /**
@@ -97,17 +136,40 @@ public enum WindowsArray {
      * @param startTime requestTime
      */
     public void addSuccess(long startTime) {
-        windowsArray.get(calculateWindowsIndex(startTime)).success.increment();
+        WindowsBucket bucket = ring.getOrCreateBucket(startTime);
+        if (bucket != null) {
+            bucket.success.increment();
+        }
     }
 
     /**
      * increase response time
      *
      * @param startTime requestTime
-     * @param responseTime responseTime
+     * @param responseTime responseTime in milliseconds
      */
     public void addRt(long startTime, long responseTime) {
-        windowsArray.get(calculateWindowsIndex(startTime)).rt.add(responseTime);
+        WindowsBucket bucket = ring.getOrCreateBucket(startTime);
+        if (bucket != null) {
+            bucket.rt.add(responseTime);
+            bucket.rtHistogram.incrementAndGet(RtHistogram.indexOf(responseTime));
+        }
+    }
+
+    /**
+     * record a successful request: increase success count and response time, reduce thread count
+     *
+     * @param startTime requestTime
+     * @param responseTime responseTime in milliseconds
+     */
+    public void addResult(long startTime, long responseTime) {
+        WindowsBucket bucket = ring.getOrCreateBucket(startTime);
+        if (bucket != null) {
+            bucket.success.increment();
+            bucket.threadNum.decrement();
+            bucket.rt.add(responseTime);
+            bucket.rtHistogram.incrementAndGet(RtHistogram.indexOf(responseTime));
+        }
     }
 
     /**
@@ -116,7 +178,10 @@ public enum WindowsArray {
      * @param startTime requestTime
      */
     public void addThreadNum(long startTime) {
-        windowsArray.get(calculateWindowsIndex(startTime)).threadNum.increment();
+        WindowsBucket bucket = ring.getOrCreateBucket(startTime);
+        if (bucket != null) {
+            bucket.threadNum.increment();
+        }
     }
 
     /**
@@ -125,73 +190,86 @@ public enum WindowsArray {
      * @param startTime requestTime
      */
     public void decreaseThreadNum(long startTime) {
-        windowsArray.get(calculateWindowsIndex(startTime)).threadNum.decrement();
+        WindowsBucket bucket = ring.getOrCreateBucket(startTime);
+        if (bucket != null) {
+            bucket.threadNum.decrement();
+        }
     }
 
     /**
-     * Computes the window index for the current point in time
+     * Buckets of the window
      *
-     * @return the window index for the current point in time
+     * @since 2026-10-18
      */
-    public int calculateCurrentWindowsIndex() {
-        return Calendar.getInstance().get(Calendar.SECOND) % DEFAULT_WINDOWS_SIZE;
-    }
+    private static class Ring {
+        private final long startTime = System.nanoTime();
 
-    /**
-     * reset the next window data
-     */
-    public void resetNextWindows() {
-        WindowsBucket windowsBucket = getWindow(calculateNextWindowsIndex());
-        windowsBucket.success.reset();
-        windowsBucket.rt.reset();
-        windowsBucket.threadNum.reset();
-    }
+        private final long bucketNanos;
 
-    /**
-     * Calculates the index of the next window at the current point in time
-     *
-     * @return the index of the next window at the current point in time
-     */
-    public int calculateNextWindowsIndex() {
-        int nextIndex = calculateCurrentWindowsIndex() + 1;
-        if (nextIndex >= DEFAULT_WINDOWS_SIZE) {
-            nextIndex = 0;
+        private final int size;
+
+        private final long bucketsPerSecond;
+
+        private final AtomicReferenceArray<WindowsBucket> buckets;
+
+        Ring(long bucketMillis, int size) {
+            this.bucketNanos = TimeUnit.MILLISECONDS.toNanos(bucketMillis);
+            this.size = size;
+            this.bucketsPerSecond = Math.min(Math.max(SECOND_NANOS / bucketNanos, 1L), size / MIN_WINDOWS_SIZE);
+            this.buckets = new AtomicReferenceArray<>(size);
         }
-        return nextIndex;
-    }
 
-    /**
-     * compute window index
-     *
-     * @param startTime request time
-     * @return window index
-     */
-    public int calculateWindowsIndex(long startTime) {
-        if (System.currentTimeMillis() - startTime > DEFAULT_WINDOWS_SIZE * CommonConst.S_MS_UNIT) {
-            return -1;
+        long epochOf(long time) {
+            return (time - startTime) / bucketNanos;
         }
-        return (int) (startTime / CommonConst.S_MS_UNIT % DEFAULT_WINDOWS_SIZE);
-    }
 
-    /**
-     * Calculates the index of the previous window at the current time
-     *
-     * @return the index of the previous window at the current time
-     */
-    public int calculatePreviousWindowsIndex() {
-        int previousIndex = calculateCurrentWindowsIndex() - 1;
-        if (previousIndex < 0) {
-            previousIndex = DEFAULT_WINDOWS_SIZE - 1;
+        /**
+         * get the bucket of a time, created when its slot still holds an older round
+         *
+         * @param time request time
+         * @return bucket, null when the time is before the window or has slid out of it
+         */
+        WindowsBucket getOrCreateBucket(long time) {
+            long epoch = epochOf(time);
+            if (time < startTime || epoch <= epochOf(System.nanoTime()) - size) {
+                return null;
+            }
+            int index = (int) (epoch % size);
+            while (true) {
+                WindowsBucket bucket = buckets.get(index);
+                if (bucket != null && bucket.epoch >= epoch) {
+                    return bucket.epoch == epoch ? bucket : null;
+                }
+                WindowsBucket created = new WindowsBucket(epoch);
+                if (buckets.compareAndSet(index, bucket, created)) {
+                    return created;
+                }
+            }
         }
-        return previousIndex;
-    }
 
-    /**
-     * gets the sliding window array
-     *
-     * @return the sliding window array
-     */
-    public AtomicReferenceArray<WindowsBucket> getWindowsArray() {
-        return windowsArray;
+        /**
+         * get the bucket of an epoch without creating it
+         *
+         * @param epoch epoch
+         * @return bucket, null when no request was recorded in the epoch
+         */
+        WindowsBucket getBucket(long epoch) {
+            if (epoch < 0) {
+                return null;
+            }
+            WindowsBucket bucket = buckets.get((int) (epoch % size));
+            return bucket != null && bucket.epoch == epoch ? bucket : null;
+        }
+
+        WindowStatistic aggregate(long fromEpoch, long toEpoch, long durationMillis) {
+            WindowStatistic statistic = new WindowStatistic(durationMillis);
+            for (long epoch = fromEpoch; epoch <= toEpoch; epoch++) {
+                WindowsBucket bucket = getBucket(epoch);
+                if (bucket != null) {
+                    statistic.add(bucket);
+                }
+            }
+            return statistic;
+        }
     }
 }
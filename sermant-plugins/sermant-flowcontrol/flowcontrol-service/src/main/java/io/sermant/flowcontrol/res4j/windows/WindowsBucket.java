@@ -17,15 +17,22 @@
 
 package io.sermant.flowcontrol.res4j.windows;
 
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
- * sliding window element
+ * sliding window element, the statistics of one bucket length. A bucket is replaced by a new one when its slot of the
+ * ring is reused, so it never needs to be reset
  *
  * @author xuezechao1
  * @since 2022-12-07
  */
 class WindowsBucket {
+    /**
+     * number of the bucket length since the start of the window
+     */
+    final long epoch;
+
     /**
      * response time
      */
@@ -40,4 +47,18 @@ class WindowsBucket {
      * number of successes
      */
     LongAdder success = new LongAdder();
+
+    /**
+     * number of successes per response time slot, see {@link RtHistogram}
+     */
+    AtomicLongArray rtHistogram = new AtomicLongArray(RtHistogram.SIZE);
+
+    /**
+     * constructor
+     *
+     * @param epoch number of the bucket length since the start of the window
+     */
+    WindowsBucket(long epoch) {
+        this.epoch = epoch;
+    }
 }
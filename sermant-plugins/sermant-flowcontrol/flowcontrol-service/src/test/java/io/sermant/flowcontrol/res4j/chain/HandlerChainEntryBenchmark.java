@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.res4j.chain;
+
+import io.sermant.core.config.common.BaseConfig;
+import io.sermant.core.config.utils.ConfigKeyUtil;
+import io.sermant.core.operation.BaseOperation;
+import io.sermant.core.operation.OperationManager;
+import io.sermant.core.operation.converter.api.YamlConverter;
+import io.sermant.core.plugin.config.PluginConfigManager;
+import io.sermant.core.utils.ReflectUtils;
+import io.sermant.flowcontrol.common.config.FlowControlConfig;
+import io.sermant.flowcontrol.common.config.XdsFlowControlConfig;
+import io.sermant.flowcontrol.common.entity.DubboRequestEntity;
+import io.sermant.flowcontrol.common.entity.FlowControlResult;
+import io.sermant.flowcontrol.common.entity.HttpRequestEntity.Builder;
+import io.sermant.flowcontrol.common.entity.RequestEntity;
+import io.sermant.flowcontrol.common.entity.RequestEntity.RequestType;
+import io.sermant.flowcontrol.res4j.chain.context.ChainContext;
+import io.sermant.flowcontrol.res4j.chain.context.RequestContext;
+import io.sermant.implement.operation.converter.YamlConverterImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the chain context. The entry benchmarks pass one request matching no flow control rule through
+ * onBefore and onResult. The context benchmarks replay the context traffic of a dubbo provider request passing every
+ * handler of its direction, on the slot indexed context and on the thread local map of maps with string keys used
+ * before, which built the prefixed source name, the key prefix and the skip flag key of every handler for each call.
+ * Run with the main method from the test classpath, the gc profiler reports the allocated bytes per request as
+ * gc.alloc.rate.norm
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerChainEntryBenchmark {
+    private static final String SOURCE_NAME = HandlerChainEntryBenchmark.class.getName();
+
+    private static final ThreadLocal<Map<String, Map<String, Object>>> LEGACY_CONTEXT_MAP = new ThreadLocal<>();
+
+    private static final String LEGACY_KEY_PREFIX = "___THREAD_LOCAL_KEY_PREFIX___";
+
+    private final RequestEntity httpEntity = new Builder().setApiPath("/benchmark").setMethod("POST")
+            .setRequestType(RequestType.SERVER).build();
+
+    private final RequestEntity dubboEntity = new DubboRequestEntity("/benchmark", Collections.emptyMap(),
+            RequestType.SERVER, "application");
+
+    private final FlowControlResult flowControlResult = new FlowControlResult();
+
+    private final Object result = new Object();
+
+    private final List<AbstractChainHandler> handlers = new ArrayList<>();
+
+    /**
+     * Register the configurations the chain reads, and collect the handlers the request passes
+     */
+    @Setup
+    public void setUp() {
+        final Map<String, BaseConfig> configMap = (Map<String, BaseConfig>) ReflectUtils
+                .getStaticFieldValue(PluginConfigManager.class, "PLUGIN_CONFIG_MAP").orElseThrow(
+                        IllegalStateException::new);
+        configMap.put(configKey(FlowControlConfig.class), new FlowControlConfig());
+        configMap.put(configKey(XdsFlowControlConfig.class), new XdsFlowControlConfig());
+        final Map<String, BaseOperation> operations = (Map<String, BaseOperation>) ReflectUtils
+                .getStaticFieldValue(OperationManager.class, "OPERATIONS").orElseThrow(IllegalStateException::new);
+        operations.put(YamlConverter.class.getName(), new YamlConverterImpl());
+        AbstractChainHandler handler = HandlerChainBuilder.INSTANCE.build().getNext();
+        while (handler != null) {
+            handlers.add(handler);
+            handler = handler.getNext();
+        }
+    }
+
+    private static String configKey(Class<?> cls) {
+        return ConfigKeyUtil.getTypeKeyWithClassloader(ConfigKeyUtil.getTypeKey(cls), cls.getClassLoader());
+    }
+
+    /**
+     * Http request through the entry
+     *
+     * @return flow control result
+     */
+    @Benchmark
+    public FlowControlResult http() {
+        HandlerChainEntry.INSTANCE.onBefore(SOURCE_NAME, httpEntity, flowControlResult);
+        HandlerChainEntry.INSTANCE.onResult(SOURCE_NAME, result);
+        return flowControlResult;
+    }
+
+    /**
+     * Dubbo provider request through the entry
+     *
+     * @return flow control result
+     */
+    @Benchmark
+    public FlowControlResult dubbo() {
+        HandlerChainEntry.INSTANCE.onDubboBefore(SOURCE_NAME, dubboEntity, flowControlResult, true);
+        HandlerChainEntry.INSTANCE.onDubboResult(SOURCE_NAME, result, true);
+        return flowControlResult;
+    }
+
+    /**
+     * Context traffic of a dubbo provider request on the slot indexed context
+     *
+     * @return request context
+     */
+    @Benchmark
+    public RequestContext slotContext() {
+        final RequestContext context = ChainContext.getThreadLocalContext(
+                HandlerConstants.THREAD_LOCAL_DUBBO_PROVIDER_PREFIX, SOURCE_NAME);
+        context.setRequestEntity(dubboEntity);
+        visitHandlers(context);
+        ChainContext.getThreadLocalContext(HandlerConstants.THREAD_LOCAL_DUBBO_PROVIDER_PREFIX, SOURCE_NAME);
+        visitHandlers(context);
+        ChainContext.remove(HandlerConstants.THREAD_LOCAL_DUBBO_PROVIDER_PREFIX, SOURCE_NAME);
+        return context;
+    }
+
+    private void visitHandlers(RequestContext context) {
+        for (AbstractChainHandler handler : handlers) {
+            final RequestType direct = handler.direct();
+            if (direct != RequestType.BOTH && direct != dubboEntity.getRequestType()) {
+                continue;
+            }
+            if (!context.hasKey(handler.getSkipKey())) {
+                context.save(handler.getSkipKey(), Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Context traffic of a dubbo provider request on the thread local map of maps used before
+     *
+     * @return request context
+     */
+    @Benchmark
+    public Map<String, Object> legacyContext() {
+        String sourceName = legacySourceName();
+        Map<String, Object> context = legacyContext(sourceName);
+        context.put(LEGACY_KEY_PREFIX, HandlerConstants.THREAD_LOCAL_DUBBO_PROVIDER_PREFIX);
+        context.put("requestEntity", dubboEntity);
+        legacyVisitHandlers(context);
+        sourceName = legacySourceName();
+        context = legacyContext(sourceName);
+        context.put(LEGACY_KEY_PREFIX, HandlerConstants.THREAD_LOCAL_DUBBO_PROVIDER_PREFIX);
+        legacyVisitHandlers(context);
+        final Map<String, Map<String, Object>> contextMap = LEGACY_CONTEXT_MAP.get();
+        contextMap.remove(sourceName);
+        if (contextMap.isEmpty()) {
+            LEGACY_CONTEXT_MAP.remove();
+        }
+        return context;
+    }
+
+    private static String legacySourceName() {
+        final String prefix = HandlerConstants.THREAD_LOCAL_DUBBO_PROVIDER_PREFIX;
+        return new StringBuilder(prefix.length() + SOURCE_NAME.length()).append(prefix).append(SOURCE_NAME)
+                .toString();
+    }
+
+    private static Map<String, Object> legacyContext(String sourceName) {
+        Map<String, Map<String, Object>> contextMap = LEGACY_CONTEXT_MAP.get();
+        if (contextMap == null) {
+            contextMap = new ConcurrentHashMap<>(11);
+            LEGACY_CONTEXT_MAP.set(contextMap);
+        }
+        return contextMap.computeIfAbsent(sourceName, name -> new ConcurrentHashMap<>());
+    }
+
+    private void legacyVisitHandlers(Map<String, Object> context) {
+        for (AbstractChainHandler handler : handlers) {
+            final RequestType direct = handler.direct();
+            if (direct != RequestType.BOTH && direct != dubboEntity.getRequestType()) {
+                continue;
+            }
+            final String skipKey = direct + "_" + handler.getClass().getName() + "_skip_flag";
+            if (context.get(context.get(LEGACY_KEY_PREFIX) + skipKey) == null) {
+                context.put(context.get(LEGACY_KEY_PREFIX) + skipKey, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Run the benchmark with the gc profiler
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HandlerChainEntryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
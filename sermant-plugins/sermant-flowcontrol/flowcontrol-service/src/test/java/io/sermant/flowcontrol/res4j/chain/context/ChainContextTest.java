@@ -17,15 +17,9 @@
 
 package io.sermant.flowcontrol.res4j.chain.context;
 
-import static org.junit.Assert.assertNull;
-
 import org.junit.Assert;
 import org.junit.Test;
 
-import java.lang.reflect.Field;
-import java.util.Map;
-import java.util.Optional;
-
 /**
  * ChainContextTest
  *
@@ -60,53 +54,78 @@ public class ChainContextTest {
 
     /**
      * test to remove thread variables
-     *
-     * @throws NoSuchFieldException fieldless throw
-     * @throws IllegalAccessException unable to get value thrown
      */
     @Test
-    public void remove() throws NoSuchFieldException, IllegalAccessException {
-        ChainContext.getThreadLocalContext("test");
+    public void remove() {
+        ChainContext.getThreadLocalContext("test").save("key", "value");
+        ChainContext.remove();
+        Assert.assertEquals(0, ChainContext.activeSize());
+        Assert.assertNull(ChainContext.getThreadLocalContext("test").get("key", String.class));
         ChainContext.remove();
-        final Field mapField = ChainContext.class.getDeclaredField("THREAD_LOCAL_CONTEXT_MAP");
-        mapField.setAccessible(true);
-        final Object local = mapField.get(null);
-        Assert.assertTrue(local instanceof ThreadLocal);
-        assertNull(((ThreadLocal<?>) local).get());
-
     }
 
     /**
      * tests to remove the specified thread variable
-     *
-     * @throws NoSuchFieldException fieldless throw
-     * @throws IllegalAccessException unable to get value thrown
      */
     @Test
-    public void testRemoveTargetName() throws NoSuchFieldException, IllegalAccessException {
-        ChainContext.getThreadLocalContext("test");
-        ChainContext.getThreadLocalContext("test2");
+    public void testRemoveTargetName() {
+        final RequestContext test = ChainContext.getThreadLocalContext("test");
+        final RequestContext test2 = ChainContext.getThreadLocalContext("test2");
+        test2.save("key", "value");
         ChainContext.remove("test2");
-        final Field mapField = ChainContext.class.getDeclaredField("THREAD_LOCAL_CONTEXT_MAP");
-        mapField.setAccessible(true);
-        final Object local = mapField.get(null);
-        Assert.assertTrue(local instanceof ThreadLocal);
-        final Object map = ((ThreadLocal<?>) local).get();
-        Assert.assertTrue(map instanceof Map);
-        Assert.assertTrue(((Map<?, ?>) map).containsKey("test"));
+        Assert.assertEquals(1, ChainContext.activeSize());
+        Assert.assertSame(test, ChainContext.getThreadLocalContext("test"));
         ChainContext.remove("test");
-        assertNull(((ThreadLocal<?>) local).get());
+        Assert.assertEquals(0, ChainContext.activeSize());
+
+        // The released context is cleared and reused by the next source of the thread
+        final RequestContext test3 = ChainContext.getThreadLocalContext("test3");
+        Assert.assertTrue(test3 == test || test3 == test2);
+        Assert.assertEquals("test3", test3.getSourceName());
+        Assert.assertNull(test3.get("key", String.class));
+        ChainContext.remove();
     }
 
     /**
-     * test configuration prefix
+     * tests that the prefixed context is kept apart from the context of the same name without prefix
      */
     @Test
-    public void testKeyPrefix() {
-        String sourceName = "testKeyPrefix";
-        ChainContext.setKeyPrefix(sourceName, "prefix");
-        final Optional<String> keyPrefix = ChainContext.getKeyPrefix(sourceName);
-        Assert.assertTrue(keyPrefix.isPresent());
-        Assert.assertEquals(keyPrefix.get(), "prefix");
+    public void testNamePrefix() {
+        final ContextKey<String> key = ContextKey.of("testNamePrefix");
+        final RequestContext provider = ChainContext.getThreadLocalContext("PROVIDER:", "service");
+        final RequestContext plain = ChainContext.getThreadLocalContext("service");
+        Assert.assertNotSame(provider, plain);
+        Assert.assertSame(provider, ChainContext.getThreadLocalContext("PROVIDER:", "service"));
+        Assert.assertEquals("PROVIDER:service", provider.getSourceName());
+        provider.save(key, "provider");
+        Assert.assertEquals("provider", provider.get(key));
+        Assert.assertTrue(provider.hasKey(key));
+        Assert.assertFalse(plain.hasKey(key));
+        ChainContext.remove("PROVIDER:", "service");
+        Assert.assertEquals(1, ChainContext.activeSize());
+        ChainContext.remove();
+    }
+
+    /**
+     * tests that variables accessed by name do not register keys and share the slot of an existing key
+     */
+    @Test
+    public void testNamedVariable() {
+        final int slotCount = ContextKey.slotCount();
+        final RequestContext context = ChainContext.getThreadLocalContext("testNamedVariable");
+        context.save("namedVariable", "value");
+        Assert.assertTrue(context.hasKey("namedVariable"));
+        Assert.assertEquals("value", context.get("namedVariable", String.class));
+        Assert.assertEquals(slotCount, ContextKey.slotCount());
+        context.remove("namedVariable");
+        Assert.assertFalse(context.hasKey("namedVariable"));
+
+        final ContextKey<String> key = ContextKey.of("testNamedVariableKey");
+        context.save("testNamedVariableKey", "value");
+        Assert.assertEquals("value", context.get(key));
+        context.save("namedVariable", "value");
+        ChainContext.remove();
+        Assert.assertNull(context.get("namedVariable", String.class));
+        Assert.assertNull(context.get(key));
     }
 }
@@ -25,7 +25,6 @@ import io.sermant.flowcontrol.res4j.chain.HandlerChainEntry;
 
 import org.junit.Assert;
 
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -35,6 +34,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * @since 2022-08-30
  */
 public class BulkheadRequestHandlerTest extends BaseEntityTest implements RequestTest {
+    private static final String BULKHEAD_FULL_MSG = "Bulkhead is full and does not permit further calls";
+
     private HandlerChainEntry entry;
     private String sourceName;
 
@@ -45,39 +46,25 @@ public class BulkheadRequestHandlerTest extends BaseEntityTest implements Reques
     public void test(HandlerChainEntry entry, String sourceName) {
         this.entry = entry;
         this.sourceName = sourceName;
-        final CountDownLatch countDownLatch = new CountDownLatch(300);
-        AtomicBoolean check = new AtomicBoolean();
-        final Thread[] threads = createThread(10, countDownLatch, check);
-        for (Thread thread : threads) {
-            thread.start();
-        }
+
+        // the calling thread holds the only permit until onResult releases it
+        final FlowControlResult holderResult = new FlowControlResult();
+        entry.onBefore(sourceName, httpClientEntity, holderResult);
+        final AtomicBoolean isRejected = new AtomicBoolean();
         try {
-            countDownLatch.await();
+            Assert.assertFalse(holderResult.buildResponseMsg().contains(BULKHEAD_FULL_MSG));
+            final Thread thread = new Thread(() -> isRejected.set(executeHttp(httpClientEntity)), "bulkhead-test");
+            thread.start();
+            thread.join();
         } catch (InterruptedException e) {
-            // ignored
+            Thread.currentThread().interrupt();
         } finally {
-            Assert.assertTrue(check.get());
+            entry.onResult(sourceName, new Object());
         }
-    }
+        Assert.assertTrue(isRejected.get());
 
-    private Thread[] createThread(int num, CountDownLatch countDownLatch, AtomicBoolean check) {
-        final ThreadGroup test = new ThreadGroup("test");
-        final Thread[] threads = new Thread[num];
-        for (int i = 0; i < num; i++) {
-            threads[i] = new Thread(test, () -> {
-                execute(countDownLatch, check);
-            }, "thread-" + i);
-        }
-        return threads;
-    }
-
-    private void execute(CountDownLatch countDownLatch, AtomicBoolean check) {
-        while (countDownLatch.getCount() > 0) {
-            if (executeHttp(httpClientEntity)) {
-                check.set(true);
-            }
-            countDownLatch.countDown();
-        }
+        // the permit is released, so the next call passes
+        Assert.assertFalse(executeHttp(httpClientEntity));
     }
 
     private boolean executeHttp(RequestEntity requestEntity) {
@@ -85,7 +72,7 @@ public class BulkheadRequestHandlerTest extends BaseEntityTest implements Reques
         final Object result = new Object();
         entry.onBefore(sourceName, requestEntity, flowControlResult);
         entry.onResult(sourceName, result);
-        return flowControlResult.buildResponseMsg().contains("Bulkhead is full and does not permit further calls");
+        return flowControlResult.buildResponseMsg().contains(BULKHEAD_FULL_MSG);
     }
 
     @Override
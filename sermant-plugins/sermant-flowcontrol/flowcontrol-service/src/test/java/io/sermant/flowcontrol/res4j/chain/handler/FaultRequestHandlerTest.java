@@ -58,7 +58,7 @@ public class FaultRequestHandlerTest extends BaseEntityTest implements RequestTe
         publishRule(getDelayRule());
         final long start = System.currentTimeMillis();
         checkHttp(httpClientEntity);
-        Assert.assertTrue((System.currentTimeMillis() - start) > sleepMs);
+        Assert.assertTrue((System.currentTimeMillis() - start) >= sleepMs);
     }
 
     private FlowControlResult checkHttp(RequestEntity requestEntity) {
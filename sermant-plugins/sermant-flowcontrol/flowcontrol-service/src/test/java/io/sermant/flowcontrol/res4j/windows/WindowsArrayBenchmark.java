@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.res4j.windows;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-request cost of the system rule statistics, the thread count read and the records of the request start and
+ * result: the ring keyed by System.nanoTime against the window indexed by Calendar and the wall clock used before.
+ * Run with the main method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class WindowsArrayBenchmark {
+    private static final int CALENDAR_WINDOWS_SIZE = 60;
+
+    private static final long S_MS_UNIT = 1000L;
+
+    /**
+     * bucket length of the ring in milliseconds
+     */
+    @Param({"100", "1000"})
+    public long bucketMillis;
+
+    private final AtomicReferenceArray<CalendarBucket> calendarWindows =
+            new AtomicReferenceArray<>(CALENDAR_WINDOWS_SIZE);
+
+    /**
+     * Initialize both windows
+     */
+    @Setup
+    public void setUp() {
+        WindowsArray.INSTANCE.initWindowsArray(bucketMillis, (int) (CALENDAR_WINDOWS_SIZE * S_MS_UNIT / bucketMillis));
+        for (int i = 0; i < CALENDAR_WINDOWS_SIZE; i++) {
+            calendarWindows.set(i, new CalendarBucket());
+        }
+    }
+
+    /**
+     * records of a request in the ring
+     *
+     * @return thread count read before the request
+     */
+    @Benchmark
+    public long ring() {
+        long threadNum = WindowsArray.INSTANCE.getThreadNum();
+        long startTime = System.nanoTime();
+        WindowsArray.INSTANCE.addThreadNum(startTime);
+        WindowsArray.INSTANCE.addResult(startTime, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return threadNum;
+    }
+
+    /**
+     * records of a request in the Calendar indexed window
+     *
+     * @return thread count read before the request
+     */
+    @Benchmark
+    public long calendar() {
+        long threadNum = calendarWindows.get(Calendar.getInstance().get(Calendar.SECOND) % CALENDAR_WINDOWS_SIZE)
+                .threadNum.sum();
+        long startTime = System.currentTimeMillis();
+        calendarWindows.get(calendarIndex(startTime)).threadNum.increment();
+        calendarWindows.get(calendarIndex(startTime)).success.increment();
+        calendarWindows.get(calendarIndex(startTime)).threadNum.decrement();
+        calendarWindows.get(calendarIndex(startTime)).rt.add(System.currentTimeMillis() - startTime);
+        return threadNum;
+    }
+
+    private static int calendarIndex(long startTime) {
+        if (System.currentTimeMillis() - startTime > CALENDAR_WINDOWS_SIZE * S_MS_UNIT) {
+            return -1;
+        }
+        return (int) (startTime / S_MS_UNIT % CALENDAR_WINDOWS_SIZE);
+    }
+
+    /**
+     * bucket of the Calendar indexed window
+     *
+     * @since 2026-10-18
+     */
+    private static class CalendarBucket {
+        private final LongAdder rt = new LongAdder();
+
+        private final LongAdder threadNum = new LongAdder();
+
+        private final LongAdder success = new LongAdder();
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WindowsArrayBenchmark.class.getSimpleName()).build()).run();
+    }
+}
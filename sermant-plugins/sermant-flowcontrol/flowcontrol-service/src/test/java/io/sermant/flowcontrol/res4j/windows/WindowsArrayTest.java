@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.flowcontrol.res4j.windows;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * sliding window test
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class WindowsArrayTest {
+    @After
+    public void tearDown() {
+        WindowsArray.INSTANCE.initWindowsArray();
+    }
+
+    @Test
+    public void testRecord() {
+        long beforeInit = System.nanoTime();
+        WindowsArray.INSTANCE.initWindowsArray(100L, 600);
+        long startTime = System.nanoTime();
+        WindowsArray.INSTANCE.addThreadNum(startTime);
+        WindowsArray.INSTANCE.addThreadNum(startTime);
+        Assert.assertEquals(2L, WindowsArray.INSTANCE.getThreadNum());
+        WindowsArray.INSTANCE.addResult(startTime, 4L);
+        WindowsArray.INSTANCE.addResult(startTime, 8L);
+        Assert.assertEquals(0L, WindowsArray.INSTANCE.getThreadNum());
+
+        WindowStatistic currentWindow = WindowsArray.INSTANCE.getCurrentWindow();
+        Assert.assertEquals(2L, currentWindow.getSuccess());
+        Assert.assertEquals(12L, currentWindow.getRt());
+        Assert.assertEquals(6d, currentWindow.getAveRt(), 0d);
+        Assert.assertTrue(currentWindow.getDurationMillis() >= 900L);
+        List<WindowStatistic> secondWindows = WindowsArray.INSTANCE.getSecondWindows();
+        Assert.assertEquals(60, secondWindows.size());
+        Assert.assertEquals(2L, secondWindows.get(secondWindows.size() - 1).getSuccess());
+
+        // times before the window are ignored
+        WindowsArray.INSTANCE.addSuccess(beforeInit);
+        Assert.assertEquals(2L, WindowsArray.INSTANCE.getCurrentWindow().getSuccess());
+    }
+
+    @Test
+    public void testRtPercentile() {
+        WindowsArray.INSTANCE.initWindowsArray(100L, 600);
+        long startTime = System.nanoTime();
+        for (long rt = 1L; rt <= 100L; rt++) {
+            WindowsArray.INSTANCE.addResult(startTime, rt);
+        }
+        WindowStatistic currentWindow = WindowsArray.INSTANCE.getCurrentWindow();
+        Assert.assertEquals(50.5d, currentWindow.getAveRt(), 0d);
+        double median = currentWindow.getRtPercentile(50d);
+        Assert.assertTrue(median >= 50d && median < 50d * 1.25d);
+        double p99 = currentWindow.getRtPercentile(99d);
+        Assert.assertTrue(p99 >= 99d && p99 < 99d * 1.25d);
+        Assert.assertEquals(0d, new WindowStatistic(0L).getRtPercentile(99d), 0d);
+    }
+
+    @Test
+    public void testRtHistogram() {
+        for (long rt = 0L; rt < 100000L; rt++) {
+            int index = RtHistogram.indexOf(rt);
+            Assert.assertTrue(rt <= RtHistogram.upperBound(index));
+            Assert.assertTrue(index == 0 || rt > RtHistogram.upperBound(index - 1));
+        }
+        Assert.assertEquals(RtHistogram.SIZE - 1, RtHistogram.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testSlide() throws InterruptedException {
+        WindowsArray.INSTANCE.initWindowsArray(10L, 4);
+        long startTime = System.nanoTime();
+        WindowsArray.INSTANCE.addThreadNum(startTime);
+        Assert.assertEquals(1L, WindowsArray.INSTANCE.getThreadNum());
+        Thread.sleep(60L);
+
+        // the buckets of the request slid out of the window, its result is dropped instead of counted in a new round
+        Assert.assertEquals(0L, WindowsArray.INSTANCE.getThreadNum());
+        WindowsArray.INSTANCE.addResult(startTime, 60L);
+        Assert.assertEquals(0L, WindowsArray.INSTANCE.getCurrentWindow().getSuccess());
+        Assert.assertEquals(0L, WindowsArray.INSTANCE.getPreviousWindow().getSuccess());
+        WindowsArray.INSTANCE.addResult(System.nanoTime(), 1L);
+        Assert.assertEquals(1L, WindowsArray.INSTANCE.getCurrentWindow().getSuccess());
+    }
+}
@@ -16,7 +16,11 @@
 
 package io.sermant.loadbalancer.cache;
 
+import io.sermant.core.utils.MethodAccessor;
+import io.sermant.loadbalancer.constants.DubboUrlParamsConstants;
+
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -31,6 +35,8 @@ public enum DubboApplicationCache {
      */
     INSTANCE;
 
+    private static final MethodAccessor GET_PARAMETER = MethodAccessor.of("getParameter", String.class);
+
     /**
      * serviceInterfaceCache key:interfaceName value:downstreamServiceName
      */
@@ -49,4 +55,22 @@ public enum DubboApplicationCache {
     public Map<String, String> getApplicationCache() {
         return applicationCache;
     }
+
+    /**
+     * Get the downstream service name of a dubbo url, from the interface cache first and then from the url parameter
+     *
+     * @param url dubbo url
+     * @return downstream service name
+     */
+    public Optional<String> getRemoteApplication(Object url) {
+        final Object interfaceName = GET_PARAMETER.invoke(url, DubboUrlParamsConstants.DUBBO_INTERFACE);
+        if (interfaceName instanceof String) {
+            final String application = applicationCache.get(interfaceName);
+            if (application != null) {
+                return Optional.of(application);
+            }
+        }
+        final Object application = GET_PARAMETER.invoke(url, DubboUrlParamsConstants.DUBBO_REMOTE_APPLICATION);
+        return application instanceof String ? Optional.of((String) application) : Optional.empty();
+    }
 }
@@ -95,4 +95,25 @@ public enum DubboLoadbalancerCache {
     public Map<String, DubboLoadbalancerType> getNewCache() {
         return newCache;
     }
+
+    /**
+     * Gets the load balancing type of the downstream service, matched from the rules once and cached
+     *
+     * @param application downstream service name
+     * @return load balancing type
+     */
+    public Optional<DubboLoadbalancerType> getTargetServiceLbType(String application) {
+        final DubboLoadbalancerType cacheType = newCache.get(application);
+        if (cacheType != null) {
+            return Optional.of(cacheType);
+        }
+        final Optional<LoadbalancerRule> targetServiceRule = RuleManager.INSTANCE.getTargetServiceRule(application);
+        if (!targetServiceRule.isPresent()) {
+            return Optional.empty();
+        }
+        final Optional<DubboLoadbalancerType> dubboLoadbalancerType = DubboLoadbalancerType
+                .matchLoadbalancer(targetServiceRule.get().getRule());
+        dubboLoadbalancerType.ifPresent(type -> newCache.put(application, type));
+        return dubboLoadbalancerType;
+    }
 }
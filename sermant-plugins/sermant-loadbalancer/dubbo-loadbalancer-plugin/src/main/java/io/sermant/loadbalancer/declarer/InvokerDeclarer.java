@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.declarer;
+
+import io.sermant.core.plugin.agent.declarer.AbstractPluginDeclarer;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
+import io.sermant.core.plugin.agent.matcher.ClassMatcher;
+import io.sermant.core.plugin.agent.matcher.MethodMatcher;
+import io.sermant.loadbalancer.interceptor.InvokerInterceptor;
+
+/**
+ * Enhance the invoke method of the InvokerWrapper class, which wraps the provider invokers of the consumer directory,
+ * to measure the latency of the requests for the peak EWMA load balancer
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class InvokerDeclarer extends AbstractPluginDeclarer {
+    private static final String[] ENHANCE_CLASS = {"org.apache.dubbo.rpc.protocol.InvokerWrapper",
+            "com.alibaba.dubbo.rpc.protocol.InvokerWrapper"};
+
+    private static final String INTERCEPT_CLASS = InvokerInterceptor.class.getCanonicalName();
+
+    private static final String METHOD_NAME = "invoke";
+
+    private static final int PARAMS_LEN = 1;
+
+    @Override
+    public ClassMatcher getClassMatcher() {
+        return ClassMatcher.nameContains(ENHANCE_CLASS);
+    }
+
+    @Override
+    public InterceptDeclarer[] getInterceptDeclarers(ClassLoader classLoader) {
+        return new InterceptDeclarer[]{
+                InterceptDeclarer.build(MethodMatcher.nameEquals(METHOD_NAME)
+                        .and(MethodMatcher.paramCountEquals(PARAMS_LEN)), INTERCEPT_CLASS)
+        };
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.interceptor;
+
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+import io.sermant.loadbalancer.balancer.PeakEwmaBalancer;
+import io.sermant.loadbalancer.balancer.PeakEwmaStats;
+
+/**
+ * Intercept InvokerWrapper#invoke, measure the requests in flight and the latency of the providers tracked by the
+ * peak EWMA load balancer. Asynchronous requests are measured until the invoke method returns
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class InvokerInterceptor extends AbstractInterceptor {
+    private static final String SLOT_FIELD = "peakEwmaSlot";
+
+    private static final String START_FIELD = "peakEwmaStart";
+
+    @Override
+    public ExecuteContext before(ExecuteContext context) {
+        final int slot = PeakEwmaBalancer.getInstance().onStart(LoadBalanceInterceptor.getAddress(context.getObject()));
+        if (slot != PeakEwmaStats.NO_SLOT) {
+            context.setLocalFieldValue(SLOT_FIELD, slot);
+            context.setLocalFieldValue(START_FIELD, System.nanoTime());
+        }
+        return context;
+    }
+
+    @Override
+    public ExecuteContext after(ExecuteContext context) {
+        final Object slot = context.getLocalFieldValue(SLOT_FIELD);
+        final Object start = context.getLocalFieldValue(START_FIELD);
+        if (slot instanceof Integer && start instanceof Long) {
+            PeakEwmaBalancer.getInstance().onComplete((Integer) slot, (Long) start);
+        }
+        return context;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.interceptor;
+
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+import io.sermant.core.plugin.config.PluginConfigManager;
+import io.sermant.core.utils.MethodAccessor;
+import io.sermant.loadbalancer.balancer.PeakEwmaBalancer;
+import io.sermant.loadbalancer.cache.DubboApplicationCache;
+import io.sermant.loadbalancer.cache.DubboLoadbalancerCache;
+import io.sermant.loadbalancer.config.DubboLoadbalancerType;
+import io.sermant.loadbalancer.config.LoadbalancerConfig;
+import io.sermant.loadbalancer.rule.RuleManager;
+
+import java.util.List;
+
+/**
+ * Intercept AbstractLoadBalance#select, when the downstream service is configured with the peak EWMA rule, the invoker
+ * is chosen by the peak EWMA load balancer and the load balance of dubbo is skipped
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class LoadBalanceInterceptor extends AbstractInterceptor {
+    private static final MethodAccessor GET_URL = MethodAccessor.of("getUrl");
+
+    private static final MethodAccessor GET_ADDRESS = MethodAccessor.of("getAddress");
+
+    private static final int MIN_ARGS_LEN = 2;
+
+    private final LoadbalancerConfig config;
+
+    /**
+     * constructor
+     */
+    public LoadBalanceInterceptor() {
+        config = PluginConfigManager.getPluginConfig(LoadbalancerConfig.class);
+    }
+
+    @Override
+    public ExecuteContext before(ExecuteContext context) {
+        if (config == null || !RuleManager.INSTANCE.isConfigured()) {
+            return context;
+        }
+        final Object[] arguments = context.getArguments();
+        if (arguments == null || arguments.length < MIN_ARGS_LEN || !(arguments[0] instanceof List)) {
+            return context;
+        }
+        final List<Object> invokers = (List<Object>) arguments[0];
+        if (invokers.size() <= 1 || !isPeakEwma(arguments[1])) {
+            return context;
+        }
+        final Object invoker = PeakEwmaBalancer.getInstance().choose(invokers, LoadBalanceInterceptor::getAddress);
+        if (invoker != null) {
+            context.skip(invoker);
+        }
+        return context;
+    }
+
+    @Override
+    public ExecuteContext after(ExecuteContext context) {
+        return context;
+    }
+
+    private boolean isPeakEwma(Object url) {
+        return DubboApplicationCache.INSTANCE.getRemoteApplication(url)
+                .flatMap(DubboLoadbalancerCache.INSTANCE::getTargetServiceLbType)
+                .filter(type -> type == DubboLoadbalancerType.PEAK_EWMA)
+                .isPresent();
+    }
+
+    /**
+     * Address of an invoker
+     *
+     * @param invoker invoker
+     * @return address, host:port of the provider
+     */
+    static String getAddress(Object invoker) {
+        final Object address = GET_ADDRESS.invoke(GET_URL.invoke(invoker));
+        return address instanceof String ? (String) address : String.valueOf(invoker);
+    }
+}
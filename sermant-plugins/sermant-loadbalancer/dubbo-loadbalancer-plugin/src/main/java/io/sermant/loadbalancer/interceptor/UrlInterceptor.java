@@ -29,7 +29,6 @@ import io.sermant.loadbalancer.config.DubboLoadbalancerType;
 import io.sermant.loadbalancer.config.LbContext;
 import io.sermant.loadbalancer.config.LoadbalancerConfig;
 import io.sermant.loadbalancer.constants.DubboUrlParamsConstants;
-import io.sermant.loadbalancer.rule.LoadbalancerRule;
 import io.sermant.loadbalancer.rule.RuleManager;
 
 import java.util.Collection;
@@ -155,55 +154,8 @@ public class UrlInterceptor extends AbstractInterceptor {
             // 没有配置的情况下return empty
             return Optional.empty();
         }
-        return getRemoteApplication(context).flatMap(application -> matchLoadbalancerType(application)
-                .map(loadbalancerType -> loadbalancerType.name().toLowerCase(Locale.ROOT)));
-    }
-
-    private Optional<DubboLoadbalancerType> matchLoadbalancerType(String application) {
-        final DubboLoadbalancerType cacheType = DubboLoadbalancerCache.INSTANCE.getNewCache()
-                .get(application);
-        if (cacheType != null) {
-            return Optional.of(cacheType);
-        }
-        final Optional<LoadbalancerRule> targetServiceRule = RuleManager.INSTANCE
-                .getTargetServiceRule(application);
-        if (!targetServiceRule.isPresent()) {
-            return Optional.empty();
-        }
-        final Optional<DubboLoadbalancerType> dubboLoadbalancerType = DubboLoadbalancerType
-                .matchLoadbalancer(targetServiceRule.get().getRule());
-        dubboLoadbalancerType.ifPresent(type -> DubboLoadbalancerCache.INSTANCE.getNewCache().put(application, type));
-        return dubboLoadbalancerType;
-    }
-
-    private Optional<String> getRemoteApplication(ExecuteContext context) {
-        final Object target = context.getObject();
-        final Optional<String> applicationFromCache = getApplicationFromCache(target);
-        if (applicationFromCache.isPresent()) {
-            return applicationFromCache;
-        }
-        return getApplicationFromUrl(target);
-    }
-
-    private Optional<Object> invokeGetParameter(Object target, String key) {
-        return ReflectUtils.invokeMethod(target, "getParameter", new Class[]{String.class},
-                new Object[]{key});
-    }
-
-    private Optional<String> getApplicationFromUrl(Object target) {
-        final Optional<Object> getParameter = invokeGetParameter(target,
-                DubboUrlParamsConstants.DUBBO_REMOTE_APPLICATION);
-        return getParameter.map(result -> (String) result);
-    }
-
-    private Optional<String> getApplicationFromCache(Object target) {
-        final Optional<Object> interfaceName = invokeGetParameter(target, DubboUrlParamsConstants.DUBBO_INTERFACE);
-        if (interfaceName.isPresent() && interfaceName.get() instanceof String) {
-            final String application = DubboApplicationCache.INSTANCE.getApplicationCache().get(interfaceName.get());
-            if (application != null) {
-                return Optional.of(application);
-            }
-        }
-        return Optional.empty();
+        return DubboApplicationCache.INSTANCE.getRemoteApplication(context.getObject())
+                .flatMap(DubboLoadbalancerCache.INSTANCE::getTargetServiceLbType)
+                .map(DubboLoadbalancerType::getExtensionName);
     }
 }
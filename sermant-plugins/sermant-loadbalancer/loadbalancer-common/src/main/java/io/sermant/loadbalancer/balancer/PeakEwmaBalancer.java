@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.balancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Power of two choices load balancer on peak EWMA latency: two distinct instances are drawn at random and the one with
+ * the lower cost, its peak EWMA latency times its requests in flight, is chosen. Dubbo, spring cloud loadbalancer and
+ * ribbon share one statistics table, so an instance reached through several frameworks is judged on all its requests.
+ * When one of the two is not tracked because the table is full, the first random draw is kept
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class PeakEwmaBalancer {
+    /**
+     * Name of the load balancing rule
+     */
+    public static final String RULE_NAME = "PeakEwma";
+
+    private static final PeakEwmaBalancer INSTANCE = new PeakEwmaBalancer(new PeakEwmaStats());
+
+    private final PeakEwmaStats stats;
+
+    /**
+     * Constructor
+     *
+     * @param stats statistics of the instances
+     */
+    public PeakEwmaBalancer(PeakEwmaStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Get the load balancer shared by the frameworks
+     *
+     * @return load balancer
+     */
+    public static PeakEwmaBalancer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Choose an instance
+     *
+     * @param instances candidate instances
+     * @param keyFunction address of an instance
+     * @param <T> instance type
+     * @return chosen instance, null if there is no candidate
+     */
+    public <T> T choose(List<T> instances, Function<? super T, String> keyFunction) {
+        return choose(instances, keyFunction, System.nanoTime());
+    }
+
+    /**
+     * Choose an instance
+     *
+     * @param instances candidate instances
+     * @param keyFunction address of an instance
+     * @param nowNanos current time
+     * @param <T> instance type
+     * @return chosen instance, null if there is no candidate
+     */
+    public <T> T choose(List<T> instances, Function<? super T, String> keyFunction, long nowNanos) {
+        int size = instances == null ? 0 : instances.size();
+        if (size == 0) {
+            return null;
+        }
+        if (size == 1) {
+            T instance = instances.get(0);
+            stats.getSlot(keyFunction.apply(instance), nowNanos);
+            return instance;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        T firstInstance = instances.get(first);
+        T secondInstance = instances.get(second);
+        int firstSlot = stats.getSlot(keyFunction.apply(firstInstance), nowNanos);
+        int secondSlot = stats.getSlot(keyFunction.apply(secondInstance), nowNanos);
+        if (firstSlot == PeakEwmaStats.NO_SLOT || secondSlot == PeakEwmaStats.NO_SLOT) {
+            return firstInstance;
+        }
+        return stats.getCost(secondSlot, nowNanos) < stats.getCost(firstSlot, nowNanos) ? secondInstance
+                : firstInstance;
+    }
+
+    /**
+     * A request to an instance starts. Only the instances which have been candidates of the load balancer are tracked
+     *
+     * @param key instance address
+     * @return slot of the instance, {@link PeakEwmaStats#NO_SLOT} if the instance is not tracked
+     */
+    public int onStart(String key) {
+        int slot = stats.findSlot(key);
+        stats.onStart(slot);
+        return slot;
+    }
+
+    /**
+     * A request to an instance completes
+     *
+     * @param slot slot of the instance returned when the request started
+     * @param startNanos start time of the request
+     */
+    public void onComplete(int slot, long startNanos) {
+        long now = System.nanoTime();
+        stats.onComplete(slot, now - startNanos, now);
+    }
+
+    public PeakEwmaStats getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.balancer;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Peak EWMA latency and in-flight requests of the instances, keyed by instance address. Each instance is given a slot
+ * of primitive fields in fixed size pages of atomic long arrays, a slot padded to a cache line, so the statistics are
+ * updated without locks and without an object per instance. Pages are only ever added, the slot of an instance never
+ * moves. Once the table is full, the slots of instances which have no request in flight and have not been seen for the
+ * idle time are released and handed to new instances. A request started on a slot just before it is released only
+ * counts towards the instance taking the slot over
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class PeakEwmaStats {
+    /**
+     * Slot of an instance which is not tracked
+     */
+    public static final int NO_SLOT = -1;
+
+    /**
+     * Default time for the latency of an instance to decay by a factor of e
+     */
+    public static final long DEFAULT_DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+
+    /**
+     * Default maximum number of tracked instances
+     */
+    public static final int DEFAULT_MAX_SLOTS = 4096;
+
+    /**
+     * Default time after which the slot of an instance not seen any more may be given to another instance
+     */
+    public static final long DEFAULT_IDLE_NANOS = TimeUnit.MINUTES.toNanos(5L);
+
+    /**
+     * Cost of an instance with requests in flight and no latency measured yet, large enough for measured instances
+     * to be preferred
+     */
+    private static final double PENALTY_NANOS = Long.MAX_VALUE >> 16;
+
+    private static final int PAGE_SHIFT = 8;
+
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private static final int SLOT_SHIFT = 3;
+
+    private static final int EWMA = 0;
+
+    private static final int STAMP = 1;
+
+    private static final int IN_FLIGHT = 2;
+
+    private static final int LAST_SEEN = 3;
+
+    /**
+     * Number of sweeps for idle slots per idle time at most, so that a full table is not scanned on every new instance
+     */
+    private static final int SWEEPS_PER_IDLE_TIME = 4;
+
+    private final long decayNanos;
+
+    private final int maxSlots;
+
+    private final long idleNanos;
+
+    private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+
+    private volatile AtomicLongArray[] pages = new AtomicLongArray[0];
+
+    private int slotCount;
+
+    private int[] freeSlots = new int[0];
+
+    private int freeCount;
+
+    private boolean swept;
+
+    private long nextSweepNanos;
+
+    /**
+     * Constructor
+     */
+    public PeakEwmaStats() {
+        this(DEFAULT_DECAY_NANOS, DEFAULT_MAX_SLOTS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param decayNanos time for the latency of an instance to decay by a factor of e
+     * @param maxSlots maximum number of tracked instances, instances beyond are not tracked
+     */
+    public PeakEwmaStats(long decayNanos, int maxSlots) {
+        this(decayNanos, maxSlots, DEFAULT_IDLE_NANOS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param decayNanos time for the latency of an instance to decay by a factor of e
+     * @param maxSlots maximum number of tracked instances, instances beyond are not tracked
+     * @param idleNanos time after which the slot of an instance not seen any more may be given to another instance
+     */
+    public PeakEwmaStats(long decayNanos, int maxSlots, long idleNanos) {
+        this.decayNanos = decayNanos;
+        this.maxSlots = maxSlots;
+        this.idleNanos = idleNanos;
+    }
+
+    /**
+     * Get the slot of an instance, the instance is tracked from now on
+     *
+     * @param key instance address
+     * @return slot, {@link #NO_SLOT} if the table is full
+     */
+    public int getSlot(String key) {
+        return getSlot(key, System.nanoTime());
+    }
+
+    /**
+     * Get the slot of an instance and mark the instance as seen, the instance is tracked from now on
+     *
+     * @param key instance address
+     * @param nowNanos current time
+     * @return slot, {@link #NO_SLOT} if the table is full and no slot is idle
+     */
+    public int getSlot(String key, long nowNanos) {
+        Integer slot = slots.get(key);
+        if (slot == null) {
+            return register(key, nowNanos);
+        }
+        touch(page(slot), offset(slot), nowNanos);
+        return slot;
+    }
+
+    /**
+     * Find the slot of a tracked instance
+     *
+     * @param key instance address
+     * @return slot, {@link #NO_SLOT} if the instance is not tracked
+     */
+    public int findSlot(String key) {
+        Integer slot = slots.get(key);
+        return slot == null ? NO_SLOT : slot;
+    }
+
+    /**
+     * A request to the instance starts
+     *
+     * @param slot slot of the instance
+     */
+    public void onStart(int slot) {
+        if (slot == NO_SLOT) {
+            return;
+        }
+        page(slot).incrementAndGet(offset(slot) + IN_FLIGHT);
+    }
+
+    /**
+     * A request to the instance completes. The latency replaces the average when it is higher, so the average reacts
+     * to a slow instance at once, and is otherwise averaged in with a weight growing with the time since the last
+     * update. Concurrent completions race on the update time, which only shifts the weight of one sample
+     *
+     * @param slot slot of the instance
+     * @param latencyNanos latency of the request
+     * @param nowNanos current time
+     */
+    public void onComplete(int slot, long latencyNanos, long nowNanos) {
+        if (slot == NO_SLOT) {
+            return;
+        }
+        AtomicLongArray page = page(slot);
+        int offset = offset(slot);
+        page.decrementAndGet(offset + IN_FLIGHT);
+        double latency = Math.max(latencyNanos, 0L);
+        while (true) {
+            long stamp = page.get(offset + STAMP);
+            long bits = page.get(offset + EWMA);
+            double ewma = Double.longBitsToDouble(bits);
+            double updated;
+            if (latency > ewma) {
+                updated = latency;
+            } else {
+                double weight = Math.exp(-Math.max(nowNanos - stamp, 0L) / (double) decayNanos);
+                updated = ewma * weight + latency * (1 - weight);
+            }
+            if (page.compareAndSet(offset + EWMA, bits, Double.doubleToRawLongBits(updated))) {
+                page.set(offset + STAMP, nowNanos);
+                touch(page, offset, nowNanos);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Cost of sending a request to the instance, its latency decayed to now times the requests it would have in
+     * flight. An instance which has not been measured costs nothing until a request is in flight to it. The cost of an
+     * instance which is not tracked is unknown and reads as nothing, it is not meant to be compared
+     *
+     * @param slot slot of the instance
+     * @param nowNanos current time
+     * @return cost
+     */
+    public double getCost(int slot, long nowNanos) {
+        if (slot == NO_SLOT) {
+            return 0;
+        }
+        AtomicLongArray page = page(slot);
+        int offset = offset(slot);
+        long inFlight = Math.max(page.get(offset + IN_FLIGHT), 0L);
+        double ewma = Double.longBitsToDouble(page.get(offset + EWMA));
+        if (ewma == 0) {
+            return inFlight == 0 ? 0 : PENALTY_NANOS * inFlight;
+        }
+        long elapsed = Math.max(nowNanos - page.get(offset + STAMP), 0L);
+        return ewma * Math.exp(-elapsed / (double) decayNanos) * (inFlight + 1);
+    }
+
+    /**
+     * Requests in flight to the instance
+     *
+     * @param slot slot of the instance
+     * @return requests in flight
+     */
+    public long getInFlight(int slot) {
+        return slot == NO_SLOT ? 0L : page(slot).get(offset(slot) + IN_FLIGHT);
+    }
+
+    private synchronized int register(String key, long nowNanos) {
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            return slot;
+        }
+        int index;
+        if (slotCount < maxSlots) {
+            index = addSlot();
+        } else {
+            if (freeCount == 0 && (!swept || nowNanos - nextSweepNanos >= 0)) {
+                sweep(nowNanos);
+            }
+            if (freeCount == 0) {
+                return NO_SLOT;
+            }
+            index = freeSlots[--freeCount];
+        }
+        AtomicLongArray page = page(index);
+        int offset = offset(index);
+        page.set(offset + EWMA, 0L);
+        page.set(offset + STAMP, nowNanos);
+        page.set(offset + LAST_SEEN, nowNanos);
+        slots.put(key, index);
+        return index;
+    }
+
+    private int addSlot() {
+        int index = slotCount;
+        AtomicLongArray[] current = pages;
+        if ((index >>> PAGE_SHIFT) == current.length) {
+            AtomicLongArray[] grown = new AtomicLongArray[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            grown[current.length] = new AtomicLongArray((PAGE_MASK + 1) << SLOT_SHIFT);
+            pages = grown;
+        }
+        slotCount++;
+        return index;
+    }
+
+    /**
+     * Release the slots of the instances which have no request in flight and have not been seen for the idle time
+     *
+     * @param nowNanos current time
+     */
+    private void sweep(long nowNanos) {
+        swept = true;
+        nextSweepNanos = nowNanos + Math.max(idleNanos / SWEEPS_PER_IDLE_TIME, 1L);
+        Iterator<Map.Entry<String, Integer>> iterator = slots.entrySet().iterator();
+        while (iterator.hasNext()) {
+            int index = iterator.next().getValue();
+            AtomicLongArray page = page(index);
+            int offset = offset(index);
+            if (page.get(offset + IN_FLIGHT) > 0 || nowNanos - page.get(offset + LAST_SEEN) < idleNanos) {
+                continue;
+            }
+            iterator.remove();
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, Math.max(freeCount * 2, 1));
+            }
+            freeSlots[freeCount++] = index;
+        }
+    }
+
+    /**
+     * Mark the instance of a slot as seen. The time is only written when it moved on by a fraction of the idle time,
+     * so that choosing an instance does not write its slot every time
+     *
+     * @param page page of the slot
+     * @param offset offset of the slot in the page
+     * @param nowNanos current time
+     */
+    private void touch(AtomicLongArray page, int offset, long nowNanos) {
+        if (nowNanos - page.get(offset + LAST_SEEN) >= idleNanos / SWEEPS_PER_IDLE_TIME) {
+            page.set(offset + LAST_SEEN, nowNanos);
+        }
+    }
+
+    private AtomicLongArray page(int slot) {
+        return pages[slot >>> PAGE_SHIFT];
+    }
+
+    private static int offset(int slot) {
+        return (slot & PAGE_MASK) << SLOT_SHIFT;
+    }
+}
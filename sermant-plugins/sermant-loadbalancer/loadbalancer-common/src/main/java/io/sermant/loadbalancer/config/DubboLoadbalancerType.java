@@ -17,6 +17,9 @@
 
 package io.sermant.loadbalancer.config;
 
+import io.sermant.loadbalancer.balancer.PeakEwmaBalancer;
+
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -49,7 +52,12 @@ public enum DubboLoadbalancerType {
     /**
      * shortest response（only dubbo2.7.7+ is supported）
      */
-    SHORTESTRESPONSE("ShortestResponse");
+    SHORTESTRESPONSE("ShortestResponse"),
+
+    /**
+     * power of two choices on peak EWMA latency, chosen by sermant in place of the random load balance of dubbo
+     */
+    PEAK_EWMA(PeakEwmaBalancer.RULE_NAME);
 
     /**
      * name of the actual mapping
@@ -81,4 +89,13 @@ public enum DubboLoadbalancerType {
     public String getMapperName() {
         return mapperName;
     }
+
+    /**
+     * name of the dubbo load balance extension
+     *
+     * @return extension name
+     */
+    public String getExtensionName() {
+        return this == PEAK_EWMA ? RANDOM.name().toLowerCase(Locale.ROOT) : name().toLowerCase(Locale.ROOT);
+    }
 }
@@ -17,6 +17,8 @@
 
 package io.sermant.loadbalancer.config;
 
+import io.sermant.loadbalancer.balancer.PeakEwmaBalancer;
+
 import java.util.Optional;
 
 /**
@@ -67,7 +69,12 @@ public enum RibbonLoadbalancerType {
     /**
      * Weighted Response Time
      */
-    WEIGHTED_RESPONSE_TIME("WeightedResponseTime", "com.netflix.loadbalancer.WeightedResponseTimeRule");
+    WEIGHTED_RESPONSE_TIME("WeightedResponseTime", "com.netflix.loadbalancer.WeightedResponseTimeRule"),
+
+    /**
+     * power of two choices on peak EWMA latency
+     */
+    PEAK_EWMA(PeakEwmaBalancer.RULE_NAME, "io.sermant.loadbalancer.balancer.RibbonPeakEwmaRule");
 
     /**
      * name of the actual mapping
@@ -17,6 +17,8 @@
 
 package io.sermant.loadbalancer.config;
 
+import io.sermant.loadbalancer.balancer.PeakEwmaBalancer;
+
 import java.util.Optional;
 
 /**
@@ -34,7 +36,13 @@ public enum SpringLoadbalancerType {
     /**
      * Round Robin
      */
-    ROUND_ROBIN("RoundRobin");
+    ROUND_ROBIN("RoundRobin"),
+
+    /**
+     * power of two choices on peak EWMA latency, chosen by sermant out of the instances of the round robin load
+     * balancer
+     */
+    PEAK_EWMA(PeakEwmaBalancer.RULE_NAME);
 
     /**
      * name of the actual mapping
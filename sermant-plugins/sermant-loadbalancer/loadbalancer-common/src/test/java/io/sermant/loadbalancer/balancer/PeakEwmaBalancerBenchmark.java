@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.balancer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Ten instances, one of them ten times slower than the others. The simulation sends requests arriving at random to
+ * single server queues of the instances in virtual time, and reports the share of the requests sent to the slow
+ * instance and their latency for round robin, random and the peak EWMA load balancer. The benchmark measures the cost
+ * of a choice of the peak EWMA load balancer against a random choice. Run with the main method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PeakEwmaBalancerBenchmark {
+    private static final int INSTANCE_COUNT = 10;
+
+    private static final int SLOW_INSTANCE = 0;
+
+    private static final long FAST_SERVICE_NANOS = TimeUnit.MILLISECONDS.toNanos(5L);
+
+    private static final long SLOW_SERVICE_NANOS = TimeUnit.MILLISECONDS.toNanos(50L);
+
+    private static final int REQUEST_COUNT = 200000;
+
+    private static final double REQUESTS_PER_SECOND = 1200D;
+
+    private static final double PERCENTILE = 0.99D;
+
+    private static final long SEED = 20261018L;
+
+    private final List<String> instances = buildInstances();
+
+    private PeakEwmaBalancer balancer;
+
+    /**
+     * Measure the latency of every instance once
+     */
+    @Setup
+    public void setUp() {
+        PeakEwmaStats stats = new PeakEwmaStats();
+        balancer = new PeakEwmaBalancer(stats);
+        long now = System.nanoTime();
+        for (int i = 0; i < instances.size(); i++) {
+            int slot = stats.getSlot(instances.get(i));
+            stats.onStart(slot);
+            stats.onComplete(slot, i == SLOW_INSTANCE ? SLOW_SERVICE_NANOS : FAST_SERVICE_NANOS, now);
+        }
+    }
+
+    /**
+     * Choice of the peak EWMA load balancer
+     *
+     * @return chosen instance
+     */
+    @Benchmark
+    public String peakEwma() {
+        return balancer.choose(instances, Function.identity());
+    }
+
+    /**
+     * Random choice
+     *
+     * @return chosen instance
+     */
+    @Benchmark
+    public String random() {
+        return instances.get(ThreadLocalRandom.current().nextInt(instances.size()));
+    }
+
+    /**
+     * Simulate the load balancers, then run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run benchmark failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (Strategy strategy : Strategy.values()) {
+            System.out.println(simulate(strategy));
+        }
+        new Runner(new OptionsBuilder().include(PeakEwmaBalancerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    /**
+     * Send the requests with a load balancing strategy in virtual time
+     *
+     * @param strategy load balancing strategy
+     * @return result of the simulation
+     */
+    static String simulate(Strategy strategy) {
+        Random random = new Random(SEED);
+        PeakEwmaBalancer peakEwmaBalancer = new PeakEwmaBalancer(new PeakEwmaStats());
+        PeakEwmaStats stats = peakEwmaBalancer.getStats();
+        List<String> instances = buildInstances();
+        long[] freeAt = new long[INSTANCE_COUNT];
+        long[] latencies = new long[REQUEST_COUNT];
+        PriorityQueue<long[]> completions = new PriorityQueue<>((left, right) -> Long.compare(left[0], right[0]));
+        int slowRequests = 0;
+        long now = 0L;
+        double meanInterval = TimeUnit.SECONDS.toNanos(1L) / REQUESTS_PER_SECOND;
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            now += (long) (-Math.log(1 - random.nextDouble()) * meanInterval);
+            while (!completions.isEmpty() && completions.peek()[0] <= now) {
+                long[] completion = completions.poll();
+                stats.onComplete((int) completion[1], completion[2], completion[0]);
+            }
+            int index;
+            if (strategy == Strategy.ROUND_ROBIN) {
+                index = i % INSTANCE_COUNT;
+            } else if (strategy == Strategy.RANDOM) {
+                index = random.nextInt(INSTANCE_COUNT);
+            } else {
+                index = instances.indexOf(peakEwmaBalancer.choose(instances, Function.identity(), now));
+            }
+            long meanService = index == SLOW_INSTANCE ? SLOW_SERVICE_NANOS : FAST_SERVICE_NANOS;
+            long service = (long) (-Math.log(1 - random.nextDouble()) * meanService);
+            long end = Math.max(now, freeAt[index]) + service;
+            freeAt[index] = end;
+            latencies[i] = end - now;
+            if (index == SLOW_INSTANCE) {
+                slowRequests++;
+            }
+            int slot = peakEwmaBalancer.onStart(instances.get(index));
+            if (slot != PeakEwmaStats.NO_SLOT) {
+                completions.add(new long[]{end, slot, latencies[i]});
+            }
+        }
+        Arrays.sort(latencies);
+        double mean = Arrays.stream(latencies).average().orElse(0D);
+        return String.format(Locale.ENGLISH, "%-12s slow share %6.2f%%, mean %10.2f ms, p99 %10.2f ms", strategy,
+                slowRequests * 100D / REQUEST_COUNT, mean / TimeUnit.MILLISECONDS.toNanos(1L),
+                (double) latencies[(int) (REQUEST_COUNT * PERCENTILE)] / TimeUnit.MILLISECONDS.toNanos(1L));
+    }
+
+    private static List<String> buildInstances() {
+        List<String> instances = new ArrayList<>();
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            instances.add("192.168.0." + (i + 1) + ":8080");
+        }
+        return instances;
+    }
+
+    /**
+     * Load balancing strategy of the simulation
+     *
+     * @since 2026-10-18
+     */
+    enum Strategy {
+        /**
+         * Round robin
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Random
+         */
+        RANDOM,
+
+        /**
+         * Power of two choices on the peak EWMA latency
+         */
+        PEAK_EWMA
+    }
+}
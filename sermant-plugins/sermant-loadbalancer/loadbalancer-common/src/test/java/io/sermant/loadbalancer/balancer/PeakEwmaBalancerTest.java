@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.balancer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Test the peak EWMA load balancer
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class PeakEwmaBalancerTest {
+    private static final long DECAY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+
+    private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+
+    private static final double DELTA = 1000D;
+
+    private final PeakEwmaStats stats = new PeakEwmaStats(DECAY_NANOS, PeakEwmaStats.DEFAULT_MAX_SLOTS);
+
+    /**
+     * A higher latency is taken at once, a lower one is averaged in by the time since the last update
+     */
+    @Test
+    public void testPeakAndDecay() {
+        int slot = stats.getSlot("127.0.0.1:8080");
+        Assert.assertEquals(0D, stats.getCost(slot, 0L), 0D);
+        complete(slot, SLOW_NANOS, 0L);
+        Assert.assertEquals(SLOW_NANOS, stats.getCost(slot, 0L), DELTA);
+
+        complete(slot, FAST_NANOS, DECAY_NANOS);
+        double weight = Math.exp(-1D);
+        double expected = SLOW_NANOS * weight + FAST_NANOS * (1 - weight);
+        Assert.assertEquals(expected, stats.getCost(slot, DECAY_NANOS), DELTA);
+        Assert.assertEquals(expected * weight, stats.getCost(slot, DECAY_NANOS * 2), DELTA);
+
+        complete(slot, SLOW_NANOS * 2, DECAY_NANOS);
+        Assert.assertEquals(SLOW_NANOS * 2, stats.getCost(slot, DECAY_NANOS), DELTA);
+    }
+
+    /**
+     * The cost grows with the requests in flight, an instance not measured yet is avoided once a request is in flight
+     */
+    @Test
+    public void testInFlight() {
+        int measured = stats.getSlot("127.0.0.1:8080");
+        complete(measured, SLOW_NANOS, 0L);
+        stats.onStart(measured);
+        stats.onStart(measured);
+        Assert.assertEquals(2L, stats.getInFlight(measured));
+        Assert.assertEquals(SLOW_NANOS * 3, stats.getCost(measured, 0L), DELTA);
+
+        int unmeasured = stats.getSlot("127.0.0.1:8081");
+        Assert.assertEquals(0D, stats.getCost(unmeasured, 0L), 0D);
+        stats.onStart(unmeasured);
+        Assert.assertTrue(stats.getCost(unmeasured, 0L) > stats.getCost(measured, 0L));
+    }
+
+    /**
+     * Only the instances which have been candidates are tracked, up to the size of the table
+     */
+    @Test
+    public void testSlots() {
+        PeakEwmaStats smallStats = new PeakEwmaStats(DECAY_NANOS, 300);
+        PeakEwmaBalancer balancer = new PeakEwmaBalancer(smallStats);
+        Assert.assertEquals(PeakEwmaStats.NO_SLOT, balancer.onStart("127.0.0.1:8080"));
+        List<String> instances = buildInstances(300);
+        for (String instance : instances) {
+            Assert.assertSame(instance, balancer.choose(Collections.singletonList(instance),
+                    Function.identity()));
+        }
+        Assert.assertEquals(PeakEwmaStats.NO_SLOT, smallStats.getSlot("127.0.0.2:8080"));
+        for (int i = 0; i < instances.size(); i++) {
+            int slot = balancer.onStart(instances.get(i));
+            Assert.assertEquals(i, slot);
+            Assert.assertEquals(1L, smallStats.getInFlight(slot));
+        }
+        Assert.assertNull(balancer.choose(new ArrayList<String>(), Function.identity()));
+    }
+
+    /**
+     * Once the table is full, the slots of the instances idle for the idle time are handed to new instances, slots with
+     * requests in flight are kept
+     */
+    @Test
+    public void testFullTableReusesIdleSlots() {
+        long idleNanos = TimeUnit.MINUTES.toNanos(1L);
+        PeakEwmaStats smallStats = new PeakEwmaStats(DECAY_NANOS, 4, idleNanos);
+        List<String> instances = buildInstances(6);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(i, smallStats.getSlot(instances.get(i), 0L));
+        }
+        int busy = smallStats.getSlot(instances.get(0), 0L);
+        smallStats.onStart(busy);
+        int measured = smallStats.getSlot(instances.get(1), 0L);
+        smallStats.onStart(measured);
+        smallStats.onComplete(measured, SLOW_NANOS, 0L);
+        Assert.assertEquals(PeakEwmaStats.NO_SLOT, smallStats.getSlot(instances.get(4), idleNanos / 2));
+
+        // the third instance is seen again and stays tracked
+        smallStats.getSlot(instances.get(2), idleNanos);
+        int reused = smallStats.getSlot(instances.get(4), idleNanos * 3 / 2);
+        Assert.assertNotEquals(PeakEwmaStats.NO_SLOT, reused);
+        Assert.assertNotEquals(busy, reused);
+        Assert.assertEquals(0D, smallStats.getCost(reused, idleNanos * 3 / 2), 0D);
+        Assert.assertEquals(0L, smallStats.getInFlight(reused));
+        int other = smallStats.getSlot(instances.get(5), idleNanos * 3 / 2);
+        Assert.assertNotEquals(PeakEwmaStats.NO_SLOT, other);
+        Assert.assertNotEquals(reused, other);
+        Assert.assertEquals(PeakEwmaStats.NO_SLOT, smallStats.findSlot(instances.get(1)));
+        Assert.assertEquals(PeakEwmaStats.NO_SLOT, smallStats.findSlot(instances.get(3)));
+        Assert.assertEquals(busy, smallStats.findSlot(instances.get(0)));
+        Assert.assertEquals(2, smallStats.findSlot(instances.get(2)));
+
+        // no slot is free until the kept instances are idle
+        Assert.assertEquals(PeakEwmaStats.NO_SLOT, smallStats.getSlot(instances.get(1), idleNanos * 3 / 2));
+    }
+
+    /**
+     * An instance which is not tracked is neither preferred nor avoided, the first random draw is kept
+     */
+    @Test
+    public void testUntrackedInstanceIsNeutral() {
+        PeakEwmaStats smallStats = new PeakEwmaStats(DECAY_NANOS, 1);
+        PeakEwmaBalancer balancer = new PeakEwmaBalancer(smallStats);
+        List<String> instances = buildInstances(2);
+        int slot = smallStats.getSlot(instances.get(0), 0L);
+        smallStats.onStart(slot);
+        smallStats.onComplete(slot, SLOW_NANOS, 0L);
+        int[] counts = new int[instances.size()];
+        for (int i = 0; i < 10000; i++) {
+            counts[instances.indexOf(balancer.choose(instances, Function.identity(), 0L))]++;
+        }
+        Assert.assertEquals(PeakEwmaStats.NO_SLOT, smallStats.findSlot(instances.get(1)));
+        Assert.assertEquals(0.5d, counts[0] / 10000d, 0.05d);
+    }
+
+    /**
+     * The slow instance among ten is not chosen, both choices are never the slow instance
+     */
+    @Test
+    public void testAvoidSlowInstance() {
+        PeakEwmaBalancer balancer = new PeakEwmaBalancer(stats);
+        List<String> instances = buildInstances(10);
+        for (int i = 0; i < instances.size(); i++) {
+            complete(stats.getSlot(instances.get(i)), i == 0 ? SLOW_NANOS : FAST_NANOS, 0L);
+        }
+        int[] counts = new int[instances.size()];
+        for (int i = 0; i < 10000; i++) {
+            counts[instances.indexOf(balancer.choose(instances, Function.identity(), 0L))]++;
+        }
+        Assert.assertEquals(0, counts[0]);
+        for (int i = 1; i < counts.length; i++) {
+            Assert.assertTrue(counts[i] > 0);
+        }
+    }
+
+    private void complete(int slot, long latencyNanos, long nowNanos) {
+        stats.onStart(slot);
+        stats.onComplete(slot, latencyNanos, nowNanos);
+    }
+
+    private static List<String> buildInstances(int count) {
+        List<String> instances = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            instances.add("127.0.0.1:" + (8080 + i));
+        }
+        return instances;
+    }
+}
@@ -66,6 +66,11 @@ public enum SpringLoadbalancerCache {
      */
     private final Map<String, Optional<Object>> newCache = new ConcurrentHashMap<>();
 
+    /**
+     * load balancers of the peak EWMA rule, key: service id, value: load balancer
+     */
+    private final Map<String, Object> peakEwmaCache = new ConcurrentHashMap<>();
+
     SpringLoadbalancerCache() {
         RuleManager.INSTANCE.addRuleListener(this::updateCache);
     }
@@ -184,6 +189,27 @@ public enum SpringLoadbalancerCache {
         return type;
     }
 
+    /**
+     * stored the load balancer created for the peak EWMA rule
+     *
+     * @param serviceId service id
+     * @param loadBalancer load balancer
+     */
+    public void putPeakEwmaBalancer(String serviceId, Object loadBalancer) {
+        peakEwmaCache.put(serviceId, loadBalancer);
+    }
+
+    /**
+     * whether the load balancer is created for the peak EWMA rule of the service
+     *
+     * @param serviceId service id
+     * @param loadBalancer load balancer
+     * @return whether the load balancer is of the peak EWMA rule
+     */
+    public boolean isPeakEwmaBalancer(String serviceId, Object loadBalancer) {
+        return serviceId != null && peakEwmaCache.get(serviceId) == loadBalancer;
+    }
+
     public Map<String, Optional<Object>> getNewCache() {
         return newCache;
     }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.declarer;
+
+import io.sermant.core.plugin.agent.declarer.AbstractPluginDeclarer;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
+import io.sermant.core.plugin.agent.matcher.ClassMatcher;
+import io.sermant.core.plugin.agent.matcher.MethodMatcher;
+
+/**
+ * LoadBalancerClient execute enhancement class, measures the latency of the requests for the peak EWMA load balancer
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class LoadBalancerClientDeclarer extends AbstractPluginDeclarer {
+    private static final String[] ENHANCE_CLASS = {
+            "org.springframework.cloud.loadbalancer.blocking.client.BlockingLoadBalancerClient",
+            "org.springframework.cloud.netflix.ribbon.RibbonLoadBalancerClient"};
+
+    private static final String INTERCEPT_CLASS = "io.sermant.loadbalancer.interceptor.LoadBalancerClientInterceptor";
+
+    private static final String METHOD_NAME = "execute";
+
+    private static final String[] PARAM_TYPES = {"java.lang.String",
+            "org.springframework.cloud.client.ServiceInstance",
+            "org.springframework.cloud.client.loadbalancer.LoadBalancerRequest"};
+
+    @Override
+    public ClassMatcher getClassMatcher() {
+        return ClassMatcher.nameContains(ENHANCE_CLASS);
+    }
+
+    @Override
+    public InterceptDeclarer[] getInterceptDeclarers(ClassLoader classLoader) {
+        return new InterceptDeclarer[]{
+                InterceptDeclarer.build(MethodMatcher.nameEquals(METHOD_NAME)
+                        .and(MethodMatcher.paramTypesEqual(PARAM_TYPES)), INTERCEPT_CLASS)
+        };
+    }
+}
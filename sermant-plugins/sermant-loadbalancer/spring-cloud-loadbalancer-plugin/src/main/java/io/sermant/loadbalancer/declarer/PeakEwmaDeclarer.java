@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.declarer;
+
+import io.sermant.core.plugin.agent.matcher.MethodMatcher;
+
+/**
+ * RoundRobinLoadBalancer getInstanceResponse enhancement class, narrows the instances to the one chosen by the peak
+ * EWMA load balancer
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class PeakEwmaDeclarer extends AbstractDeclarer {
+    private static final String ENHANCE_CLASS = "org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer";
+
+    private static final String INTERCEPT_CLASS = "io.sermant.loadbalancer.interceptor.PeakEwmaInterceptor";
+
+    private static final String METHOD_NAME = "getInstanceResponse";
+
+    private static final int ARGS_LENGTH = 1;
+
+    /**
+     * construction method
+     */
+    public PeakEwmaDeclarer() {
+        super(ENHANCE_CLASS, INTERCEPT_CLASS, METHOD_NAME);
+    }
+
+    @Override
+    public MethodMatcher getMethodMatcher() {
+        return super.getMethodMatcher().and(MethodMatcher.paramCountEquals(ARGS_LENGTH));
+    }
+}
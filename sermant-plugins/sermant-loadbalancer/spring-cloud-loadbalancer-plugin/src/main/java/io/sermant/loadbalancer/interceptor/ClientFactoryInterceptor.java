@@ -99,8 +99,13 @@ public class ClientFactoryInterceptor extends AbstractInterceptor {
         Class<?> clazz = getLoadBalancerClass(type);
         try {
             Constructor<?> constructor = clazz.getConstructor(ObjectProvider.class, String.class);
-            return Optional.of(constructor.newInstance(SpringLoadbalancerCache.INSTANCE.getProvider(serviceId),
-                    serviceId));
+            Object loadBalancer = constructor.newInstance(SpringLoadbalancerCache.INSTANCE.getProvider(serviceId),
+                    serviceId);
+            if (type == SpringLoadbalancerType.PEAK_EWMA) {
+                // The round robin load balancer is narrowed to the instance chosen by the peak EWMA load balancer
+                SpringLoadbalancerCache.INSTANCE.putPeakEwmaBalancer(serviceId, loadBalancer);
+            }
+            return Optional.of(loadBalancer);
         } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
                 | InvocationTargetException e) {
             LOGGER.warning(String.format(Locale.ENGLISH, "Cannot create loadbalancer [%s].", clazz.getName()));
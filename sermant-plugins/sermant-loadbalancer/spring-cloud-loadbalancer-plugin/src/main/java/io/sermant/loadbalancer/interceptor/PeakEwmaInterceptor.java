@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.loadbalancer.interceptor;
+
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+import io.sermant.core.utils.FieldAccessor;
+import io.sermant.loadbalancer.balancer.PeakEwmaBalancer;
+import io.sermant.loadbalancer.cache.SpringLoadbalancerCache;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RoundRobinLoadBalancer getInstanceResponse enhancement class. When the load balancer is created for the peak EWMA
+ * rule, the instances are narrowed to the one chosen by the peak EWMA load balancer
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class PeakEwmaInterceptor extends AbstractInterceptor {
+    private static final FieldAccessor SERVICE_ID = FieldAccessor.of("serviceId");
+
+    @Override
+    public ExecuteContext before(ExecuteContext context) {
+        final Object[] arguments = context.getArguments();
+        if (arguments == null || arguments.length == 0 || !(arguments[0] instanceof List)) {
+            return context;
+        }
+        final List<ServiceInstance> instances = (List<ServiceInstance>) arguments[0];
+        if (instances.size() <= 1) {
+            return context;
+        }
+        final Object serviceId = SERVICE_ID.get(context.getObject());
+        if (!(serviceId instanceof String)
+                || !SpringLoadbalancerCache.INSTANCE.isPeakEwmaBalancer((String) serviceId, context.getObject())) {
+            return context;
+        }
+        final ServiceInstance instance = PeakEwmaBalancer.getInstance().choose(instances,
+                PeakEwmaInterceptor::getAddress);
+        if (instance != null) {
+            context.changeArgs(new Object[]{Collections.singletonList(instance)});
+        }
+        return context;
+    }
+
+    @Override
+    public ExecuteContext after(ExecuteContext context) {
+        return context;
+    }
+
+    /**
+     * address of an instance
+     *
+     * @param instance instance
+     * @return address, host:port of the instance
+     */
+    static String getAddress(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -25,6 +25,7 @@ import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
 import io.sermant.core.plugin.config.PluginConfigManager;
+import io.sermant.loadbalancer.balancer.RibbonPeakEwmaRule;
 import io.sermant.loadbalancer.cache.RibbonLoadbalancerCache;
 import io.sermant.loadbalancer.config.LbContext;
 import io.sermant.loadbalancer.config.LoadbalancerConfig;
@@ -66,6 +67,10 @@ public class RibbonLoadBalancerInterceptor extends AbstractInterceptor {
             new ConcurrentHashMap<>();
 
     private final Function<RibbonLoadbalancerType, Optional<AbstractLoadBalancerRule>> ruleCreator = type -> {
+        if (type == RibbonLoadbalancerType.PEAK_EWMA) {
+            // The rule is a class of the plugin, which can not be loaded by the context class loader
+            return Optional.of(new RibbonPeakEwmaRule());
+        }
         final String clazzName = type.getClazzName();
         final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
         try {
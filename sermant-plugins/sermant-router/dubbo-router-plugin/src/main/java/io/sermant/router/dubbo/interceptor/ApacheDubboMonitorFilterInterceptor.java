@@ -18,16 +18,12 @@ package io.sermant.router.dubbo.interceptor;
 
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
-import io.sermant.router.common.cache.DubboCache;
 import io.sermant.router.common.constants.RouterConstant;
 import io.sermant.router.common.metric.MetricsManager;
 
 import org.apache.dubbo.common.URL;
 import org.apache.dubbo.rpc.Invoker;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Interceptor of the MonitorFilter, Collecting Metric Information
  *
@@ -52,12 +48,7 @@ public class ApacheDubboMonitorFilterInterceptor extends AbstractInterceptor {
         Invoker<?> invoker = (Invoker<?>) arguments[0];
         URL url = invoker.getUrl();
         if (isConsumer(url)) {
-            String address = url.getHost() + RouterConstant.URL_CONNECTOR + url.getPort();
-            Map<String, String> tagsMap = new HashMap<>();
-            tagsMap.put(RouterConstant.SERVER_ADDRESS, address);
-            tagsMap.put(RouterConstant.CLIENT_SERVICE_NAME, DubboCache.INSTANCE.getAppName());
-            tagsMap.put(RouterConstant.PROTOCOL, RouterConstant.DUBBO_PROTOCOL);
-            MetricsManager.addOrUpdateCounterMetricValue(RouterConstant.ROUTER_REQUEST_COUNT, tagsMap, 1);
+            MetricsManager.collectRequestCountMetric(url.getHost(), url.getPort(), RouterConstant.DUBBO_PROTOCOL);
         }
         return context;
     }
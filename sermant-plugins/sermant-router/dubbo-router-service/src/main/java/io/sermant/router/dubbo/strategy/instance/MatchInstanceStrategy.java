@@ -17,7 +17,9 @@
 package io.sermant.router.dubbo.strategy.instance;
 
 import io.sermant.router.config.strategy.AbstractInstanceStrategy;
+import io.sermant.router.config.strategy.InstanceTagIndex;
 
+import java.util.BitSet;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -50,4 +52,24 @@ public class MatchInstanceStrategy extends AbstractInstanceStrategy<Object, Map<
         }
         return false;
     }
+
+    /**
+     * Invokers with any of the target tags
+     *
+     * @param index Tag index of the invokers
+     * @param tag Matching labels
+     * @return Positions of the matched invokers
+     */
+    @Override
+    public BitSet match(InstanceTagIndex<Object> index, Map<String, String> tag) {
+        final BitSet result = new BitSet(index.size());
+        for (Map.Entry<String, String> entry : tag.entrySet()) {
+            String value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            result.or(index.getInstancesWithValue(entry.getKey(), value));
+        }
+        return result;
+    }
 }
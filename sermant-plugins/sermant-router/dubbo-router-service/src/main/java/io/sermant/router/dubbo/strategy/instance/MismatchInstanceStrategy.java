@@ -17,7 +17,9 @@
 package io.sermant.router.dubbo.strategy.instance;
 
 import io.sermant.router.config.strategy.AbstractInstanceStrategy;
+import io.sermant.router.config.strategy.InstanceTagIndex;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -68,4 +70,26 @@ public class MismatchInstanceStrategy extends AbstractInstanceStrategy<Object, L
         }
         return false;
     }
+
+    /**
+     * Instances carrying none of the mismatch tags
+     *
+     * @param index Tag index of the invokers
+     * @param tags Unmatched tags
+     * @return Positions of the matched invokers
+     */
+    @Override
+    public BitSet match(InstanceTagIndex<Object> index, List<Map<String, String>> tags) {
+        final BitSet excluded = new BitSet(index.size());
+        for (Map<String, String> mismatchTag : tags) {
+            for (Map.Entry<String, String> entry : mismatchTag.entrySet()) {
+                String value = entry.getValue();
+                excluded.or(value == null ? index.getInstancesWithKey(entry.getKey())
+                        : index.getInstancesWithValue(entry.getKey(), value));
+            }
+        }
+        final BitSet result = (BitSet) index.getAllInstances().clone();
+        result.andNot(excluded);
+        return result;
+    }
 }
@@ -31,6 +31,7 @@ import io.sermant.router.common.constants.RouterConstant;
 import java.net.URI;
 import java.net.URL;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -54,6 +55,11 @@ public class MetricsManager {
 
     private static MetricService metricService = null;
 
+    /**
+     * Counter handles of the current client service, replaced when the name of the client service changes
+     */
+    private static volatile RouterCounters routerCounters;
+
     static {
         try {
             metricService = ServiceManager.getService(MetricService.class);
@@ -86,15 +92,11 @@ public class MetricsManager {
         if (metricService == null || !ROUTER_CONFIG.isEnableMetric()) {
             return;
         }
-        Map<String, String> tagsMap;
-        if (tags != null) {
-            tagsMap = new HashMap<>(tags);
-        } else {
-            tagsMap = new HashMap<>();
+        Map<String, String> tagsMap = tags == null ? Collections.emptyMap() : tags;
+        Counter counter = COUNT_MAP.get(new MetricInfo(metricName, tagsMap));
+        if (counter == null) {
+            counter = getCounter(metricName, new HashMap<>(tagsMap));
         }
-        Counter counter = COUNT_MAP.computeIfAbsent(new MetricInfo(metricName, tagsMap),
-                metricInfo -> metricService.counter(metricName,
-                        Tags.of(tagsMap).addScope("service-router")));
         counter.increment(value);
     }
 
@@ -104,8 +106,7 @@ public class MetricsManager {
      * @param url url information
      */
     public static void collectRequestCountMetric(URL url) {
-        String address = url.getHost() + RouterConstant.URL_CONNECTOR + url.getPort();
-        collectRequestCountMetric(address);
+        collectRequestCountMetric(url.getHost(), url.getPort(), RouterConstant.HTTP_PROTOCOL);
     }
 
     /**
@@ -114,20 +115,22 @@ public class MetricsManager {
      * @param uri uri information
      */
     public static void collectRequestCountMetric(URI uri) {
-        String address = uri.getHost() + RouterConstant.URL_CONNECTOR + uri.getPort();
-        collectRequestCountMetric(address);
+        collectRequestCountMetric(uri.getHost(), uri.getPort(), RouterConstant.HTTP_PROTOCOL);
     }
 
-    private static void collectRequestCountMetric(String address) {
-        Map<String, String> tagsMap = new HashMap<>();
-        if (StringUtils.isEmpty(DubboCache.INSTANCE.getAppName())) {
-            tagsMap.put(RouterConstant.CLIENT_SERVICE_NAME, AppCache.INSTANCE.getAppName());
-        } else {
-            tagsMap.put(RouterConstant.CLIENT_SERVICE_NAME, DubboCache.INSTANCE.getAppName());
+    /**
+     * Collect request count metric information. The tags of a server address are bound to a counter on the first
+     * request, later requests only look the counter up and increment it
+     *
+     * @param host host of the server
+     * @param port port of the server
+     * @param protocol request protocol
+     */
+    public static void collectRequestCountMetric(String host, int port, String protocol) {
+        if (metricService == null || !ROUTER_CONFIG.isEnableMetric()) {
+            return;
         }
-        tagsMap.put(RouterConstant.SERVER_ADDRESS, address);
-        tagsMap.put(RouterConstant.PROTOCOL, RouterConstant.HTTP_PROTOCOL);
-        addOrUpdateCounterMetricValue(RouterConstant.ROUTER_REQUEST_COUNT, tagsMap, 1);
+        getRouterCounters().getRequestCounter(host, port, protocol).increment();
     }
 
     /**
@@ -136,19 +139,28 @@ public class MetricsManager {
      * @param cluster cluster name
      */
     public static void collectXdsRouterDestinationTagCountMetric(String cluster) {
-        if (!ROUTER_CONFIG.isEnableMetric()) {
+        if (metricService == null || !ROUTER_CONFIG.isEnableMetric()) {
             return;
         }
-        Map<String, String> tagsMap = new HashMap<>();
-        MetricsManager.getAllTagKey().forEach(key -> tagsMap.put(key, StringUtils.EMPTY));
-        tagsMap.put(RouterConstant.SERVICE_META_PARAMETERS, "cluster: " + cluster);
-        if (StringUtils.isEmpty(DubboCache.INSTANCE.getAppName())) {
-            tagsMap.put(RouterConstant.CLIENT_SERVICE_NAME, AppCache.INSTANCE.getAppName());
-        } else {
-            tagsMap.put(RouterConstant.CLIENT_SERVICE_NAME, DubboCache.INSTANCE.getAppName());
+        getRouterCounters().getXdsDestinationCounter(cluster).increment();
+    }
+
+    private static RouterCounters getRouterCounters() {
+        String clientServiceName = DubboCache.INSTANCE.getAppName();
+        if (StringUtils.isEmpty(clientServiceName)) {
+            clientServiceName = AppCache.INSTANCE.getAppName();
         }
-        tagsMap.put(RouterConstant.PROTOCOL, RouterConstant.XDS_PROTOCOL);
-        MetricsManager.addOrUpdateCounterMetricValue(RouterConstant.ROUTER_DESTINATION_TAG_COUNT, tagsMap, 1);
+        RouterCounters counters = routerCounters;
+        if (counters == null || !counters.isBoundTo(clientServiceName)) {
+            counters = new RouterCounters(clientServiceName, TAG_KEY_MAP.values(), MetricsManager::getCounter);
+            routerCounters = counters;
+        }
+        return counters;
+    }
+
+    private static Counter getCounter(String metricName, Map<String, String> tags) {
+        return COUNT_MAP.computeIfAbsent(new MetricInfo(metricName, tags),
+                metricInfo -> metricService.counter(metricName, Tags.of(tags).addScope("service-router")));
     }
 
     /**
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.metric;
+
+import io.sermant.core.service.metric.api.Counter;
+import io.sermant.core.utils.StringUtils;
+import io.sermant.router.common.constants.RouterConstant;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Counter handles of the routing metrics recorded on every request, bound once per tag tuple of a client service. The
+ * handles are looked up by the host, port and protocol of the request or by the destination cluster, so recording a
+ * request is a few map reads and the increment of the counter, without building the tags again
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class RouterCounters {
+    private final String clientServiceName;
+
+    private final Collection<String> destinationTagKeys;
+
+    private final BiFunction<String, Map<String, String>, Counter> counterFactory;
+
+    private final Map<String, Map<String, PortCounters>> requestCounters = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> xdsDestinationCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param clientServiceName name of the client service
+     * @param destinationTagKeys keys of the destination tag metric
+     * @param counterFactory creates the counter of a metric name and tags
+     */
+    RouterCounters(String clientServiceName, Collection<String> destinationTagKeys,
+            BiFunction<String, Map<String, String>, Counter> counterFactory) {
+        this.clientServiceName = clientServiceName;
+        this.destinationTagKeys = destinationTagKeys;
+        this.counterFactory = counterFactory;
+    }
+
+    /**
+     * Whether the handles are bound to the client service
+     *
+     * @param name name of the client service
+     * @return bound to the client service or not
+     */
+    boolean isBoundTo(String name) {
+        return StringUtils.equals(clientServiceName, name);
+    }
+
+    /**
+     * Get the request count counter of a server address
+     *
+     * @param host host of the server, null if unknown
+     * @param port port of the server
+     * @param protocol request protocol
+     * @return counter
+     */
+    Counter getRequestCounter(String host, int port, String protocol) {
+        Map<String, PortCounters> hostCounters = requestCounters.get(protocol);
+        if (hostCounters == null) {
+            hostCounters = requestCounters.computeIfAbsent(protocol, key -> new ConcurrentHashMap<>());
+        }
+        String hostKey = String.valueOf(host);
+        PortCounters portCounters = hostCounters.get(hostKey);
+        if (portCounters == null) {
+            portCounters = hostCounters.computeIfAbsent(hostKey, key -> new PortCounters());
+        }
+        Counter counter = portCounters.get(port);
+        if (counter == null) {
+            counter = portCounters.bind(port, () -> createRequestCounter(hostKey, port, protocol));
+        }
+        return counter;
+    }
+
+    /**
+     * Get the destination tag count counter of an xDS cluster
+     *
+     * @param cluster cluster name
+     * @return counter
+     */
+    Counter getXdsDestinationCounter(String cluster) {
+        Counter counter = xdsDestinationCounters.get(cluster);
+        if (counter == null) {
+            counter = xdsDestinationCounters.computeIfAbsent(cluster, this::createXdsDestinationCounter);
+        }
+        return counter;
+    }
+
+    private Counter createRequestCounter(String host, int port, String protocol) {
+        Map<String, String> tagsMap = new HashMap<>();
+        tagsMap.put(RouterConstant.CLIENT_SERVICE_NAME, clientServiceName);
+        tagsMap.put(RouterConstant.SERVER_ADDRESS, host + RouterConstant.URL_CONNECTOR + port);
+        tagsMap.put(RouterConstant.PROTOCOL, protocol);
+        return counterFactory.apply(RouterConstant.ROUTER_REQUEST_COUNT, tagsMap);
+    }
+
+    private Counter createXdsDestinationCounter(String cluster) {
+        Map<String, String> tagsMap = new HashMap<>();
+        destinationTagKeys.forEach(key -> tagsMap.put(key, StringUtils.EMPTY));
+        tagsMap.put(RouterConstant.SERVICE_META_PARAMETERS, "cluster: " + cluster);
+        tagsMap.put(RouterConstant.CLIENT_SERVICE_NAME, clientServiceName);
+        tagsMap.put(RouterConstant.PROTOCOL, RouterConstant.XDS_PROTOCOL);
+        return counterFactory.apply(RouterConstant.ROUTER_DESTINATION_TAG_COUNT, tagsMap);
+    }
+
+    /**
+     * Counters of the ports of a host. A host serves on a few ports, so they are kept in a copy-on-write array and
+     * scanned, which does not box the port as a map key would
+     *
+     * @since 2026-10-18
+     */
+    private static class PortCounters {
+        private volatile PortCounter[] counters = new PortCounter[0];
+
+        Counter get(int port) {
+            for (PortCounter counter : counters) {
+                if (counter.port == port) {
+                    return counter.counter;
+                }
+            }
+            return null;
+        }
+
+        synchronized Counter bind(int port, Supplier<Counter> supplier) {
+            Counter existing = get(port);
+            if (existing != null) {
+                return existing;
+            }
+            Counter counter = supplier.get();
+            PortCounter[] current = counters;
+            PortCounter[] updated = new PortCounter[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = new PortCounter(port, counter);
+            counters = updated;
+            return counter;
+        }
+    }
+
+    /**
+     * Counter of a port
+     *
+     * @since 2026-10-18
+     */
+    private static class PortCounter {
+        private final int port;
+
+        private final Counter counter;
+
+        PortCounter(int port, Counter counter) {
+            this.port = port;
+            this.counter = counter;
+        }
+    }
+}
@@ -16,6 +16,9 @@
 
 package io.sermant.router.common.utils;
 
+import io.sermant.core.utils.FieldAccessor;
+import io.sermant.core.utils.MethodAccessor;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -29,37 +32,55 @@ import java.util.Optional;
  * @since 2022-02-07
  */
 public class DubboReflectUtils {
-    private static final String QUERY_MAP_FIELD_NAME = "queryMap";
+    private static final String ALIBABA_RPC_CONTEXT_CLASS_NAME = "com.alibaba.dubbo.rpc.RpcContext";
 
-    private static final String GET_PARAMETER_METHOD_NAME = "getParameter";
+    private static final String APACHE_RPC_CONTEXT_CLASS_NAME = "org.apache.dubbo.rpc.RpcContext";
 
-    private static final String GET_PARAMETERS_METHOD_NAME = "getParameters";
+    private static final FieldAccessor QUERY_MAP = FieldAccessor.of("queryMap");
 
-    private static final String GET_URL_METHOD_NAME = "getUrl";
+    private static final MethodAccessor GET_PARAMETER = MethodAccessor.of("getParameter", String.class);
 
-    private static final String GET_SERVICE_INTERFACE_METHOD_NAME = "getServiceInterface";
+    private static final MethodAccessor GET_PARAMETERS = MethodAccessor.of("getParameters");
 
-    private static final String GET_SERVICE_KEY_METHOD_NAME = "getServiceKey";
+    private static final MethodAccessor GET_URL = MethodAccessor.of("getUrl");
 
-    private static final String GET_METHOD_NAME_METHOD_NAME = "getMethodName";
+    private static final MethodAccessor GET_SERVICE_INTERFACE = MethodAccessor.of("getServiceInterface");
 
-    private static final String GET_ARGUMENTS_METHOD_NAME = "getArguments";
+    private static final MethodAccessor GET_SERVICE_KEY = MethodAccessor.of("getServiceKey");
 
-    private static final String SET_PARAMETERS_METHOD_NAME = "setParameters";
+    private static final MethodAccessor GET_METHOD_NAME = MethodAccessor.of("getMethodName");
 
-    private static final String GET_CONTEXT_METHOD_NAME = "getContext";
+    private static final MethodAccessor GET_ARGUMENTS = MethodAccessor.of("getArguments");
 
-    private static final String ALIBABA_RPC_CONTEXT_CLASS_NAME = "com.alibaba.dubbo.rpc.RpcContext";
+    private static final MethodAccessor SET_PARAMETERS = MethodAccessor.of("setParameters", Map.class);
 
-    private static final String APACHE_RPC_CONTEXT_CLASS_NAME = "org.apache.dubbo.rpc.RpcContext";
+    private static final MethodAccessor GET_CONTEXT = MethodAccessor.of("getContext");
 
-    private static final String ATTACHMENTS_FIELD = "attachments";
+    private static final FieldAccessor ATTACHMENTS = FieldAccessor.of("attachments");
 
-    private static final String GET_INSTANCE_METHOD_NAME = "getInstance";
+    private static final MethodAccessor GET_INSTANCE = MethodAccessor.of("getInstance");
 
-    private static final String GET_METADATA_INFO_METHOD_NAME = "getMetadataInfo";
+    private static final MethodAccessor GET_METADATA_INFO = MethodAccessor.of("getMetadataInfo");
 
-    private static final String GET_PROTOCOL_SERVICE_METHOD_NAME = "getProtocolServiceKey";
+    private static final MethodAccessor GET_PROTOCOL_SERVICE_KEY = MethodAccessor.of("getProtocolServiceKey");
+
+    /**
+     * RpcContext class of the dubbo that an invocation class comes from, loaded by the class loader of the invocation
+     */
+    private static final ClassValue<Optional<Class<?>>> RPC_CONTEXT_CLASS = new ClassValue<Optional<Class<?>>>() {
+        @Override
+        protected Optional<Class<?>> computeValue(Class<?> type) {
+            String className = type.getName().startsWith("com.alibaba.dubbo")
+                    ? ALIBABA_RPC_CONTEXT_CLASS_NAME : APACHE_RPC_CONTEXT_CLASS_NAME;
+            ClassLoader classLoader = type.getClassLoader() == null ? Thread.currentThread().getContextClassLoader()
+                    : type.getClassLoader();
+            try {
+                return Optional.of(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException ignored) {
+                return Optional.empty();
+            }
+        }
+    };
 
     private DubboReflectUtils() {
     }
@@ -73,7 +94,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.registry.integration.RegistryDirectory
      */
     public static Map<String, String> getQueryMap(Object obj) {
-        return (Map<String, String>) ReflectUtils.getFieldValue(obj, QUERY_MAP_FIELD_NAME).orElse(null);
+        return (Map<String, String>) QUERY_MAP.get(obj);
     }
 
     /**
@@ -86,7 +107,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static String getParameter(Object obj, String key) {
-        return (String) ReflectUtils.invokeWithParameter(obj, GET_PARAMETER_METHOD_NAME, key, String.class);
+        return (String) GET_PARAMETER.invoke(obj, key);
     }
 
     /**
@@ -98,7 +119,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.config.ApplicationConfig
      */
     public static Map<String, String> getParameters(Object obj) {
-        return (Map<String, String>) ReflectUtils.invokeWithNoneParameter(obj, GET_PARAMETERS_METHOD_NAME);
+        return (Map<String, String>) GET_PARAMETERS.invoke(obj);
     }
 
     /**
@@ -110,7 +131,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.rpc.Invoker
      */
     public static Object getUrl(Object obj) {
-        return ReflectUtils.invokeWithNoneParameter(obj, GET_URL_METHOD_NAME);
+        return GET_URL.invoke(obj);
     }
 
     /**
@@ -122,7 +143,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static String getServiceInterface(Object obj) {
-        return ReflectUtils.invokeWithNoneParameterAndReturnString(obj, GET_SERVICE_INTERFACE_METHOD_NAME);
+        return toString(GET_SERVICE_INTERFACE.invoke(obj));
     }
 
     /**
@@ -134,7 +155,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static String getServiceKey(Object obj) {
-        return ReflectUtils.invokeWithNoneParameterAndReturnString(obj, GET_SERVICE_KEY_METHOD_NAME);
+        return toString(GET_SERVICE_KEY.invoke(obj));
     }
 
     /**
@@ -146,7 +167,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.rpc.Invocation
      */
     public static String getMethodName(Object obj) {
-        return ReflectUtils.invokeWithNoneParameterAndReturnString(obj, GET_METHOD_NAME_METHOD_NAME);
+        return toString(GET_METHOD_NAME.invoke(obj));
     }
 
     /**
@@ -158,7 +179,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.rpc.Invocation
      */
     public static Object[] getArguments(Object obj) {
-        return (Object[]) ReflectUtils.invokeWithNoneParameter(obj, GET_ARGUMENTS_METHOD_NAME);
+        return (Object[]) GET_ARGUMENTS.invoke(obj);
     }
 
     /**
@@ -170,7 +191,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.config.ApplicationConfig
      */
     public static void setParameters(Object obj, Map<String, String> parameter) {
-        ReflectUtils.invokeWithParameter(obj, SET_PARAMETERS_METHOD_NAME, parameter, Map.class);
+        SET_PARAMETERS.invoke(obj, parameter);
     }
 
     /**
@@ -187,9 +208,7 @@ public class DubboReflectUtils {
         if (obj == null) {
             return Collections.emptyMap();
         }
-        String className = obj.getClass().getName().startsWith("com.alibaba.dubbo")
-                ? ALIBABA_RPC_CONTEXT_CLASS_NAME : APACHE_RPC_CONTEXT_CLASS_NAME;
-        Map<String, Object> attachments = new HashMap<>(getAttachmentsFromContext(className));
+        Map<String, Object> attachments = new HashMap<>(getAttachmentsFromContext(obj));
         attachments.putAll(getAttachmentsByInvocation(obj));
         return Collections.unmodifiableMap(attachments);
     }
@@ -206,18 +225,21 @@ public class DubboReflectUtils {
         if (obj == null) {
             return Collections.emptyMap();
         }
-        return ReflectUtils.getFieldValue(obj, ATTACHMENTS_FIELD).map(map -> (Map<String, Object>) map)
-                .orElse(Collections.emptyMap());
+        Object attachments = ATTACHMENTS.get(obj);
+        return attachments instanceof Map ? (Map<String, Object>) attachments : Collections.emptyMap();
     }
 
-    private static Map<String, Object> getAttachmentsFromContext(String contextClazz) {
-        Optional<Object> context = io.sermant.core.utils.ReflectUtils
-                .invokeMethod(contextClazz, GET_CONTEXT_METHOD_NAME, null, null);
-        if (!context.isPresent()) {
+    private static Map<String, Object> getAttachmentsFromContext(Object invocation) {
+        Optional<Class<?>> contextClass = RPC_CONTEXT_CLASS.get(invocation.getClass());
+        if (!contextClass.isPresent()) {
             return Collections.emptyMap();
         }
-        Optional<Object> attachments = ReflectUtils.getFieldValue(context.get(), ATTACHMENTS_FIELD);
-        return attachments.map(obj -> (Map<String, Object>) obj).orElse(Collections.emptyMap());
+        Object attachments = ATTACHMENTS.get(GET_CONTEXT.invokeStatic(contextClass.get()));
+        return attachments instanceof Map ? (Map<String, Object>) attachments : Collections.emptyMap();
+    }
+
+    private static String toString(Object result) {
+        return result == null ? null : String.valueOf(result);
     }
 
     /**
@@ -228,7 +250,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.rpc.Invoker
      */
     public static Object getInstance(Object obj) {
-        return ReflectUtils.invokeWithNoneParameter(obj, GET_INSTANCE_METHOD_NAME);
+        return GET_INSTANCE.invoke(obj);
     }
 
     /**
@@ -239,7 +261,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.rpc.Invoker
      */
     public static Object getMetadataInfo(Object obj) {
-        return ReflectUtils.invokeWithNoneParameter(obj, GET_METADATA_INFO_METHOD_NAME);
+        return GET_METADATA_INFO.invoke(obj);
     }
 
     /**
@@ -250,6 +272,6 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.rpc.Invoker
      */
     public static Object getProtocolServiceKey(Object obj) {
-        return ReflectUtils.invokeWithNoneParameter(obj, GET_PROTOCOL_SERVICE_METHOD_NAME);
+        return GET_PROTOCOL_SERVICE_KEY.invoke(obj);
     }
 }
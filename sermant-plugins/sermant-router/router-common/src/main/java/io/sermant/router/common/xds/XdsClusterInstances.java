@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.xds;
+
+import io.sermant.core.service.xds.entity.ServiceInstance;
+import io.sermant.core.service.xds.entity.XdsClusterLoadAssigment;
+import io.sermant.core.service.xds.entity.XdsLocality;
+import io.sermant.core.utils.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * The instances of a cluster flattened out of its localities, all of them and those in the locality of the service
+ * itself. EDS updates replace the load assignment of a cluster, so the sets are built once per load assignment and
+ * handed out as they are
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class XdsClusterInstances {
+    private final XdsClusterLoadAssigment loadAssigment;
+
+    private final Set<ServiceInstance> instances;
+
+    private volatile LocalInstances localInstances;
+
+    /**
+     * Constructor
+     *
+     * @param loadAssigment load assignment of the cluster
+     */
+    XdsClusterInstances(XdsClusterLoadAssigment loadAssigment) {
+        this.loadAssigment = loadAssigment;
+        Set<ServiceInstance> allInstances = new LinkedHashSet<>();
+        for (Set<ServiceInstance> localityInstances : loadAssigment.getLocalityInstances().values()) {
+            allInstances.addAll(localityInstances);
+        }
+        this.instances = Collections.unmodifiableSet(allInstances);
+    }
+
+    /**
+     * Whether the instances were built from the load assignment
+     *
+     * @param candidate load assignment of the cluster
+     * @return built from the same load assignment or not
+     */
+    boolean isBuiltFrom(XdsClusterLoadAssigment candidate) {
+        return loadAssigment == candidate;
+    }
+
+    /**
+     * All instances of the cluster
+     *
+     * @return unmodifiable instances
+     */
+    Set<ServiceInstance> getInstances() {
+        return instances;
+    }
+
+    /**
+     * Instances of the cluster in a locality
+     *
+     * @param locality locality of the service itself
+     * @return unmodifiable instances
+     */
+    Set<ServiceInstance> getLocalInstances(XdsLocality locality) {
+        LocalInstances cached = localInstances;
+        if (cached == null || !cached.locality.equals(locality)) {
+            cached = new LocalInstances(locality, selectLocalInstances(locality));
+            localInstances = cached;
+        }
+        return cached.instances;
+    }
+
+    private Set<ServiceInstance> selectLocalInstances(XdsLocality locality) {
+        Set<ServiceInstance> selected = new LinkedHashSet<>();
+        for (Entry<XdsLocality, Set<ServiceInstance>> entry : loadAssigment.getLocalityInstances().entrySet()) {
+            if (isSameLocality(locality, entry.getKey())) {
+                selected.addAll(entry.getValue());
+            }
+        }
+        return selected.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(selected);
+    }
+
+    private static boolean isSameLocality(XdsLocality selfLocality, XdsLocality serviceLocality) {
+        if (!selfLocality.getRegion().equals(serviceLocality.getRegion())) {
+            return false;
+        }
+        if (StringUtils.isEmpty(selfLocality.getZone())) {
+            return true;
+        }
+        if (!selfLocality.getZone().equals(serviceLocality.getZone())) {
+            return false;
+        }
+        if (StringUtils.isEmpty(selfLocality.getSubZone())) {
+            return true;
+        }
+        return selfLocality.getSubZone().equals(serviceLocality.getSubZone());
+    }
+
+    /**
+     * Instances selected for a locality
+     *
+     * @since 2026-10-18
+     */
+    private static class LocalInstances {
+        private final XdsLocality locality;
+
+        private final Set<ServiceInstance> instances;
+
+        LocalInstances(XdsLocality locality, Set<ServiceInstance> instances) {
+            this.locality = locality;
+            this.instances = instances;
+        }
+    }
+}
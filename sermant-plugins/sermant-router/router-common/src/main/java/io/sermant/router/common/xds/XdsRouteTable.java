@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.xds;
+
+import io.sermant.core.service.xds.entity.XdsHeaderMatcher;
+import io.sermant.core.service.xds.entity.XdsPathMatcher;
+import io.sermant.core.service.xds.entity.XdsRoute;
+import io.sermant.core.service.xds.entity.match.ExactMatchStrategy;
+import io.sermant.core.service.xds.entity.match.MatchStrategy;
+import io.sermant.core.service.xds.entity.match.PrefixMatchStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * The xDS routes of a service compiled for matching: exact paths in a map, path prefixes in a trie and the other path
+ * matchers, such as regex, in a fallback list. A request is matched against the candidate routes of its path only,
+ * the first route in configuration order whose path and headers match wins, as with the linear scan of the routes.
+ * The table is immutable and matching does not allocate
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class XdsRouteTable {
+    private static final int[] NO_ROUTE = new int[0];
+
+    private final List<XdsRoute> source;
+
+    private final XdsRoute[] routes;
+
+    private final XdsHeaderMatcher[][] headerMatchers;
+
+    private final PathIndex caseSensitiveIndex;
+
+    private final PathIndex caseInsensitiveIndex;
+
+    private final int[] fallbackRoutes;
+
+    /**
+     * Compile the routes
+     *
+     * @param routes routes in configuration order
+     */
+    XdsRouteTable(List<XdsRoute> routes) {
+        this.source = routes;
+        this.routes = routes.toArray(new XdsRoute[0]);
+        this.headerMatchers = new XdsHeaderMatcher[this.routes.length][];
+        PathIndexBuilder caseSensitiveBuilder = new PathIndexBuilder();
+        PathIndexBuilder caseInsensitiveBuilder = new PathIndexBuilder();
+        List<Integer> fallback = new ArrayList<>();
+        for (int i = 0; i < this.routes.length; i++) {
+            List<XdsHeaderMatcher> matchers = this.routes[i].getRouteMatch().getHeaderMatchers();
+            headerMatchers[i] = matchers == null ? new XdsHeaderMatcher[0]
+                    : matchers.toArray(new XdsHeaderMatcher[0]);
+            XdsPathMatcher pathMatcher = this.routes[i].getRouteMatch().getPathMatcher();
+            MatchStrategy strategy = pathMatcher == null ? null : pathMatcher.getMatchStrategy();
+            PathIndexBuilder builder = pathMatcher != null && pathMatcher.isCaseSensitive() ? caseSensitiveBuilder
+                    : caseInsensitiveBuilder;
+            if (strategy instanceof ExactMatchStrategy) {
+                builder.addExact(((ExactMatchStrategy) strategy).getExactValue(), i);
+            } else if (strategy instanceof PrefixMatchStrategy) {
+                builder.addPrefix(((PrefixMatchStrategy) strategy).getPrefix(), i);
+            } else {
+                fallback.add(i);
+            }
+        }
+        this.caseSensitiveIndex = caseSensitiveBuilder.build();
+        this.caseInsensitiveIndex = caseInsensitiveBuilder.build();
+        this.fallbackRoutes = toArray(fallback);
+    }
+
+    /**
+     * Whether the table was compiled from the routes. The route configuration hands out the same route list until an
+     * RDS update replaces it
+     *
+     * @param candidates routes of the service
+     * @return compiled from the same route list or not
+     */
+    boolean isCompiledFrom(List<XdsRoute> candidates) {
+        return source == candidates;
+    }
+
+    /**
+     * Find the first route matching the request
+     *
+     * @param path request path
+     * @param headers request headers
+     * @param isPathMatched whether the path is matched
+     * @param isHeaderMatched whether the headers are matched
+     * @return matched route, null if no route matches
+     */
+    XdsRoute match(String path, Map<String, String> headers, boolean isPathMatched, boolean isHeaderMatched) {
+        if (!isPathMatched) {
+            for (int i = 0; i < routes.length; i++) {
+                if (!isHeaderMatched || isHeadersMatched(i, headers)) {
+                    return routes[i];
+                }
+            }
+            return null;
+        }
+        if (path == null) {
+            return null;
+        }
+        int best = caseSensitiveIndex.match(this, path, headers, isHeaderMatched, routes.length);
+        if (!caseInsensitiveIndex.isEmpty()) {
+            best = caseInsensitiveIndex.match(this, path.toLowerCase(Locale.ROOT), headers, isHeaderMatched, best);
+        }
+        for (int index : fallbackRoutes) {
+            if (index >= best) {
+                break;
+            }
+            XdsPathMatcher pathMatcher = routes[index].getRouteMatch().getPathMatcher();
+            if (pathMatcher != null && pathMatcher.isMatch(path)
+                    && (!isHeaderMatched || isHeadersMatched(index, headers))) {
+                best = index;
+                break;
+            }
+        }
+        return best < routes.length ? routes[best] : null;
+    }
+
+    /**
+     * The first candidate route before the best route so far whose headers match
+     *
+     * @param candidates candidate route indexes in ascending order
+     * @param headers request headers
+     * @param isHeaderMatched whether the headers are matched
+     * @param best index of the best route so far
+     * @return index of the new best route
+     */
+    private int firstMatched(int[] candidates, Map<String, String> headers, boolean isHeaderMatched, int best) {
+        for (int index : candidates) {
+            if (index >= best) {
+                return best;
+            }
+            if (!isHeaderMatched || isHeadersMatched(index, headers)) {
+                return index;
+            }
+        }
+        return best;
+    }
+
+    private boolean isHeadersMatched(int index, Map<String, String> headers) {
+        for (XdsHeaderMatcher matcher : headerMatchers[index]) {
+            if (!matcher.isMatch(headers)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] toArray(List<Integer> indexes) {
+        if (indexes.isEmpty()) {
+            return NO_ROUTE;
+        }
+        int[] result = new int[indexes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = indexes.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Exact paths and path prefixes of the routes of one case sensitivity
+     *
+     * @since 2026-10-18
+     */
+    private static class PathIndex {
+        private final Map<String, int[]> exactRoutes;
+
+        private final TrieNode prefixRoot;
+
+        PathIndex(Map<String, int[]> exactRoutes, TrieNode prefixRoot) {
+            this.exactRoutes = exactRoutes;
+            this.prefixRoot = prefixRoot;
+        }
+
+        boolean isEmpty() {
+            return exactRoutes.isEmpty() && prefixRoot.isEmpty();
+        }
+
+        int match(XdsRouteTable table, String path, Map<String, String> headers, boolean isHeaderMatched,
+                int best) {
+            int result = best;
+            int[] exact = exactRoutes.get(path);
+            if (exact != null) {
+                result = table.firstMatched(exact, headers, isHeaderMatched, result);
+            }
+            TrieNode node = prefixRoot;
+            for (int i = 0; node != null; i++) {
+                result = table.firstMatched(node.routes, headers, isHeaderMatched, result);
+                if (i == path.length()) {
+                    break;
+                }
+                node = node.child(path.charAt(i));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Node of the prefix trie, children are sorted by character
+     *
+     * @since 2026-10-18
+     */
+    private static class TrieNode {
+        private final char[] keys;
+
+        private final TrieNode[] children;
+
+        private final int[] routes;
+
+        TrieNode(char[] keys, TrieNode[] children, int[] routes) {
+            this.keys = keys;
+            this.children = children;
+            this.routes = routes;
+        }
+
+        TrieNode child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+
+        boolean isEmpty() {
+            return keys.length == 0 && routes.length == 0;
+        }
+    }
+
+    /**
+     * Builder of a path index
+     *
+     * @since 2026-10-18
+     */
+    private static class PathIndexBuilder {
+        private final Map<String, List<Integer>> exactRoutes = new HashMap<>();
+
+        private final TrieNodeBuilder prefixRoot = new TrieNodeBuilder();
+
+        void addExact(String path, int index) {
+            exactRoutes.computeIfAbsent(path, key -> new ArrayList<>()).add(index);
+        }
+
+        void addPrefix(String prefix, int index) {
+            TrieNodeBuilder node = prefixRoot;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), key -> new TrieNodeBuilder());
+            }
+            node.routes.add(index);
+        }
+
+        PathIndex build() {
+            Map<String, int[]> exact = new HashMap<>();
+            for (Entry<String, List<Integer>> entry : exactRoutes.entrySet()) {
+                exact.put(entry.getKey(), toArray(entry.getValue()));
+            }
+            return new PathIndex(exact.isEmpty() ? Collections.emptyMap() : exact, prefixRoot.build());
+        }
+    }
+
+    /**
+     * Builder of a trie node
+     *
+     * @since 2026-10-18
+     */
+    private static class TrieNodeBuilder {
+        private final TreeMap<Character, TrieNodeBuilder> children = new TreeMap<>();
+
+        private final List<Integer> routes = new ArrayList<>();
+
+        TrieNode build() {
+            char[] keys = new char[children.size()];
+            TrieNode[] nodes = new TrieNode[children.size()];
+            int i = 0;
+            for (Entry<Character, TrieNodeBuilder> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().build();
+                i++;
+            }
+            return new TrieNode(keys, nodes, toArray(routes));
+        }
+    }
+}
@@ -23,29 +23,24 @@ import io.sermant.core.service.xds.XdsRouteService;
 import io.sermant.core.service.xds.XdsServiceDiscovery;
 import io.sermant.core.service.xds.entity.ServiceInstance;
 import io.sermant.core.service.xds.entity.XdsClusterLoadAssigment;
-import io.sermant.core.service.xds.entity.XdsHeaderMatcher;
 import io.sermant.core.service.xds.entity.XdsLocality;
-import io.sermant.core.service.xds.entity.XdsPathMatcher;
 import io.sermant.core.service.xds.entity.XdsRoute;
 import io.sermant.core.service.xds.entity.XdsRouteAction;
 import io.sermant.core.service.xds.entity.XdsRouteAction.XdsClusterWeight;
 import io.sermant.core.service.xds.entity.XdsRouteAction.XdsWeightedClusters;
-import io.sermant.core.service.xds.entity.XdsRouteMatch;
 import io.sermant.core.utils.CollectionUtils;
 import io.sermant.core.utils.StringUtils;
 import io.sermant.router.common.metric.MetricsManager;
 import io.sermant.router.common.utils.XdsRouterUtils;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * XdsRouterHandler, filter service instances based on xDS routing rules
@@ -62,6 +57,10 @@ public enum XdsRouterHandler {
 
     private final Random random = new Random();
 
+    private final Map<String, XdsRouteTable> routeTables = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, XdsClusterInstances>> clusterInstances = new ConcurrentHashMap<>();
+
     private XdsRouteService routeService;
 
     private XdsServiceDiscovery serviceDiscovery;
@@ -118,26 +117,9 @@ public enum XdsRouterHandler {
             LOGGER.severe("xDS service not open for xDS routing.");
             return Collections.EMPTY_SET;
         }
-        List<XdsRoute> routes = routeService.getServiceRoute(serviceName);
-        XdsRoute matchedRoute = null;
         boolean pathMatched = matchType == MatchType.PATH || matchType == MatchType.BOTH;
         boolean headerMatched = matchType == MatchType.HEADER || matchType == MatchType.BOTH;
-        for (XdsRoute route : routes) {
-            XdsRouteMatch routeMatch = route.getRouteMatch();
-
-            // check path matching
-            if (pathMatched && !isPathMatched(routeMatch.getPathMatcher(), path)) {
-                continue;
-            }
-
-            // check head matching
-            if (headerMatched && !isHeadersMatched(routeMatch.getHeaderMatchers(), headers)) {
-                continue;
-            }
-            matchedRoute = route;
-            break;
-        }
-
+        XdsRoute matchedRoute = getRouteTable(serviceName).match(path, headers, pathMatched, headerMatched);
         if (matchedRoute == null) {
             return serviceDiscovery.getServiceInstance(serviceName);
         }
@@ -160,70 +142,52 @@ public enum XdsRouterHandler {
             return serviceDiscovery.getServiceInstance(serviceName);
         }
         XdsClusterLoadAssigment clusterLoadAssigment = loadAssigmentOptional.get();
+        XdsClusterInstances clusterInstances = getClusterInstances(serviceName, clusterLoadAssigment);
 
         if (!routeService.isLocalityRoute(serviceName, clusterLoadAssigment.getClusterName())) {
-            Set<ServiceInstance> serviceInstances = getServiceInstanceOfCluster(clusterLoadAssigment);
+            Set<ServiceInstance> serviceInstances = clusterInstances.getInstances();
             return serviceInstances.isEmpty() ? serviceDiscovery.getServiceInstance(serviceName) : serviceInstances;
         }
 
         // get locality info of self-service and route by locality
         Optional<XdsLocality> localityInfoOfSelfService = XdsRouterUtils.getLocalityInfoOfSelfService();
         if (localityInfoOfSelfService.isPresent()) {
-            Set<ServiceInstance> serviceInstances = getServiceInstanceOfLocalityCluster(clusterLoadAssigment,
-                    localityInfoOfSelfService.get());
+            Set<ServiceInstance> serviceInstances = clusterInstances
+                    .getLocalInstances(localityInfoOfSelfService.get());
             if (!serviceInstances.isEmpty()) {
                 return serviceInstances;
             }
         }
 
-        Set<ServiceInstance> serviceInstances = getServiceInstanceOfCluster(clusterLoadAssigment);
+        Set<ServiceInstance> serviceInstances = clusterInstances.getInstances();
         return serviceInstances.isEmpty() ? serviceDiscovery.getServiceInstance(serviceName) : serviceInstances;
     }
 
-    private Set<ServiceInstance> getServiceInstanceOfLocalityCluster(XdsClusterLoadAssigment clusterLoadAssigment,
-            XdsLocality locality) {
-        return clusterLoadAssigment.getLocalityInstances().entrySet().stream()
-                .filter(xdsLocalitySetEntry -> isSameLocality(locality, xdsLocalitySetEntry.getKey()))
-                .flatMap(xdsLocalitySetEntry -> xdsLocalitySetEntry.getValue().stream())
-                .collect(Collectors.toSet());
-    }
-
-    private boolean isSameLocality(XdsLocality selfLocality, XdsLocality serviceLocality) {
-        if (!selfLocality.getRegion().equals(serviceLocality.getRegion())) {
-            return false;
-        }
-        if (StringUtils.isEmpty(selfLocality.getZone())) {
-            return true;
-        }
-        if (!selfLocality.getZone().equals(serviceLocality.getZone())) {
-            return false;
-        }
-        if (StringUtils.isEmpty(selfLocality.getSubZone())) {
-            return true;
+    private XdsRouteTable getRouteTable(String serviceName) {
+        List<XdsRoute> routes = routeService.getServiceRoute(serviceName);
+        XdsRouteTable routeTable = routeTables.get(serviceName);
+        if (routeTable == null || !routeTable.isCompiledFrom(routes)) {
+            // The route list is replaced by RDS updates, compile the new one
+            routeTable = new XdsRouteTable(routes);
+            routeTables.put(serviceName, routeTable);
         }
-        return selfLocality.getSubZone().equals(serviceLocality.getSubZone());
+        return routeTable;
     }
 
-    private Set<ServiceInstance> getServiceInstanceOfCluster(XdsClusterLoadAssigment clusterLoadAssigment) {
-        Set<ServiceInstance> serviceInstances = new HashSet<>();
-        for (Entry<XdsLocality, Set<ServiceInstance>> xdsLocalitySetEntry : clusterLoadAssigment.getLocalityInstances()
-                .entrySet()) {
-            serviceInstances.addAll(xdsLocalitySetEntry.getValue());
+    private XdsClusterInstances getClusterInstances(String serviceName, XdsClusterLoadAssigment loadAssigment) {
+        Map<String, XdsClusterInstances> instancesOfService = clusterInstances.get(serviceName);
+        if (instancesOfService == null) {
+            instancesOfService = clusterInstances.computeIfAbsent(serviceName, key -> new ConcurrentHashMap<>());
         }
-        return serviceInstances;
-    }
-
-    private boolean isPathMatched(XdsPathMatcher matcher, String path) {
-        return matcher.isMatch(path);
-    }
-
-    private boolean isHeadersMatched(List<XdsHeaderMatcher> matchers, Map<String, String> headers) {
-        for (XdsHeaderMatcher matcher : matchers) {
-            if (!matcher.isMatch(headers)) {
-                return false;
-            }
+        String clusterName = loadAssigment.getClusterName() == null ? StringUtils.EMPTY
+                : loadAssigment.getClusterName();
+        XdsClusterInstances instances = instancesOfService.get(clusterName);
+        if (instances == null || !instances.isBuiltFrom(loadAssigment)) {
+            // The load assignment is replaced by EDS updates, flatten the new one
+            instances = new XdsClusterInstances(loadAssigment);
+            instancesOfService.put(clusterName, instances);
         }
-        return true;
+        return instances;
     }
 
     private String selectClusterByWeight(XdsWeightedClusters weightedClusters) {
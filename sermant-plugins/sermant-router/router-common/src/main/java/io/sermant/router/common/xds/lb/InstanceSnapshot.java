@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.xds.lb;
+
+import io.sermant.core.service.xds.entity.ServiceInstance;
+
+import java.util.List;
+
+/**
+ * The instances of a cluster a load balancer was built for, with their load balancing weights. The EDS snapshot
+ * hands out the same instance objects until it changes, so a snapshot is reused as long as the instances passed in
+ * are the same objects in the same order. A load balancer keeps one snapshot only: callers alternating between
+ * differently filtered or ordered lists of a cluster rebuild it on every pick, which costs a copy of the list, an
+ * alias table or weighted cycle for weighted instances, and restarts the weighted cycle
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+class InstanceSnapshot {
+    /**
+     * Snapshot of no instance
+     */
+    static final InstanceSnapshot EMPTY = new InstanceSnapshot(new ServiceInstance[0]);
+
+    private final ServiceInstance[] instances;
+
+    private final int[] weights;
+
+    private final boolean weighted;
+
+    /**
+     * Constructor
+     *
+     * @param instances instances
+     */
+    InstanceSnapshot(List<ServiceInstance> instances) {
+        this(instances.toArray(new ServiceInstance[0]));
+    }
+
+    private InstanceSnapshot(ServiceInstance[] instances) {
+        this.instances = instances;
+        this.weights = new int[instances.length];
+        boolean isWeighted = false;
+        for (int i = 0; i < instances.length; i++) {
+            weights[i] = Math.max(instances[i].getWeight(), 1);
+            isWeighted |= weights[i] != weights[0];
+        }
+        this.weighted = isWeighted;
+    }
+
+    /**
+     * Whether the snapshot holds the instances
+     *
+     * @param candidates instances passed to the load balancer
+     * @return the same instances in the same order or not
+     */
+    boolean isSnapshotOf(List<ServiceInstance> candidates) {
+        if (candidates.size() != instances.length) {
+            return false;
+        }
+        for (int i = 0; i < instances.length; i++) {
+            if (candidates.get(i) != instances[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    ServiceInstance get(int index) {
+        return instances[index];
+    }
+
+    int[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * Whether the instances have different weights
+     *
+     * @return weighted or not
+     */
+    boolean isWeighted() {
+        return weighted;
+    }
+}
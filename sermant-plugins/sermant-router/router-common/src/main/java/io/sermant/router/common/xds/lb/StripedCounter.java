@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.xds.lb;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Pick counter of a load balancer, striped over cache line padded cells by thread so that concurrent picks do not
+ * contend on one counter. Every stripe counts from zero, each stripe on its own visits the instances in turn
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+class StripedCounter {
+    private static final int MAX_STRIPES = 64;
+
+    /**
+     * Distance between two cells in longs, 128 bytes to avoid false sharing with adjacent line prefetching
+     */
+    private static final int CELL_DISTANCE = 16;
+
+    private final AtomicLongArray cells;
+
+    private final int mask;
+
+    /**
+     * Constructor, one stripe per available processor rounded up to a power of two
+     */
+    StripedCounter() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+        int stripes = Integer.highestOneBit(Math.max(processors, 1));
+        if (stripes < processors) {
+            stripes <<= 1;
+        }
+        this.cells = new AtomicLongArray(stripes * CELL_DISTANCE);
+        this.mask = stripes - 1;
+    }
+
+    /**
+     * Get the count of the stripe of the current thread and increment it
+     *
+     * @return count before the increment, never negative
+     */
+    long getAndIncrement() {
+        int stripe = (int) Thread.currentThread().getId() & mask;
+        return cells.getAndIncrement(stripe * CELL_DISTANCE) & Long.MAX_VALUE;
+    }
+}
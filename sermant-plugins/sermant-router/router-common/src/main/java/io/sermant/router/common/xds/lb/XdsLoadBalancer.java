@@ -28,7 +28,8 @@ import java.util.List;
  **/
 public interface XdsLoadBalancer {
     /**
-     * select instance by loadbalancer
+     * select instance by loadbalancer. Weighted state is derived once per list of instances, so callers should pass
+     * the same instance objects in the same order while the EDS snapshot of the cluster does not change
      *
      * @param instances service instance
      * @return selected instance
@@ -37,7 +37,7 @@ public class XdsLoadBalancerFactory {
 
     private static final Map<String, XdsLoadBalancer> LOAD_BALANCERS = new ConcurrentHashMap<>();
 
-    private static final String RANDOM = "RANDOM";
+    private static final Map<String, XdsLoadBalancer> RANDOM_LOAD_BALANCERS = new ConcurrentHashMap<>();
 
     private static XdsLoadBalanceService loadBalanceService;
 
@@ -66,10 +66,11 @@ public class XdsLoadBalancerFactory {
     /**
      * getRandomLoadBalancer
      *
+     * @param clusterName cluster name
      * @return XdsLoadBalancer
      */
-    private static XdsLoadBalancer getRandomLoadBalancer() {
-        return LOAD_BALANCERS.computeIfAbsent(RANDOM, key -> new XdsRandomLoadBalancer());
+    private static XdsLoadBalancer getRandomLoadBalancer(String clusterName) {
+        return RANDOM_LOAD_BALANCERS.computeIfAbsent(clusterName, key -> new XdsRandomLoadBalancer());
     }
 
     /**
@@ -87,7 +88,7 @@ public class XdsLoadBalancerFactory {
         XdsLbPolicy lbPolicy = loadBalanceService.getLbPolicyOfCluster(serviceName, clusterName);
         switch (lbPolicy) {
             case RANDOM:
-                return getRandomLoadBalancer();
+                return getRandomLoadBalancer(clusterName);
             default:
                 return getRoundRobinLoadBalancer(clusterName);
         }
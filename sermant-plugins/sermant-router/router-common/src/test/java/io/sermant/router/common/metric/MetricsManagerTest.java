@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.metric;
+
+import io.sermant.core.plugin.config.PluginConfigManager;
+import io.sermant.core.service.ServiceManager;
+import io.sermant.core.service.metric.api.Counter;
+import io.sermant.core.service.metric.api.MetricService;
+import io.sermant.core.service.metric.api.Tags;
+import io.sermant.router.common.cache.AppCache;
+import io.sermant.router.common.config.RouterConfig;
+import io.sermant.router.common.constants.RouterConstant;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * MetricsManagerTest. The metric classes are loaded again by an isolated class loader, so the test neither depends on
+ * whether another test initialized MetricsManager first nor measures the interception code a static mock leaves in it
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class MetricsManagerTest {
+    private static final int WARM_UP_CALLS = 20000;
+
+    private static final int MEASURED_CALLS = 100000;
+
+    /**
+     * Bytes a measurement may be off by: the allocation counter of a thread is sampled at TLAB granularity
+     */
+    private static final long ALLOCATION_TOLERANCE = 1024L;
+
+    private static final Map<String, TestCounter> COUNTERS = new HashMap<>();
+
+    private static MockedStatic<ServiceManager> serviceManager;
+
+    private static MockedStatic<PluginConfigManager> pluginConfigManager;
+
+    private static String appName;
+
+    private static Consumer<String> requestRecorder;
+
+    @BeforeClass
+    @SuppressWarnings("unchecked")
+    public static void setUp() throws ReflectiveOperationException {
+        MetricService metricService = Mockito.mock(MetricService.class);
+        Mockito.when(metricService.counter(Mockito.anyString(), Mockito.any(Tags.class))).thenAnswer(invocation -> {
+            Tags tags = invocation.getArgument(1);
+            TestCounter counter = new TestCounter();
+            COUNTERS.put(tags.getTags().get(RouterConstant.PROTOCOL) + "|"
+                    + tags.getTags().get(RouterConstant.SERVER_ADDRESS), counter);
+            return counter;
+        });
+        serviceManager = Mockito.mockStatic(ServiceManager.class);
+        serviceManager.when(() -> ServiceManager.getService(MetricService.class)).thenReturn(metricService);
+        RouterConfig routerConfig = new RouterConfig();
+        routerConfig.setEnableMetric(true);
+        pluginConfigManager = Mockito.mockStatic(PluginConfigManager.class);
+        pluginConfigManager.when(() -> PluginConfigManager.getPluginConfig(RouterConfig.class))
+                .thenReturn(routerConfig);
+        Class<?> recorderClass = new MetricClassLoader(MetricsManagerTest.class.getClassLoader())
+                .loadClass(RequestRecorder.class.getName());
+        requestRecorder = (Consumer<String>) recorderClass.getDeclaredConstructor().newInstance();
+        appName = AppCache.INSTANCE.getAppName();
+        AppCache.INSTANCE.setAppName("consumer");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        serviceManager.close();
+        pluginConfigManager.close();
+        AppCache.INSTANCE.setAppName(appName);
+    }
+
+    @Test
+    public void testCollectRequestCountMetric() {
+        requestRecorder.accept("10.0.0.1");
+        requestRecorder.accept("10.0.0.1");
+        Assert.assertEquals(2, COUNTERS.get(RouterConstant.HTTP_PROTOCOL + "|10.0.0.1:8080").count(), 0);
+        Assert.assertEquals(2, COUNTERS.get(RouterConstant.DUBBO_PROTOCOL + "|10.0.0.1:20880").count(), 0);
+    }
+
+    @Test
+    public void testCollectRequestCountMetricAllocatesNothing() {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMxBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+        Assume.assumeTrue(allocationMxBean.isThreadAllocatedMemorySupported());
+        allocationMxBean.setThreadAllocatedMemoryEnabled(true);
+        String host = "192.168.0.1";
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            requestRecorder.accept(host);
+        }
+        long before = allocationMxBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            requestRecorder.accept(host);
+        }
+        long allocated = allocationMxBean.getThreadAllocatedBytes(threadId) - before;
+        Assert.assertTrue("allocated " + allocated + " bytes in " + MEASURED_CALLS + " calls",
+                allocated <= ALLOCATION_TOLERANCE);
+        Assert.assertEquals(WARM_UP_CALLS + MEASURED_CALLS,
+                COUNTERS.get(RouterConstant.DUBBO_PROTOCOL + "|" + host + ":20880").count(), 0);
+        Assert.assertEquals(WARM_UP_CALLS + MEASURED_CALLS,
+                COUNTERS.get(RouterConstant.HTTP_PROTOCOL + "|" + host + ":8080").count(), 0);
+    }
+
+    /**
+     * Records a Dubbo and an HTTP request to a host, loaded by {@link MetricClassLoader}
+     *
+     * @since 2026-10-18
+     */
+    public static class RequestRecorder implements Consumer<String> {
+        @Override
+        public void accept(String host) {
+            MetricsManager.collectRequestCountMetric(host, 20880, RouterConstant.DUBBO_PROTOCOL);
+            MetricsManager.collectRequestCountMetric(host, 8080, RouterConstant.HTTP_PROTOCOL);
+        }
+    }
+
+    /**
+     * Class loader defining the metric classes and {@link RequestRecorder} itself, everything else is delegated
+     *
+     * @since 2026-10-18
+     */
+    private static class MetricClassLoader extends ClassLoader {
+        MetricClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!isIsolated(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    byte[] bytes = readClass(name);
+                    clazz = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve) {
+                    resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+
+        private boolean isIsolated(String name) {
+            return isClassOrNestedClass(name, MetricsManager.class) || isClassOrNestedClass(name, MetricInfo.class)
+                    || isClassOrNestedClass(name, RouterCounters.class) || name.equals(RequestRecorder.class.getName());
+        }
+
+        private boolean isClassOrNestedClass(String name, Class<?> clazz) {
+            return name.equals(clazz.getName()) || name.startsWith(clazz.getName() + "$");
+        }
+
+        private byte[] readClass(String name) throws ClassNotFoundException {
+            try (InputStream inputStream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (inputStream == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, length);
+                }
+                return outputStream.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+
+    /**
+     * Counter counting on a LongAdder
+     *
+     * @since 2026-10-18
+     */
+    private static class TestCounter implements Counter {
+        private final LongAdder adder = new LongAdder();
+
+        @Override
+        public void increment(double amount) {
+            adder.add((long) amount);
+        }
+
+        @Override
+        public double count() {
+            return adder.sum();
+        }
+    }
+}
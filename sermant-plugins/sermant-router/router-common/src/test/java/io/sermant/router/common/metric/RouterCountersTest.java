@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.metric;
+
+import io.sermant.core.service.metric.api.Counter;
+import io.sermant.router.common.constants.RouterConstant;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RouterCountersTest
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class RouterCountersTest {
+    private final List<Map<String, String>> createdTags = new ArrayList<>();
+
+    private final RouterCounters counters = new RouterCounters("consumer",
+            Arrays.asList("service_meta_version", RouterConstant.SERVICE_META_PARAMETERS), (metricName, tags) -> {
+                createdTags.add(tags);
+                return new TestCounter();
+            });
+
+    @Test
+    public void testRequestCounterIsBoundOncePerAddress() {
+        Counter counter = counters.getRequestCounter("127.0.0.1", 8080, RouterConstant.HTTP_PROTOCOL);
+        Assert.assertSame(counter, counters.getRequestCounter("127.0.0.1", 8080, RouterConstant.HTTP_PROTOCOL));
+        Assert.assertEquals(1, createdTags.size());
+        Assert.assertEquals("consumer", createdTags.get(0).get(RouterConstant.CLIENT_SERVICE_NAME));
+        Assert.assertEquals("127.0.0.1:8080", createdTags.get(0).get(RouterConstant.SERVER_ADDRESS));
+        Assert.assertEquals(RouterConstant.HTTP_PROTOCOL, createdTags.get(0).get(RouterConstant.PROTOCOL));
+
+        Assert.assertNotSame(counter, counters.getRequestCounter("127.0.0.1", 8081, RouterConstant.HTTP_PROTOCOL));
+        Assert.assertNotSame(counter, counters.getRequestCounter("127.0.0.2", 8080, RouterConstant.HTTP_PROTOCOL));
+        Assert.assertNotSame(counter, counters.getRequestCounter("127.0.0.1", 8080, RouterConstant.DUBBO_PROTOCOL));
+        Assert.assertEquals(4, createdTags.size());
+
+        counters.getRequestCounter(null, -1, RouterConstant.HTTP_PROTOCOL);
+        Assert.assertEquals("null:-1", createdTags.get(4).get(RouterConstant.SERVER_ADDRESS));
+    }
+
+    @Test
+    public void testXdsDestinationCounter() {
+        Counter counter = counters.getXdsDestinationCounter("outbound|8080||serviceA");
+        Assert.assertSame(counter, counters.getXdsDestinationCounter("outbound|8080||serviceA"));
+        Assert.assertEquals(1, createdTags.size());
+        Map<String, String> tags = createdTags.get(0);
+        Assert.assertEquals("", tags.get("service_meta_version"));
+        Assert.assertEquals("cluster: outbound|8080||serviceA", tags.get(RouterConstant.SERVICE_META_PARAMETERS));
+        Assert.assertEquals("consumer", tags.get(RouterConstant.CLIENT_SERVICE_NAME));
+        Assert.assertEquals(RouterConstant.XDS_PROTOCOL, tags.get(RouterConstant.PROTOCOL));
+        Assert.assertTrue(counters.isBoundTo("consumer"));
+        Assert.assertFalse(counters.isBoundTo("provider"));
+        Assert.assertFalse(counters.isBoundTo(null));
+    }
+
+    /**
+     * Counter counting on a LongAdder
+     *
+     * @since 2026-10-18
+     */
+    private static class TestCounter implements Counter {
+        private final LongAdder adder = new LongAdder();
+
+        @Override
+        public void increment(double amount) {
+            adder.add((long) amount);
+        }
+
+        @Override
+        public double count() {
+            return adder.sum();
+        }
+    }
+}
@@ -42,6 +42,8 @@ public class TestServiceInstance implements ServiceInstance {
 
     private boolean healthy;
 
+    private int weight = 1;
+
     @Override
     public String getClusterName() {
         return cluster;
@@ -72,6 +74,11 @@ public class TestServiceInstance implements ServiceInstance {
         return healthy;
     }
 
+    @Override
+    public int getWeight() {
+        return weight;
+    }
+
     public void setCluster(String cluster) {
         this.cluster = cluster;
     }
@@ -95,4 +102,8 @@ public class TestServiceInstance implements ServiceInstance {
     public void setHealthy(boolean healthy) {
         this.healthy = healthy;
     }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.xds;
+
+import io.sermant.core.service.xds.entity.ServiceInstance;
+import io.sermant.core.service.xds.entity.XdsClusterLoadAssigment;
+import io.sermant.core.service.xds.entity.XdsHeaderMatcher;
+import io.sermant.core.service.xds.entity.XdsLocality;
+import io.sermant.core.service.xds.entity.XdsPathMatcher;
+import io.sermant.core.service.xds.entity.XdsRoute;
+import io.sermant.core.service.xds.entity.XdsRouteMatch;
+import io.sermant.core.service.xds.entity.match.ExactMatchStrategy;
+import io.sermant.core.service.xds.entity.match.MatchStrategy;
+import io.sermant.core.service.xds.entity.match.PrefixMatchStrategy;
+import io.sermant.core.service.xds.entity.match.RegexMatchStrategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Routing a request with the xDS routes of a service, exact paths first, then prefixes and regex paths last, the
+ * request matching the last prefix route: the compiled route table and cached cluster instances against the linear
+ * scan of the routes and the instance sets flattened per request used before. Run with the main method from the test
+ * classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XdsRouteTableBenchmark {
+    private static final int LOCALITY_COUNT = 3;
+
+    private static final int INSTANCES_PER_LOCALITY = 20;
+
+    /**
+     * Number of routes of the service
+     */
+    @Param({"10", "100"})
+    public int routeCount;
+
+    private final Map<String, String> headers = Collections.singletonMap("version", "v1");
+
+    private List<XdsRoute> routes;
+
+    private XdsRouteTable routeTable;
+
+    private XdsClusterLoadAssigment loadAssigment;
+
+    private XdsClusterInstances clusterInstances;
+
+    private XdsLocality locality;
+
+    private String path;
+
+    /**
+     * Build the routes and a cluster of three localities
+     */
+    @Setup
+    public void setUp() {
+        routes = new ArrayList<>();
+        for (int i = 0; i < routeCount; i++) {
+            MatchStrategy strategy;
+            if (i < routeCount / 3) {
+                strategy = new ExactMatchStrategy("/api/v1/exact-" + i);
+            } else if (i < routeCount * 2 / 3) {
+                strategy = new PrefixMatchStrategy("/api/v1/prefix-" + i + "/");
+            } else {
+                strategy = new RegexMatchStrategy("/api/v1/regex-" + i + "/[0-9]+");
+            }
+            XdsRouteMatch routeMatch = new XdsRouteMatch();
+            routeMatch.setPathMatcher(new XdsPathMatcher(strategy, true));
+            routeMatch.setHeaderMatchers(Collections.singletonList(
+                    new XdsHeaderMatcher("version", new ExactMatchStrategy("v1"))));
+            XdsRoute route = new XdsRoute();
+            route.setRouteMatch(routeMatch);
+            routes.add(route);
+        }
+        path = "/api/v1/prefix-" + (routeCount * 2 / 3 - 1) + "/orders/1";
+        routeTable = new XdsRouteTable(routes);
+        if (routeTable.match(path, headers, true, true) != linearMatch()) {
+            throw new IllegalStateException("Inconsistent route matching result");
+        }
+
+        Map<XdsLocality, Set<ServiceInstance>> localityInstances = new HashMap<>();
+        for (int i = 0; i < LOCALITY_COUNT; i++) {
+            XdsLocality xdsLocality = new XdsLocality();
+            xdsLocality.setRegion("region-" + i);
+            Set<ServiceInstance> instances = new HashSet<>();
+            for (int j = 0; j < INSTANCES_PER_LOCALITY; j++) {
+                instances.add(new TestServiceInstance());
+            }
+            localityInstances.put(xdsLocality, instances);
+        }
+        loadAssigment = new XdsClusterLoadAssigment("service", "cluster", localityInstances);
+        clusterInstances = new XdsClusterInstances(loadAssigment);
+        locality = new XdsLocality();
+        locality.setRegion("region-1");
+    }
+
+    /**
+     * Compiled route table and cached cluster instances
+     *
+     * @return instances of the matched route
+     */
+    @Benchmark
+    public Set<ServiceInstance> compiled() {
+        XdsRoute route = routeTable.match(path, headers, true, true);
+        if (route == null) {
+            return Collections.emptySet();
+        }
+        if (!clusterInstances.isBuiltFrom(loadAssigment)) {
+            throw new IllegalStateException("Unexpected load assignment");
+        }
+        return clusterInstances.getLocalInstances(locality);
+    }
+
+    /**
+     * Linear scan of the routes and instances flattened per request
+     *
+     * @return instances of the matched route
+     */
+    @Benchmark
+    public Set<ServiceInstance> linearScan() {
+        XdsRoute route = linearMatch();
+        if (route == null) {
+            return Collections.emptySet();
+        }
+        return loadAssigment.getLocalityInstances().entrySet().stream()
+                .filter(entry -> locality.getRegion().equals(entry.getKey().getRegion()))
+                .flatMap(entry -> entry.getValue().stream())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * All instances of the cluster flattened per request
+     *
+     * @return instances
+     */
+    @Benchmark
+    public Set<ServiceInstance> flattenAllInstances() {
+        Set<ServiceInstance> serviceInstances = new HashSet<>();
+        for (Entry<XdsLocality, Set<ServiceInstance>> entry : loadAssigment.getLocalityInstances().entrySet()) {
+            serviceInstances.addAll(entry.getValue());
+        }
+        return serviceInstances;
+    }
+
+    /**
+     * All instances of the cluster cached per load assignment
+     *
+     * @return instances
+     */
+    @Benchmark
+    public Set<ServiceInstance> cachedAllInstances() {
+        return clusterInstances.getInstances();
+    }
+
+    private XdsRoute linearMatch() {
+        for (XdsRoute route : routes) {
+            XdsRouteMatch routeMatch = route.getRouteMatch();
+            if (!routeMatch.getPathMatcher().isMatch(path)) {
+                continue;
+            }
+            boolean headersMatched = true;
+            for (XdsHeaderMatcher matcher : routeMatch.getHeaderMatchers()) {
+                if (!matcher.isMatch(headers)) {
+                    headersMatched = false;
+                    break;
+                }
+            }
+            if (headersMatched) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run benchmark failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(XdsRouteTableBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.xds;
+
+import io.sermant.core.service.xds.entity.XdsHeaderMatcher;
+import io.sermant.core.service.xds.entity.XdsPathMatcher;
+import io.sermant.core.service.xds.entity.XdsRoute;
+import io.sermant.core.service.xds.entity.XdsRouteMatch;
+import io.sermant.core.service.xds.entity.match.ExactMatchStrategy;
+import io.sermant.core.service.xds.entity.match.MatchStrategy;
+import io.sermant.core.service.xds.entity.match.PrefixMatchStrategy;
+import io.sermant.core.service.xds.entity.match.RegexMatchStrategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * XdsRouteTableTest
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class XdsRouteTableTest {
+    private static final Map<String, String> HEADERS = Collections.singletonMap("version", "v1");
+
+    @Test
+    public void testFirstMatchedRouteWins() {
+        XdsRoute prefixWithHeader = createRoute(new PrefixMatchStrategy("/a"), true, "v1");
+        XdsRoute exact = createRoute(new ExactMatchStrategy("/a/b"), true, null);
+        XdsRoute regex = createRoute(new RegexMatchStrategy("/a/.*"), true, null);
+        XdsRouteTable table = new XdsRouteTable(Arrays.asList(prefixWithHeader, exact, regex));
+
+        Assert.assertSame(exact, table.match("/a/b", Collections.emptyMap(), true, true));
+        Assert.assertSame(prefixWithHeader, table.match("/a/b", HEADERS, true, true));
+        Assert.assertSame(regex, table.match("/a/c", Collections.emptyMap(), true, true));
+        Assert.assertSame(prefixWithHeader, table.match("/a/b", Collections.emptyMap(), true, false));
+        Assert.assertNull(table.match("/b", HEADERS, true, true));
+        Assert.assertNull(table.match(null, HEADERS, true, true));
+    }
+
+    @Test
+    public void testEarlierShorterPrefixAndRegexWin() {
+        XdsRoute root = createRoute(new PrefixMatchStrategy("/"), true, "v1");
+        XdsRoute regex = createRoute(new RegexMatchStrategy("/r.*"), true, null);
+        XdsRoute exact = createRoute(new ExactMatchStrategy("/r1"), true, null);
+        XdsRoute longPrefix = createRoute(new PrefixMatchStrategy("/r1/x"), true, null);
+        XdsRouteTable table = new XdsRouteTable(Arrays.asList(root, regex, exact, longPrefix));
+
+        Assert.assertSame(root, table.match("/r1/x/y", HEADERS, true, true));
+        Assert.assertSame(regex, table.match("/r1/x/y", Collections.emptyMap(), true, true));
+        Assert.assertSame(regex, table.match("/r1", Collections.emptyMap(), true, true));
+    }
+
+    @Test
+    public void testCaseInsensitivePath() {
+        XdsRoute exact = createRoute(new ExactMatchStrategy("/abc"), false, null);
+        XdsRoute prefix = createRoute(new PrefixMatchStrategy("/pre"), false, null);
+        XdsRouteTable table = new XdsRouteTable(Arrays.asList(exact, prefix));
+
+        Assert.assertSame(exact, table.match("/ABC", HEADERS, true, true));
+        Assert.assertSame(prefix, table.match("/PREfix", HEADERS, true, true));
+        Assert.assertNull(table.match("/abcd", HEADERS, true, true));
+    }
+
+    @Test
+    public void testHeaderOnlyMatch() {
+        XdsRoute withHeader = createRoute(new ExactMatchStrategy("/a"), true, "v1");
+        XdsRoute withoutHeader = createRoute(new ExactMatchStrategy("/b"), true, null);
+        List<XdsRoute> routes = Arrays.asList(withHeader, withoutHeader);
+        XdsRouteTable table = new XdsRouteTable(routes);
+
+        Assert.assertSame(withHeader, table.match(null, HEADERS, false, true));
+        Assert.assertSame(withoutHeader, table.match(null, Collections.emptyMap(), false, true));
+        Assert.assertTrue(table.isCompiledFrom(routes));
+        Assert.assertFalse(table.isCompiledFrom(new ArrayList<>(routes)));
+    }
+
+    @Test
+    public void testSameResultAsLinearScan() {
+        Random random = new Random(0L);
+        String[] segments = {"/a", "/b", "/ab", "/A"};
+        for (int round = 0; round < 200; round++) {
+            List<XdsRoute> routes = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String path = randomPath(random, segments);
+                boolean caseSensitive = random.nextBoolean();
+                String value = caseSensitive ? path : path.toLowerCase(Locale.ROOT);
+                MatchStrategy strategy;
+                switch (random.nextInt(3)) {
+                    case 0:
+                        strategy = new ExactMatchStrategy(value);
+                        break;
+                    case 1:
+                        strategy = new PrefixMatchStrategy(value);
+                        break;
+                    default:
+                        strategy = new RegexMatchStrategy(value + ".*");
+                }
+                routes.add(createRoute(strategy, caseSensitive, random.nextBoolean() ? "v1" : null));
+            }
+            XdsRouteTable table = new XdsRouteTable(routes);
+            for (int i = 0; i < 20; i++) {
+                String path = randomPath(random, segments);
+                Map<String, String> headers = random.nextBoolean() ? HEADERS : Collections.emptyMap();
+                Assert.assertSame(linearMatch(routes, path, headers), table.match(path, headers, true, true));
+            }
+        }
+    }
+
+    private static String randomPath(Random random, String[] segments) {
+        StringBuilder builder = new StringBuilder();
+        int count = random.nextInt(3) + 1;
+        for (int i = 0; i < count; i++) {
+            builder.append(segments[random.nextInt(segments.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static XdsRoute linearMatch(List<XdsRoute> routes, String path, Map<String, String> headers) {
+        for (XdsRoute route : routes) {
+            XdsRouteMatch routeMatch = route.getRouteMatch();
+            if (!routeMatch.getPathMatcher().isMatch(path)) {
+                continue;
+            }
+            boolean headersMatched = true;
+            for (XdsHeaderMatcher matcher : routeMatch.getHeaderMatchers()) {
+                headersMatched &= matcher.isMatch(headers);
+            }
+            if (headersMatched) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static XdsRoute createRoute(MatchStrategy pathStrategy, boolean caseSensitive, String version) {
+        XdsRouteMatch routeMatch = new XdsRouteMatch();
+        routeMatch.setCaseSensitive(caseSensitive);
+        routeMatch.setPathMatcher(new XdsPathMatcher(pathStrategy, caseSensitive));
+        routeMatch.setHeaderMatchers(version == null ? Collections.emptyList()
+                : Collections.singletonList(new XdsHeaderMatcher("version", new ExactMatchStrategy(version))));
+        XdsRoute route = new XdsRoute();
+        route.setRouteMatch(routeMatch);
+        return route;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.common.xds.lb;
+
+import io.sermant.core.service.xds.entity.ServiceInstance;
+import io.sermant.router.common.xds.TestServiceInstance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent picks of the xDS load balancers over the instances of one cluster, against the round-robin synchronized
+ * on the class and the random over a shared Random used before, and a weighted random by linear scan of the weights.
+ * Run with the main method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class XdsLoadBalancerBenchmark {
+    /**
+     * Number of instances of the cluster
+     */
+    @Param({"10", "100"})
+    public int size;
+
+    private final AtomicInteger lockedIndex = new AtomicInteger();
+
+    private final Random sharedRandom = new Random();
+
+    private List<ServiceInstance> instances;
+
+    private List<ServiceInstance> weightedInstances;
+
+    private XdsLoadBalancer roundRobin;
+
+    private XdsLoadBalancer weightedRoundRobin;
+
+    private XdsLoadBalancer random;
+
+    private XdsLoadBalancer weightedRandom;
+
+    /**
+     * Create the instances, the weighted ones with weights from 1 to 10
+     */
+    @Setup
+    public void setUp() {
+        instances = new ArrayList<>();
+        weightedInstances = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            TestServiceInstance instance = new TestServiceInstance();
+            instance.setHost("127.0.0." + i);
+            instances.add(instance);
+            TestServiceInstance weightedInstance = new TestServiceInstance();
+            weightedInstance.setHost("127.0.1." + i);
+            weightedInstance.setWeight(i % 10 + 1);
+            weightedInstances.add(weightedInstance);
+        }
+        roundRobin = new XdsRoundRobinLoadBalancer();
+        weightedRoundRobin = new XdsRoundRobinLoadBalancer();
+        random = new XdsRandomLoadBalancer();
+        weightedRandom = new XdsRandomLoadBalancer();
+    }
+
+    /**
+     * Lock-free round-robin
+     *
+     * @return selected instance
+     */
+    @Benchmark
+    public ServiceInstance roundRobin() {
+        return roundRobin.selectInstance(instances);
+    }
+
+    /**
+     * Lock-free smooth weighted round-robin
+     *
+     * @return selected instance
+     */
+    @Benchmark
+    public ServiceInstance weightedRoundRobin() {
+        return weightedRoundRobin.selectInstance(weightedInstances);
+    }
+
+    /**
+     * Round-robin synchronized on the class
+     *
+     * @return selected instance
+     */
+    @Benchmark
+    public ServiceInstance lockedRoundRobin() {
+        synchronized (XdsLoadBalancerBenchmark.class) {
+            return instances.get(lockedIndex.getAndUpdate(i -> (i + 1) % instances.size()));
+        }
+    }
+
+    /**
+     * Random on the thread local random
+     *
+     * @return selected instance
+     */
+    @Benchmark
+    public ServiceInstance random() {
+        return random.selectInstance(instances);
+    }
+
+    /**
+     * Weighted random with the alias table
+     *
+     * @return selected instance
+     */
+    @Benchmark
+    public ServiceInstance weightedRandom() {
+        return weightedRandom.selectInstance(weightedInstances);
+    }
+
+    /**
+     * Random on a shared Random
+     *
+     * @return selected instance
+     */
+    @Benchmark
+    public ServiceInstance sharedRandom() {
+        return instances.get(sharedRandom.nextInt(instances.size()));
+    }
+
+    /**
+     * Weighted random scanning the weights
+     *
+     * @return selected instance
+     */
+    @Benchmark
+    public ServiceInstance linearWeightedRandom() {
+        int total = 0;
+        for (ServiceInstance instance : weightedInstances) {
+            total += instance.getWeight();
+        }
+        int offset = sharedRandom.nextInt(total);
+        for (ServiceInstance instance : weightedInstances) {
+            offset -= instance.getWeight();
+            if (offset < 0) {
+                return instance;
+            }
+        }
+        return weightedInstances.get(0);
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(XdsLoadBalancerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
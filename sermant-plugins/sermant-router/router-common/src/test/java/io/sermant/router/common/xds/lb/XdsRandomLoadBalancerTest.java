@@ -23,6 +23,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -48,4 +49,24 @@ public class XdsRandomLoadBalancerTest {
         ServiceInstance selectedInstance = loadBalancer.selectInstance(instances);
         Assert.assertTrue(instances.contains(selectedInstance));
     }
+
+    @Test
+    public void testWeightedSelectInstance() {
+        XdsLoadBalancer loadBalancer = new XdsRandomLoadBalancer();
+        List<ServiceInstance> instances = new ArrayList<>();
+        for (int weight : Arrays.asList(1, 3, 6)) {
+            TestServiceInstance instance = new TestServiceInstance();
+            instance.setService("service" + weight);
+            instance.setWeight(weight);
+            instances.add(instance);
+        }
+        int total = 100000;
+        int[] counts = new int[instances.size()];
+        for (int i = 0; i < total; i++) {
+            counts[instances.indexOf(loadBalancer.selectInstance(instances))]++;
+        }
+        Assert.assertEquals(0.1d, (double) counts[0] / total, 0.01d);
+        Assert.assertEquals(0.3d, (double) counts[1] / total, 0.01d);
+        Assert.assertEquals(0.6d, (double) counts[2] / total, 0.01d);
+    }
 }
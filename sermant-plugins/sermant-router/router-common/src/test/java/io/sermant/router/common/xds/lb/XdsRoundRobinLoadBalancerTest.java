@@ -24,7 +24,14 @@ import io.sermant.router.common.xds.TestServiceInstance;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author daizhenyu
@@ -53,4 +60,68 @@ public class XdsRoundRobinLoadBalancerTest {
         // third call
         assertEquals(instance1, loadBalancer.selectInstance(instances));
     }
+
+    @Test
+    public void testWeightedSelectInstance() {
+        XdsLoadBalancer loadBalancer = new XdsRoundRobinLoadBalancer();
+        List<ServiceInstance> instances = createInstances(1, 2, 3);
+
+        // smooth weighted round-robin spreads the picks of an instance over the cycle
+        List<ServiceInstance> expected = Arrays.asList(instances.get(2), instances.get(1), instances.get(0),
+                instances.get(2), instances.get(1), instances.get(2));
+        List<ServiceInstance> selected = new ArrayList<>();
+        for (int i = 0; i < expected.size(); i++) {
+            selected.add(loadBalancer.selectInstance(new ArrayList<>(instances)));
+        }
+        assertEquals(expected, selected);
+
+        int[] counts = new int[instances.size()];
+        for (int i = 0; i < 600; i++) {
+            counts[instances.indexOf(loadBalancer.selectInstance(new ArrayList<>(instances)))]++;
+        }
+        assertEquals(100, counts[0]);
+        assertEquals(200, counts[1]);
+        assertEquals(300, counts[2]);
+
+        // a changed EDS snapshot takes effect on the next pick
+        List<ServiceInstance> changed = createInstances(1, 1);
+        assertEquals(changed.get(0), loadBalancer.selectInstance(changed));
+        assertEquals(changed.get(1), loadBalancer.selectInstance(changed));
+    }
+
+    @Test
+    public void testConcurrentFairness() throws InterruptedException {
+        XdsLoadBalancer loadBalancer = new XdsRoundRobinLoadBalancer();
+        List<ServiceInstance> instances = createInstances(1, 1, 1, 1, 1);
+        int threadCount = 8;
+        int rounds = 1000;
+        Map<ServiceInstance, AtomicInteger> counts = new ConcurrentHashMap<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < rounds * instances.size(); j++) {
+                    counts.computeIfAbsent(loadBalancer.selectInstance(instances), key -> new AtomicInteger())
+                            .incrementAndGet();
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        for (ServiceInstance instance : instances) {
+            assertEquals(threadCount * rounds, counts.get(instance).get());
+        }
+    }
+
+    private static List<ServiceInstance> createInstances(int... weights) {
+        List<ServiceInstance> instances = new ArrayList<>();
+        for (int i = 0; i < weights.length; i++) {
+            TestServiceInstance instance = new TestServiceInstance();
+            instance.setService("service" + i);
+            instance.setWeight(weights[i]);
+            instances.add(instance);
+        }
+        return instances;
+    }
 }
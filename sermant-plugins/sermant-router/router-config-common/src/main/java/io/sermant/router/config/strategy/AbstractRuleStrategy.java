@@ -41,6 +41,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -55,6 +58,11 @@ import java.util.logging.Logger;
 public abstract class AbstractRuleStrategy<I> implements RuleStrategy<I> {
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
+    /**
+     * Number of tag indexes kept per service, for callers passing different subsets of the providers
+     */
+    private static final int MAX_TAG_INDEXES_PER_SERVICE = 4;
+
     private final RouterConfig routerConfig = PluginConfigManager.getPluginConfig(RouterConfig.class);
 
     private final InstanceStrategy<I, Map<String, String>> matchInstanceStrategy;
@@ -65,6 +73,11 @@ public abstract class AbstractRuleStrategy<I> implements RuleStrategy<I> {
 
     private final String source;
 
+    /**
+     * Tag indexes of the providers by service name, rebuilt when the provider list changes
+     */
+    private final Map<String, TagIndexSlots<I>> tagIndexes = new ConcurrentHashMap<>();
+
     /**
      * Constructor
      *
@@ -195,12 +208,7 @@ public abstract class AbstractRuleStrategy<I> implements RuleStrategy<I> {
         if (routerConfig.isEnableMetric()) {
             countRouteNum(tags, instanceStrategy);
         }
-        List<I> resultList = new ArrayList<>();
-        for (I instance : instances) {
-            if (instanceStrategy.isMatch(instance, tags, mapper)) {
-                resultList.add(instance);
-            }
-        }
+        List<I> resultList = matchInstances(instanceStrategy, tags, serviceName, instances);
         boolean mismatch = CollectionUtils.isEmpty(resultList);
         if (!mismatch) {
             if (LOGGER.isLoggable(Level.FINE)) {
@@ -219,6 +227,39 @@ public abstract class AbstractRuleStrategy<I> implements RuleStrategy<I> {
         return isReturnAllInstancesWhenMismatch && mismatch ? instances : resultList;
     }
 
+    private <T> List<I> matchInstances(InstanceStrategy<I, T> instanceStrategy, T tags, String serviceName,
+            List<I> instances) {
+        if (serviceName != null && tags != null) {
+            List<I> matched = getTagIndex(serviceName, instances).getMatchedInstances(instanceStrategy, tags);
+            if (matched != null) {
+                return matched;
+            }
+        }
+        List<I> resultList = new ArrayList<>();
+        for (I instance : instances) {
+            if (instanceStrategy.isMatch(instance, tags, mapper)) {
+                resultList.add(instance);
+            }
+        }
+        return resultList;
+    }
+
+    private InstanceTagIndex<I> getTagIndex(String serviceName, List<I> instances) {
+        TagIndexSlots<I> slots = tagIndexes.get(serviceName);
+        if (slots == null) {
+            slots = tagIndexes.computeIfAbsent(serviceName, name -> new TagIndexSlots<>());
+        }
+        for (int i = 0; i < MAX_TAG_INDEXES_PER_SERVICE; i++) {
+            InstanceTagIndex<I> index = slots.indexes.get(i);
+            if (index != null && index.isBuiltFrom(instances)) {
+                return index;
+            }
+        }
+        InstanceTagIndex<I> index = new InstanceTagIndex<>(instances, mapper);
+        slots.indexes.set(Math.floorMod(slots.cursor.getAndIncrement(), MAX_TAG_INDEXES_PER_SERVICE), index);
+        return index;
+    }
+
     private <T> InstanceStrategy<I, T> getStrategy(boolean isMatch) {
         return isMatch ? (InstanceStrategy<I, T>) matchInstanceStrategy
                 : (InstanceStrategy<I, T>) mismatchInstanceStrategy;
@@ -273,4 +314,17 @@ public abstract class AbstractRuleStrategy<I> implements RuleStrategy<I> {
         tagsMap.put(RouterConstant.PROTOCOL, RouterConstant.HTTP_PROTOCOL);
         tagsMap.put(RouterConstant.CLIENT_SERVICE_NAME, AppCache.INSTANCE.getAppName());
     }
+
+    /**
+     * Tag indexes of one service, replaced in turn
+     *
+     * @param <I> Instance generics
+     * @since 2026-10-18
+     */
+    private static class TagIndexSlots<I> {
+        private final AtomicReferenceArray<InstanceTagIndex<I>> indexes =
+                new AtomicReferenceArray<>(MAX_TAG_INDEXES_PER_SERVICE);
+
+        private final AtomicInteger cursor = new AtomicInteger();
+    }
 }
@@ -16,6 +16,7 @@
 
 package io.sermant.router.config.strategy;
 
+import java.util.BitSet;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -37,4 +38,15 @@ public interface InstanceStrategy<I, T> {
      * @return Whether it matches or not
      */
     boolean isMatch(I instance, T tags, Function<I, Map<String, String>> mapper);
+
+    /**
+     * Match all instances of a tag index at once, with the same result as {@link #isMatch} for each of them
+     *
+     * @param index Tag index of the instances
+     * @param tags Label
+     * @return Positions of the matched instances, null if the strategy can only match instance by instance
+     */
+    default BitSet match(InstanceTagIndex<I> index, T tags) {
+        return null;
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.config.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Tag index over the instances of a service. For every metadata key it keeps the instances carrying the key, and for
+ * every key and value the instances with that value, as bitmaps of the instance positions, so that matching a tag set
+ * becomes a few bitmap operations instead of a metadata lookup per instance. The result of a strategy for a tag set is
+ * cached for as long as the index lives, which is until the provider list changes
+ *
+ * <p>The bitmaps returned by the getters are shared and must not be modified</p>
+ *
+ * @param <I> Instance generics
+ * @author agent
+ * @since 2026-10-18
+ */
+public class InstanceTagIndex<I> {
+    private static final int MAX_RESULT_CACHE_SIZE = 256;
+
+    private static final BitSet EMPTY_BITS = new BitSet(0);
+
+    private final Object[] instances;
+
+    private final BitSet allInstances;
+
+    private final Map<String, BitSet> keyIndex = new HashMap<>();
+
+    private final Map<String, BitSet> nonNullValueIndex = new HashMap<>();
+
+    private final Map<String, Map<String, BitSet>> valueIndex = new HashMap<>();
+
+    private final Map<ResultKey, Object[]> resultCache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param instanceList instances of the service
+     * @param mapper Methods to obtain metadata
+     */
+    public InstanceTagIndex(List<I> instanceList, Function<I, Map<String, String>> mapper) {
+        this.instances = instanceList.toArray();
+        final int size = instances.length;
+        this.allInstances = new BitSet(size);
+        allInstances.set(0, size);
+        for (int i = 0; i < size; i++) {
+            final Map<String, String> metadata = getMetadata((I) instances[i], mapper);
+            for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                final String key = entry.getKey();
+                keyIndex.computeIfAbsent(key, value -> new BitSet(size)).set(i);
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                nonNullValueIndex.computeIfAbsent(key, value -> new BitSet(size)).set(i);
+                valueIndex.computeIfAbsent(key, value -> new HashMap<>())
+                        .computeIfAbsent(entry.getValue(), value -> new BitSet(size)).set(i);
+            }
+        }
+    }
+
+    private Map<String, String> getMetadata(I instance, Function<I, Map<String, String>> mapper) {
+        if (mapper == null || instance == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> metadata = mapper.apply(instance);
+        return metadata == null ? Collections.emptyMap() : metadata;
+    }
+
+    /**
+     * Whether the index has been built from exactly these instances, in this order
+     *
+     * @param instanceList instances of the service
+     * @return built from the instances or not
+     */
+    public boolean isBuiltFrom(List<I> instanceList) {
+        if (instanceList.size() != instances.length) {
+            return false;
+        }
+        int index = 0;
+        for (I instance : instanceList) {
+            if (instance != instances[index++]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the instances matched by a strategy
+     *
+     * @param strategy instance strategy
+     * @param tags tags
+     * @param <T> Label generics
+     * @return new list of the matched instances in their original order, null if the strategy can not be evaluated
+     * on the index
+     */
+    public <T> List<I> getMatchedInstances(InstanceStrategy<I, T> strategy, T tags) {
+        final ResultKey resultKey = new ResultKey(strategy, tags);
+        Object[] matched = resultCache.get(resultKey);
+        if (matched == null) {
+            final BitSet bits = strategy.match(this, tags);
+            if (bits == null) {
+                return null;
+            }
+            matched = select(bits);
+            if (resultCache.size() >= MAX_RESULT_CACHE_SIZE) {
+                resultCache.clear();
+            }
+            resultCache.put(resultKey, matched);
+        }
+        return new ArrayList<>((List<I>) Arrays.asList(matched));
+    }
+
+    private Object[] select(BitSet bits) {
+        final Object[] matched = new Object[bits.cardinality()];
+        int index = 0;
+        for (int i = bits.nextSetBit(0); i >= 0 && i < instances.length; i = bits.nextSetBit(i + 1)) {
+            matched[index++] = instances[i];
+        }
+        return index == matched.length ? matched : Arrays.copyOf(matched, index);
+    }
+
+    /**
+     * Get the instances whose metadata value of the key equals the value
+     *
+     * @param key metadata key
+     * @param value metadata value, not null
+     * @return instances
+     */
+    public BitSet getInstancesWithValue(String key, String value) {
+        final Map<String, BitSet> values = valueIndex.get(key);
+        if (values == null) {
+            return EMPTY_BITS;
+        }
+        return values.getOrDefault(value, EMPTY_BITS);
+    }
+
+    /**
+     * Get the instances whose metadata contains the key, whatever the value
+     *
+     * @param key metadata key
+     * @return instances
+     */
+    public BitSet getInstancesWithKey(String key) {
+        return keyIndex.getOrDefault(key, EMPTY_BITS);
+    }
+
+    /**
+     * Get the instances without a value for the key, whether the key is missing or mapped to null
+     *
+     * @param key metadata key
+     * @return new bitmap of the instances
+     */
+    public BitSet getInstancesWithNullValue(String key) {
+        final BitSet result = (BitSet) allInstances.clone();
+        result.andNot(nonNullValueIndex.getOrDefault(key, EMPTY_BITS));
+        return result;
+    }
+
+    /**
+     * Get all instances
+     *
+     * @return instances
+     */
+    public BitSet getAllInstances() {
+        return allInstances;
+    }
+
+    /**
+     * Get the number of instances
+     *
+     * @return number of instances
+     */
+    public int size() {
+        return instances.length;
+    }
+
+    /**
+     * Cache key of a strategy result
+     *
+     * @since 2026-10-18
+     */
+    private static class ResultKey {
+        private final InstanceStrategy<?, ?> strategy;
+
+        private final Object tags;
+
+        private final int hashCode;
+
+        ResultKey(InstanceStrategy<?, ?> strategy, Object tags) {
+            this.strategy = strategy;
+            this.tags = tags;
+            this.hashCode = System.identityHashCode(strategy) * 31 + Objects.hashCode(tags);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ResultKey)) {
+                return false;
+            }
+            final ResultKey other = (ResultKey) obj;
+            return strategy == other.strategy && Objects.equals(tags, other.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
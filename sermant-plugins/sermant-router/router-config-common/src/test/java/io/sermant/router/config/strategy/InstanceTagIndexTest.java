@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.config.strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Test InstanceTagIndex
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class InstanceTagIndexTest {
+    private static final String[] KEYS = {"version", "zone", "group"};
+
+    private static final String[] VALUES = {"v1", "v2", "v3", null};
+
+    private final Random random = new Random(20261018L);
+
+    private final MetadataRuleStrategy.MatchStrategy matchStrategy = new MetadataRuleStrategy.MatchStrategy();
+
+    private final MetadataRuleStrategy.MismatchStrategy mismatchStrategy =
+            new MetadataRuleStrategy.MismatchStrategy();
+
+    /**
+     * The index matches the same instances as the strategies do one by one, missing keys and null values included
+     */
+    @Test
+    public void testSameResultAsInstanceMatching() {
+        final List<Map<String, String>> instances = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            instances.add(randomTags());
+        }
+        final InstanceTagIndex<Map<String, String>> index = new InstanceTagIndex<>(instances, Function.identity());
+        for (int i = 0; i < 500; i++) {
+            final Map<String, String> tag = randomTags();
+            Assert.assertEquals(linearMatch(matchStrategy, instances, tag),
+                    index.getMatchedInstances(matchStrategy, tag));
+            final List<Map<String, String>> tags = Arrays.asList(randomTags(), randomTags());
+            Assert.assertEquals(linearMatch(mismatchStrategy, instances, tags),
+                    index.getMatchedInstances(mismatchStrategy, tags));
+        }
+    }
+
+    /**
+     * Cached results are handed out as new lists
+     */
+    @Test
+    public void testCachedResult() {
+        final List<Map<String, String>> instances = Arrays.asList(Collections.singletonMap("version", "v1"),
+                Collections.singletonMap("version", "v2"));
+        final InstanceTagIndex<Map<String, String>> index = new InstanceTagIndex<>(instances, Function.identity());
+        final Map<String, String> tag = Collections.singletonMap("version", "v1");
+        final List<Map<String, String>> first = index.getMatchedInstances(matchStrategy, tag);
+        first.clear();
+        final List<Map<String, String>> second = index.getMatchedInstances(matchStrategy, new HashMap<>(tag));
+        Assert.assertEquals(1, second.size());
+        Assert.assertSame(instances.get(0), second.get(0));
+    }
+
+    /**
+     * The index is only reused for the same providers in the same order
+     */
+    @Test
+    public void testBuiltFrom() {
+        final Map<String, String> first = Collections.singletonMap("version", "v1");
+        final Map<String, String> second = Collections.singletonMap("version", "v1");
+        final InstanceTagIndex<Map<String, String>> index =
+                new InstanceTagIndex<>(Arrays.asList(first, second), Function.identity());
+        Assert.assertTrue(index.isBuiltFrom(new ArrayList<>(Arrays.asList(first, second))));
+        Assert.assertFalse(index.isBuiltFrom(Arrays.asList(second, first)));
+        Assert.assertFalse(index.isBuiltFrom(Collections.singletonList(first)));
+    }
+
+    /**
+     * Strategies without an index form are not evaluated on the index
+     */
+    @Test
+    public void testStrategyWithoutIndex() {
+        final InstanceStrategy<Map<String, String>, Map<String, String>> strategy =
+                (instance, tag, mapper) -> true;
+        final InstanceTagIndex<Map<String, String>> index = new InstanceTagIndex<>(
+                Collections.singletonList(Collections.emptyMap()), Function.identity());
+        Assert.assertNull(index.getMatchedInstances(strategy, Collections.emptyMap()));
+    }
+
+    private Map<String, String> randomTags() {
+        final Map<String, String> tags = new HashMap<>();
+        for (String key : KEYS) {
+            if (random.nextInt(3) > 0) {
+                tags.put(key, VALUES[random.nextInt(VALUES.length)]);
+            }
+        }
+        return tags;
+    }
+
+    private static <T> List<Map<String, String>> linearMatch(InstanceStrategy<Map<String, String>, T> strategy,
+            List<Map<String, String>> instances, T tags) {
+        final List<Map<String, String>> result = new ArrayList<>();
+        for (Map<String, String> instance : instances) {
+            if (strategy.isMatch(instance, tags, Function.identity())) {
+                result.add(instance);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.config.strategy;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Rule strategy over instances which are their own metadata, with the tag semantics of the spring strategies
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class MetadataRuleStrategy extends AbstractRuleStrategy<Map<String, String>> {
+    /**
+     * Constructor
+     */
+    public MetadataRuleStrategy() {
+        super("spring", new MatchStrategy(), new MismatchStrategy(), Function.identity());
+    }
+
+    /**
+     * Instances with any of the target tags
+     *
+     * @since 2026-10-18
+     */
+    public static class MatchStrategy extends AbstractInstanceStrategy<Map<String, String>, Map<String, String>> {
+        @Override
+        public boolean isMatch(Map<String, String> instance, Map<String, String> tag,
+                Function<Map<String, String>, Map<String, String>> mapper) {
+            Map<String, String> metadata = getMetadata(instance, mapper);
+            for (Map.Entry<String, String> entry : tag.entrySet()) {
+                if (Objects.equals(metadata.get(entry.getKey()), entry.getValue())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public BitSet match(InstanceTagIndex<Map<String, String>> index, Map<String, String> tag) {
+            final BitSet result = new BitSet(index.size());
+            for (Map.Entry<String, String> entry : tag.entrySet()) {
+                String value = entry.getValue();
+                result.or(value == null ? index.getInstancesWithNullValue(entry.getKey())
+                        : index.getInstancesWithValue(entry.getKey(), value));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Instances carrying none of the mismatch tags
+     *
+     * @since 2026-10-18
+     */
+    public static class MismatchStrategy
+            extends AbstractInstanceStrategy<Map<String, String>, List<Map<String, String>>> {
+        @Override
+        public boolean isMatch(Map<String, String> instance, List<Map<String, String>> tags,
+                Function<Map<String, String>, Map<String, String>> mapper) {
+            Map<String, String> metadata = getMetadata(instance, mapper);
+            for (Map<String, String> mismatchTag : tags) {
+                for (Map.Entry<String, String> entry : mismatchTag.entrySet()) {
+                    String value = entry.getValue();
+                    if (value == null ? metadata.containsKey(entry.getKey())
+                            : value.equals(metadata.get(entry.getKey()))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public BitSet match(InstanceTagIndex<Map<String, String>> index, List<Map<String, String>> tags) {
+            final BitSet excluded = new BitSet(index.size());
+            for (Map<String, String> mismatchTag : tags) {
+                for (Map.Entry<String, String> entry : mismatchTag.entrySet()) {
+                    String value = entry.getValue();
+                    excluded.or(value == null ? index.getInstancesWithKey(entry.getKey())
+                            : index.getInstancesWithValue(entry.getKey(), value));
+                }
+            }
+            final BitSet result = (BitSet) index.getAllInstances().clone();
+            result.andNot(excluded);
+            return result;
+        }
+    }
+}
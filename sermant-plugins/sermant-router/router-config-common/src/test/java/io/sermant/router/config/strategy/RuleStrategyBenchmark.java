@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.router.config.strategy;
+
+import io.sermant.core.config.common.BaseConfig;
+import io.sermant.core.config.utils.ConfigKeyUtil;
+import io.sermant.core.plugin.config.PluginConfigManager;
+import io.sermant.core.utils.ReflectUtils;
+import io.sermant.router.common.config.RouterConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Tag routing over 10 to 1000 providers: the rule strategy on its tag index against the instance by instance matching
+ * used before. The providers carry four versions and three zones, a request selects one version and the mismatch
+ * excludes two. Run with the main method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuleStrategyBenchmark {
+    private static final String SERVICE_NAME = "provider";
+
+    /**
+     * Number of providers
+     */
+    @Param({"10", "100", "1000"})
+    public int invokers;
+
+    private final List<Map<String, String>> instances = new ArrayList<>();
+
+    private final Map<String, String> requestTag = new HashMap<>();
+
+    private final List<Map<String, String>> mismatchTags = new ArrayList<>();
+
+    private MetadataRuleStrategy ruleStrategy;
+
+    /**
+     * Register the router configuration and build the providers
+     */
+    @Setup
+    public void setUp() {
+        final Map<String, BaseConfig> configMap = (Map<String, BaseConfig>) ReflectUtils
+                .getStaticFieldValue(PluginConfigManager.class, "PLUGIN_CONFIG_MAP").orElseThrow(
+                        IllegalStateException::new);
+        configMap.put(ConfigKeyUtil.getTypeKeyWithClassloader(ConfigKeyUtil.getTypeKey(RouterConfig.class),
+                RouterConfig.class.getClassLoader()), new RouterConfig());
+        for (int i = 0; i < invokers; i++) {
+            final Map<String, String> metadata = new HashMap<>();
+            metadata.put("version", "1.0." + i % 4);
+            metadata.put("zone", "zone-" + i % 3);
+            metadata.put("application", "provider");
+            instances.add(metadata);
+        }
+        requestTag.put("version", "1.0.1");
+        mismatchTags.add(new HashMap<>(requestTag));
+        mismatchTags.add(new HashMap<>(requestTag));
+        mismatchTags.get(1).put("version", "1.0.2");
+        ruleStrategy = new MetadataRuleStrategy();
+        final List<Map<String, String>> indexed = ruleStrategy.getMatchInstancesByRequest(SERVICE_NAME, instances,
+                requestTag);
+        if (!indexed.equals(linear(new MetadataRuleStrategy.MatchStrategy(), requestTag))) {
+            throw new IllegalStateException("Inconsistent matching result");
+        }
+    }
+
+    /**
+     * Match the request tag on the tag index
+     *
+     * @return matched providers
+     */
+    @Benchmark
+    public List<Map<String, String>> indexedMatch() {
+        return ruleStrategy.getMatchInstancesByRequest(SERVICE_NAME, instances, requestTag);
+    }
+
+    /**
+     * Match the request tag provider by provider
+     *
+     * @return matched providers
+     */
+    @Benchmark
+    public List<Map<String, String>> linearMatch() {
+        return linear(MatchStrategyHolder.MATCH, requestTag);
+    }
+
+    /**
+     * Exclude the mismatch tags on the tag index
+     *
+     * @return remaining providers
+     */
+    @Benchmark
+    public List<Map<String, String>> indexedMismatch() {
+        return ruleStrategy.getMismatchInstances(SERVICE_NAME, instances, mismatchTags, true);
+    }
+
+    /**
+     * Exclude the mismatch tags provider by provider
+     *
+     * @return remaining providers
+     */
+    @Benchmark
+    public List<Map<String, String>> linearMismatch() {
+        return linear(MatchStrategyHolder.MISMATCH, mismatchTags);
+    }
+
+    private <T> List<Map<String, String>> linear(InstanceStrategy<Map<String, String>, T> strategy, T tags) {
+        final List<Map<String, String>> result = new ArrayList<>();
+        for (Map<String, String> instance : instances) {
+            if (strategy.isMatch(instance, tags, Function.identity())) {
+                result.add(instance);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Strategies of the instance by instance matching
+     *
+     * @since 2026-10-18
+     */
+    private static class MatchStrategyHolder {
+        static final MetadataRuleStrategy.MatchStrategy MATCH = new MetadataRuleStrategy.MatchStrategy();
+
+        static final MetadataRuleStrategy.MismatchStrategy MISMATCH = new MetadataRuleStrategy.MismatchStrategy();
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RuleStrategyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
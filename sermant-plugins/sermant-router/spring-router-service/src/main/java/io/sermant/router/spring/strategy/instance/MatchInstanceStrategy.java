@@ -17,7 +17,9 @@
 package io.sermant.router.spring.strategy.instance;
 
 import io.sermant.router.config.strategy.AbstractInstanceStrategy;
+import io.sermant.router.config.strategy.InstanceTagIndex;
 
+import java.util.BitSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -49,4 +51,22 @@ public class MatchInstanceStrategy<I> extends AbstractInstanceStrategy<I, Map<St
         }
         return false;
     }
+
+    /**
+     * Instances with any of the target tags, a null tag value matches the instances without a value for the key
+     *
+     * @param index Tag index of the instances
+     * @param tag Match the tag on
+     * @return Positions of the matched instances
+     */
+    @Override
+    public BitSet match(InstanceTagIndex<I> index, Map<String, String> tag) {
+        final BitSet result = new BitSet(index.size());
+        for (Entry<String, String> entry : tag.entrySet()) {
+            String value = entry.getValue();
+            result.or(value == null ? index.getInstancesWithNullValue(entry.getKey())
+                    : index.getInstancesWithValue(entry.getKey(), value));
+        }
+        return result;
+    }
 }
@@ -18,15 +18,13 @@ package io.sermant.dubbo.registry.utils;
 
 import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.utils.ClassLoaderUtils;
+import io.sermant.core.utils.MethodAccessor;
 import io.sermant.dubbo.registry.cache.DubboCache;
 import io.sermant.dubbo.registry.constants.Constant;
 
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -44,51 +42,51 @@ import java.util.logging.Logger;
 public class ReflectUtils {
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private static final String GET_PROTOCOL_METHOD_NAME = "getProtocol";
+    private static final MethodAccessor GET_PROTOCOL = MethodAccessor.of("getProtocol");
 
-    private static final String GET_ADDRESS_METHOD_NAME = "getAddress";
+    private static final MethodAccessor GET_ADDRESS = MethodAccessor.of("getAddress");
 
-    private static final String GET_PATH_METHOD_NAME = "getPath";
+    private static final MethodAccessor GET_PATH = MethodAccessor.of("getPath");
 
-    private static final String GET_ID_METHOD_NAME = "getId";
+    private static final MethodAccessor GET_ID = MethodAccessor.of("getId");
 
-    private static final String GET_NAME_METHOD_NAME = "getName";
+    private static final MethodAccessor GET_NAME = MethodAccessor.of("getName");
 
-    private static final String GET_PARAMETERS_METHOD_NAME = "getParameters";
+    private static final MethodAccessor GET_PARAMETERS = MethodAccessor.of("getParameters");
 
-    private static final String GET_REGISTRIES_METHOD_NAME = "getRegistries";
+    private static final MethodAccessor GET_REGISTRIES = MethodAccessor.of("getRegistries");
 
-    private static final String GET_EXTENSION_CLASSES_METHOD_NAME = "getExtensionClasses";
+    private static final MethodAccessor GET_EXTENSION_CLASSES = MethodAccessor.ofDeclared("getExtensionClasses");
 
-    private static final String IS_VALID_METHOD_NAME = "isValid";
+    private static final MethodAccessor IS_VALID = MethodAccessor.of("isValid");
 
-    private static final String SET_HOST_METHOD_NAME = "setHost";
+    private static final MethodAccessor SET_HOST = MethodAccessor.of("setHost", String.class);
 
-    private static final String SET_ADDRESS_METHOD_NAME = "setAddress";
+    private static final MethodAccessor SET_ADDRESS = MethodAccessor.of("setAddress", String.class);
 
-    private static final String SET_PATH_METHOD_NAME = "setPath";
+    private static final MethodAccessor SET_PATH = MethodAccessor.of("setPath", String.class);
 
-    private static final String SET_ID_METHOD_NAME = "setId";
+    private static final MethodAccessor SET_ID = MethodAccessor.of("setId", String.class);
 
-    private static final String SET_PREFIX_METHOD_NAME = "setPrefix";
+    private static final MethodAccessor SET_PREFIX = MethodAccessor.of("setPrefix", String.class);
 
-    private static final String SET_PROTOCOL_METHOD_NAME = "setProtocol";
+    private static final MethodAccessor SET_PROTOCOL = MethodAccessor.of("setProtocol", String.class);
 
-    private static final String NOTIFY_METHOD_NAME = "notify";
+    private static final MethodAccessor NOTIFY = MethodAccessor.of("notify", List.class);
 
-    private static final String VALUE_OF_METHOD_NAME = "valueOf";
+    private static final MethodAccessor VALUE_OF = MethodAccessor.of("valueOf", String.class);
 
-    private static final String REMOVE_PARAMETERS_METHOD_NAME = "removeParameters";
+    private static final MethodAccessor REMOVE_PARAMETERS = MethodAccessor.of("removeParameters", Collection.class);
 
-    private static final String ADD_PARAMETERS_METHOD_NAME = "addParameters";
+    private static final MethodAccessor ADD_PARAMETERS = MethodAccessor.of("addParameters", Map.class);
 
-    private static final String GET_PARAMETER_METHOD_NAME = "getParameter";
+    private static final MethodAccessor GET_PARAMETER = MethodAccessor.of("getParameter", String.class);
 
-    private static final String GET_HOST_METHOD_NAME = "getHost";
+    private static final MethodAccessor GET_HOST = MethodAccessor.of("getHost");
 
-    private static final String GET_PORT_METHOD_NAME = "getPort";
+    private static final MethodAccessor GET_PORT = MethodAccessor.of("getPort");
 
-    private static final String GET_SERVICE_INTERFACE_METHOD_NAME = "getServiceInterface";
+    private static final MethodAccessor GET_SERVICE_INTERFACE = MethodAccessor.of("getServiceInterface");
 
     private ReflectUtils() {
     }
@@ -147,7 +145,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static String getProtocol(Object obj) {
-        return invokeWithNoneParameterAndReturnString(obj, GET_PROTOCOL_METHOD_NAME);
+        return (String) GET_PROTOCOL.invoke(obj);
     }
 
     /**
@@ -159,7 +157,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static String getAddress(Object obj) {
-        return invokeWithNoneParameterAndReturnString(obj, GET_ADDRESS_METHOD_NAME);
+        return (String) GET_ADDRESS.invoke(obj);
     }
 
     /**
@@ -172,7 +170,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static String getPath(Object obj) {
-        return invokeWithNoneParameterAndReturnString(obj, GET_PATH_METHOD_NAME);
+        return (String) GET_PATH.invoke(obj);
     }
 
     /**
@@ -184,7 +182,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.config.RegistryConfig
      */
     public static String getId(Object obj) {
-        return invokeWithNoneParameterAndReturnString(obj, GET_ID_METHOD_NAME);
+        return (String) GET_ID.invoke(obj);
     }
 
     /**
@@ -196,7 +194,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.config.ApplicationConfig
      */
     public static String getName(Object obj) {
-        return invokeWithNoneParameterAndReturnString(obj, GET_NAME_METHOD_NAME);
+        return (String) GET_NAME.invoke(obj);
     }
 
     /**
@@ -208,7 +206,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static String getServiceInterface(Object obj) {
-        return invokeWithNoneParameterAndReturnString(obj, GET_SERVICE_INTERFACE_METHOD_NAME);
+        return (String) GET_SERVICE_INTERFACE.invoke(obj);
     }
 
     /**
@@ -220,7 +218,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static String getHost(Object obj) {
-        return invokeWithNoneParameterAndReturnString(obj, GET_HOST_METHOD_NAME);
+        return (String) GET_HOST.invoke(obj);
     }
 
     /**
@@ -232,7 +230,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static int getPort(Object obj) {
-        return invokeWithNoneParameterAndReturnInteger(obj, GET_PORT_METHOD_NAME);
+        return (Integer) GET_PORT.invoke(obj);
     }
 
     /**
@@ -245,7 +243,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.config.ApplicationConfig
      */
     public static String getParameter(Object obj, String key) {
-        return invokeWithStringParameter(obj, GET_PARAMETER_METHOD_NAME, key, String.class);
+        return (String) GET_PARAMETER.invoke(obj, key);
     }
 
     /**
@@ -257,7 +255,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static Map<String, String> getParameters(Object obj) {
-        return invokeWithNoneParameter(obj, GET_PARAMETERS_METHOD_NAME, Map.class, true);
+        return (Map<String, String>) GET_PARAMETERS.invoke(obj);
     }
 
     /**
@@ -269,7 +267,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.config.AbstractInterfaceConfig
      */
     public static List<Object> getRegistries(Object obj) {
-        return invokeWithNoneParameter(obj, GET_REGISTRIES_METHOD_NAME, List.class, true);
+        return (List<Object>) GET_REGISTRIES.invoke(obj);
     }
 
     /**
@@ -281,7 +279,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.extension.ExtensionLoader
      */
     public static Map<String, Class<?>> getExtensionClasses(Object obj) {
-        return invokeWithNoneParameter(obj, GET_EXTENSION_CLASSES_METHOD_NAME, Map.class, false);
+        return (Map<String, Class<?>>) GET_EXTENSION_CLASSES.invoke(obj);
     }
 
     /**
@@ -293,7 +291,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.config.RegistryConfig
      */
     public static boolean isValid(Object obj) {
-        Boolean isValid = invokeWithNoneParameter(obj, IS_VALID_METHOD_NAME, Boolean.class, true);
+        Boolean isValid = (Boolean) IS_VALID.invoke(obj);
         if (isValid == null) {
             // null means that there is no such method, and returns true
             return true;
@@ -311,7 +309,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static Object setHost(Object obj, String host) {
-        return invokeWithStringParameter(obj, SET_HOST_METHOD_NAME, host);
+        return SET_HOST.invoke(obj, host);
     }
 
     /**
@@ -324,7 +322,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static Object setAddress(Object obj, String address) {
-        return invokeWithStringParameter(obj, SET_ADDRESS_METHOD_NAME, address);
+        return SET_ADDRESS.invoke(obj, address);
     }
 
     /**
@@ -337,7 +335,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static Object setPath(Object obj, String path) {
-        return invokeWithStringParameter(obj, SET_PATH_METHOD_NAME, path);
+        return SET_PATH.invoke(obj, path);
     }
 
     /**
@@ -349,7 +347,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.config.RegistryConfig
      */
     public static void setId(Object obj, String id) {
-        invokeWithStringParameter(obj, SET_ID_METHOD_NAME, id);
+        SET_ID.invoke(obj, id);
     }
 
     /**
@@ -361,7 +359,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.config.RegistryConfig
      */
     public static void setPrefix(Object obj, String prefix) {
-        invokeWithStringParameter(obj, SET_PREFIX_METHOD_NAME, prefix);
+        SET_PREFIX.invoke(obj, prefix);
     }
 
     /**
@@ -374,7 +372,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static Object setProtocol(Object obj, String protocol) {
-        return invokeWithStringParameter(obj, SET_PROTOCOL_METHOD_NAME, protocol);
+        return SET_PROTOCOL.invoke(obj, protocol);
     }
 
     /**
@@ -388,7 +386,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static void notify(Object notifyListener, List<Object> urls) {
-        invokeWithParameter(notifyListener, NOTIFY_METHOD_NAME, urls, List.class);
+        NOTIFY.invoke(notifyListener, urls);
     }
 
     /**
@@ -400,8 +398,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static Object valueOf(String address) {
-        return invoke(new InvokeParameter(DubboCache.INSTANCE.getUrlClass(), null, VALUE_OF_METHOD_NAME, address,
-                String.class)).orElse(null);
+        return VALUE_OF.invokeStatic(DubboCache.INSTANCE.getUrlClass(), address);
     }
 
     /**
@@ -414,7 +411,7 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static Object removeParameters(Object url, Collection<String> keys) {
-        return invokeWithParameter(url, REMOVE_PARAMETERS_METHOD_NAME, keys, Collection.class);
+        return REMOVE_PARAMETERS.invoke(url, keys);
     }
 
     /**
@@ -427,104 +424,6 @@ public class ReflectUtils {
      * @see org.apache.dubbo.common.URL
      */
     public static Object addParameters(Object url, Map<String, String> parameters) {
-        return invokeWithParameter(url, ADD_PARAMETERS_METHOD_NAME, parameters, Map.class);
-    }
-
-    private static String invokeWithNoneParameterAndReturnString(Object obj, String name) {
-        return invokeWithNoneParameter(obj, name, String.class, true);
-    }
-
-    private static int invokeWithNoneParameterAndReturnInteger(Object obj, String name) {
-        return invokeWithNoneParameter(obj, name, Integer.class, true);
-    }
-
-    private static <T> T invokeWithNoneParameter(Object obj, String name, Class<T> returnClass, boolean isPublic) {
-        InvokeParameter invokeParameter = new InvokeParameter(obj.getClass(), obj, name, null, null);
-        invokeParameter.isPublic = isPublic;
-        return returnClass.cast(invoke(invokeParameter).orElse(null));
-    }
-
-    private static <T> T invokeWithStringParameter(Object obj, String name, String parameter, Class<T> returnClass) {
-        InvokeParameter invokeParameter = new InvokeParameter(obj.getClass(), obj, name, parameter, String.class);
-        invokeParameter.isPublic = true;
-        return returnClass.cast(invoke(invokeParameter).orElse(null));
-    }
-
-    private static Object invokeWithStringParameter(Object obj, String name, String parameter) {
-        return invokeWithParameter(obj, name, parameter, String.class);
-    }
-
-    private static Object invokeWithParameter(Object obj, String name, Object parameter, Class<?> parameterClass) {
-        return invoke(new InvokeParameter(obj.getClass(), obj, name, parameter, parameterClass)).orElse(null);
-    }
-
-    private static Optional<Object> invoke(InvokeParameter parameter) {
-        try {
-            Method method = getMethod(parameter.invokeClass, parameter.name, parameter.parameterClass,
-                    parameter.isPublic);
-            if (parameter.parameter == null) {
-                return Optional.ofNullable(method.invoke(parameter.obj));
-            }
-            return Optional.ofNullable(method.invoke(parameter.obj, parameter.parameter));
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            // Due to version limitations, it is possible that methods may not be found, so these errors can be ignored
-            return Optional.empty();
-        }
-    }
-
-    private static Method getMethod(Class<?> invokeClass, String name, Class<?> parameterClass, boolean isPublic)
-            throws NoSuchMethodException {
-        boolean hasParameter = parameterClass != null;
-        if (hasParameter && isPublic) {
-            // Public methods with parameters
-            return invokeClass.getMethod(name, parameterClass);
-        }
-        if (hasParameter) {
-            // Non public methods with parameters
-            return setAccessible(invokeClass.getDeclaredMethod(name, parameterClass));
-        }
-        if (isPublic) {
-            // Public method without parameters
-            return invokeClass.getMethod(name);
-        }
-
-        // Non public method without parameters
-        return setAccessible(invokeClass.getDeclaredMethod(name));
-    }
-
-    private static Method setAccessible(Method method) {
-        AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
-            method.setAccessible(true);
-            return method;
-        });
-        return method;
-    }
-
-    /**
-     * Reflection parameters
-     *
-     * @since 2022-02-07
-     */
-    private static class InvokeParameter {
-        Class<?> invokeClass;
-
-        Object obj;
-
-        String name;
-
-        Object parameter;
-
-        Class<?> parameterClass;
-
-        boolean isPublic;
-
-        InvokeParameter(Class<?> invokeClass, Object obj, String name, Object parameter, Class<?> parameterClass) {
-            this.invokeClass = invokeClass;
-            this.obj = obj;
-            this.name = name;
-            this.parameter = parameter;
-            this.parameterClass = parameterClass;
-            this.isPublic = true;
-        }
+        return ADD_PARAMETERS.invoke(url, parameters);
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.tag.transmission.config.strategy;
+
+import io.sermant.core.common.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+/**
+ * The match rules of the tag transmission config compiled into a hash set of exact keys, a prefix trie and a reversed
+ * suffix trie, with a cache of the results per key
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class CompiledKeyMatcher {
+    /**
+     * Maximum number of keys whose result is cached, keys beyond are matched without caching
+     */
+    static final int MAX_CACHED_KEYS = 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final String EXACT_RULE_KEY = "exact";
+
+    private static final String PREFIX_RULE_KEY = "prefix";
+
+    private static final String SUFFIX_RULE_KEY = "suffix";
+
+    private final Map<String, List<String>> matchRule;
+
+    private final Set<String> exactKeys = new HashSet<>();
+
+    private final KeyTrie prefixTrie = new KeyTrie(false);
+
+    private final KeyTrie suffixTrie = new KeyTrie(true);
+
+    private final ConcurrentMap<String, Boolean> resultCache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param matchRule match rules keyed by match strategy
+     */
+    CompiledKeyMatcher(Map<String, List<String>> matchRule) {
+        this.matchRule = matchRule;
+        if (matchRule == null) {
+            return;
+        }
+        for (Map.Entry<String, List<String>> entry : matchRule.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            if (EXACT_RULE_KEY.equals(entry.getKey())) {
+                exactKeys.addAll(entry.getValue());
+            } else if (PREFIX_RULE_KEY.equals(entry.getKey())) {
+                entry.getValue().forEach(prefixTrie::add);
+            } else if (SUFFIX_RULE_KEY.equals(entry.getKey())) {
+                entry.getValue().forEach(suffixTrie::add);
+            } else {
+                LOGGER.warning(String.format(Locale.ROOT, "Unsupported tag key match rule %s is ignored.",
+                        entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Whether the matcher was compiled from the rules
+     *
+     * @param rule match rules
+     * @return compiled from the rules or not
+     */
+    boolean isCompiledFrom(Map<String, List<String>> rule) {
+        return matchRule == rule;
+    }
+
+    /**
+     * Whether the key matches any rule
+     *
+     * @param key key
+     * @return matching result
+     */
+    boolean isMatch(String key) {
+        Boolean cached = resultCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        boolean isMatched = isRuleMatch(key);
+        if (resultCache.size() < MAX_CACHED_KEYS) {
+            resultCache.put(key, isMatched);
+        }
+        return isMatched;
+    }
+
+    /**
+     * Whether the key matches any rule, evaluated on the compiled rules without the result cache
+     *
+     * @param key key
+     * @return matching result
+     */
+    boolean isRuleMatch(String key) {
+        return exactKeys.contains(key) || prefixTrie.matches(key) || suffixTrie.matches(key);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.tag.transmission.config.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Character trie answering whether any configured prefix, or suffix when built reversed, matches a key. Children are
+ * kept in sorted arrays, so a lookup walks the key once without allocating
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class KeyTrie {
+    private static final char[] NO_LABELS = new char[0];
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+
+    private final boolean reversed;
+
+    private boolean empty = true;
+
+    /**
+     * Constructor
+     *
+     * @param reversed whether the trie holds suffixes, walked from the end of the key
+     */
+    KeyTrie(boolean reversed) {
+        this.reversed = reversed;
+    }
+
+    /**
+     * Add a prefix, or a suffix for a reversed trie
+     *
+     * @param affix prefix or suffix
+     */
+    void add(String affix) {
+        Node node = root;
+        int length = affix.length();
+        for (int i = 0; i < length; i++) {
+            node = node.getOrAddChild(affix.charAt(reversed ? length - 1 - i : i));
+        }
+        node.terminal = true;
+        empty = false;
+    }
+
+    /**
+     * Whether the key starts with any prefix, or ends with any suffix for a reversed trie
+     *
+     * @param key key
+     * @return matched or not
+     */
+    boolean matches(String key) {
+        if (empty) {
+            return false;
+        }
+        Node node = root;
+        int length = key.length();
+        for (int i = 0; ; i++) {
+            if (node.terminal) {
+                return true;
+            }
+            if (i == length) {
+                return false;
+            }
+            node = node.getChild(key.charAt(reversed ? length - 1 - i : i));
+            if (node == null) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Trie node
+     *
+     * @since 2026-10-18
+     */
+    private static final class Node {
+        private char[] labels = NO_LABELS;
+
+        private Node[] children = NO_CHILDREN;
+
+        private boolean terminal;
+
+        Node getChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+
+        Node getOrAddChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertion = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            System.arraycopy(labels, insertion, newLabels, insertion + 1, labels.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+            Node child = new Node();
+            newLabels[insertion] = label;
+            newChildren[insertion] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+    }
+}
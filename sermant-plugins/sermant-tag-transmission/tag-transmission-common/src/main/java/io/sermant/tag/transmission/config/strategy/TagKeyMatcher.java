@@ -19,32 +19,18 @@ package io.sermant.tag.transmission.config.strategy;
 import io.sermant.core.plugin.config.PluginConfigManager;
 import io.sermant.tag.transmission.config.TagTransmissionConfig;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
- * matcher for transparent transmission of traffic tags
+ * matcher for transparent transmission of traffic tags. The match rules are compiled once per configuration into a
+ * hash set of exact keys and prefix/suffix tries, see {@link CompiledKeyMatcher}
  *
  * @author lilai
  * @since 2023-09-07
  */
 public class TagKeyMatcher {
-    private static final Map<String, MatchStrategy> STRATEGY_MAP = new HashMap<>();
-
     private static final TagTransmissionConfig CONFIG = PluginConfigManager.getPluginConfig(
             TagTransmissionConfig.class);
 
-    private static final String EXACT_RULE_KEY = "exact";
-
-    private static final String PREFIX_RULE_KEY = "prefix";
-
-    private static final String SUFFIX_RULE_KEY = "suffix";
-
-    static {
-        STRATEGY_MAP.put(EXACT_RULE_KEY, new ExactMatchStrategy());
-        STRATEGY_MAP.put(PREFIX_RULE_KEY, new PrefixMatchStrategy());
-        STRATEGY_MAP.put(SUFFIX_RULE_KEY, new SuffixMatchStrategy());
-    }
+    private static volatile CompiledKeyMatcher compiledMatcher = new CompiledKeyMatcher(null);
 
     private TagKeyMatcher() {
     }
@@ -56,12 +42,27 @@ public class TagKeyMatcher {
      * @return matching result
      */
     public static boolean isMatch(String key) {
-        for (String rule : CONFIG.getMatchRule().keySet()) {
-            MatchStrategy matchStrategy = STRATEGY_MAP.get(rule);
-            if (matchStrategy.isMatch(key, CONFIG.getMatchRule().get(rule))) {
-                return true;
-            }
+        if (key == null) {
+            return false;
+        }
+        CompiledKeyMatcher matcher = compiledMatcher;
+        if (!matcher.isCompiledFrom(CONFIG.getMatchRule())) {
+            matcher = compile();
         }
-        return false;
+        return matcher.isMatch(key);
+    }
+
+    /**
+     * Recompile the match rules of the configuration and drop the cached matching results, called when the rules
+     * are updated
+     */
+    public static void refresh() {
+        compile();
+    }
+
+    private static CompiledKeyMatcher compile() {
+        CompiledKeyMatcher matcher = new CompiledKeyMatcher(CONFIG.getMatchRule());
+        compiledMatcher = matcher;
+        return matcher;
     }
 }
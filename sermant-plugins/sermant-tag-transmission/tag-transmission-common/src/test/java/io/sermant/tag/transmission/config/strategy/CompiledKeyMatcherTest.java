@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.tag.transmission.config.strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CompiledKeyMatcherTest
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class CompiledKeyMatcherTest {
+    @Test
+    public void testEmptyConfig() {
+        Assert.assertFalse(new CompiledKeyMatcher(null).isMatch("x-sermant-id"));
+        Assert.assertFalse(new CompiledKeyMatcher(Collections.emptyMap()).isMatch("x-sermant-id"));
+        Map<String, List<String>> matchRule = new HashMap<>();
+        matchRule.put("exact", null);
+        matchRule.put("prefix", Collections.emptyList());
+        matchRule.put("unknown", Collections.singletonList("x-sermant-id"));
+        CompiledKeyMatcher matcher = new CompiledKeyMatcher(matchRule);
+        Assert.assertFalse(matcher.isMatch("x-sermant-id"));
+        Assert.assertFalse(matcher.isMatch(""));
+    }
+
+    @Test
+    public void testExactKeys() {
+        CompiledKeyMatcher matcher = new CompiledKeyMatcher(
+                Collections.singletonMap("exact", Arrays.asList("x-sermant-id", "x-sermant-name")));
+        Assert.assertTrue(matcher.isMatch("x-sermant-id"));
+        Assert.assertTrue(matcher.isMatch("x-sermant-name"));
+        Assert.assertFalse(matcher.isMatch("x-sermant-id-1"));
+        Assert.assertFalse(matcher.isMatch("x-sermant"));
+    }
+
+    @Test
+    public void testPrefixAndSuffixKeys() {
+        Map<String, List<String>> matchRule = new HashMap<>();
+        matchRule.put("prefix", Collections.singletonList("x-tenant-"));
+        matchRule.put("suffix", Collections.singletonList("-trace"));
+        CompiledKeyMatcher matcher = new CompiledKeyMatcher(matchRule);
+        Assert.assertTrue(matcher.isMatch("x-tenant-a"));
+        Assert.assertTrue(matcher.isMatch("span-trace"));
+        Assert.assertFalse(matcher.isMatch("x-trace-id"));
+        Assert.assertFalse(matcher.isMatch("tenant-a"));
+    }
+
+    @Test
+    public void testOverlappingRules() {
+        Map<String, List<String>> matchRule = new HashMap<>();
+        matchRule.put("exact", Collections.singletonList("x-sermant-id"));
+        matchRule.put("prefix", Arrays.asList("x-sermant-", "x-sermant-id"));
+        matchRule.put("suffix", Arrays.asList("-id", "sermant-id"));
+        CompiledKeyMatcher matcher = new CompiledKeyMatcher(matchRule);
+        for (String key : Arrays.asList("x-sermant-id", "x-sermant-name", "trace-id", "id", "x-sermant")) {
+            Assert.assertEquals(key, linearMatch(matchRule, key), matcher.isMatch(key));
+            Assert.assertEquals(key, linearMatch(matchRule, key), matcher.isRuleMatch(key));
+        }
+    }
+
+    @Test
+    public void testResultsBeyondTheCacheLimit() {
+        CompiledKeyMatcher matcher = new CompiledKeyMatcher(
+                Collections.singletonMap("suffix", Collections.singletonList("0")));
+        for (int i = 0; i < CompiledKeyMatcher.MAX_CACHED_KEYS * 2; i++) {
+            Assert.assertEquals(i % 10 == 0, matcher.isMatch("key-" + i));
+        }
+        Assert.assertTrue(matcher.isMatch("key-" + CompiledKeyMatcher.MAX_CACHED_KEYS * 10));
+    }
+
+    @Test
+    public void testIsCompiledFrom() {
+        Map<String, List<String>> matchRule = Collections.singletonMap("exact", Collections.singletonList("a"));
+        CompiledKeyMatcher matcher = new CompiledKeyMatcher(matchRule);
+        Assert.assertTrue(matcher.isCompiledFrom(matchRule));
+        Assert.assertFalse(matcher.isCompiledFrom(new HashMap<>(matchRule)));
+    }
+
+    private static boolean linearMatch(Map<String, List<String>> matchRule, String key) {
+        List<String> exact = matchRule.getOrDefault("exact", Collections.emptyList());
+        List<String> prefix = matchRule.getOrDefault("prefix", Collections.emptyList());
+        List<String> suffix = matchRule.getOrDefault("suffix", Collections.emptyList());
+        return exact.contains(key) || prefix.stream().anyMatch(key::startsWith)
+                || suffix.stream().anyMatch(key::endsWith);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.tag.transmission.config.strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * KeyTrieTest
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class KeyTrieTest {
+    @Test
+    public void testEmptyTrie() {
+        KeyTrie trie = new KeyTrie(false);
+        Assert.assertFalse(trie.matches(""));
+        Assert.assertFalse(trie.matches("x-sermant-id"));
+    }
+
+    @Test
+    public void testPrefix() {
+        KeyTrie trie = new KeyTrie(false);
+        trie.add("x-sermant-");
+        Assert.assertTrue(trie.matches("x-sermant-"));
+        Assert.assertTrue(trie.matches("x-sermant-id"));
+        Assert.assertFalse(trie.matches("x-sermant"));
+        Assert.assertFalse(trie.matches("y-x-sermant-id"));
+        Assert.assertFalse(trie.matches(""));
+    }
+
+    @Test
+    public void testSuffix() {
+        KeyTrie trie = new KeyTrie(true);
+        trie.add("-id");
+        Assert.assertTrue(trie.matches("x-sermant-id"));
+        Assert.assertTrue(trie.matches("-id"));
+        Assert.assertFalse(trie.matches("id"));
+        Assert.assertFalse(trie.matches("x-id-name"));
+    }
+
+    @Test
+    public void testOverlappingAffixes() {
+        KeyTrie trie = new KeyTrie(false);
+        trie.add("x-sermant-name");
+        trie.add("x-");
+        trie.add("x-sermant-");
+        trie.add("y-b");
+        trie.add("y-a");
+        Assert.assertTrue(trie.matches("x-"));
+        Assert.assertTrue(trie.matches("x-other"));
+        Assert.assertTrue(trie.matches("x-sermant-name"));
+        Assert.assertTrue(trie.matches("y-a"));
+        Assert.assertTrue(trie.matches("y-beta"));
+        Assert.assertFalse(trie.matches("y-"));
+        Assert.assertFalse(trie.matches("y-c"));
+        Assert.assertFalse(trie.matches("x"));
+    }
+
+    @Test
+    public void testEmptyAffixMatchesEveryKey() {
+        KeyTrie trie = new KeyTrie(true);
+        trie.add("");
+        Assert.assertTrue(trie.matches(""));
+        Assert.assertTrue(trie.matches("any-key"));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.tag.transmission.config.strategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching the 30 header keys of a request against 50 match rules: the compiled rules with and without the result
+ * cache against the linear scan of the rule lists with equals/startsWith/endsWith used before. Run with the main
+ * method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagKeyMatcherBenchmark {
+    private static final int RULES_PER_STRATEGY = 50 / 3;
+
+    private static final int HEADER_COUNT = 30;
+
+    private final Map<String, List<String>> matchRule = new HashMap<>();
+
+    private final String[] headers = new String[HEADER_COUNT];
+
+    private CompiledKeyMatcher compiledMatcher;
+
+    /**
+     * Build 50 rules spread over the strategies and the request headers, a third of which match
+     */
+    @Setup
+    public void setUp() {
+        List<String> exact = new ArrayList<>();
+        List<String> prefix = new ArrayList<>();
+        List<String> suffix = new ArrayList<>();
+        for (int i = 0; i < RULES_PER_STRATEGY; i++) {
+            exact.add("x-biz-key-" + i);
+            prefix.add("x-tenant-" + i + "-");
+            suffix.add("-trace-" + i);
+        }
+        exact.add("x-sermant-id");
+        exact.add("x-sermant-name");
+        matchRule.put("exact", exact);
+        matchRule.put("prefix", prefix);
+        matchRule.put("suffix", suffix);
+        for (int i = 0; i < HEADER_COUNT; i++) {
+            switch (i % 6) {
+                case 0:
+                    headers[i] = "x-biz-key-" + i % RULES_PER_STRATEGY;
+                    break;
+                case 1:
+                    headers[i] = "x-tenant-" + i % RULES_PER_STRATEGY + "-region";
+                    break;
+                case 2:
+                    headers[i] = "span-trace-" + i % RULES_PER_STRATEGY;
+                    break;
+                default:
+                    headers[i] = "x-forwarded-header-" + i;
+            }
+        }
+        compiledMatcher = new CompiledKeyMatcher(matchRule);
+        for (String header : headers) {
+            if (compiledMatcher.isMatch(header) != linearMatch(header)
+                    || compiledMatcher.isRuleMatch(header) != linearMatch(header)) {
+                throw new IllegalStateException("Inconsistent matching result of " + header);
+            }
+        }
+    }
+
+    /**
+     * Match with the compiled rules, the results of the headers being served from the result cache
+     *
+     * @return matched count
+     */
+    @Benchmark
+    public int compiled() {
+        int matched = 0;
+        for (String header : headers) {
+            if (compiledMatcher.isMatch(header)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Match with the hash set and tries of the compiled rules, bypassing the result cache
+     *
+     * @return matched count
+     */
+    @Benchmark
+    public int compiledUncached() {
+        int matched = 0;
+        for (String header : headers) {
+            if (compiledMatcher.isRuleMatch(header)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Match with the linear scan of the rules
+     *
+     * @return matched count
+     */
+    @Benchmark
+    public int linearScan() {
+        int matched = 0;
+        for (String header : headers) {
+            if (linearMatch(header)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private boolean linearMatch(String key) {
+        for (Map.Entry<String, List<String>> entry : matchRule.entrySet()) {
+            String rule = entry.getKey();
+            if ("exact".equals(rule) && entry.getValue().stream().anyMatch(key::equals)) {
+                return true;
+            }
+            if ("prefix".equals(rule) && entry.getValue().stream().anyMatch(key::startsWith)) {
+                return true;
+            }
+            if ("suffix".equals(rule) && entry.getValue().stream().anyMatch(key::endsWith)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TagKeyMatcherBenchmark.class.getSimpleName()).build()).run();
+    }
+}
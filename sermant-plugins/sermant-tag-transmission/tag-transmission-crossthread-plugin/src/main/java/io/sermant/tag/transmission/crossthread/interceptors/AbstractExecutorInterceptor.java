@@ -64,6 +64,13 @@ public abstract class AbstractExecutorInterceptor extends AbstractInterceptor {
         if (arguments == null || arguments.length == 0 || arguments[0] == null) {
             return context;
         }
+        Object argument = arguments[0];
+        if (argument instanceof RunnableAndCallableWrapper || argument instanceof RunnableWrapper
+                || argument instanceof CallableWrapper) {
+            return context;
+        }
+
+        // Tags are immutable snapshots, the task captures the references of the submitting thread as they are
         TrafficTag trafficTag = TrafficUtils.getTrafficTag();
         TrafficData trafficData = TrafficUtils.getTrafficData();
         if (trafficTag == null && trafficData == null) {
@@ -72,11 +79,6 @@ public abstract class AbstractExecutorInterceptor extends AbstractInterceptor {
         TrafficMessage trafficMessage = new TrafficMessage(trafficTag, trafficData);
         Object executorObject = context.getObject();
         String executorName = executorObject.getClass().getSimpleName();
-        Object argument = arguments[0];
-        if (argument instanceof RunnableAndCallableWrapper || argument instanceof RunnableWrapper
-                || argument instanceof CallableWrapper) {
-            return context;
-        }
         if (argument instanceof Runnable && argument instanceof Callable) {
             return buildRunnableAndCallableWrapper(context, arguments, trafficMessage, argument, executorName);
         }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.sermant.tag.transmission.crossthread.wrapper;
+
+import io.sermant.core.utils.tag.TrafficData;
+import io.sermant.core.utils.tag.TrafficTag;
+import io.sermant.core.utils.tag.TrafficUtils;
+import io.sermant.tag.transmission.crossthread.pojo.TrafficMessage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of tag capture on submission and restore in the worker of a ThreadPoolExecutor: the immutable snapshot shared
+ * by reference, against a defensive deep copy of the tags per task as needed while tags were mutable. Run with the
+ * main method from the test classpath
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagTransmissionBenchmark {
+    private static final int TAG_COUNT = 8;
+
+    private static final String EXECUTOR_NAME = ThreadPoolExecutor.class.getSimpleName();
+
+    private final Runnable task = () -> {
+        if (TrafficUtils.getTrafficTag() == null) {
+            throw new IllegalStateException("Tag is not transmitted");
+        }
+    };
+
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Start the executor and set the tags of the submitting thread
+     */
+    @Setup
+    public void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        Map<String, List<String>> tags = new HashMap<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.put("x-sermant-tag-" + i, Collections.singletonList("value-" + i));
+        }
+        TrafficUtils.setTrafficTag(new TrafficTag(tags));
+        TrafficUtils.setTrafficData(new TrafficData(tags, "/path", "GET"));
+    }
+
+    /**
+     * Stop the executor
+     */
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        TrafficUtils.removeTrafficTag();
+        TrafficUtils.removeTrafficData();
+    }
+
+    /**
+     * Capture of the snapshot only, as done by the executor interceptor
+     *
+     * @return wrapper
+     */
+    @Benchmark
+    public RunnableWrapper<?> captureSnapshot() {
+        return new RunnableWrapper<>(task, new TrafficMessage(TrafficUtils.getTrafficTag(),
+                TrafficUtils.getTrafficData()), false, EXECUTOR_NAME);
+    }
+
+    /**
+     * Capture with a deep copy of the tags
+     *
+     * @return wrapper
+     */
+    @Benchmark
+    public RunnableWrapper<?> captureCopy() {
+        return new RunnableWrapper<>(task, copyMessage(), false, EXECUTOR_NAME);
+    }
+
+    /**
+     * Submission to the executor sharing the snapshot, restored in the worker
+     *
+     * @throws ExecutionException task failed
+     * @throws InterruptedException interrupted
+     */
+    @Benchmark
+    public void submitSnapshot() throws ExecutionException, InterruptedException {
+        executor.submit((Runnable) captureSnapshot()).get();
+    }
+
+    /**
+     * Submission to the executor with a deep copy of the tags, restored in the worker
+     *
+     * @throws ExecutionException task failed
+     * @throws InterruptedException interrupted
+     */
+    @Benchmark
+    public void submitCopy() throws ExecutionException, InterruptedException {
+        executor.submit((Runnable) captureCopy()).get();
+    }
+
+    private static TrafficMessage copyMessage() {
+        TrafficData trafficData = TrafficUtils.getTrafficData();
+        return new TrafficMessage(new TrafficTag(copy(TrafficUtils.getTrafficTag().getTag())),
+                new TrafficData(copy(trafficData.getTag()), trafficData.getPath(), trafficData.getHttpMethod()));
+    }
+
+    private static Map<String, List<String>> copy(Map<String, List<String>> tags) {
+        Map<String, List<String>> copy = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : tags.entrySet()) {
+            copy.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return copy;
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args args
+     * @throws RunnerException run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TagTransmissionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
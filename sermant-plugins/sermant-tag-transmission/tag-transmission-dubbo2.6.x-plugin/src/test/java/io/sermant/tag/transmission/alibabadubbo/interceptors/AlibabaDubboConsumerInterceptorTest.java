@@ -26,6 +26,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -71,7 +72,9 @@ public class AlibabaDubboConsumerInterceptorTest extends AbstractRpcInterceptorT
         Assert.assertEquals(expectAttachments, ((RpcInvocation) returnContext.getArguments()[1]).getAttachments());
 
         // TrafficTag contains partial traffic labels
-        TrafficUtils.getTrafficTag().getTag().remove("id");
+        Map<String, List<String>> partialTag = new HashMap<>(TrafficUtils.getTrafficTag().getTag());
+        partialTag.remove("id");
+        TrafficUtils.setTrafficTag(new TrafficTag(partialTag));
         expectAttachments = buildExpectAttachments("name");
         context = buildContext(new RpcInvocation());
         returnContext = interceptor.before(context);
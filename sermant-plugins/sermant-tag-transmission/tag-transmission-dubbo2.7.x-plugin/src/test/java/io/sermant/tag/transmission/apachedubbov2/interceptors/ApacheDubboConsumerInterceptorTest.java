@@ -25,6 +25,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -72,7 +73,9 @@ public class ApacheDubboConsumerInterceptorTest extends AbstractRpcInterceptorTe
                 expectAttachments);
 
         // traffic tag contains partial traffic tags
-        TrafficUtils.getTrafficTag().getTag().remove("id");
+        Map<String, List<String>> partialTag = new HashMap<>(TrafficUtils.getTrafficTag().getTag());
+        partialTag.remove("id");
+        TrafficUtils.setTrafficTag(new TrafficTag(partialTag));
         expectAttachments = buildExpectAttachments("name");
         context = buildContext(new RpcInvocation());
         returnContext = interceptor.before(context);
@@ -79,7 +79,7 @@ public class ClientCallImplInterceptorTest extends AbstractRpcInterceptorTest {
         Assert.assertEquals("test001", metadata.get(name));
 
         // Metadata is not null, TrafficTag contains unmatched traffic tags
-        TrafficUtils.getTrafficTag().getTag().put("key", Collections.singletonList("value"));
+        TrafficUtils.updateTrafficTag(Collections.singletonMap("key", Collections.singletonList("value")));
         metadata = new Metadata();
         arguments = new Object[]{null, metadata};
         context = ExecuteContext.forMemberMethod(new Object(), null, arguments, null, null);
@@ -22,6 +22,7 @@ import io.sermant.core.service.dynamicconfig.common.DynamicConfigEvent;
 import io.sermant.core.service.dynamicconfig.common.DynamicConfigEventType;
 import io.sermant.core.service.dynamicconfig.common.DynamicConfigListener;
 import io.sermant.tag.transmission.config.TagTransmissionConfig;
+import io.sermant.tag.transmission.config.strategy.TagKeyMatcher;
 
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
@@ -74,6 +75,7 @@ public class TagConfigListener implements DynamicConfigListener {
         }
         tagTransmissionConfig.setEnabled(dynamicConfig.isEnabled());
         tagTransmissionConfig.setMatchRule(dynamicConfig.getMatchRule());
+        TagKeyMatcher.refresh();
         LOGGER.info(String.format(Locale.ROOT, "Update tagTransmissionConfig, %s",
                 tagTransmissionConfig.toString()));
     }
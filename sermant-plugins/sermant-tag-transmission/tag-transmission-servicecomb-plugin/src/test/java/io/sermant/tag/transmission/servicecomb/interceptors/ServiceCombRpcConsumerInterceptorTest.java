@@ -25,6 +25,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -72,7 +73,9 @@ public class ServiceCombRpcConsumerInterceptorTest extends AbstractRpcIntercepto
 
         // TrafficTag indicates only partial tag information
         context = buildContext(new Invocation());
-        TrafficUtils.getTrafficTag().getTag().remove("id");
+        Map<String, List<String>> partialTag = new HashMap<>(TrafficUtils.getTrafficTag().getTag());
+        partialTag.remove("id");
+        TrafficUtils.setTrafficTag(new TrafficTag(partialTag));
         returnContext = interceptor.before(context);
         expectContext = buildExpectContext("name");
         Assert.assertEquals(((Invocation) returnContext.getArguments()[0]).getContext(), expectContext);
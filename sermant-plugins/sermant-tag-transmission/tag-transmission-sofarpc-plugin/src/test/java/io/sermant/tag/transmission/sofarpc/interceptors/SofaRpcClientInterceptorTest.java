@@ -26,6 +26,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -72,7 +73,9 @@ public class SofaRpcClientInterceptorTest extends AbstractRpcInterceptorTest {
 
         // TrafficTag indicates only partial traffic tags
         context = buildContext(new SofaRequest());
-        TrafficUtils.getTrafficTag().getTag().remove("id");
+        Map<String, List<String>> partialTag = new HashMap<>(TrafficUtils.getTrafficTag().getTag());
+        partialTag.remove("id");
+        TrafficUtils.setTrafficTag(new TrafficTag(partialTag));
         returnContext = interceptor.before(context);
         expectRequestProps = buildExpectRequestProps("name");
         Assert.assertEquals(((SofaRequest) returnContext.getArguments()[0]).getRequestProps(), expectRequestProps);